@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth.benchmark;
+
+import org.h2.jdbcx.JdbcConnectionPool;
+import org.mockito.MockedStatic;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
+import org.wso2.carbon.identity.oauth.config.OAuthServerConfiguration;
+import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+import org.wso2.carbon.identity.oauth2.dao.AccessTokenDAOImpl;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mockStatic;
+
+/**
+ * Benchmarks of the token DAO against an in-memory H2 database.
+ * <p>
+ * {@link IdentityDatabaseUtil} hands out connections of the H2 pool. Closing the connections is left to the real
+ * implementation, so the connection handling of the DAO is part of the measurement.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AccessTokenDAOBenchmark {
+
+    private static final String DB_NAME = "AccessTokenDAOBenchmark";
+    private static final String INSERT_TOKEN_BINDING = "INSERT INTO IDN_OAUTH2_TOKEN_BINDING (TOKEN_ID, " +
+            "TOKEN_BINDING_TYPE, TOKEN_BINDING_REF, TOKEN_BINDING_VALUE, TENANT_ID) VALUES (?, 'DEFAULT', ?, ?, -1234)";
+
+    @Param({"10000"})
+    private int tokenCount;
+
+    private MockedStatic<OAuthServerConfiguration> oAuthServerConfiguration;
+    private MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil;
+    private JdbcConnectionPool connectionPool;
+    private AccessTokenDAOImpl accessTokenDAO;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+
+        oAuthServerConfiguration = BenchmarkStubs.mockServerConfiguration();
+        connectionPool = BenchmarkStubs.createDatabase(DB_NAME);
+        try (Connection connection = connectionPool.getConnection();
+             PreparedStatement statement = connection.prepareStatement(INSERT_TOKEN_BINDING)) {
+            for (int i = 0; i < tokenCount; i++) {
+                statement.setString(1, getTokenId(i));
+                statement.setString(2, Integer.toHexString(i));
+                statement.setString(3, "session-" + i);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+
+        identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class, CALLS_REAL_METHODS);
+        identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getDBConnection(anyBoolean()))
+                .thenAnswer(invocation -> {
+                    Connection connection = connectionPool.getConnection();
+                    connection.setAutoCommit(!(Boolean) invocation.getArgument(0));
+                    return connection;
+                });
+        accessTokenDAO = new AccessTokenDAOImpl();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+
+        identityDatabaseUtil.close();
+        try (Connection connection = connectionPool.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connectionPool.dispose();
+        oAuthServerConfiguration.close();
+    }
+
+    @Benchmark
+    public String getSessionIdentifierByTokenId() throws IdentityOAuth2Exception {
+
+        return accessTokenDAO.getSessionIdentifierByTokenId(
+                getTokenId(ThreadLocalRandom.current().nextInt(tokenCount)));
+    }
+
+    private static String getTokenId(int index) {
+
+        return "token-" + index;
+    }
+}
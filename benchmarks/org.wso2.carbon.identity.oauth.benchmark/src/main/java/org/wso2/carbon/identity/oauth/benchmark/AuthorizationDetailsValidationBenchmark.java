@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth.benchmark;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import io.vertx.json.schema.Draft;
+import io.vertx.json.schema.JsonSchema;
+import io.vertx.json.schema.JsonSchemaOptions;
+import io.vertx.json.schema.OutputFormat;
+import io.vertx.json.schema.SchemaRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.wso2.carbon.identity.oauth.rar.core.AuthorizationDetailsSchemaValidator;
+import org.wso2.carbon.identity.oauth.rar.core.AuthorizationDetailsSchemaValidatorImpl;
+import org.wso2.carbon.identity.oauth.rar.exception.AuthorizationDetailsProcessingException;
+import org.wso2.carbon.identity.oauth.rar.model.AuthorizationDetail;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the schema validation of the rich authorization request (RAR) authorization details.
+ * <p>
+ * The legacy benchmark reproduces the validation path used before the compiled schemas were cached, which compiled the
+ * type schema and serialized and parsed each authorization detail on every call.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuthorizationDetailsValidationBenchmark {
+
+    private static final String PAYMENT_INITIATION_TYPE = "payment_initiation";
+
+    /**
+     * Number of authorization details validated per request.
+     */
+    @Param({"1", "3"})
+    private int detailCount;
+
+    private AuthorizationDetailsSchemaValidator schemaValidator;
+    private SchemaRepository legacySchemaRepository;
+    private JsonSchemaOptions legacySchemaOptions;
+    private Map<String, Object> schema;
+    private AuthorizationDetail[] authorizationDetails;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+
+        schemaValidator = AuthorizationDetailsSchemaValidatorImpl.getInstance();
+        legacySchemaOptions = new JsonSchemaOptions()
+                .setBaseUri("https://wso2.com/identity-server/schemas")
+                .setDraft(Draft.DRAFT202012)
+                .setOutputFormat(OutputFormat.Basic);
+        legacySchemaRepository = SchemaRepository.create(legacySchemaOptions)
+                .preloadMetaSchema(Vertx.vertx().fileSystem());
+
+        schema = buildPaymentInitiationSchema();
+        authorizationDetails = new AuthorizationDetail[detailCount];
+        for (int i = 0; i < detailCount; i++) {
+            AuthorizationDetail authorizationDetail = new AuthorizationDetail();
+            authorizationDetail.setType(PAYMENT_INITIATION_TYPE);
+            authorizationDetail.setActions(Arrays.asList("initiate", "status"));
+            authorizationDetail.setLocations(Collections.singletonList("https://example.com/payments"));
+            authorizationDetail.setDetail("creditorName", "Merchant " + i);
+            authorizationDetail.setDetail("instructedAmount", buildInstructedAmount(i));
+            authorizationDetails[i] = authorizationDetail;
+        }
+    }
+
+    @Benchmark
+    public void isSchemaCompliant(Blackhole blackhole) throws AuthorizationDetailsProcessingException {
+
+        for (AuthorizationDetail authorizationDetail : authorizationDetails) {
+            blackhole.consume(schemaValidator.isSchemaCompliant(schema, authorizationDetail));
+        }
+    }
+
+    @Benchmark
+    public void legacyIsSchemaCompliant(Blackhole blackhole) {
+
+        for (AuthorizationDetail authorizationDetail : authorizationDetails) {
+            JsonObject jsonSchema = new JsonObject(new HashMap<>(schema)).put("additionalProperties", false);
+            blackhole.consume(legacySchemaRepository.validator(JsonSchema.of(jsonSchema), legacySchemaOptions)
+                    .validate(new JsonObject(authorizationDetail.toJsonString())).getValid());
+        }
+    }
+
+    private static Map<String, Object> buildInstructedAmount(int index) {
+
+        Map<String, Object> instructedAmount = new HashMap<>();
+        instructedAmount.put("currency", "EUR");
+        instructedAmount.put("amount", String.valueOf(100 + index));
+        return instructedAmount;
+    }
+
+    private static Map<String, Object> buildPaymentInitiationSchema() {
+
+        Map<String, Object> stringType = Collections.singletonMap("type", "string");
+
+        Map<String, Object> amountProperties = new HashMap<>();
+        amountProperties.put("currency", stringType);
+        amountProperties.put("amount", stringType);
+        Map<String, Object> instructedAmount = new HashMap<>();
+        instructedAmount.put("type", "object");
+        instructedAmount.put("required", Arrays.asList("currency", "amount"));
+        instructedAmount.put("properties", amountProperties);
+
+        Map<String, Object> actionItems = new HashMap<>();
+        actionItems.put("type", "string");
+        actionItems.put("enum", Arrays.asList("initiate", "status", "cancel"));
+        Map<String, Object> actions = new HashMap<>();
+        actions.put("type", "array");
+        actions.put("items", actionItems);
+
+        Map<String, Object> locations = new HashMap<>();
+        locations.put("type", "array");
+        locations.put("items", stringType);
+
+        Map<String, Object> type = new HashMap<>();
+        type.put("type", "string");
+        type.put("enum", Collections.singletonList(PAYMENT_INITIATION_TYPE));
+
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("type", type);
+        properties.put("actions", actions);
+        properties.put("locations", locations);
+        properties.put("creditorName", stringType);
+        properties.put("instructedAmount", instructedAmount);
+
+        Map<String, Object> paymentInitiationSchema = new HashMap<>();
+        paymentInitiationSchema.put("type", "object");
+        paymentInitiationSchema.put("required", Arrays.asList("type", "actions", "instructedAmount"));
+        paymentInitiationSchema.put("properties", properties);
+        return paymentInitiationSchema;
+    }
+}
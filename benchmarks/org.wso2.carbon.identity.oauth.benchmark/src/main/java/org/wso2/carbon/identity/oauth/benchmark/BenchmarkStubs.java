@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth.benchmark;
+
+import org.apache.oltu.oauth2.as.issuer.OAuthIssuerImpl;
+import org.apache.oltu.oauth2.as.issuer.UUIDValueGenerator;
+import org.h2.jdbcx.JdbcConnectionPool;
+import org.mockito.MockedStatic;
+import org.wso2.carbon.identity.oauth.config.OAuthServerConfiguration;
+
+import java.io.InputStream;
+import java.security.Key;
+import java.security.KeyStore;
+import java.security.cert.Certificate;
+import java.sql.Connection;
+import java.sql.Statement;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
+
+/**
+ * In-memory stand-ins for the server configuration, the tenant keystore and the identity database used by the
+ * benchmarks.
+ * <p>
+ * Static mocks are bound to the thread that creates them. The benchmark states which use them are therefore thread
+ * scoped and create the stubs in their trial level setup, which JMH runs on the benchmark thread.
+ */
+public final class BenchmarkStubs {
+
+    public static final String HASH_ALGORITHM = "SHA-256";
+    public static final String KEY_STORE_PASSWORD = "wso2carbon";
+    public static final String KEY_ALIAS = "wso2carbon";
+
+    private static final String KEY_STORE = "/benchmark.jks";
+    private static final String DB_SCRIPT = "classpath:dbScripts/benchmark.sql";
+
+    private BenchmarkStubs() {
+
+    }
+
+    /**
+     * Stub {@link OAuthServerConfiguration#getInstance()} with an in-memory configuration using the default hash
+     * algorithm and the default UUID based token generator.
+     *
+     * @return Static mock, which should be closed when the benchmark trial ends.
+     */
+    public static MockedStatic<OAuthServerConfiguration> mockServerConfiguration() {
+
+        OAuthServerConfiguration serverConfiguration = mock(OAuthServerConfiguration.class);
+        when(serverConfiguration.getHashAlgorithm()).thenReturn(HASH_ALGORITHM);
+        when(serverConfiguration.getOAuthTokenGenerator())
+                .thenReturn(new OAuthIssuerImpl(new UUIDValueGenerator()));
+        when(serverConfiguration.isTokenCleanupEnabled()).thenReturn(false);
+
+        MockedStatic<OAuthServerConfiguration> oAuthServerConfiguration = mockStatic(OAuthServerConfiguration.class);
+        oAuthServerConfiguration.when(OAuthServerConfiguration::getInstance).thenReturn(serverConfiguration);
+        return oAuthServerConfiguration;
+    }
+
+    /**
+     * Load the RSA signing key store bundled with the benchmarks.
+     *
+     * @return Key store.
+     * @throws Exception If the key store cannot be loaded.
+     */
+    public static KeyStore loadKeyStore() throws Exception {
+
+        KeyStore keyStore = KeyStore.getInstance("JKS");
+        try (InputStream inputStream = BenchmarkStubs.class.getResourceAsStream(KEY_STORE)) {
+            keyStore.load(inputStream, KEY_STORE_PASSWORD.toCharArray());
+        }
+        return keyStore;
+    }
+
+    public static Key getPrivateKey(KeyStore keyStore) throws Exception {
+
+        return keyStore.getKey(KEY_ALIAS, KEY_STORE_PASSWORD.toCharArray());
+    }
+
+    public static Certificate getCertificate(KeyStore keyStore) throws Exception {
+
+        return keyStore.getCertificate(KEY_ALIAS);
+    }
+
+    /**
+     * Create an in-memory H2 database initialized with the benchmark schema.
+     *
+     * @param databaseName Name of the database.
+     * @return Connection pool of the database.
+     * @throws Exception If the schema cannot be created.
+     */
+    public static JdbcConnectionPool createDatabase(String databaseName) throws Exception {
+
+        JdbcConnectionPool connectionPool = JdbcConnectionPool.create("jdbc:h2:mem:" + databaseName +
+                ";DB_CLOSE_DELAY=-1", "username", "password");
+        try (Connection connection = connectionPool.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.executeUpdate("RUNSCRIPT FROM '" + DB_SCRIPT + "'");
+        }
+        return connectionPool;
+    }
+}
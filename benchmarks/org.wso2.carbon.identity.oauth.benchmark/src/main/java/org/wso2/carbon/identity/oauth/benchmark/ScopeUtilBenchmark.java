@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth.benchmark;
+
+import org.mockito.MockedStatic;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.identity.oauth.config.OAuthServerConfiguration;
+import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the scope string helpers and the OAuth cache key builder used on every token request.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ScopeUtilBenchmark {
+
+    @Param({"1", "5", "20"})
+    private int scopeCount;
+
+    private MockedStatic<OAuthServerConfiguration> oAuthServerConfiguration;
+    private String[] scopes;
+    private String scopeString;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+
+        oAuthServerConfiguration = BenchmarkStubs.mockServerConfiguration();
+        scopes = new String[scopeCount];
+        StringBuilder builder = new StringBuilder();
+        for (int i = scopeCount; i > 0; i--) {
+            scopes[scopeCount - i] = "scope_" + i;
+            builder.append("scope_").append(i).append(' ');
+        }
+        scopeString = builder.toString();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+
+        oAuthServerConfiguration.close();
+    }
+
+    @Benchmark
+    public String buildScopeString() {
+
+        // buildScopeString sorts the given array in place, hence work on a copy to measure the unsorted case.
+        return OAuth2Util.buildScopeString(scopes.clone());
+    }
+
+    @Benchmark
+    public String[] buildScopeArray() {
+
+        return OAuth2Util.buildScopeArray(scopeString);
+    }
+
+    @Benchmark
+    public String buildCacheKeyStringForToken() {
+
+        return OAuth2Util.buildCacheKeyStringForTokenWithUserIdOrgId("ca19a540f544777860e44e75f605d927",
+                scopeString, "8a2b5c1e-4f3d-4a6b-9c8e-7d1f2a3b4c5d", "LOCAL", "NONE", "NONE");
+    }
+}
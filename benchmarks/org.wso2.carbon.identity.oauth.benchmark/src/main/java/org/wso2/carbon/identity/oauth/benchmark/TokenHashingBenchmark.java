@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth.benchmark;
+
+import org.json.JSONObject;
+import org.mockito.MockedStatic;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.identity.oauth.config.OAuthServerConfiguration;
+import org.wso2.carbon.identity.oauth.tokenprocessor.HashingPersistenceProcessor;
+import org.wso2.carbon.identity.oauth.tokenprocessor.PlainTextPersistenceProcessor;
+import org.wso2.carbon.identity.oauth.tokenprocessor.TokenPersistenceProcessor;
+import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+import org.wso2.carbon.identity.oauth2.util.MessageDigestUtil;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the token persistence processors.
+ * <p>
+ * The legacy benchmarks reproduce the hashing path used before the digests were reused per thread, so that both can be
+ * compared in the same run.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenHashingBenchmark {
+
+    private MockedStatic<OAuthServerConfiguration> oAuthServerConfiguration;
+    private TokenPersistenceProcessor hashingProcessor;
+    private TokenPersistenceProcessor plainTextProcessor;
+    private String accessToken;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+
+        oAuthServerConfiguration = BenchmarkStubs.mockServerConfiguration();
+        hashingProcessor = new HashingPersistenceProcessor();
+        plainTextProcessor = new PlainTextPersistenceProcessor();
+        accessToken = UUID.randomUUID().toString();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+
+        oAuthServerConfiguration.close();
+    }
+
+    @Benchmark
+    public String plainTextProcessor() throws IdentityOAuth2Exception {
+
+        return plainTextProcessor.getProcessedAccessTokenIdentifier(accessToken);
+    }
+
+    @Benchmark
+    public String hashingProcessor() throws IdentityOAuth2Exception {
+
+        return hashingProcessor.getProcessedAccessTokenIdentifier(accessToken);
+    }
+
+    @Benchmark
+    public String legacyHashingProcessor() throws NoSuchAlgorithmException {
+
+        MessageDigest messageDigest = MessageDigest.getInstance(BenchmarkStubs.HASH_ALGORITHM);
+        messageDigest.update(accessToken.getBytes(StandardCharsets.UTF_8));
+        JSONObject object = new JSONObject();
+        object.put(HashingPersistenceProcessor.ALGORITHM, BenchmarkStubs.HASH_ALGORITHM);
+        object.put(HashingPersistenceProcessor.HASH, legacyBytesToHex(messageDigest.digest()));
+        return object.toString();
+    }
+
+    @Benchmark
+    public String digestToHex() throws NoSuchAlgorithmException {
+
+        return MessageDigestUtil.toHex(MessageDigestUtil.digest(BenchmarkStubs.HASH_ALGORITHM, accessToken));
+    }
+
+    @Benchmark
+    public String legacyDigestToHex() throws NoSuchAlgorithmException {
+
+        MessageDigest messageDigest = MessageDigest.getInstance(BenchmarkStubs.HASH_ALGORITHM);
+        return legacyBytesToHex(messageDigest.digest(accessToken.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static String legacyBytesToHex(byte[] bytes) {
+
+        StringBuilder result = new StringBuilder();
+        for (byte byt : bytes) {
+            result.append(Integer.toString((byt & 0xff) + 0x100, 16).substring(1));
+        }
+        return result.toString();
+    }
+}
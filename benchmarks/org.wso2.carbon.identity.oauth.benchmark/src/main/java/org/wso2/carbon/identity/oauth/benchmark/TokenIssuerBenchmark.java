@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth.benchmark;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jwt.JWTClaimsSet;
+import org.apache.oltu.oauth2.common.exception.OAuthSystemException;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.identity.oauth.config.OAuthServerConfiguration;
+import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+import org.wso2.carbon.identity.oauth2.token.OAuthTokenReqMessageContext;
+import org.wso2.carbon.identity.oauth2.token.OauthTokenIssuerImpl;
+import org.wso2.carbon.identity.oauth2.util.JWTSigningContextCache;
+import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
+
+import java.security.Key;
+import java.security.KeyStore;
+import java.security.cert.Certificate;
+import java.util.Collections;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+
+/**
+ * Benchmarks of opaque token generation and of signing self-contained JWT access tokens.
+ * <p>
+ * The tenant keystore lookups of {@link OAuth2Util} are answered from the key store bundled with the benchmarks. The
+ * rest of {@link OAuth2Util} runs the real code.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenIssuerBenchmark {
+
+    private static final String TENANT_DOMAIN = "carbon.super";
+
+    private MockedStatic<OAuthServerConfiguration> oAuthServerConfiguration;
+    private MockedStatic<OAuth2Util> oAuth2Util;
+    private OauthTokenIssuerImpl oauthTokenIssuer;
+    private JWTClaimsSet jwtClaimsSet;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+
+        oAuthServerConfiguration = BenchmarkStubs.mockServerConfiguration();
+        oauthTokenIssuer = new OauthTokenIssuerImpl();
+
+        KeyStore keyStore = BenchmarkStubs.loadKeyStore();
+        Key privateKey = BenchmarkStubs.getPrivateKey(keyStore);
+        Certificate certificate = BenchmarkStubs.getCertificate(keyStore);
+        oAuth2Util = Mockito.mockStatic(OAuth2Util.class, Mockito.CALLS_REAL_METHODS);
+        oAuth2Util.when(() -> OAuth2Util.getPrivateKey(anyString())).thenReturn(privateKey);
+        oAuth2Util.when(() -> OAuth2Util.getCertificate(anyString())).thenReturn(certificate);
+        oAuth2Util.when(() -> OAuth2Util.getKID(any(Certificate.class), any(JWSAlgorithm.class), anyString()))
+                .thenReturn("benchmark-kid");
+        JWTSigningContextCache.getInstance().clear();
+
+        long now = System.currentTimeMillis();
+        jwtClaimsSet = new JWTClaimsSet.Builder()
+                .issuer("https://localhost:9443/oauth2/token")
+                .subject("8a2b5c1e-4f3d-4a6b-9c8e-7d1f2a3b4c5d")
+                .audience(Collections.singletonList("ca19a540f544777860e44e75f605d927"))
+                .issueTime(new Date(now))
+                .notBeforeTime(new Date(now))
+                .expirationTime(new Date(now + TimeUnit.HOURS.toMillis(1)))
+                .jwtID(UUID.randomUUID().toString())
+                .claim("client_id", "ca19a540f544777860e44e75f605d927")
+                .claim("scope", "openid profile email")
+                .claim("aut", "APPLICATION_USER")
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+
+        JWTSigningContextCache.getInstance().clear();
+        oAuth2Util.close();
+        oAuthServerConfiguration.close();
+    }
+
+    @Benchmark
+    public String opaqueAccessToken() throws OAuthSystemException {
+
+        return oauthTokenIssuer.accessToken((OAuthTokenReqMessageContext) null);
+    }
+
+    @Benchmark
+    public String opaqueRefreshToken() throws OAuthSystemException {
+
+        return oauthTokenIssuer.refreshToken((OAuthTokenReqMessageContext) null);
+    }
+
+    @Benchmark
+    public String signedJWTAccessToken() throws IdentityOAuth2Exception {
+
+        return OAuth2Util.signJWT(jwtClaimsSet, JWSAlgorithm.RS256, TENANT_DOMAIN).serialize();
+    }
+}
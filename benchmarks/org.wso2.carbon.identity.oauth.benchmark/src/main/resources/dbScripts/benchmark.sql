@@ -0,0 +1,8 @@
+CREATE TABLE IF NOT EXISTS IDN_OAUTH2_TOKEN_BINDING (
+    TOKEN_ID VARCHAR (255),
+    TOKEN_BINDING_TYPE VARCHAR (32),
+    TOKEN_BINDING_REF VARCHAR (32),
+    TOKEN_BINDING_VALUE VARCHAR (1024),
+    TENANT_ID INTEGER DEFAULT -1,
+    UNIQUE (TOKEN_ID,TOKEN_BINDING_TYPE,TOKEN_BINDING_VALUE)
+);
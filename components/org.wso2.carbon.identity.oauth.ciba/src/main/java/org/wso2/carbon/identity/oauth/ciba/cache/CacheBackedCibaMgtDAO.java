@@ -0,0 +1,358 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth.ciba.cache;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.application.authentication.framework.model.AuthenticatedUser;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.oauth.cache.NodeLocalExpiringCache;
+import org.wso2.carbon.identity.oauth.ciba.common.AuthReqStatus;
+import org.wso2.carbon.identity.oauth.ciba.common.CibaConstants;
+import org.wso2.carbon.identity.oauth.ciba.dao.CibaMgtDAO;
+import org.wso2.carbon.identity.oauth.ciba.dao.CibaMgtDAOImpl;
+import org.wso2.carbon.identity.oauth.ciba.exceptions.CibaCoreException;
+import org.wso2.carbon.identity.oauth.ciba.model.CibaAuthCodeCacheEntry;
+import org.wso2.carbon.identity.oauth.ciba.model.CibaAuthCodeDO;
+
+import java.sql.Timestamp;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.wso2.carbon.identity.oauth2.util.OAuth2Util.getPositiveIntProperty;
+
+/**
+ * Caching layer for CIBA auth codes.
+ * <p>
+ * Token requests of a pending authentication are served from the {@link CibaAuthCodeCache} and the last polled times
+ * are kept in memory and flushed to the database periodically in a batch. Status transitions and polling interval
+ * changes are written through to the database and clear the cache entry, so the other nodes of the cluster load the
+ * updated auth code. The last polled time is only used to detect clients polling too fast, hence slow down detection
+ * is done per node between flushes.
+ */
+public class CacheBackedCibaMgtDAO implements CibaMgtDAO {
+
+    private static final Log log = LogFactory.getLog(CacheBackedCibaMgtDAO.class);
+
+    private static final String ENABLE = "OAuth.CIBA.AuthCodeCache.Enable";
+    private static final String MAX_ENTRIES = "OAuth.CIBA.AuthCodeCache.MaxEntries";
+    private static final String FLUSH_INTERVAL = "OAuth.CIBA.AuthCodeCache.PollTimeFlushInterval";
+    private static final int DEFAULT_MAX_ENTRIES = 10000;
+    private static final int DEFAULT_FLUSH_INTERVAL_IN_SEC = 5;
+
+    private final CibaMgtDAO cibaMgtDAO;
+    private final CibaAuthCodeCache cibaAuthCodeCache;
+    private final int maxEntries;
+    // Auth request identifiers against the auth code keys. The mapping of an auth code never changes, and it is kept
+    // until the auth code expires at most, as no auth code outlives the maximum requested expiry.
+    private final NodeLocalExpiringCache<String> authCodeKeys;
+    // Polling state of the pending auth codes against the auth code keys.
+    private final Map<String, PollState> pollStates = new ConcurrentHashMap<>();
+    private ScheduledExecutorService flushExecutor;
+
+    public CacheBackedCibaMgtDAO() {
+
+        this(new CibaMgtDAOImpl(), CibaAuthCodeCache.getInstance(),
+                getPositiveIntProperty(MAX_ENTRIES, DEFAULT_MAX_ENTRIES));
+        int flushInterval = getPositiveIntProperty(FLUSH_INTERVAL, DEFAULT_FLUSH_INTERVAL_IN_SEC);
+        flushExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ciba-poll-time-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flushExecutor.scheduleWithFixedDelay(this::flushQuietly, flushInterval, flushInterval, TimeUnit.SECONDS);
+    }
+
+    CacheBackedCibaMgtDAO(CibaMgtDAO cibaMgtDAO, CibaAuthCodeCache cibaAuthCodeCache, int maxEntries) {
+
+        this.cibaMgtDAO = cibaMgtDAO;
+        this.cibaAuthCodeCache = cibaAuthCodeCache;
+        this.maxEntries = maxEntries;
+        this.authCodeKeys = new NodeLocalExpiringCache<>(maxEntries,
+                CibaConstants.MAXIMUM_REQUESTED_EXPIRY_IN_SEC * CibaConstants.SEC_TO_MILLISEC_FACTOR);
+    }
+
+    /**
+     * Check whether the caching layer for CIBA auth codes is enabled.
+     *
+     * @return True if the caching layer is enabled.
+     */
+    public static boolean isEnabled() {
+
+        return Boolean.parseBoolean(IdentityUtil.getProperty(ENABLE));
+    }
+
+    @Override
+    public void updateStatus(String authCodeKey, Enum authenticationStatus) throws CibaCoreException {
+
+        cibaMgtDAO.updateStatus(authCodeKey, authenticationStatus);
+        cibaAuthCodeCache.clearCacheEntry(authCodeKey);
+        if (!isPending(authenticationStatus)) {
+            removePollState(authCodeKey);
+        }
+    }
+
+    @Override
+    public void persistAuthenticationSuccess(String authCodeKey, AuthenticatedUser authenticatedUser)
+            throws CibaCoreException {
+
+        cibaMgtDAO.persistAuthenticationSuccess(authCodeKey, authenticatedUser);
+        cibaAuthCodeCache.clearCacheEntry(authCodeKey);
+    }
+
+    @Override
+    public String getCibaAuthCodeKey(String authreqID) throws CibaCoreException {
+
+        String authCodeKey = authCodeKeys.getValue(authreqID);
+        if (authCodeKey != null) {
+            return authCodeKey;
+        }
+        authCodeKey = cibaMgtDAO.getCibaAuthCodeKey(authreqID);
+        if (authCodeKey != null) {
+            // The expiry of the auth code is not known here, hence the mapping lives for the maximum expiry.
+            authCodeKeys.addValue(authreqID, authCodeKey, Long.MAX_VALUE);
+        }
+        return authCodeKey;
+    }
+
+    @Override
+    public void updateLastPollingTime(String authCodeKey, Timestamp lastPolledTime) throws CibaCoreException {
+
+        PollState pollState = pollStates.get(authCodeKey);
+        if (pollState == null) {
+            // The auth code is not tracked on this node, hence the last polled time can not be flushed later.
+            cibaMgtDAO.updateLastPollingTime(authCodeKey, lastPolledTime);
+            return;
+        }
+        pollState.recordPoll(lastPolledTime.getTime());
+    }
+
+    @Override
+    public void updatePollingInterval(String authCodeKey, long newInterval) throws CibaCoreException {
+
+        cibaMgtDAO.updatePollingInterval(authCodeKey, newInterval);
+        cibaAuthCodeCache.clearCacheEntry(authCodeKey);
+    }
+
+    @Override
+    public AuthenticatedUser getAuthenticatedUser(String authCodeKey) throws CibaCoreException {
+
+        return cibaMgtDAO.getAuthenticatedUser(authCodeKey);
+    }
+
+    @Override
+    public void persistCibaAuthCode(CibaAuthCodeDO cibaAuthCodeDO) throws CibaCoreException {
+
+        cibaMgtDAO.persistCibaAuthCode(cibaAuthCodeDO);
+        CibaAuthCodeCacheEntry cacheEntry = new CibaAuthCodeCacheEntry(cibaAuthCodeDO);
+        cibaAuthCodeCache.addToCache(cibaAuthCodeDO.getCibaAuthCodeKey(), cacheEntry);
+        authCodeKeys.addValue(cibaAuthCodeDO.getAuthReqId(), cibaAuthCodeDO.getCibaAuthCodeKey(),
+                getExpiryTime(cibaAuthCodeDO));
+        getPollState(cacheEntry, cibaAuthCodeDO);
+    }
+
+    @Override
+    public CibaAuthCodeDO getCibaAuthCode(String authCodeKey) throws CibaCoreException {
+
+        CibaAuthCodeCacheEntry cacheEntry = cibaAuthCodeCache.getValueFromCache(authCodeKey);
+        CibaAuthCodeDO cibaAuthCodeDO;
+        if (cacheEntry != null) {
+            if (log.isDebugEnabled()) {
+                log.debug("Cache hit for cibaAuthCode of authCodeKey: " + authCodeKey);
+            }
+            cibaAuthCodeDO = cacheEntry.toCibaAuthCodeDO();
+        } else {
+            if (log.isDebugEnabled()) {
+                log.debug("Cache miss for cibaAuthCode of authCodeKey: " + authCodeKey);
+            }
+            cibaAuthCodeDO = cibaMgtDAO.getCibaAuthCode(authCodeKey);
+            if (cibaAuthCodeDO == null) {
+                return null;
+            }
+            cacheEntry = new CibaAuthCodeCacheEntry(cibaAuthCodeDO);
+            cibaAuthCodeCache.addToCache(authCodeKey, cacheEntry);
+        }
+        PollState pollState = getPollState(cacheEntry, cibaAuthCodeDO);
+        if (pollState != null && pollState.getLastPolledTime() > cibaAuthCodeDO.getLastPolledTime().getTime()) {
+            cibaAuthCodeDO.setLastPolledTime(new Timestamp(pollState.getLastPolledTime()));
+        }
+        return cibaAuthCodeDO;
+    }
+
+    @Override
+    public List<String> getScopes(String authCodeKey) throws CibaCoreException {
+
+        return cibaMgtDAO.getScopes(authCodeKey);
+    }
+
+    /**
+     * Write the last polled times recorded on this node to the database and drop the polling state of the expired
+     * auth codes.
+     *
+     * @throws CibaCoreException Exception thrown from CIBA core Component.
+     */
+    void flush() throws CibaCoreException {
+
+        long currentTime = System.currentTimeMillis();
+        Map<String, Timestamp> lastPolledTimes = new HashMap<>();
+        Iterator<Map.Entry<String, PollState>> iterator = pollStates.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, PollState> entry = iterator.next();
+            PollState pollState = entry.getValue();
+            long lastPolledTime = pollState.takeUnflushedPollTime();
+            if (lastPolledTime > 0) {
+                lastPolledTimes.put(entry.getKey(), new Timestamp(lastPolledTime));
+            }
+            if (pollState.getExpiryTime() <= currentTime) {
+                iterator.remove();
+                removeAuthCodeKey(pollState.getAuthReqId(), entry.getKey());
+            }
+        }
+        if (lastPolledTimes.isEmpty()) {
+            return;
+        }
+        try {
+            cibaMgtDAO.updateLastPollingTimes(lastPolledTimes);
+        } catch (CibaCoreException e) {
+            // Keep the last polled times for the next flush.
+            for (Map.Entry<String, Timestamp> lastPolledTime : lastPolledTimes.entrySet()) {
+                PollState pollState = pollStates.get(lastPolledTime.getKey());
+                if (pollState != null) {
+                    pollState.recordPoll(lastPolledTime.getValue().getTime());
+                }
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Stop the periodic flush and write the last polled times recorded on this node to the database.
+     */
+    public void shutdown() {
+
+        if (flushExecutor != null) {
+            flushExecutor.shutdown();
+        }
+        flushQuietly();
+    }
+
+    private void flushQuietly() {
+
+        try {
+            flush();
+        } catch (CibaCoreException | RuntimeException e) {
+            log.error("Error while flushing the last polled times of the CIBA auth codes.", e);
+        }
+    }
+
+    private PollState getPollState(CibaAuthCodeCacheEntry cacheEntry, CibaAuthCodeDO cibaAuthCodeDO) {
+
+        PollState pollState = pollStates.get(cacheEntry.getCibaAuthCodeKey());
+        if (pollState != null || !isPending(cibaAuthCodeDO.getAuthReqStatus()) || pollStates.size() >= maxEntries) {
+            return pollState;
+        }
+        long expiryTime = getExpiryTime(cibaAuthCodeDO);
+        return pollStates.computeIfAbsent(cacheEntry.getCibaAuthCodeKey(),
+                key -> new PollState(cacheEntry.getAuthReqId(), expiryTime));
+    }
+
+    private void removePollState(String authCodeKey) {
+
+        PollState pollState = pollStates.remove(authCodeKey);
+        if (pollState != null) {
+            removeAuthCodeKey(pollState.getAuthReqId(), authCodeKey);
+        } else {
+            authCodeKeys.removeValues(authCodeKey::equals);
+        }
+    }
+
+    private void removeAuthCodeKey(String authReqId, String authCodeKey) {
+
+        if (authCodeKey.equals(authCodeKeys.getValue(authReqId))) {
+            authCodeKeys.removeValue(authReqId);
+        }
+    }
+
+    private static long getExpiryTime(CibaAuthCodeDO cibaAuthCodeDO) {
+
+        return cibaAuthCodeDO.getIssuedTime().getTime() +
+                cibaAuthCodeDO.getExpiresIn() * CibaConstants.SEC_TO_MILLISEC_FACTOR;
+    }
+
+    private static boolean isPending(Enum authenticationStatus) {
+
+        return AuthReqStatus.REQUESTED.equals(authenticationStatus) ||
+                AuthReqStatus.AUTHENTICATED.equals(authenticationStatus);
+    }
+
+    /**
+     * Last polled time of a pending auth code recorded on this node.
+     */
+    private static class PollState {
+
+        private final String authReqId;
+        private final long expiryTime;
+        private long lastPolledTime;
+        private boolean unflushed;
+
+        PollState(String authReqId, long expiryTime) {
+
+            this.authReqId = authReqId;
+            this.expiryTime = expiryTime;
+        }
+
+        String getAuthReqId() {
+
+            return authReqId;
+        }
+
+        long getExpiryTime() {
+
+            return expiryTime;
+        }
+
+        synchronized long getLastPolledTime() {
+
+            return lastPolledTime;
+        }
+
+        synchronized void recordPoll(long polledTime) {
+
+            if (polledTime > lastPolledTime) {
+                lastPolledTime = polledTime;
+            }
+            unflushed = true;
+        }
+
+        synchronized long takeUnflushedPollTime() {
+
+            if (!unflushed) {
+                return 0;
+            }
+            unflushed = false;
+            return lastPolledTime;
+        }
+    }
+}
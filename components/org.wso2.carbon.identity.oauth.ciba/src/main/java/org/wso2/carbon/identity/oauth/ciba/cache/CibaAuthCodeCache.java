@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth.ciba.cache;
+
+import org.wso2.carbon.identity.application.authentication.framework.cache.AuthenticationBaseCache;
+import org.wso2.carbon.identity.oauth.ciba.common.CibaConstants;
+import org.wso2.carbon.identity.oauth.ciba.model.CibaAuthCodeCacheEntry;
+
+/**
+ * Cache implementation for CIBA auth codes.
+ */
+public class CibaAuthCodeCache extends AuthenticationBaseCache<String, CibaAuthCodeCacheEntry> {
+
+    private static final CibaAuthCodeCache instance = new CibaAuthCodeCache();
+
+    private CibaAuthCodeCache() {
+
+        super(CibaConstants.AUTH_CODE_CACHE_NAME);
+    }
+
+    /**
+     * Retrieve CibaAuthCodeCache instance.
+     *
+     * @return Instance of CibaAuthCodeCache.
+     */
+    public static CibaAuthCodeCache getInstance() {
+
+        return instance;
+    }
+}
@@ -45,6 +45,7 @@ public class CibaConstants {
     public static final String TRANSACTION_CONTEXT = "transaction_context";
     public static final String UTC = "UTC";
     public static final String EXPIRES_IN = "expires_in";
+    public static final String AUTH_CODE_CACHE_NAME = "CibaAuthCodeCache";
 
     private CibaConstants() {
 
@@ -18,6 +18,8 @@
 
 package org.wso2.carbon.identity.oauth.ciba.dao;
 
+import org.wso2.carbon.identity.oauth.ciba.cache.CacheBackedCibaMgtDAO;
+
 /**
  * Creates required CibaDAO.
  */
@@ -29,7 +31,11 @@ public class CibaDAOFactory {
     private CibaDAOFactory() {
 
         // This factory creates instance of CIBA DAOImplementation.
-        cibaMgtDAOImpl = new CibaMgtDAOImpl();
+        if (CacheBackedCibaMgtDAO.isEnabled()) {
+            cibaMgtDAOImpl = new CacheBackedCibaMgtDAO();
+        } else {
+            cibaMgtDAOImpl = new CibaMgtDAOImpl();
+        }
     }
 
     private static CibaDAOFactory cibaDAOFactoryInstance = new CibaDAOFactory();
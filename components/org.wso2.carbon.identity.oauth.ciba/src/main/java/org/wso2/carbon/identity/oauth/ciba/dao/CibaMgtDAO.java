@@ -24,6 +24,7 @@ import org.wso2.carbon.identity.oauth.ciba.model.CibaAuthCodeDO;
 
 import java.sql.Timestamp;
 import java.util.List;
+import java.util.Map;
 
 /**
  * DAO layer for CIBA.
@@ -66,6 +67,19 @@ public interface CibaMgtDAO {
      */
     void updateLastPollingTime(String authCodeKey, Timestamp lastPolledTime) throws CibaCoreException;
 
+    /**
+     * Updates the last polled time of a set of tokenRequests.
+     *
+     * @param lastPolledTimes Last polled times against the identifiers of the CibaAuthCodes.
+     * @throws CibaCoreException Exception thrown from CIBA core Component.
+     */
+    default void updateLastPollingTimes(Map<String, Timestamp> lastPolledTimes) throws CibaCoreException {
+
+        for (Map.Entry<String, Timestamp> lastPolledTime : lastPolledTimes.entrySet()) {
+            updateLastPollingTime(lastPolledTime.getKey(), lastPolledTime.getValue());
+        }
+    }
+
     /**
      * Updates the polling Interval of tokenRequest.
      *
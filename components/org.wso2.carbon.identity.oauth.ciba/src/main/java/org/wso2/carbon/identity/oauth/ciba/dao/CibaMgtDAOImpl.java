@@ -37,6 +37,7 @@ import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.List;
+import java.util.Map;
 import java.util.TimeZone;
 
 /**
@@ -163,6 +164,37 @@ public class CibaMgtDAOImpl implements CibaMgtDAO {
         }
     }
 
+    @Override
+    public void updateLastPollingTimes(Map<String, Timestamp> lastPolledTimes) throws CibaCoreException {
+
+        if (lastPolledTimes.isEmpty()) {
+            return;
+        }
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(true)) {
+            try (PreparedStatement prepStmt =
+                         connection.prepareStatement(SQLQueries.CibaSQLQueries.UPDATE_LAST_POLLED_TIME)) {
+
+                Calendar utcCalendar = Calendar.getInstance(TimeZone.getTimeZone(CibaConstants.UTC));
+                for (Map.Entry<String, Timestamp> lastPolledTime : lastPolledTimes.entrySet()) {
+                    prepStmt.setTimestamp(1, lastPolledTime.getValue(), utcCalendar);
+                    prepStmt.setString(2, lastPolledTime.getKey());
+                    prepStmt.addBatch();
+                }
+                prepStmt.executeBatch();
+                IdentityDatabaseUtil.commitTransaction(connection);
+                if (log.isDebugEnabled()) {
+                    log.debug("Successfully updated lastPollingTime of " + lastPolledTimes.size() +
+                            " TokenRequests.");
+                }
+            } catch (SQLException e) {
+                IdentityDatabaseUtil.rollbackTransaction(connection);
+                throw new CibaCoreException("Error occurred in updating lastPollingTime of TokenRequests.", e);
+            }
+        } catch (SQLException e) {
+            throw new CibaCoreException("Error occurred in updating lastPollingTime of TokenRequests.", e);
+        }
+    }
+
     @Override
     public void updatePollingInterval(String authCodeKey, long newInterval) throws CibaCoreException {
 
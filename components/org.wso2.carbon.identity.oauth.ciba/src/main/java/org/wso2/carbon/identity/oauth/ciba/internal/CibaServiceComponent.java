@@ -26,6 +26,9 @@ import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
 import org.wso2.carbon.identity.oauth.ciba.api.CibaAuthService;
 import org.wso2.carbon.identity.oauth.ciba.api.CibaAuthServiceImpl;
+import org.wso2.carbon.identity.oauth.ciba.cache.CacheBackedCibaMgtDAO;
+import org.wso2.carbon.identity.oauth.ciba.dao.CibaDAOFactory;
+import org.wso2.carbon.identity.oauth.ciba.dao.CibaMgtDAO;
 
 /**
  * Service component for CIBA.
@@ -55,6 +58,10 @@ public class CibaServiceComponent {
     @Deactivate
     protected void deactivate(ComponentContext context) {
 
+        CibaMgtDAO cibaMgtDAO = CibaDAOFactory.getInstance().getCibaAuthMgtDAO();
+        if (cibaMgtDAO instanceof CacheBackedCibaMgtDAO) {
+            ((CacheBackedCibaMgtDAO) cibaMgtDAO).shutdown();
+        }
         if (log.isDebugEnabled()) {
             log.debug("CIBA component bundle is deactivated.");
         }
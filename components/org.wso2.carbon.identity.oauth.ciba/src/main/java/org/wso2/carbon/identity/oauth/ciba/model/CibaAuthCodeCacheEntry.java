@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth.ciba.model;
+
+import org.wso2.carbon.identity.core.cache.CacheEntry;
+
+import java.sql.Timestamp;
+
+/**
+ * Class that holds the data of a CIBA auth code for caching.
+ * <p>
+ * Scopes and the authenticated user are not cached, since they are read only once when the token is issued.
+ */
+public class CibaAuthCodeCacheEntry extends CacheEntry {
+
+    private final String cibaAuthCodeKey;
+    private final String authReqId;
+    private final String consumerKey;
+    private final long issuedTime;
+    private final long lastPolledTime;
+    private final long interval;
+    private final long expiresIn;
+    private final Enum authReqStatus;
+
+    /**
+     * Constructor for the cache entry of a CIBA auth code.
+     *
+     * @param cibaAuthCodeDO CIBA auth code.
+     */
+    public CibaAuthCodeCacheEntry(CibaAuthCodeDO cibaAuthCodeDO) {
+
+        this.cibaAuthCodeKey = cibaAuthCodeDO.getCibaAuthCodeKey();
+        this.authReqId = cibaAuthCodeDO.getAuthReqId();
+        this.consumerKey = cibaAuthCodeDO.getConsumerKey();
+        this.issuedTime = cibaAuthCodeDO.getIssuedTime().getTime();
+        this.lastPolledTime = cibaAuthCodeDO.getLastPolledTime().getTime();
+        this.interval = cibaAuthCodeDO.getInterval();
+        this.expiresIn = cibaAuthCodeDO.getExpiresIn();
+        this.authReqStatus = cibaAuthCodeDO.getAuthReqStatus();
+    }
+
+    public String getCibaAuthCodeKey() {
+
+        return cibaAuthCodeKey;
+    }
+
+    public String getAuthReqId() {
+
+        return authReqId;
+    }
+
+    /**
+     * Build a new CIBA auth code from the cache entry, so that the callers can not modify the cached data.
+     *
+     * @return CIBA auth code.
+     */
+    public CibaAuthCodeDO toCibaAuthCodeDO() {
+
+        CibaAuthCodeDO cibaAuthCodeDO = new CibaAuthCodeDO();
+        cibaAuthCodeDO.setCibaAuthCodeKey(cibaAuthCodeKey);
+        cibaAuthCodeDO.setAuthReqId(authReqId);
+        cibaAuthCodeDO.setConsumerKey(consumerKey);
+        cibaAuthCodeDO.setIssuedTime(new Timestamp(issuedTime));
+        cibaAuthCodeDO.setLastPolledTime(new Timestamp(lastPolledTime));
+        cibaAuthCodeDO.setInterval(interval);
+        cibaAuthCodeDO.setExpiresIn(expiresIn);
+        cibaAuthCodeDO.setAuthReqStatus(authReqStatus);
+        return cibaAuthCodeDO;
+    }
+}
@@ -0,0 +1,309 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth.ciba.cache;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.application.authentication.framework.model.AuthenticatedUser;
+import org.wso2.carbon.identity.oauth.ciba.common.AuthReqStatus;
+import org.wso2.carbon.identity.oauth.ciba.common.CibaConstants;
+import org.wso2.carbon.identity.oauth.ciba.dao.CibaMgtDAO;
+import org.wso2.carbon.identity.oauth.ciba.exceptions.CibaCoreException;
+import org.wso2.carbon.identity.oauth.ciba.model.CibaAuthCodeCacheEntry;
+import org.wso2.carbon.identity.oauth.ciba.model.CibaAuthCodeDO;
+
+import java.sql.Timestamp;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link CacheBackedCibaMgtDAO}.
+ */
+public class CacheBackedCibaMgtDAOTest {
+
+    private static final int AUTH_CODE_COUNT = 100;
+    private static final int POLLS_PER_AUTH_CODE = 50;
+    private static final long INTERVAL_IN_SEC = 2;
+
+    private CountingCibaMgtDAO cibaMgtDAO;
+    private CibaAuthCodeCache cibaAuthCodeCache;
+
+    @BeforeMethod
+    public void setUp() {
+
+        cibaMgtDAO = new CountingCibaMgtDAO();
+        Map<String, CibaAuthCodeCacheEntry> cacheEntries = new ConcurrentHashMap<>();
+        cibaAuthCodeCache = mock(CibaAuthCodeCache.class);
+        doAnswer(invocation -> cacheEntries.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(cibaAuthCodeCache).addToCache(anyString(), any(CibaAuthCodeCacheEntry.class));
+        when(cibaAuthCodeCache.getValueFromCache(anyString()))
+                .thenAnswer(invocation -> cacheEntries.get(invocation.<String>getArgument(0)));
+        doAnswer(invocation -> cacheEntries.remove(invocation.<String>getArgument(0)))
+                .when(cibaAuthCodeCache).clearCacheEntry(anyString());
+    }
+
+    @Test
+    public void testDatabaseOperationsPerPendingPoll() throws Exception {
+
+        long issuedTime = System.currentTimeMillis();
+
+        long uncachedOperations = pollPendingAuthCodes(cibaMgtDAO, "uncached-", issuedTime);
+        assertEquals(uncachedOperations, (long) AUTH_CODE_COUNT * POLLS_PER_AUTH_CODE * 3);
+
+        cibaMgtDAO.resetCount();
+        CacheBackedCibaMgtDAO cacheBackedDAO = new CacheBackedCibaMgtDAO(cibaMgtDAO, cibaAuthCodeCache, 10000);
+        pollPendingAuthCodes(cacheBackedDAO, "cached-", issuedTime);
+        cacheBackedDAO.flush();
+        long cachedOperations = cibaMgtDAO.getCount();
+
+        double operationsPerPoll = (double) cachedOperations / (AUTH_CODE_COUNT * POLLS_PER_AUTH_CODE);
+        assertTrue(operationsPerPoll < 0.01, "Database operations per poll: " + operationsPerPoll);
+
+        // The last polled times are written with the flush.
+        long lastPollTime = issuedTime + POLLS_PER_AUTH_CODE * INTERVAL_IN_SEC * CibaConstants.SEC_TO_MILLISEC_FACTOR;
+        for (int i = 0; i < AUTH_CODE_COUNT; i++) {
+            assertEquals(cibaMgtDAO.authCodes.get("cached-key-" + i).getLastPolledTime().getTime(), lastPollTime);
+        }
+    }
+
+    @Test
+    public void testPollTooFastIsDetectedBeforeFlush() throws Exception {
+
+        CacheBackedCibaMgtDAO cacheBackedDAO = new CacheBackedCibaMgtDAO(cibaMgtDAO, cibaAuthCodeCache, 10000);
+        long issuedTime = System.currentTimeMillis();
+        cacheBackedDAO.persistCibaAuthCode(buildAuthCode("key", "req", issuedTime));
+
+        Timestamp polledTime = new Timestamp(issuedTime + 1000);
+        cacheBackedDAO.updateLastPollingTime("key", polledTime);
+
+        assertEquals(cacheBackedDAO.getCibaAuthCode("key").getLastPolledTime(), polledTime);
+        assertEquals(cibaMgtDAO.authCodes.get("key").getLastPolledTime().getTime(), issuedTime);
+
+        // The polling interval is written through and the next read loads the new interval.
+        cacheBackedDAO.updatePollingInterval("key", 5);
+        CibaAuthCodeDO cibaAuthCodeDO = cacheBackedDAO.getCibaAuthCode("key");
+        assertEquals(cibaAuthCodeDO.getInterval(), 5);
+        assertEquals(cibaAuthCodeDO.getLastPolledTime(), polledTime);
+    }
+
+    @Test
+    public void testStatusTransitionIsWrittenThrough() throws Exception {
+
+        CacheBackedCibaMgtDAO cacheBackedDAO = new CacheBackedCibaMgtDAO(cibaMgtDAO, cibaAuthCodeCache, 10000);
+        long issuedTime = System.currentTimeMillis();
+        cacheBackedDAO.persistCibaAuthCode(buildAuthCode("key", "req", issuedTime));
+        cacheBackedDAO.getCibaAuthCode("key");
+
+        cacheBackedDAO.updateStatus("key", AuthReqStatus.AUTHENTICATED);
+        assertEquals(cibaMgtDAO.authCodes.get("key").getAuthReqStatus(), AuthReqStatus.AUTHENTICATED);
+        assertEquals(cacheBackedDAO.getCibaAuthCode("key").getAuthReqStatus(), AuthReqStatus.AUTHENTICATED);
+
+        // Poll times recorded for a completed auth code are not flushed anymore.
+        cacheBackedDAO.updateLastPollingTime("key", new Timestamp(issuedTime + 1000));
+        cacheBackedDAO.updateStatus("key", AuthReqStatus.TOKEN_ISSUED);
+        cibaMgtDAO.resetCount();
+        cacheBackedDAO.flush();
+        assertEquals(cibaMgtDAO.getCount(), 0);
+        assertEquals(cacheBackedDAO.getCibaAuthCode("key").getAuthReqStatus(), AuthReqStatus.TOKEN_ISSUED);
+    }
+
+    @Test
+    public void testUnknownAuthCode() throws Exception {
+
+        CacheBackedCibaMgtDAO cacheBackedDAO = new CacheBackedCibaMgtDAO(cibaMgtDAO, cibaAuthCodeCache, 10000);
+
+        assertNull(cacheBackedDAO.getCibaAuthCodeKey("unknown"));
+        assertNull(cacheBackedDAO.getCibaAuthCode("unknown"));
+    }
+
+    @Test
+    public void testAuthCodeKeysExpireWithAuthCode() throws Exception {
+
+        CacheBackedCibaMgtDAO cacheBackedDAO = new CacheBackedCibaMgtDAO(cibaMgtDAO, cibaAuthCodeCache, 1);
+        long expiredIssuedTime = System.currentTimeMillis() -
+                2 * CibaConstants.EXPIRES_IN_DEFAULT_VALUE_IN_SEC * CibaConstants.SEC_TO_MILLISEC_FACTOR;
+        cacheBackedDAO.persistCibaAuthCode(buildAuthCode("expired-key", "expired-req", expiredIssuedTime));
+        cacheBackedDAO.persistCibaAuthCode(buildAuthCode("key", "req", System.currentTimeMillis()));
+
+        // The mapping of an expired auth code is not kept, hence it does not take the place of a live one.
+        cibaMgtDAO.resetCount();
+        assertEquals(cacheBackedDAO.getCibaAuthCodeKey("req"), "key");
+        assertEquals(cibaMgtDAO.getCount(), 0);
+        assertEquals(cacheBackedDAO.getCibaAuthCodeKey("expired-req"), "expired-key");
+        assertEquals(cibaMgtDAO.getCount(), 1);
+    }
+
+    /**
+     * Poll the pending auth codes the way the CIBA grant handler does.
+     */
+    private long pollPendingAuthCodes(CibaMgtDAO dao, String prefix, long issuedTime) throws CibaCoreException {
+
+        for (int i = 0; i < AUTH_CODE_COUNT; i++) {
+            dao.persistCibaAuthCode(buildAuthCode(prefix + "key-" + i, prefix + "req-" + i, issuedTime));
+        }
+        cibaMgtDAO.resetCount();
+        for (int poll = 1; poll <= POLLS_PER_AUTH_CODE; poll++) {
+            long polledTime = issuedTime + poll * INTERVAL_IN_SEC * CibaConstants.SEC_TO_MILLISEC_FACTOR;
+            for (int i = 0; i < AUTH_CODE_COUNT; i++) {
+                String authCodeKey = dao.getCibaAuthCodeKey(prefix + "req-" + i);
+                CibaAuthCodeDO cibaAuthCodeDO = dao.getCibaAuthCode(authCodeKey);
+                assertEquals(cibaAuthCodeDO.getAuthReqStatus(), AuthReqStatus.REQUESTED);
+                long nextPollTime = cibaAuthCodeDO.getLastPolledTime().getTime() +
+                        cibaAuthCodeDO.getInterval() * CibaConstants.SEC_TO_MILLISEC_FACTOR;
+                if (polledTime < nextPollTime) {
+                    dao.updatePollingInterval(authCodeKey, cibaAuthCodeDO.getInterval() +
+                            CibaConstants.INTERVAL_INCREMENT_VALUE_IN_SEC);
+                } else {
+                    dao.updateLastPollingTime(authCodeKey, new Timestamp(polledTime));
+                }
+            }
+        }
+        return cibaMgtDAO.getCount();
+    }
+
+    private static CibaAuthCodeDO buildAuthCode(String authCodeKey, String authReqId, long issuedTime) {
+
+        CibaAuthCodeDO cibaAuthCodeDO = new CibaAuthCodeDO();
+        cibaAuthCodeDO.setCibaAuthCodeKey(authCodeKey);
+        cibaAuthCodeDO.setAuthReqId(authReqId);
+        cibaAuthCodeDO.setConsumerKey("consumer-key");
+        cibaAuthCodeDO.setIssuedTime(new Timestamp(issuedTime));
+        cibaAuthCodeDO.setLastPolledTime(new Timestamp(issuedTime));
+        cibaAuthCodeDO.setInterval(INTERVAL_IN_SEC);
+        cibaAuthCodeDO.setExpiresIn(CibaConstants.EXPIRES_IN_DEFAULT_VALUE_IN_SEC);
+        cibaAuthCodeDO.setAuthReqStatus(AuthReqStatus.REQUESTED);
+        return cibaAuthCodeDO;
+    }
+
+    /**
+     * In memory DAO which counts the database operations.
+     */
+    private static class CountingCibaMgtDAO implements CibaMgtDAO {
+
+        private final Map<String, CibaAuthCodeDO> authCodes = new HashMap<>();
+        private long count;
+
+        long getCount() {
+
+            return count;
+        }
+
+        void resetCount() {
+
+            count = 0;
+        }
+
+        @Override
+        public void updateStatus(String authCodeKey, Enum authenticationStatus) {
+
+            count++;
+            authCodes.get(authCodeKey).setAuthReqStatus(authenticationStatus);
+        }
+
+        @Override
+        public void persistAuthenticationSuccess(String authCodeKey, AuthenticatedUser authenticatedUser) {
+
+            count++;
+            authCodes.get(authCodeKey).setAuthReqStatus(AuthReqStatus.AUTHENTICATED);
+            authCodes.get(authCodeKey).setAuthenticatedUser(authenticatedUser);
+        }
+
+        @Override
+        public String getCibaAuthCodeKey(String authreqID) {
+
+            count++;
+            return authCodes.values().stream().filter(authCode -> authCode.getAuthReqId().equals(authreqID))
+                    .map(CibaAuthCodeDO::getCibaAuthCodeKey).findFirst().orElse(null);
+        }
+
+        @Override
+        public void updateLastPollingTime(String authCodeKey, Timestamp lastPolledTime) {
+
+            count++;
+            authCodes.get(authCodeKey).setLastPolledTime(lastPolledTime);
+        }
+
+        @Override
+        public void updateLastPollingTimes(Map<String, Timestamp> lastPolledTimes) {
+
+            count++;
+            lastPolledTimes.forEach((authCodeKey, lastPolledTime) ->
+                    authCodes.get(authCodeKey).setLastPolledTime(lastPolledTime));
+        }
+
+        @Override
+        public void updatePollingInterval(String authCodeKey, long newInterval) {
+
+            count++;
+            authCodes.get(authCodeKey).setInterval(newInterval);
+        }
+
+        @Override
+        public AuthenticatedUser getAuthenticatedUser(String authCodeKey) {
+
+            count++;
+            return authCodes.get(authCodeKey).getAuthenticatedUser();
+        }
+
+        @Override
+        public void persistCibaAuthCode(CibaAuthCodeDO cibaAuthCodeDO) {
+
+            count++;
+            CibaAuthCodeDO storedAuthCode = copy(cibaAuthCodeDO);
+            authCodes.put(storedAuthCode.getCibaAuthCodeKey(), storedAuthCode);
+        }
+
+        @Override
+        public CibaAuthCodeDO getCibaAuthCode(String authCodeKey) {
+
+            count++;
+            CibaAuthCodeDO cibaAuthCodeDO = authCodes.get(authCodeKey);
+            return cibaAuthCodeDO != null ? copy(cibaAuthCodeDO) : null;
+        }
+
+        @Override
+        public List<String> getScopes(String authCodeKey) {
+
+            count++;
+            return Collections.emptyList();
+        }
+
+        private static CibaAuthCodeDO copy(CibaAuthCodeDO cibaAuthCodeDO) {
+
+            CibaAuthCodeDO copy = buildAuthCode(cibaAuthCodeDO.getCibaAuthCodeKey(), cibaAuthCodeDO.getAuthReqId(),
+                    cibaAuthCodeDO.getIssuedTime().getTime());
+            copy.setLastPolledTime(cibaAuthCodeDO.getLastPolledTime());
+            copy.setInterval(cibaAuthCodeDO.getInterval());
+            copy.setAuthReqStatus(cibaAuthCodeDO.getAuthReqStatus());
+            return copy;
+        }
+    }
+}
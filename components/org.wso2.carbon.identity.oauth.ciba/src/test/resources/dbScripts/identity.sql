@@ -102,6 +102,8 @@ CREATE INDEX IDX_AT_CK_AU ON IDN_OAUTH2_ACCESS_TOKEN(CONSUMER_KEY_ID, AUTHZ_USER
 
 CREATE INDEX IDX_TC ON IDN_OAUTH2_ACCESS_TOKEN(TIME_CREATED);
 
+CREATE INDEX IDX_AT_TS_TC ON IDN_OAUTH2_ACCESS_TOKEN(TOKEN_STATE, TIME_CREATED);
+
 CREATE INDEX IDX_AT ON IDN_OAUTH2_ACCESS_TOKEN(ACCESS_TOKEN);
 
 CREATE TABLE IF NOT EXISTS IDN_OAUTH2_AUTHORIZATION_CODE (
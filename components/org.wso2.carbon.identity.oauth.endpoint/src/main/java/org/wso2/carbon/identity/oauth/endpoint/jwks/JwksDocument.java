@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.oauth.endpoint.jwks;
+
+import com.nimbusds.jose.util.Base64URL;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Serialized JWKS document of a tenant along with the keystore certificates and the configuration it was built from.
+ */
+public class JwksDocument {
+
+    private final List<CertificateInfo> certificateInfoList;
+    private final String configurationKey;
+    private final byte[] body;
+    private final String eTag;
+
+    public JwksDocument(List<CertificateInfo> certificateInfoList, String configurationKey, String body)
+            throws NoSuchAlgorithmException {
+
+        this.certificateInfoList = new ArrayList<>(certificateInfoList);
+        this.configurationKey = configurationKey;
+        this.body = body.getBytes(StandardCharsets.UTF_8);
+        this.eTag = "\"" + Base64URL.encode(MessageDigest.getInstance("SHA-256").digest(this.body)) + "\"";
+    }
+
+    /**
+     * Get the serialized JWKS document. The returned array is shared and must not be modified.
+     *
+     * @return JWKS document as UTF-8 encoded bytes.
+     */
+    public byte[] getBody() {
+
+        return body;
+    }
+
+    /**
+     * Get the strong entity tag of the JWKS document.
+     *
+     * @return Quoted entity tag.
+     */
+    public String getETag() {
+
+        return eTag;
+    }
+
+    /**
+     * Check whether this document was built from the given keystore certificates and configuration.
+     *
+     * @param currentCertificateInfoList Certificates currently in the tenant keystore.
+     * @param currentConfigurationKey    Current JWKS configuration key.
+     * @return True if the document is still valid.
+     */
+    public boolean isBuiltFor(List<CertificateInfo> currentCertificateInfoList, String currentConfigurationKey) {
+
+        if (!Objects.equals(configurationKey, currentConfigurationKey)
+                || certificateInfoList.size() != currentCertificateInfoList.size()) {
+            return false;
+        }
+        for (int i = 0; i < certificateInfoList.size(); i++) {
+            CertificateInfo cached = certificateInfoList.get(i);
+            CertificateInfo current = currentCertificateInfoList.get(i);
+            if (!Objects.equals(cached.getCertificateAlias(), current.getCertificateAlias())
+                    || !Objects.equals(cached.getCertificate(), current.getCertificate())
+                    || !Arrays.equals(cached.getCertificateChain(), current.getCertificateChain())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Check whether the given If-None-Match header value matches the entity tag of this document.
+     *
+     * @param ifNoneMatch If-None-Match header value.
+     * @return True if the client already holds this document.
+     */
+    public boolean matches(String ifNoneMatch) {
+
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String tag : ifNoneMatch.split(",")) {
+            String trimmedTag = tag.trim();
+            // If-None-Match uses the weak comparison function.
+            if (trimmedTag.startsWith("W/")) {
+                trimmedTag = trimmedTag.substring(2);
+            }
+            if ("*".equals(trimmedTag) || eTag.equals(trimmedTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
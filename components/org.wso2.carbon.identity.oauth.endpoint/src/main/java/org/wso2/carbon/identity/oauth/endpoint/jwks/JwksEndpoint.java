@@ -48,12 +48,18 @@ import java.text.ParseException;
 import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.jws.WebService;
+import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.GET;
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
 
 /**
  * Rest implementation for JWKS endpoint.
@@ -68,11 +74,14 @@ public class JwksEndpoint {
     private static final String ENABLE_X5C_IN_RESPONSE = "JWTValidatorConfigs.JWKSEndpoint.EnableX5CInResponse";
     public static final String JWKS_IS_THUMBPRINT_HEXIFY_REQUIRED = "JWTValidatorConfigs.JWKSEndpoint" +
             ".IsThumbprintHexifyRequired";
+    private static final String CACHE_MAX_AGE = "JWTValidatorConfigs.JWKSEndpoint.CacheMaxAge";
+    private static final String CACHE_CONTROL_NO_CACHE = "no-cache";
+    private static final Map<String, JwksDocument> JWKS_DOCUMENTS = new ConcurrentHashMap<>();
 
     @GET
     @Path(value = "/jwks")
     @Produces(MediaType.APPLICATION_JSON)
-    public String jwks() {
+    public Response jwks(@Context HttpServletRequest request) {
 
         String tenantDomain = getTenantDomain();
 
@@ -89,23 +98,54 @@ public class JwksEndpoint {
                     certificateInfoList.add(certificateInfo);
                 }
             }
-            return buildResponse(certificateInfoList);
+
+            OAuthServerConfiguration config = OAuthServerConfiguration.getInstance();
+            JWSAlgorithm accessTokenSignAlgorithm =
+                    OAuth2Util.mapSignatureAlgorithmForJWSAlgorithm(config.getSignatureAlgorithm());
+            // If we read different algorithms from identity.xml then put them in a list.
+            List<JWSAlgorithm> diffAlgorithms = findDifferentAlgorithms(accessTokenSignAlgorithm, config);
+            String configurationKey = getConfigurationKey(diffAlgorithms);
+
+            JwksDocument jwksDocument = JWKS_DOCUMENTS.get(tenantDomain);
+            if (jwksDocument == null || !jwksDocument.isBuiltFor(certificateInfoList, configurationKey)) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Building the JWKS document for tenant domain: " + tenantDomain);
+                }
+                jwksDocument = new JwksDocument(certificateInfoList, configurationKey,
+                        buildResponse(certificateInfoList, accessTokenSignAlgorithm, diffAlgorithms));
+                JWKS_DOCUMENTS.put(tenantDomain, jwksDocument);
+            }
+
+            if (request != null && jwksDocument.matches(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+                return Response.notModified()
+                        .header(HttpHeaders.ETAG, jwksDocument.getETag())
+                        .header(OAuthConstants.HTTP_RESP_HEADER_CACHE_CONTROL, getCacheControlHeaderValue())
+                        .build();
+            }
+            return Response.ok(jwksDocument.getBody(), MediaType.APPLICATION_JSON)
+                    .header(HttpHeaders.ETAG, jwksDocument.getETag())
+                    .header(OAuthConstants.HTTP_RESP_HEADER_CACHE_CONTROL, getCacheControlHeaderValue())
+                    .build();
         } catch (Exception e) {
             String errorMessage = "Error while generating the keyset for tenant domain: " + tenantDomain;
-            return logAndReturnError(errorMessage, e);
+            return Response.ok(logAndReturnError(errorMessage, e)).build();
         }
     }
 
-    private String buildResponse(List<CertificateInfo> certInfoList)
+    /**
+     * Remove the cached JWKS documents of all tenants.
+     */
+    public static void clearJwksDocuments() {
+
+        JWKS_DOCUMENTS.clear();
+    }
+
+    private String buildResponse(List<CertificateInfo> certInfoList, JWSAlgorithm accessTokenSignAlgorithm,
+                                 List<JWSAlgorithm> diffAlgorithms)
             throws IdentityOAuth2Exception, ParseException, CertificateEncodingException, JOSEException {
 
         JSONArray jwksArray = new JSONArray();
         JSONObject jwksJson = new JSONObject();
-        OAuthServerConfiguration config = OAuthServerConfiguration.getInstance();
-        JWSAlgorithm accessTokenSignAlgorithm =
-                OAuth2Util.mapSignatureAlgorithmForJWSAlgorithm(config.getSignatureAlgorithm());
-        // If we read different algorithms from identity.xml then put them in a list.
-        List<JWSAlgorithm> diffAlgorithms = findDifferentAlgorithms(accessTokenSignAlgorithm, config);
         // Create JWKS for different algorithms using new KeyID creation method.
         populateJWKSArray(certInfoList, diffAlgorithms, jwksArray,
                 OAuthConstants.SignatureAlgorithms.KID_HASHING_ALGORITHM);
@@ -123,6 +163,37 @@ public class JwksEndpoint {
         return jwksJson.toString();
     }
 
+    /**
+     * Build a key representing the configurations the JWKS document depends on, so that a cached document is
+     * rebuilt when any of them changes.
+     *
+     * @param diffAlgorithms Signing algorithms published in the JWKS document.
+     * @return Configuration key.
+     */
+    private String getConfigurationKey(List<JWSAlgorithm> diffAlgorithms) {
+
+        return diffAlgorithms + ":" + IdentityUtil.getProperty(ADD_PREVIOUS_VERSION_KID) + ":" +
+                IdentityUtil.getProperty(ENABLE_X5C_IN_RESPONSE) + ":" +
+                IdentityUtil.getProperty(JWKS_IS_THUMBPRINT_HEXIFY_REQUIRED);
+    }
+
+    private String getCacheControlHeaderValue() {
+
+        String maxAge = IdentityUtil.getProperty(CACHE_MAX_AGE);
+        if (StringUtils.isNotBlank(maxAge)) {
+            try {
+                int maxAgeInSeconds = Integer.parseInt(maxAge.trim());
+                if (maxAgeInSeconds > 0) {
+                    return "public, max-age=" + maxAgeInSeconds;
+                }
+            } catch (NumberFormatException e) {
+                log.warn("Invalid value: " + maxAge + " configured for " + CACHE_MAX_AGE + ". Clients will be " +
+                        "asked to revalidate the JWKS document on each request.");
+            }
+        }
+        return CACHE_CONTROL_NO_CACHE;
+    }
+
     private void populateJWKSArray(List<CertificateInfo> certInfoList, List<JWSAlgorithm> diffAlgorithms,
                                    JSONArray jwksArray, String hashingAlgorithm)
             throws IdentityOAuth2Exception, ParseException, CertificateEncodingException, JOSEException {
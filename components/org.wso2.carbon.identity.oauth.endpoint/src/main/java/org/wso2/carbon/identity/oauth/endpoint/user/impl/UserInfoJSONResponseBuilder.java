@@ -45,4 +45,10 @@ public class UserInfoJSONResponseBuilder extends AbstractUserInfoResponseBuilder
 
         return JSONUtils.buildJSON(filteredUserClaims);
     }
+
+    @Override
+    protected boolean isResponseCacheable() {
+
+        return true;
+    }
 }
@@ -66,6 +66,13 @@ public class UserInfoJWTResponse extends AbstractUserInfoResponseBuilder {
         return buildJWTResponse(tokenResponse, spTenantDomain, jwtClaimsSetBuilder.build());
     }
 
+    @Override
+    protected boolean isResponseCacheable() {
+
+        // The JWT carries only the user claims and no time dependent claims, hence a signed response can be reused.
+        return true;
+    }
+
     private String buildJWTResponse(OAuth2TokenValidationResponseDTO tokenResponse,
                                     String spTenantDomain,
                                     JWTClaimsSet jwtClaimsSet) throws UserInfoEndpointException {
@@ -53,6 +53,8 @@ import org.wso2.carbon.identity.oauth2.model.AccessTokenDO;
 import org.wso2.carbon.identity.oauth2.util.AuthzUtil;
 import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
 import org.wso2.carbon.identity.openidconnect.OIDCClaimUtil;
+import org.wso2.carbon.identity.openidconnect.UserClaimsUpdateTracker;
+import org.wso2.carbon.identity.openidconnect.model.ResolvedUserClaims;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
 import org.wso2.carbon.identity.organization.management.service.util.OrganizationManagementUtil;
 import org.wso2.carbon.user.api.RealmConfiguration;
@@ -196,14 +198,15 @@ public class ClaimUtil {
                         try {
                             FrameworkUtils.startTenantFlow(userAccessingTenantDomain);
                             userClaims = getUserClaimsFromUserStoreWithResolvedRoles(authenticatedUser, serviceProvider,
-                                    sharedUserId, realm, claimURIList);
+                                    sharedUserId, realm, claimURIList, null);
                         } finally {
                             FrameworkUtils.endTenantFlow();
                         }
                     } else {
                         realm = getUserRealm(null, userTenantDomain);
                         userClaims = getUserClaimsFromUserStoreWithResolvedRoles(authenticatedUser, serviceProvider,
-                                userId, realm, claimURIList);
+                                userId, realm, claimURIList, getReusableResolvedUserClaims(tokenResponse,
+                                        authenticatedUser, userTenantDomain));
                     }
 
                     if (isNotEmpty(userClaims)) {
@@ -346,10 +349,24 @@ public class ClaimUtil {
                                                                                    ServiceProvider serviceProvider,
                                                                                    String resolvedUserId,
                                                                                    UserRealm realm,
-                                                                                   List<String> claimURIList)
+                                                                                   List<String> claimURIList,
+                                                                                   ResolvedUserClaims
+                                                                                           resolvedUserClaims)
             throws UserStoreException {
 
-        Map<String, String> userClaims = getUserClaimsFromUserStore(resolvedUserId, realm, claimURIList);
+        Map<String, String> userClaims;
+        if (resolvedUserClaims == null) {
+            userClaims = getUserClaimsFromUserStore(resolvedUserId, realm, claimURIList);
+        } else {
+            // Retrieve only the claims which were not retrieved while issuing the access token.
+            userClaims = resolvedUserClaims.getClaimValues(claimURIList);
+            List<String> unresolvedClaimURIs = resolvedUserClaims.getUnresolvedClaimURIs(claimURIList);
+            if (!unresolvedClaimURIs.isEmpty()) {
+                userClaims.putAll(getUserClaimsFromUserStore(resolvedUserId, realm, unresolvedClaimURIs));
+            } else if (log.isDebugEnabled()) {
+                log.debug("Serving the user info claims from the claims retrieved while issuing the access token.");
+            }
+        }
         try {
             // Check whether the roles claim is requested.
             boolean isRoleClaimRequested = CollectionUtils.isNotEmpty(claimURIList) &&
@@ -438,6 +455,36 @@ public class ClaimUtil {
         return UserCoreUtil.removeDomainFromName(tenantAwareUsername);
     }
 
+    /**
+     * Get the user claims retrieved from the user store while issuing the access token, if they can be reused for the
+     * user info response. These are reused only if enabled, if they are of the same user, if they are not older than
+     * the configured maximum age and if the claims of the user were not updated on this node since.
+     */
+    private static ResolvedUserClaims getReusableResolvedUserClaims(OAuth2TokenValidationResponseDTO tokenResponse,
+                                                                    AuthenticatedUser authenticatedUser,
+                                                                    String userTenantDomain)
+            throws UserInfoEndpointException {
+
+        if (!OIDCClaimUtil.isUserInfoResolvedClaimsReuseEnabled()) {
+            return null;
+        }
+        AuthorizationGrantCacheEntry cacheEntry = AuthorizationGrantCache.getInstance().getValueFromCacheByToken(
+                new AuthorizationGrantCacheKey(OAuth2Util.getAccessTokenIdentifier(tokenResponse)));
+        if (cacheEntry == null || cacheEntry.getResolvedUserClaims() == null) {
+            return null;
+        }
+        ResolvedUserClaims resolvedUserClaims = cacheEntry.getResolvedUserClaims();
+        if (resolvedUserClaims.isEmpty() ||
+                !resolvedUserClaims.isOf(userTenantDomain, authenticatedUser.toFullQualifiedUsername()) ||
+                System.currentTimeMillis() - resolvedUserClaims.getResolvedTime() >
+                        OIDCClaimUtil.getUserInfoResolvedClaimsMaxAgeInMillis() ||
+                UserClaimsUpdateTracker.getInstance().isUserClaimsUpdatedSince(authenticatedUser,
+                        resolvedUserClaims.getResolvedTime())) {
+            return null;
+        }
+        return resolvedUserClaims;
+    }
+
     private static Map<ClaimMapping, String> getUserAttributesFromCache(OAuth2TokenValidationResponseDTO tokenResponse)
             throws UserInfoEndpointException {
 
@@ -52,6 +52,7 @@ import java.io.FileInputStream;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.security.KeyStore;
@@ -59,13 +60,20 @@ import java.util.Base64;
 import java.util.HashMap;
 import java.util.Map;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Response;
+
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertTrue;
 import static org.testng.Assert.fail;
 import static org.wso2.carbon.base.MultitenantConstants.SUPER_TENANT_DOMAIN_NAME;
@@ -88,6 +96,7 @@ public class JwksEndpointTest {
     private static final JSONArray X5C_ARRAY = new JSONArray();
     private static final JSONArray X5T_ARRAY = new JSONArray();
     private static final String ENABLE_X5C_IN_RESPONSE = "JWTValidatorConfigs.JWKSEndpoint.EnableX5CInResponse";
+    private static final String CACHE_MAX_AGE = "JWTValidatorConfigs.JWKSEndpoint.CacheMaxAge";
     private JwksEndpoint jwksEndpoint;
     private Object identityUtilObj;
 
@@ -223,7 +232,8 @@ public class JwksEndpointTest {
 
                 identityUtil.when(() -> IdentityUtil.getProperty(ENABLE_X5C_IN_RESPONSE)).thenReturn("true");
 
-                String result = jwksEndpoint.jwks();
+                JwksEndpoint.clearJwksDocuments();
+                String result = getResponseBody(jwksEndpoint.jwks(null));
 
                 try {
                     JSONObject jwksJson = new JSONObject(result);
@@ -264,6 +274,61 @@ public class JwksEndpointTest {
         }
     }
 
+    @Test
+    public void testJwksConditionalRequest() throws Exception {
+
+        try (MockedStatic<OAuthServerConfiguration> oAuthServerConfiguration = mockStatic(
+                OAuthServerConfiguration.class)) {
+            mockOAuthServerConfiguration(oAuthServerConfiguration);
+
+            try (MockedStatic<OAuth2Util> oAuth2Util = mockStatic(OAuth2Util.class);
+                 MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class)) {
+
+                oAuth2Util.when(() -> OAuth2Util.getKID(any(), any(), anyString())).thenReturn(CERT_THUMB_PRINT);
+                oAuth2Util.when(() -> OAuth2Util.mapSignatureAlgorithmForJWSAlgorithm("SHA256withRSA"))
+                        .thenReturn(JWSAlgorithm.RS256);
+                oAuth2Util.when(() -> OAuth2Util.mapSignatureAlgorithmForJWSAlgorithm("SHA512withRSA"))
+                        .thenReturn(JWSAlgorithm.RS512);
+                oAuth2Util.when(() -> OAuth2Util.mapSignatureAlgorithmForJWSAlgorithm("SHA384withRSA"))
+                        .thenReturn(JWSAlgorithm.RS384);
+                identityUtil.when(() -> IdentityUtil.getProperty(CACHE_MAX_AGE)).thenReturn("300");
+                JwksEndpoint.clearJwksDocuments();
+
+                Response response = jwksEndpoint.jwks(null);
+                assertEquals(response.getStatus(), HttpServletResponse.SC_OK);
+                assertEquals(response.getHeaderString(HttpHeaders.CACHE_CONTROL), "public, max-age=300");
+                String eTag = response.getHeaderString(HttpHeaders.ETAG);
+                assertNotNull(eTag, "ETag header is not set");
+                assertEquals(new JSONObject(getResponseBody(response)).getJSONArray("keys").length(), 3);
+
+                HttpServletRequest request = mock(HttpServletRequest.class);
+                when(request.getHeader(HttpHeaders.IF_NONE_MATCH)).thenReturn(eTag);
+                Response notModifiedResponse = jwksEndpoint.jwks(request);
+                assertEquals(notModifiedResponse.getStatus(), HttpServletResponse.SC_NOT_MODIFIED);
+                assertEquals(notModifiedResponse.getHeaderString(HttpHeaders.ETAG), eTag);
+
+                when(request.getHeader(HttpHeaders.IF_NONE_MATCH)).thenReturn("\"stale\"");
+                Response modifiedResponse = jwksEndpoint.jwks(request);
+                assertEquals(modifiedResponse.getStatus(), HttpServletResponse.SC_OK);
+                assertEquals(getResponseBody(modifiedResponse), getResponseBody(response));
+
+                // The key set is built only once for the three requests.
+                oAuth2Util.verify(() -> OAuth2Util.getKID(any(), any(), anyString()), times(3));
+            } finally {
+                JwksEndpoint.clearJwksDocuments();
+            }
+        }
+    }
+
+    private String getResponseBody(Response response) {
+
+        Object entity = response.getEntity();
+        if (entity instanceof byte[]) {
+            return new String((byte[]) entity, StandardCharsets.UTF_8);
+        }
+        return (String) entity;
+    }
+
     private void mockOAuthServerConfiguration(MockedStatic<OAuthServerConfiguration> oAuthServerConfiguration)
             throws Exception {
 
@@ -43,9 +43,11 @@ import org.wso2.carbon.identity.oauth.tokenprocessor.DefaultTokenProvider;
 import org.wso2.carbon.identity.oauth2.RequestObjectException;
 import org.wso2.carbon.identity.oauth2.dto.OAuth2TokenValidationResponseDTO;
 import org.wso2.carbon.identity.oauth2.internal.OAuth2ServiceComponentHolder;
+import org.wso2.carbon.identity.oauth2.model.AccessTokenDO;
 import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
 import org.wso2.carbon.identity.openidconnect.OpenIDConnectClaimFilterImpl;
 import org.wso2.carbon.identity.openidconnect.RequestObjectService;
+import org.wso2.carbon.identity.openidconnect.UserInfoResponseCache;
 import org.wso2.carbon.identity.openidconnect.dao.ScopeClaimMappingDAOImpl;
 import org.wso2.carbon.identity.openidconnect.internal.OpenIDConnectServiceComponentHolder;
 import org.wso2.carbon.identity.openidconnect.model.RequestedClaim;
@@ -57,6 +59,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import javax.sql.DataSource;
 
@@ -64,10 +67,13 @@ import static org.junit.Assert.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
@@ -410,6 +416,77 @@ public class UserInfoJSONResponseBuilderTest extends UserInfoResponseBaseTest {
         assertTrue(claimsInResponse.get(claimUri) instanceof Integer || claimsInResponse.get(claimUri) instanceof Long);
     }
 
+    @Test
+    public void testCachedResponseIsServed() throws Exception {
+
+        try (MockedStatic<OAuth2Util> oAuth2Util = mockStatic(OAuth2Util.class, Mockito.CALLS_REAL_METHODS);
+             MockedStatic<UserInfoResponseCache> userInfoResponseCache = mockStatic(UserInfoResponseCache.class);
+             MockedStatic<ClaimUtil> claimUtil = mockStatic(ClaimUtil.class)) {
+            AccessTokenDO accessTokenDO = new AccessTokenDO();
+            accessTokenDO.setAccessToken(accessToken);
+            accessTokenDO.setConsumerKey("cachedClientId");
+            oAuth2Util.when(() -> OAuth2Util.getAccessTokenDO(any())).thenReturn(Optional.of(accessTokenDO));
+            UserInfoResponseCache mockedUserInfoResponseCache = mock(UserInfoResponseCache.class);
+            userInfoResponseCache.when(UserInfoResponseCache::getInstance).thenReturn(mockedUserInfoResponseCache);
+            when(mockedUserInfoResponseCache.isEnabled()).thenReturn(true);
+            String cachedResponse = "{\"sub\":\"cachedSubject\"}";
+            // The fingerprint carries the sorted scopes of the token.
+            when(mockedUserInfoResponseCache.getUserInfoResponse(accessTokenDO,
+                    UserInfoJSONResponseBuilder.class.getName() + ":openid profile")).thenReturn(cachedResponse);
+
+            String responseString = userInfoJSONResponseBuilder.getResponseString(
+                    getTokenResponseDTO(AUTHORIZED_USER_FULL_QUALIFIED, new String[]{"profile", OIDC_SCOPE}));
+
+            assertEquals(responseString, cachedResponse);
+            claimUtil.verifyNoInteractions();
+            verify(mockedUserInfoResponseCache, never()).addUserInfoResponse(any(), anyString(), anyString());
+        }
+    }
+
+    @Test
+    public void testBuiltResponseIsCached() throws Exception {
+
+        try (MockedStatic<JDBCPersistenceManager> jdbcPersistenceManager =
+                     mockStatic(JDBCPersistenceManager.class);
+             MockedStatic<FrameworkUtils> frameworkUtils = mockStatic(FrameworkUtils.class);
+             MockedStatic<AuthorizationGrantCache> authorizationGrantCache =
+                     mockStatic(AuthorizationGrantCache.class);
+             MockedStatic<ClaimUtil> claimUtil = mockStatic(ClaimUtil.class);
+             MockedStatic<OAuth2Util> oAuth2Util = mockStatic(OAuth2Util.class, Mockito.CALLS_REAL_METHODS);
+             MockedStatic<IdentityTenantUtil> identityTenantUtil = mockStatic(IdentityTenantUtil.class);
+             MockedStatic<UserInfoEndpointConfig> userInfoEndpointConfig =
+                     mockStatic(UserInfoEndpointConfig.class);
+             MockedStatic<UserInfoResponseCache> userInfoResponseCache = mockStatic(UserInfoResponseCache.class)) {
+            UserInfoResponseCache mockedUserInfoResponseCache = mock(UserInfoResponseCache.class);
+            userInfoResponseCache.when(UserInfoResponseCache::getInstance).thenReturn(mockedUserInfoResponseCache);
+            when(mockedUserInfoResponseCache.isEnabled()).thenReturn(true);
+
+            initSingleClaimTest(EMAIL_VERIFIED, "true", authorizationGrantCache, frameworkUtils,
+                    claimUtil, oAuth2Util, identityTenantUtil, userInfoEndpointConfig);
+            setUpRequestObjectService();
+            mockDataSource(jdbcPersistenceManager);
+            mockObjectsRelatedToTokenValidation(oAuth2Util);
+            frameworkUtils.when(() -> FrameworkUtils.resolveUserIdFromUsername(anyInt(), anyString(), anyString()))
+                    .thenReturn(AUTHORIZED_USER_ID);
+
+            AuthenticatedUser authenticatedUser = new AuthenticatedUser();
+            authenticatedUser.setUserName(AUTHORIZED_USER_NAME);
+            authenticatedUser.setTenantDomain(TENANT_DOT_COM);
+            authenticatedUser.setUserStoreDomain(JDBC_DOMAIN);
+            authenticatedUser.setUserId(AUTHORIZED_USER_ID);
+            authenticatedUser.setAuthenticatedSubjectIdentifier(AUTHORIZED_USER_ID);
+            mockAccessTokenDOInOAuth2Util(authenticatedUser, oAuth2Util);
+
+            String responseString =
+                    userInfoJSONResponseBuilder.getResponseString(getTokenResponseDTO(AUTHORIZED_USER_FULL_QUALIFIED));
+
+            String fingerprint = UserInfoJSONResponseBuilder.class.getName() + ":" + OIDC_SCOPE;
+            verify(mockedUserInfoResponseCache).getUserInfoResponse(any(AccessTokenDO.class), eq(fingerprint));
+            verify(mockedUserInfoResponseCache).addUserInfoResponse(any(AccessTokenDO.class), eq(fingerprint),
+                    eq(responseString));
+        }
+    }
+
     @DataProvider(name = "subjectClaimDataProvider")
     public Object[][] provideSubjectData() {
 
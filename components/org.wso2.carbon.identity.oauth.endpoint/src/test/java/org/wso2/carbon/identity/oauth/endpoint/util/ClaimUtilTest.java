@@ -19,6 +19,7 @@ package org.wso2.carbon.identity.oauth.endpoint.util;
 
 import org.apache.commons.collections.map.HashedMap;
 import org.apache.commons.lang.StringUtils;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.testng.MockitoTestNGListener;
@@ -42,6 +43,8 @@ import org.wso2.carbon.identity.claim.metadata.mgt.ClaimMetadataHandler;
 import org.wso2.carbon.identity.core.util.IdentityCoreConstants;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.oauth.cache.AuthorizationGrantCache;
+import org.wso2.carbon.identity.oauth.cache.AuthorizationGrantCacheEntry;
 import org.wso2.carbon.identity.oauth.common.exception.InvalidOAuthClientException;
 import org.wso2.carbon.identity.oauth.config.OAuthServerConfiguration;
 import org.wso2.carbon.identity.oauth.dao.OAuthAppDO;
@@ -53,6 +56,7 @@ import org.wso2.carbon.identity.oauth2.internal.OAuth2ServiceComponentHolder;
 import org.wso2.carbon.identity.oauth2.model.AccessTokenDO;
 import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
 import org.wso2.carbon.identity.openidconnect.OIDCClaimUtil;
+import org.wso2.carbon.identity.openidconnect.model.ResolvedUserClaims;
 import org.wso2.carbon.identity.organization.management.service.util.OrganizationManagementUtil;
 import org.wso2.carbon.user.api.RealmConfiguration;
 import org.wso2.carbon.user.core.UserRealm;
@@ -61,6 +65,7 @@ import org.wso2.carbon.user.core.common.AbstractUserStoreManager;
 
 import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -73,6 +78,9 @@ import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @Listeners(MockitoTestNGListener.class)
@@ -493,6 +501,129 @@ public class ClaimUtilTest {
         }
     }
 
+    @DataProvider(name = "provideResolvedUserClaimsReuseData")
+    public Object[][] provideResolvedUserClaimsReuseData() {
+
+        return new Object[][]{
+                // Reuse enabled and the resolved claims are fresh, so the user store is not read.
+                {true, 60000L, new String[]{USERNAME_CLAIM_URI, EMAIL_CLAIM_URI}, null, "cached@wso2.com"},
+                // Reuse enabled, only the claims not resolved while issuing the token are read.
+                {true, 60000L, new String[]{EMAIL_CLAIM_URI}, new String[]{USERNAME_CLAIM_URI}, "cached@wso2.com"},
+                // Resolved claims older than the maximum age are not reused.
+                {true, -1L, new String[]{USERNAME_CLAIM_URI, EMAIL_CLAIM_URI},
+                        new String[]{USERNAME_CLAIM_URI, EMAIL_CLAIM_URI}, "test@wso2.com"},
+                // Reuse disabled.
+                {false, 60000L, new String[]{USERNAME_CLAIM_URI, EMAIL_CLAIM_URI},
+                        new String[]{USERNAME_CLAIM_URI, EMAIL_CLAIM_URI}, "test@wso2.com"}
+        };
+    }
+
+    @Test(dataProvider = "provideResolvedUserClaimsReuseData")
+    public void testGetClaimsFromUserStoreReusingResolvedUserClaims(boolean isReuseEnabled, long maxAgeInMillis,
+                                                                    String[] resolvedClaimURIs,
+                                                                    String[] expectedUserStoreClaimURIs,
+                                                                    String expectedEmail) throws Exception {
+
+        try (MockedStatic<IdentityTenantUtil> identityTenantUtil = mockStatic(IdentityTenantUtil.class);
+             MockedStatic<OAuthServerConfiguration> oAuthServerConfiguration = mockStatic(
+                     OAuthServerConfiguration.class);
+             MockedStatic<OAuth2ServiceComponentHolder> oAuth2ServiceComponentHolder =
+                     mockStatic(OAuth2ServiceComponentHolder.class);
+             MockedStatic<ClaimMetadataHandler> claimMetadataHandler =
+                     mockStatic(ClaimMetadataHandler.class);
+             MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class);
+             MockedStatic<OrganizationManagementUtil> organizationManagementUtil =
+                     mockStatic(OrganizationManagementUtil.class);
+             MockedStatic<OIDCClaimUtil> oidcClaimUtil = mockStatic(OIDCClaimUtil.class);
+             MockedStatic<AuthorizationGrantCache> authorizationGrantCache =
+                     mockStatic(AuthorizationGrantCache.class);
+             MockedStatic<OAuth2Util> oAuth2Util = mockStatic(OAuth2Util.class)) {
+
+            oAuthServerConfiguration.when(OAuthServerConfiguration::getInstance)
+                    .thenReturn(mockedOAuthServerConfiguration);
+            identityTenantUtil.when(() -> IdentityTenantUtil.getRealm(anyString(), isNull()))
+                    .thenReturn(mockedUserRealm);
+            lenient().when(mockedOAuthServerConfiguration.isMapFederatedUsersToLocal()).thenReturn(false);
+
+            mockOAuth2Util(oAuth2Util);
+
+            AuthenticatedUser authenticatedUser = getAuthenticatedUser("carbon.super", "PRIMARY",
+                    "test-user", false, "4b4414e1-916b-4475-aaee-6b0751c29f11");
+            AccessTokenDO accessTokenDO = getAccessTokenDO(CLIENT_ID, authenticatedUser);
+            oAuth2Util.when(() -> OAuth2Util.getAccessTokenIdentifier(any())).thenReturn("DummyIdentifier");
+
+            OAuth2ServiceComponentHolder oAuth2ServiceComponentHolderInstance =
+                    mock(OAuth2ServiceComponentHolder.class);
+            DefaultTokenProvider tokenProvider = mock(DefaultTokenProvider.class);
+            oAuth2ServiceComponentHolder.when(OAuth2ServiceComponentHolder::getInstance)
+                    .thenReturn(oAuth2ServiceComponentHolderInstance);
+            when(oAuth2ServiceComponentHolderInstance.getTokenProvider()).thenReturn(tokenProvider);
+            when(tokenProvider.getVerifiedAccessToken(any(), anyBoolean())).thenReturn(accessTokenDO);
+            oAuth2ServiceComponentHolder.when(OAuth2ServiceComponentHolder::getApplicationMgtService).thenReturn(
+                    mockedApplicationManagementService);
+            when(mockedApplicationManagementService.getServiceProviderByClientId(anyString(), anyString(),
+                    anyString())).thenReturn(mockedServiceProvider);
+
+            lenient().when(mockedValidationTokenResponseDTO.getAuthorizedUser()).thenReturn(AUTHORIZED_USER);
+            when(mockedValidationTokenResponseDTO.getAuthorizationContextToken()).thenReturn(
+                    mockedAuthzContextToken);
+
+            lenient().when(mockedServiceProvider.getTenantDomain()).thenReturn("carbon.super");
+            when(mockedServiceProvider.getClaimConfig()).thenReturn(mockedClaimConfig);
+            when(mockedClaimConfig.getClaimMappings()).thenReturn(requestedClaimMappings);
+            when(mockedServiceProvider.getLocalAndOutBoundAuthenticationConfig()).thenReturn(
+                    mockedLocalAndOutboundConfig);
+            when(mockedLocalAndOutboundConfig.getSubjectClaimUri()).thenReturn(USERNAME_CLAIM_URI);
+
+            claimMetadataHandler.when(ClaimMetadataHandler::getInstance).thenReturn(mockedClaimMetadataHandler);
+            when(mockedClaimMetadataHandler.getMappingsMapFromOtherDialectToCarbon(anyString(), isNull(),
+                    anyString(), anyBoolean())).thenReturn(spToLocalClaimMappings);
+
+            mockedUserStoreManager = mock(AbstractUserStoreManager.class);
+            lenient().when(mockedUserRealm.getUserStoreManager()).thenReturn(mockedUserStoreManager);
+            lenient().when(mockedUserStoreManager.getUserClaimValuesWithID(anyString(), any(String[].class),
+                    isNull())).thenAnswer(invocation -> {
+                        Map<String, String> claims = new HashMap<>();
+                        for (String claimURI : (String[]) invocation.getArgument(1)) {
+                            claims.put(claimURI, userClaimsMap.get(claimURI));
+                        }
+                        return claims;
+                    });
+
+            oidcClaimUtil.when(OIDCClaimUtil::isUserInfoResolvedClaimsReuseEnabled).thenReturn(isReuseEnabled);
+            oidcClaimUtil.when(OIDCClaimUtil::getUserInfoResolvedClaimsMaxAgeInMillis).thenReturn(maxAgeInMillis);
+
+            ResolvedUserClaims resolvedUserClaims = new ResolvedUserClaims(true);
+            Map<String, String> resolvedClaimValues = new HashMap<>();
+            for (String claimURI : resolvedClaimURIs) {
+                resolvedClaimValues.put(claimURI, EMAIL_CLAIM_URI.equals(claimURI) ? "cached@wso2.com" :
+                        userClaimsMap.get(claimURI));
+            }
+            resolvedUserClaims.addClaimValues("carbon.super", authenticatedUser.toFullQualifiedUsername(),
+                    Arrays.asList(resolvedClaimURIs), resolvedClaimValues);
+            AuthorizationGrantCacheEntry cacheEntry = new AuthorizationGrantCacheEntry();
+            cacheEntry.setResolvedUserClaims(resolvedUserClaims);
+            AuthorizationGrantCache mockedAuthorizationGrantCache = mock(AuthorizationGrantCache.class);
+            authorizationGrantCache.when(AuthorizationGrantCache::getInstance)
+                    .thenReturn(mockedAuthorizationGrantCache);
+            lenient().when(mockedAuthorizationGrantCache.getValueFromCacheByToken(any())).thenReturn(cacheEntry);
+
+            Map<String, Object> claimsMap = ClaimUtil.getClaimsFromUserStore(mockedValidationTokenResponseDTO);
+
+            Assert.assertEquals(claimsMap.get(EMAIL_CLAIM_URI), expectedEmail);
+            Assert.assertEquals(claimsMap.get(OAuth2Util.SUB), AUTHORIZED_USER);
+            if (expectedUserStoreClaimURIs == null) {
+                verify(mockedUserStoreManager, never()).getUserClaimValuesWithID(anyString(), any(String[].class),
+                        isNull());
+            } else {
+                ArgumentCaptor<String[]> claimURIsCaptor = ArgumentCaptor.forClass(String[].class);
+                verify(mockedUserStoreManager, times(1)).getUserClaimValuesWithID(anyString(),
+                        claimURIsCaptor.capture(), isNull());
+                Assert.assertEqualsNoOrder(claimURIsCaptor.getValue(), expectedUserStoreClaimURIs);
+            }
+        }
+    }
+
     protected void mockOAuth2Util(MockedStatic<OAuth2Util> oAuth2Util)
             throws IdentityOAuth2Exception, InvalidOAuthClientException {
 
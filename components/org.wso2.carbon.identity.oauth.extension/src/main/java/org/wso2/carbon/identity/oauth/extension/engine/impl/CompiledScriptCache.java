@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.oauth.extension.engine.impl;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.script.Compilable;
+import javax.script.CompiledScript;
+import javax.script.ScriptException;
+
+/**
+ * Cache of the scripts compiled by a script engine, keyed by the SHA-256 hash of the script source.
+ * <p>
+ * A {@link CompiledScript} is bound to the engine which compiled it, hence an instance of this class should be used
+ * only with a single engine. Compiled scripts can be evaluated concurrently against different bindings.
+ */
+public class CompiledScriptCache {
+
+    private static final Log log = LogFactory.getLog(CompiledScriptCache.class);
+    private static final int DEFAULT_MAX_SIZE = 1000;
+
+    private final Compilable compiler;
+    private final int maxSize;
+    private final Map<String, CompiledScript> compiledScripts = new ConcurrentHashMap<>();
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    public CompiledScriptCache(Compilable compiler) {
+
+        this(compiler, DEFAULT_MAX_SIZE);
+    }
+
+    public CompiledScriptCache(Compilable compiler, int maxSize) {
+
+        this.compiler = compiler;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Get the compiled form of the given script, compiling it if it is not already cached.
+     *
+     * @param script Script source.
+     * @return Compiled script.
+     * @throws ScriptException If the script cannot be compiled.
+     */
+    public CompiledScript getCompiledScript(String script) throws ScriptException {
+
+        String scriptHash = hash(script);
+        CompiledScript compiledScript = compiledScripts.get(scriptHash);
+        if (compiledScript != null) {
+            hitCount.incrementAndGet();
+            return compiledScript;
+        }
+        missCount.incrementAndGet();
+        compiledScript = compiler.compile(script);
+        if (compiledScripts.size() >= maxSize) {
+            if (log.isDebugEnabled()) {
+                log.debug("Compiled script cache reached the maximum size: " + maxSize + ". Clearing the cache.");
+            }
+            compiledScripts.clear();
+        }
+        CompiledScript existingScript = compiledScripts.putIfAbsent(scriptHash, compiledScript);
+        return existingScript != null ? existingScript : compiledScript;
+    }
+
+    /**
+     * Get the number of lookups served from the cache.
+     *
+     * @return Cache hit count.
+     */
+    public long getHitCount() {
+
+        return hitCount.get();
+    }
+
+    /**
+     * Get the number of lookups which required compiling the script.
+     *
+     * @return Cache miss count.
+     */
+    public long getMissCount() {
+
+        return missCount.get();
+    }
+
+    /**
+     * Get the ratio of lookups served from the cache.
+     *
+     * @return Cache hit ratio between 0 and 1.
+     */
+    public double getHitRatio() {
+
+        long hits = hitCount.get();
+        long total = hits + missCount.get();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    /**
+     * Get the number of cached scripts.
+     *
+     * @return Cache size.
+     */
+    public int size() {
+
+        return compiledScripts.size();
+    }
+
+    private String hash(String script) {
+
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(script.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is available in every Java platform.
+            throw new IllegalStateException("SHA-256 algorithm is not available.", e);
+        }
+    }
+}
@@ -30,10 +30,11 @@ import java.util.List;
 import java.util.Map;
 
 import javax.script.Bindings;
-import javax.script.Invocable;
+import javax.script.Compilable;
 import javax.script.ScriptContext;
 import javax.script.ScriptEngine;
 import javax.script.ScriptException;
+import javax.script.SimpleScriptContext;
 
 /**
  * This class is used to evaluate the javascripts using openjdk nashorn.
@@ -42,6 +43,8 @@ public class OpenJdkJSEngineImpl implements JSEngine {
 
     private ClassFilter classFilter;
     private final ScriptEngine engine;
+    private final CompiledScriptCache compiledScriptCache;
+    private final ScriptContext scriptContext;
     private static final String[] NASHORN_ARGS = {"--no-java"};
     private static final String REMOVE_FUNCTIONS = "var quit=function(){Log.error('quit function is restricted.')};" +
             "var exit=function(){Log.error('exit function is restricted.')};" +
@@ -62,6 +65,16 @@ public class OpenJdkJSEngineImpl implements JSEngine {
         NashornScriptEngineFactory factory = new NashornScriptEngineFactory();
         classFilter = new OpenJdkNashornRestrictedClassFilter();
         this.engine = factory.getScriptEngine(NASHORN_ARGS, getClassLoader(), classFilter);
+        this.compiledScriptCache = new CompiledScriptCache((Compilable) engine);
+        this.scriptContext = null;
+    }
+
+    private OpenJdkJSEngineImpl(ScriptEngine engine, CompiledScriptCache compiledScriptCache,
+                                ScriptContext scriptContext) {
+
+        this.engine = engine;
+        this.compiledScriptCache = compiledScriptCache;
+        this.scriptContext = scriptContext;
     }
 
     /**
@@ -74,55 +87,91 @@ public class OpenJdkJSEngineImpl implements JSEngine {
         return OPEN_JDK_JS_ENGINE_INSTANCE;
     }
 
+    /**
+     * Creates a new engine instance with its own global scope. The scripts of each instance are evaluated in that
+     * scope, hence the instances can be used concurrently while the compiled scripts are shared among them. The scope
+     * is released with the returned instance, so nothing is retained once the caller is done with it.
+     *
+     * @return JavaScript engine instance bound to a new global scope.
+     * @throws ScriptException If an error occurs while restricting the functions of the global scope.
+     */
     @Override
     public JSEngine createEngine() throws ScriptException {
 
-        Bindings bindings = engine.createBindings();
-        engine.setBindings(bindings, ScriptContext.GLOBAL_SCOPE);
-        engine.setBindings(engine.createBindings(), ScriptContext.ENGINE_SCOPE);
-        engine.eval(REMOVE_FUNCTIONS);
-        return OPEN_JDK_JS_ENGINE_INSTANCE;
+        ScriptContext context = new SimpleScriptContext();
+        context.setBindings(engine.createBindings(), ScriptContext.ENGINE_SCOPE);
+        compiledScriptCache.getCompiledScript(REMOVE_FUNCTIONS).eval(context);
+        return new OpenJdkJSEngineImpl(engine, compiledScriptCache, context);
     }
 
     @Override
     public JSEngine addBindings(Map<String, Object> bindings) {
 
-        engine.getBindings(ScriptContext.ENGINE_SCOPE).putAll(bindings);
-        return OPEN_JDK_JS_ENGINE_INSTANCE;
+        getEngineBindings().putAll(bindings);
+        return this;
     }
 
     @Override
     public JSEngine evalScript(String script) throws ScriptException {
 
-        engine.eval(script, engine.getBindings(ScriptContext.ENGINE_SCOPE));
-        return OPEN_JDK_JS_ENGINE_INSTANCE;
+        compiledScriptCache.getCompiledScript(script).eval(getScriptContext());
+        return this;
     }
 
     @Override
     public JSEngine invokeFunction(String functionName, Object... args) throws NoSuchMethodException, ScriptException {
 
-        Object scriptObj = engine.get(functionName);
-        if (scriptObj != null && ((ScriptObjectMirror) scriptObj).isFunction()) {
-            Invocable invocable = (Invocable) engine;
-            invocable.invokeFunction(functionName, args);
-            return OPEN_JDK_JS_ENGINE_INSTANCE;
+        Object scriptObj = getEngineBindings().get(functionName);
+        if (scriptObj instanceof ScriptObjectMirror && ((ScriptObjectMirror) scriptObj).isFunction()) {
+            try {
+                ((ScriptObjectMirror) scriptObj).call(null, args);
+            } catch (RuntimeException e) {
+                throw new ScriptException(e);
+            }
+            return this;
         }
         log.warn(String.format("Function %s is not defined in the script.", functionName));
-        return OPEN_JDK_JS_ENGINE_INSTANCE;
+        return this;
     }
 
     @Override
     public Map<String, Object> getJSObjects(List<String> objectNames) {
 
+        Bindings engineBindings = getEngineBindings();
         Map<String, Object> jsObjects = new HashMap<>();
         for (String objectName : objectNames) {
-            if (engine.get(objectName) != null) {
-                jsObjects.put(objectName, engine.get(objectName));
+            Object jsObject = engineBindings.get(objectName);
+            if (jsObject != null) {
+                jsObjects.put(objectName, jsObject);
             }
         }
         return jsObjects;
     }
 
+    /**
+     * Returns the cache of the scripts compiled by this engine, which can be used to monitor the cache hit ratio.
+     *
+     * @return Compiled script cache.
+     */
+    public CompiledScriptCache getCompiledScriptCache() {
+
+        return compiledScriptCache;
+    }
+
+    private ScriptContext getScriptContext() {
+
+        if (scriptContext == null) {
+            throw new IllegalStateException("The engine does not have a global scope. Use the engine returned by " +
+                    "createEngine() to evaluate scripts.");
+        }
+        return scriptContext;
+    }
+
+    private Bindings getEngineBindings() {
+
+        return getScriptContext().getBindings(ScriptContext.ENGINE_SCOPE);
+    }
+
     /**
      * This method returns the current thread's class loader.
      * @return Returns NashornScriptEngineFactory class to evaluate the javascript if classLoader is null.
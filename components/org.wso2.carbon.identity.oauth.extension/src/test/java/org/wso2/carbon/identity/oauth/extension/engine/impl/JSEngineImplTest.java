@@ -24,7 +24,11 @@ import org.wso2.carbon.identity.oauth.extension.engine.JSEngine;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import javax.script.ScriptException;
 
@@ -84,4 +88,61 @@ public class JSEngineImplTest {
         assertEquals("John", ((Map<?, ?>) jsObjects.get("person")).get("name"));
         assertEquals(30, ((Map<?, ?>) jsObjects.get("person")).get("age"));
     }
+
+    @Test
+    public void testCompiledScriptIsReused() throws ScriptException {
+
+        CompiledScriptCache compiledScriptCache = ((JSEngineImpl) JSEngineImpl.getInstance()).getCompiledScriptCache();
+        String script = "var reused = 'compiled once';";
+        JSEngineImpl.getInstance().createEngine().evalScript(script);
+        long missCount = compiledScriptCache.getMissCount();
+        long hitCount = compiledScriptCache.getHitCount();
+
+        JSEngine engine = JSEngineImpl.getInstance().createEngine().evalScript(script);
+        assertEquals("compiled once", engine.getJSObjects(new ArrayList<>(
+                Collections.singletonList("reused"))).get("reused"));
+        assertEquals(missCount, compiledScriptCache.getMissCount());
+        assertTrue(compiledScriptCache.getHitCount() > hitCount);
+    }
+
+    @Test
+    public void testEnginesCreatedOnSameThreadAreIsolated() throws ScriptException {
+
+        JSEngine first = JSEngineImpl.getInstance().createEngine()
+                .addBindings(Collections.singletonMap("name", "first"));
+        JSEngine second = JSEngineImpl.getInstance().createEngine()
+                .addBindings(Collections.singletonMap("name", "second"));
+
+        first.evalScript("var message = 'Hello ' + name;");
+        assertEquals("Hello first", first.getJSObjects(Collections.singletonList("message")).get("message"));
+        assertTrue(second.getJSObjects(Collections.singletonList("message")).isEmpty());
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void testEvalScriptWithoutCreatingEngine() throws ScriptException {
+
+        JSEngineImpl.getInstance().evalScript("var message = 'Hello';");
+    }
+
+    @Test
+    public void testEnginesAreIsolatedBetweenThreads() throws Exception {
+
+        String script = "function setValue(value) { result = value; }";
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Object>> futures = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                String value = "value-" + i;
+                futures.add(executorService.submit(() -> JSEngineImpl.getInstance().createEngine()
+                        .evalScript(script)
+                        .invokeFunction("setValue", value)
+                        .getJSObjects(Collections.singletonList("result")).get("result")));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                assertEquals("value-" + i, futures.get(i).get());
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
 }
@@ -21,23 +21,106 @@ package org.wso2.carbon.identity.oauth.par.cache;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.context.CarbonContext;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.oauth.par.dao.ParMgtDAO;
 import org.wso2.carbon.identity.oauth.par.dao.ParMgtDAOImpl;
 import org.wso2.carbon.identity.oauth.par.exceptions.ParCoreException;
 import org.wso2.carbon.identity.oauth.par.model.ParRequestCacheEntry;
 import org.wso2.carbon.identity.oauth.par.model.ParRequestDO;
 
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.wso2.carbon.identity.oauth2.util.OAuth2Util.getNonNegativeIntProperty;
+import static org.wso2.carbon.identity.oauth2.util.OAuth2Util.getPositiveIntProperty;
 
 /**
  * Caching layer for PAR Requests.
+ * <p>
+ * When asynchronous persistence is enabled, a pushed request is added to the {@link ParCache} and kept as pending on
+ * the node, and the pending requests are written to the database periodically in batches. A request consumed on the
+ * node it was pushed to before it is written is never written to the database at all. A request consumed otherwise is
+ * removed from the database, and only the call which removes the row gets the request, so it can be used only once
+ * across the cluster. A request consumed on another node before it is written is not in the database yet, hence a
+ * miss there is retried with a growing interval until {@code OAuth.PAR.AsyncPersistence.ConsumeTimeout} elapses,
+ * which has to be longer than the flush interval. A timeout of 0 disables the retries. As a request URI which is not
+ * known at all is retried as well, at most {@code OAuth.PAR.AsyncPersistence.MaxConsumeWaiters} calls wait at a time
+ * and the others fail on the first miss. Deployments which cannot bound the flush delay, such as ones where the
+ * database is slow to write, need session affinity so that the authorize request reaches the node the request was
+ * pushed to.
  */
 public class CacheBackedParDAO implements ParMgtDAO {
 
     private static final Log log = LogFactory.getLog(CacheBackedParDAO.class);
-    private final ParCache parCache = ParCache.getInstance();
-    private final ParMgtDAOImpl parMgtDAO = new ParMgtDAOImpl();
+
+    private static final String ASYNC_PERSISTENCE_ENABLE = "OAuth.PAR.AsyncPersistence.Enable";
+    private static final String ASYNC_PERSISTENCE_BATCH_SIZE = "OAuth.PAR.AsyncPersistence.BatchSize";
+    private static final String ASYNC_PERSISTENCE_FLUSH_INTERVAL = "OAuth.PAR.AsyncPersistence.FlushInterval";
+    private static final String ASYNC_PERSISTENCE_MAX_PENDING_REQUESTS =
+            "OAuth.PAR.AsyncPersistence.MaxPendingRequests";
+    private static final String ASYNC_PERSISTENCE_CONSUME_TIMEOUT = "OAuth.PAR.AsyncPersistence.ConsumeTimeout";
+    private static final String ASYNC_PERSISTENCE_MAX_CONSUME_WAITERS = "OAuth.PAR.AsyncPersistence.MaxConsumeWaiters";
+    private static final int DEFAULT_BATCH_SIZE = 100;
+    private static final int DEFAULT_FLUSH_INTERVAL_IN_MILLIS = 100;
+    private static final int DEFAULT_MAX_PENDING_REQUESTS = 10000;
+    private static final int DEFAULT_CONSUME_TIMEOUT_IN_MILLIS = 1000;
+    private static final int DEFAULT_MAX_CONSUME_WAITERS = 20;
+    private static final long CONSUME_RETRY_INTERVAL_IN_MILLIS = 20;
+    private static final long MAX_CONSUME_RETRY_INTERVAL_IN_MILLIS = 200;
+
+    private final ParCache parCache;
+    private final ParMgtDAOImpl parMgtDAO;
+    private final boolean asyncPersistence;
+    private final int batchSize;
+    private final int maxPendingRequests;
+    private final long consumeTimeout;
+    // Permits of the calls which may wait for a request pending on another node.
+    private final Semaphore consumeWaiters;
+    // Requests pushed to this node which are not written to the database yet, against the PAR request identifiers.
+    private final Map<String, PendingParRequest> pendingRequests = new ConcurrentHashMap<>();
+    private final Object flushLock = new Object();
+    private ScheduledExecutorService flushExecutor;
+
+    public CacheBackedParDAO() {
+
+        this(new ParMgtDAOImpl(), ParCache.getInstance(),
+                Boolean.parseBoolean(IdentityUtil.getProperty(ASYNC_PERSISTENCE_ENABLE)),
+                getPositiveIntProperty(ASYNC_PERSISTENCE_BATCH_SIZE, DEFAULT_BATCH_SIZE),
+                getPositiveIntProperty(ASYNC_PERSISTENCE_MAX_PENDING_REQUESTS, DEFAULT_MAX_PENDING_REQUESTS),
+                getNonNegativeIntProperty(ASYNC_PERSISTENCE_CONSUME_TIMEOUT, DEFAULT_CONSUME_TIMEOUT_IN_MILLIS),
+                getPositiveIntProperty(ASYNC_PERSISTENCE_MAX_CONSUME_WAITERS, DEFAULT_MAX_CONSUME_WAITERS));
+        if (asyncPersistence) {
+            int flushInterval = getPositiveIntProperty(ASYNC_PERSISTENCE_FLUSH_INTERVAL,
+                    DEFAULT_FLUSH_INTERVAL_IN_MILLIS);
+            flushExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "par-request-flush");
+                thread.setDaemon(true);
+                return thread;
+            });
+            flushExecutor.scheduleWithFixedDelay(this::flushQuietly, flushInterval, flushInterval,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    CacheBackedParDAO(ParMgtDAOImpl parMgtDAO, ParCache parCache, boolean asyncPersistence, int batchSize,
+                      int maxPendingRequests, long consumeTimeout, int maxConsumeWaiters) {
+
+        this.parMgtDAO = parMgtDAO;
+        this.parCache = parCache;
+        this.asyncPersistence = asyncPersistence;
+        this.batchSize = batchSize;
+        this.maxPendingRequests = maxPendingRequests;
+        this.consumeTimeout = consumeTimeout;
+        this.consumeWaiters = new Semaphore(maxConsumeWaiters);
+    }
 
     @Override
     public void persistRequestData(String requestURIReference, String clientId, long expiresIn,
@@ -45,6 +128,16 @@ public class CacheBackedParDAO implements ParMgtDAO {
 
         ParRequestCacheEntry parRequestCacheEntry = new ParRequestCacheEntry(requestURIReference, parameters,
                 expiresIn, clientId);
+        if (asyncPersistence && pendingRequests.size() < maxPendingRequests) {
+            parCache.addToCache(requestURIReference, parRequestCacheEntry);
+            pendingRequests.put(requestURIReference,
+                    new PendingParRequest(new ParRequestDO(parameters, expiresIn, clientId)));
+            return;
+        }
+        if (asyncPersistence && log.isDebugEnabled()) {
+            log.debug("Pending PAR requests reached the limit: " + maxPendingRequests + ". Persisting the request " +
+                    "of the client: " + clientId + " synchronously.");
+        }
         parMgtDAO.persistRequestData(requestURIReference, clientId, expiresIn, parameters);
         parCache.addToCache(requestURIReference, parRequestCacheEntry);
     }
@@ -52,6 +145,10 @@ public class CacheBackedParDAO implements ParMgtDAO {
     @Override
     public Optional<ParRequestDO> getRequestData(String requestURIReference) throws ParCoreException {
 
+        PendingParRequest pendingRequest = pendingRequests.get(requestURIReference);
+        if (pendingRequest != null) {
+            return Optional.of(pendingRequest.getParRequest());
+        }
         String tenantDomain = CarbonContext.getThreadLocalCarbonContext().getTenantDomain();
         ParRequestCacheEntry parRequest = parCache.getValueFromCache(requestURIReference);
         Optional<ParRequestDO> parRequestDO;
@@ -76,7 +173,229 @@ public class CacheBackedParDAO implements ParMgtDAO {
     @Override
     public void removeRequestData(String requestURIReference) throws ParCoreException {
 
+        PendingParRequest pendingRequest = pendingRequests.get(requestURIReference);
+        if (pendingRequest != null && consumePendingRequest(requestURIReference, pendingRequest)) {
+            parCache.clearCacheEntry(requestURIReference);
+            return;
+        }
         parCache.clearCacheEntry(requestURIReference);
         parMgtDAO.removeRequestData(requestURIReference);
     }
+
+    @Override
+    public Optional<ParRequestDO> consumeRequestData(String requestURIReference) throws ParCoreException {
+
+        PendingParRequest pendingRequest = pendingRequests.get(requestURIReference);
+        if (pendingRequest != null && consumePendingRequest(requestURIReference, pendingRequest)) {
+            if (log.isDebugEnabled()) {
+                log.debug("Consumed the pending PAR request of uuid: " + requestURIReference);
+            }
+            parCache.clearCacheEntry(requestURIReference);
+            return Optional.of(pendingRequest.getParRequest());
+        }
+
+        ParRequestCacheEntry parRequest = parCache.getValueFromCache(requestURIReference);
+        if (parRequest == null) {
+            if (log.isDebugEnabled()) {
+                log.debug("Cache miss for PAR request of uuid: " + requestURIReference);
+            }
+        } else {
+            parCache.clearCacheEntry(requestURIReference);
+        }
+        Optional<ParRequestDO> parRequestDO = consumePersistedRequest(requestURIReference, parRequest);
+        if (parRequestDO.isPresent() || !asyncPersistence || consumeTimeout <= 0) {
+            return parRequestDO;
+        }
+        // The request may still be pending on the node it was pushed to. Only a bounded number of calls wait for it,
+        // so that unknown request URIs can not hold many threads and database connections.
+        if (!consumeWaiters.tryAcquire()) {
+            if (log.isDebugEnabled()) {
+                log.debug("Not waiting for the PAR request of uuid: " + requestURIReference + " as too many calls " +
+                        "are waiting for pending requests.");
+            }
+            return parRequestDO;
+        }
+        try {
+            return waitForPersistedRequest(requestURIReference, parRequest);
+        } finally {
+            consumeWaiters.release();
+        }
+    }
+
+    /**
+     * Write the pending requests of this node to the database in batches and drop the expired ones.
+     *
+     * @throws ParCoreException Exception thrown from PAR Core Component.
+     */
+    void flush() throws ParCoreException {
+
+        synchronized (flushLock) {
+            Map<String, PendingParRequest> batch;
+            do {
+                batch = takeBatch();
+                if (batch.isEmpty()) {
+                    return;
+                }
+                Map<String, ParRequestDO> parRequests = new LinkedHashMap<>();
+                for (Map.Entry<String, PendingParRequest> pendingRequest : batch.entrySet()) {
+                    parRequests.put(pendingRequest.getKey(), pendingRequest.getValue().getParRequest());
+                }
+                try {
+                    parMgtDAO.persistRequestData(parRequests);
+                } catch (ParCoreException e) {
+                    // Keep the requests pending for the next flush.
+                    batch.values().forEach(PendingParRequest::release);
+                    throw e;
+                }
+                for (Map.Entry<String, PendingParRequest> pendingRequest : batch.entrySet()) {
+                    pendingRequest.getValue().markPersisted();
+                    pendingRequests.remove(pendingRequest.getKey(), pendingRequest.getValue());
+                }
+            } while (batch.size() == batchSize);
+        }
+    }
+
+    /**
+     * Stop the periodic flush and write the pending requests of this node to the database.
+     */
+    public void shutdown() {
+
+        if (flushExecutor != null) {
+            flushExecutor.shutdown();
+        }
+        flushQuietly();
+    }
+
+    private Map<String, PendingParRequest> takeBatch() {
+
+        long currentTime = System.currentTimeMillis();
+        Map<String, PendingParRequest> batch = new LinkedHashMap<>();
+        Iterator<Map.Entry<String, PendingParRequest>> iterator = pendingRequests.entrySet().iterator();
+        while (iterator.hasNext() && batch.size() < batchSize) {
+            Map.Entry<String, PendingParRequest> entry = iterator.next();
+            PendingParRequest pendingRequest = entry.getValue();
+            if (pendingRequest.getParRequest().getExpiresIn() <= currentTime) {
+                // Expired requests are rejected when they are used, hence they do not need to be written.
+                if (pendingRequest.consume()) {
+                    iterator.remove();
+                }
+            } else if (pendingRequest.startFlush()) {
+                batch.put(entry.getKey(), pendingRequest);
+            }
+        }
+        return batch;
+    }
+
+    private Optional<ParRequestDO> consumePersistedRequest(String requestURIReference,
+                                                           ParRequestCacheEntry parRequest) throws ParCoreException {
+
+        if (parRequest == null) {
+            return parMgtDAO.consumeRequestData(requestURIReference);
+        }
+        // The request is persisted, hence only the call which removes it from the database may use it.
+        if (parMgtDAO.removeRequestDataIfPresent(requestURIReference)) {
+            return Optional.of(new ParRequestDO(parRequest.getParams(), parRequest.getExpiresIn(),
+                    parRequest.getClientId()));
+        }
+        return Optional.empty();
+    }
+
+    private Optional<ParRequestDO> waitForPersistedRequest(String requestURIReference,
+                                                           ParRequestCacheEntry parRequest) throws ParCoreException {
+
+        long deadline = System.currentTimeMillis() + consumeTimeout;
+        long retryInterval = CONSUME_RETRY_INTERVAL_IN_MILLIS;
+        while (true) {
+            long remainingTime = deadline - System.currentTimeMillis();
+            if (remainingTime <= 0) {
+                return Optional.empty();
+            }
+            try {
+                Thread.sleep(Math.min(retryInterval, remainingTime));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return Optional.empty();
+            }
+            retryInterval = Math.min(retryInterval * 2, MAX_CONSUME_RETRY_INTERVAL_IN_MILLIS);
+            Optional<ParRequestDO> parRequestDO = consumePersistedRequest(requestURIReference, parRequest);
+            if (parRequestDO.isPresent()) {
+                return parRequestDO;
+            }
+        }
+    }
+
+    private boolean consumePendingRequest(String requestURIReference, PendingParRequest pendingRequest) {
+
+        if (!pendingRequest.consume()) {
+            if (!pendingRequest.isFlushing()) {
+                return false;
+            }
+            // Wait for the running flush, which either writes the request or keeps it pending.
+            synchronized (flushLock) {
+                if (!pendingRequest.consume()) {
+                    return false;
+                }
+            }
+        }
+        pendingRequests.remove(requestURIReference, pendingRequest);
+        return true;
+    }
+
+    private void flushQuietly() {
+
+        try {
+            flush();
+        } catch (ParCoreException | RuntimeException e) {
+            log.error("Error while persisting the pending PAR requests.", e);
+        }
+    }
+
+    /**
+     * PAR request pushed to this node which is not written to the database yet.
+     */
+    private static class PendingParRequest {
+
+        private static final int PENDING = 0;
+        private static final int FLUSHING = 1;
+        private static final int PERSISTED = 2;
+        private static final int CONSUMED = 3;
+
+        private final ParRequestDO parRequest;
+        private final AtomicInteger state = new AtomicInteger(PENDING);
+
+        PendingParRequest(ParRequestDO parRequest) {
+
+            this.parRequest = parRequest;
+        }
+
+        ParRequestDO getParRequest() {
+
+            return parRequest;
+        }
+
+        boolean consume() {
+
+            return state.compareAndSet(PENDING, CONSUMED);
+        }
+
+        boolean startFlush() {
+
+            return state.compareAndSet(PENDING, FLUSHING);
+        }
+
+        boolean isFlushing() {
+
+            return state.get() == FLUSHING;
+        }
+
+        void release() {
+
+            state.compareAndSet(FLUSHING, PENDING);
+        }
+
+        void markPersisted() {
+
+            state.compareAndSet(FLUSHING, PERSISTED);
+        }
+    }
 }
@@ -90,14 +90,14 @@ public class ParAuthServiceImpl implements ParAuthService {
     @Override
     public Map<String, String> retrieveParams(String uuid, String clientId) throws ParCoreException {
 
-        Optional<ParRequestDO> optionalParRequestDO = parMgtDAO.getRequestData(uuid);
+        // The request is removed as it is retrieved, so that a request_uri can only be used once.
+        Optional<ParRequestDO> optionalParRequestDO = parMgtDAO.consumeRequestData(uuid);
         if (!optionalParRequestDO.isPresent()) {
             throw new ParClientException(OAuth2ErrorCodes.OAuth2SubErrorCodes.INVALID_REQUEST_URI,
                     OAuthConstants.OAuthError.AuthorizationResponsei18nKey.INVALID_REQUEST_URI);
         }
 
         ParRequestDO parRequestDO = optionalParRequestDO.get();
-        parMgtDAO.removeRequestData(uuid);
         validateExpiryTime(parRequestDO.getExpiresIn());
         validateClientID(clientId, parRequestDO.getClientId());
 
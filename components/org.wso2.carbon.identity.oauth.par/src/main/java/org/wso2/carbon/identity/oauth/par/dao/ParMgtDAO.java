@@ -58,4 +58,19 @@ public interface ParMgtDAO {
      */
     void removeRequestData(String requestURIReference) throws ParCoreException;
 
+    /**
+     * Retrieve the ParAuthRequest and remove it, so that the request can only be used once.
+     *
+     * @param requestURIReference PAR request identifier.
+     * @return Optional ParRequestDO instance, which is empty if the request does not exist or is already consumed.
+     * @throws ParCoreException Exception thrown from PAR Core Component.
+     */
+    default Optional<ParRequestDO> consumeRequestData(String requestURIReference) throws ParCoreException {
+
+        Optional<ParRequestDO> parRequestDO = getRequestData(requestURIReference);
+        if (parRequestDO.isPresent()) {
+            removeRequestData(requestURIReference);
+        }
+        return parRequestDO;
+    }
 }
@@ -100,6 +100,71 @@ public class ParMgtDAOImpl implements ParMgtDAO {
         }
     }
 
+    /**
+     * Persists the given ParAuthRequests in a single batch.
+     *
+     * @param parRequests PAR requests against the PAR request identifiers.
+     * @throws ParCoreException Exception thrown from PAR Core Component.
+     */
+    public void persistRequestData(Map<String, ParRequestDO> parRequests) throws ParCoreException {
+
+        if (parRequests.isEmpty()) {
+            return;
+        }
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(true)) {
+
+            try (PreparedStatement prepStmt = connection.prepareStatement(SQLQueries.
+                    ParSQLQueries.STORE_PAR_REQUEST)) {
+
+                for (Map.Entry<String, ParRequestDO> parRequest : parRequests.entrySet()) {
+                    prepStmt.setString(1, parRequest.getKey());
+                    prepStmt.setString(2, parRequest.getValue().getClientId());
+                    prepStmt.setLong(3, parRequest.getValue().getExpiresIn());
+                    prepStmt.setString(4, getSerializedParams(parRequest.getValue().getParams()));
+                    prepStmt.addBatch();
+                }
+                prepStmt.executeBatch();
+                IdentityDatabaseUtil.commitTransaction(connection);
+            } catch (SQLException e) {
+                IdentityDatabaseUtil.rollbackTransaction(connection);
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new ParCoreException("Error occurred in persisting PAR requests.", e);
+        }
+    }
+
+    @Override
+    public Optional<ParRequestDO> consumeRequestData(String requestURIReference) throws ParCoreException {
+
+        Optional<ParRequestDO> parRequestDO = getRequestData(requestURIReference);
+        if (parRequestDO.isPresent() && removeRequestDataIfPresent(requestURIReference)) {
+            return parRequestDO;
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Remove the ParAuthRequest from the database.
+     *
+     * @param requestURIReference PAR request identifier.
+     * @return True if the request was removed by this call, false if it did not exist.
+     * @throws ParCoreException Exception thrown from PAR Core Component.
+     */
+    public boolean removeRequestDataIfPresent(String requestURIReference) throws ParCoreException {
+
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(true);
+             PreparedStatement prepStmt = connection.prepareStatement(SQLQueries
+                     .ParSQLQueries.REMOVE_PAR_REQUEST)) {
+            prepStmt.setString(1, requestURIReference);
+            int removedRows = prepStmt.executeUpdate();
+            IdentityDatabaseUtil.commitTransaction(connection);
+            return removedRows > 0;
+        } catch (SQLException e) {
+            throw new ParCoreException("Error occurred while clearing PAR request from Database", e);
+        }
+    }
+
     private String getSerializedParams(Map<String, String> params) throws ParCoreException {
 
         try {
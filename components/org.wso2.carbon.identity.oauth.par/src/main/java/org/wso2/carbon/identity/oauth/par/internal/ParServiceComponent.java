@@ -21,9 +21,12 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Component;
+import org.wso2.carbon.identity.oauth.par.cache.CacheBackedParDAO;
 import org.wso2.carbon.identity.oauth.par.core.ParAuthService;
 import org.wso2.carbon.identity.oauth.par.core.ParAuthServiceImpl;
 import org.wso2.carbon.identity.oauth.par.core.ParRequestBuilder;
+import org.wso2.carbon.identity.oauth.par.dao.ParDAOFactory;
+import org.wso2.carbon.identity.oauth.par.dao.ParMgtDAO;
 import org.wso2.carbon.identity.oauth2.OAuthAuthorizationRequestBuilder;
 
 /**
@@ -55,6 +58,10 @@ public class ParServiceComponent {
 
     protected void deactivate(ComponentContext context) {
 
+        ParMgtDAO parMgtDAO = ParDAOFactory.getInstance().getParAuthMgtDAO();
+        if (parMgtDAO instanceof CacheBackedParDAO) {
+            ((CacheBackedParDAO) parMgtDAO).shutdown();
+        }
         log.debug("PAR component bundle is deactivated.");
     }
 }
@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth.par.cache;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.oauth.par.dao.ParMgtDAOImpl;
+import org.wso2.carbon.identity.oauth.par.exceptions.ParCoreException;
+import org.wso2.carbon.identity.oauth.par.model.ParRequestCacheEntry;
+import org.wso2.carbon.identity.oauth.par.model.ParRequestDO;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+/**
+ * Test class for CacheBackedParDAO.
+ */
+public class CacheBackedParDAOTest {
+
+    private static final String REQUEST_URI_REF = "c2f4d8b0-5e7a-4b1d-9f3c-0a6e2d7b8c91";
+    private static final String CLIENT_ID = "ca19a540f544777860e44e75f605d927";
+    private static final Map<String, String> PARAMETERS = Collections.singletonMap("client_id", CLIENT_ID);
+
+    private ParMgtDAOImpl parMgtDAO;
+    private ParCache parCache;
+
+    @BeforeMethod
+    public void setUp() {
+
+        parMgtDAO = mock(ParMgtDAOImpl.class);
+        parCache = mock(ParCache.class);
+    }
+
+    @Test
+    public void testRequestConsumedBeforeFlushIsNotPersisted() throws ParCoreException {
+
+        CacheBackedParDAO parDAO = new CacheBackedParDAO(parMgtDAO, parCache, true, 10, 10, 0, 10);
+        parDAO.persistRequestData(REQUEST_URI_REF, CLIENT_ID, getExpiry(), PARAMETERS);
+
+        Optional<ParRequestDO> parRequestDO = parDAO.consumeRequestData(REQUEST_URI_REF);
+        parDAO.flush();
+
+        assertTrue(parRequestDO.isPresent());
+        assertEquals(parRequestDO.get().getClientId(), CLIENT_ID);
+        assertFalse(parDAO.consumeRequestData(REQUEST_URI_REF).isPresent());
+        verify(parCache).addToCache(anyString(), any(ParRequestCacheEntry.class));
+        verify(parMgtDAO, never()).persistRequestData(anyMap());
+        verify(parMgtDAO, never()).persistRequestData(anyString(), anyString(), anyLong(), anyMap());
+        verify(parMgtDAO, never()).removeRequestDataIfPresent(anyString());
+    }
+
+    @Test
+    public void testPendingRequestsAreFlushedInBatches() throws ParCoreException {
+
+        CacheBackedParDAO parDAO = new CacheBackedParDAO(parMgtDAO, parCache, true, 2, 10, 0, 10);
+        for (int i = 0; i < 5; i++) {
+            parDAO.persistRequestData(REQUEST_URI_REF + i, CLIENT_ID, getExpiry(), PARAMETERS);
+        }
+
+        parDAO.flush();
+        parDAO.flush();
+
+        verify(parMgtDAO, times(3)).persistRequestData(anyMap());
+        verify(parMgtDAO, never()).persistRequestData(anyString(), anyString(), anyLong(), anyMap());
+    }
+
+    @Test
+    public void testPersistedRequestIsConsumedOnce() throws ParCoreException {
+
+        CacheBackedParDAO parDAO = new CacheBackedParDAO(parMgtDAO, parCache, true, 10, 10, 0, 10);
+        parDAO.persistRequestData(REQUEST_URI_REF, CLIENT_ID, getExpiry(), PARAMETERS);
+        parDAO.flush();
+        when(parCache.getValueFromCache(REQUEST_URI_REF)).thenReturn(
+                new ParRequestCacheEntry(REQUEST_URI_REF, PARAMETERS, getExpiry(), CLIENT_ID));
+        when(parMgtDAO.removeRequestDataIfPresent(REQUEST_URI_REF)).thenReturn(true, false);
+
+        assertTrue(parDAO.consumeRequestData(REQUEST_URI_REF).isPresent());
+        assertFalse(parDAO.consumeRequestData(REQUEST_URI_REF).isPresent());
+        verify(parCache, times(2)).clearCacheEntry(REQUEST_URI_REF);
+    }
+
+    @Test
+    public void testFailedFlushKeepsRequestsPending() throws ParCoreException {
+
+        CacheBackedParDAO parDAO = new CacheBackedParDAO(parMgtDAO, parCache, true, 10, 10, 0, 10);
+        parDAO.persistRequestData(REQUEST_URI_REF, CLIENT_ID, getExpiry(), PARAMETERS);
+        doThrow(new ParCoreException("Database is not available.")).doNothing()
+                .when(parMgtDAO).persistRequestData(anyMap());
+
+        expectThrows(ParCoreException.class, parDAO::flush);
+        parDAO.flush();
+        parDAO.flush();
+
+        verify(parMgtDAO, times(2)).persistRequestData(anyMap());
+    }
+
+    @Test
+    public void testRequestIsPersistedSynchronouslyWhenPendingRequestsAreFull() throws ParCoreException {
+
+        CacheBackedParDAO parDAO = new CacheBackedParDAO(parMgtDAO, parCache, true, 10, 1, 0, 10);
+        doNothing().when(parMgtDAO).persistRequestData(anyString(), anyString(), anyLong(), anyMap());
+        long expiry = getExpiry();
+
+        parDAO.persistRequestData(REQUEST_URI_REF, CLIENT_ID, expiry, PARAMETERS);
+        parDAO.persistRequestData(REQUEST_URI_REF + 1, CLIENT_ID, expiry, PARAMETERS);
+
+        verify(parMgtDAO).persistRequestData(REQUEST_URI_REF + 1, CLIENT_ID, expiry, PARAMETERS);
+        verify(parMgtDAO, never()).persistRequestData(REQUEST_URI_REF, CLIENT_ID, expiry, PARAMETERS);
+    }
+
+    @Test
+    public void testRequestIsPersistedSynchronouslyWhenAsyncPersistenceIsDisabled() throws ParCoreException {
+
+        CacheBackedParDAO parDAO = new CacheBackedParDAO(parMgtDAO, parCache, false, 10, 10, 0, 10);
+        long expiry = getExpiry();
+
+        parDAO.persistRequestData(REQUEST_URI_REF, CLIENT_ID, expiry, PARAMETERS);
+        parDAO.flush();
+
+        verify(parMgtDAO).persistRequestData(REQUEST_URI_REF, CLIENT_ID, expiry, PARAMETERS);
+        verify(parMgtDAO, never()).persistRequestData(anyMap());
+    }
+
+    @Test
+    public void testRequestPendingOnAnotherNodeIsConsumedOnceWritten() throws ParCoreException {
+
+        CacheBackedParDAO parDAO = new CacheBackedParDAO(parMgtDAO, parCache, true, 10, 10, 5000, 10);
+        ParRequestDO parRequestDO = new ParRequestDO(PARAMETERS, getExpiry(), CLIENT_ID);
+        when(parMgtDAO.consumeRequestData(REQUEST_URI_REF)).thenReturn(Optional.empty(), Optional.empty(),
+                Optional.of(parRequestDO));
+
+        assertEquals(parDAO.consumeRequestData(REQUEST_URI_REF), Optional.of(parRequestDO));
+        verify(parMgtDAO, times(3)).consumeRequestData(REQUEST_URI_REF);
+    }
+
+    @Test
+    public void testCachedRequestPendingOnAnotherNodeIsConsumedOnceWritten() throws ParCoreException {
+
+        CacheBackedParDAO parDAO = new CacheBackedParDAO(parMgtDAO, parCache, true, 10, 10, 5000, 10);
+        when(parCache.getValueFromCache(REQUEST_URI_REF)).thenReturn(
+                new ParRequestCacheEntry(REQUEST_URI_REF, PARAMETERS, getExpiry(), CLIENT_ID));
+        when(parMgtDAO.removeRequestDataIfPresent(REQUEST_URI_REF)).thenReturn(false, true);
+
+        Optional<ParRequestDO> parRequestDO = parDAO.consumeRequestData(REQUEST_URI_REF);
+
+        assertTrue(parRequestDO.isPresent());
+        assertEquals(parRequestDO.get().getClientId(), CLIENT_ID);
+        verify(parMgtDAO, times(2)).removeRequestDataIfPresent(REQUEST_URI_REF);
+    }
+
+    @Test
+    public void testUnknownRequestIsNotRetriedBeyondConsumeTimeout() throws ParCoreException {
+
+        CacheBackedParDAO parDAO = new CacheBackedParDAO(parMgtDAO, parCache, true, 10, 10, 100, 10);
+        when(parMgtDAO.consumeRequestData(REQUEST_URI_REF)).thenReturn(Optional.empty());
+
+        long startTime = System.currentTimeMillis();
+        assertFalse(parDAO.consumeRequestData(REQUEST_URI_REF).isPresent());
+
+        assertTrue(System.currentTimeMillis() - startTime < 5000);
+        verify(parMgtDAO, atLeast(2)).consumeRequestData(REQUEST_URI_REF);
+    }
+
+    @Test
+    public void testUnknownRequestIsNotRetriedWhenAsyncPersistenceIsDisabled() throws ParCoreException {
+
+        CacheBackedParDAO parDAO = new CacheBackedParDAO(parMgtDAO, parCache, false, 10, 10, 5000, 10);
+        when(parMgtDAO.consumeRequestData(REQUEST_URI_REF)).thenReturn(Optional.empty());
+
+        assertFalse(parDAO.consumeRequestData(REQUEST_URI_REF).isPresent());
+        verify(parMgtDAO, times(1)).consumeRequestData(REQUEST_URI_REF);
+    }
+
+    @Test
+    public void testUnknownRequestIsRetriedWithBackoff() throws ParCoreException {
+
+        CacheBackedParDAO parDAO = new CacheBackedParDAO(parMgtDAO, parCache, true, 10, 10, 1000, 10);
+        when(parMgtDAO.consumeRequestData(REQUEST_URI_REF)).thenReturn(Optional.empty());
+
+        assertFalse(parDAO.consumeRequestData(REQUEST_URI_REF).isPresent());
+        // A fixed 20ms interval would take 50 attempts.
+        verify(parMgtDAO, atMost(12)).consumeRequestData(REQUEST_URI_REF);
+    }
+
+    @Test
+    public void testUnknownRequestIsNotRetriedWhenConsumeTimeoutIsZero() throws ParCoreException {
+
+        CacheBackedParDAO parDAO = new CacheBackedParDAO(parMgtDAO, parCache, true, 10, 10, 0, 10);
+        when(parMgtDAO.consumeRequestData(REQUEST_URI_REF)).thenReturn(Optional.empty());
+
+        assertFalse(parDAO.consumeRequestData(REQUEST_URI_REF).isPresent());
+        verify(parMgtDAO, times(1)).consumeRequestData(REQUEST_URI_REF);
+    }
+
+    @Test
+    public void testUnknownRequestIsNotRetriedWithoutFreeWaiter() throws ParCoreException {
+
+        CacheBackedParDAO parDAO = new CacheBackedParDAO(parMgtDAO, parCache, true, 10, 10, 5000, 0);
+        when(parMgtDAO.consumeRequestData(REQUEST_URI_REF)).thenReturn(Optional.empty());
+
+        assertFalse(parDAO.consumeRequestData(REQUEST_URI_REF).isPresent());
+        verify(parMgtDAO, times(1)).consumeRequestData(REQUEST_URI_REF);
+    }
+
+    private long getExpiry() {
+
+        return System.currentTimeMillis() + 60000;
+    }
+}
@@ -32,12 +32,16 @@ import java.nio.file.Paths;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
 
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.Mockito.mockStatic;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
 
 /**
  * Test class for ParMgtDAOImpl.
@@ -55,6 +59,10 @@ public class ParMgtDAOImplTest {
             "urn:ietf:params:oauth:par:request_uri:9b1deb4d-3b7d-4abd-82f0-1e7e2a2c5b9b";
     private static final String REQUEST_URI_4 =
             "urn:ietf:params:oauth:par:request_uri:5b8df4d5-2c36-49a6-97bb-5f8b6b8448c5";
+    private static final String REQUEST_URI_5 =
+            "urn:ietf:params:oauth:par:request_uri:0d3c2f5e-8a41-4b7f-b6e2-3f1a9c7d5e20";
+    private static final String REQUEST_URI_6 =
+            "urn:ietf:params:oauth:par:request_uri:7e6b1a94-2d5c-4f08-a3b9-c4d2e8f10a67";
     private static final Long EXPIRY_TIME = 60L;
     private static final String CLIENT_ID_VALUE = "ca19a540f544777860e44e75f605d927";
     private static final String APP_REDIRECT_URL = "http://localhost:8080/redirect";
@@ -144,6 +152,27 @@ public class ParMgtDAOImplTest {
         }
     }
 
+    @Test
+    public void testPersistRequestDataInBatchAndConsume() throws Exception {
+
+        Map<String, ParRequestDO> parRequests = new LinkedHashMap<>();
+        parRequests.put(REQUEST_URI_5, parRequestDO);
+        parRequests.put(REQUEST_URI_6, parRequestDO);
+
+        try (MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class)) {
+            identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getDBConnection(anyBoolean()))
+                    .thenAnswer(invocation -> getConnection(DB_NAME));
+            parMgtDAO.persistRequestData(parRequests);
+
+            Optional<ParRequestDO> consumedRequest = parMgtDAO.consumeRequestData(REQUEST_URI_5);
+            assertTrue(consumedRequest.isPresent());
+            assertEquals(consumedRequest.get().getParams(), paramMap);
+            assertFalse(parMgtDAO.consumeRequestData(REQUEST_URI_5).isPresent());
+            assertFalse(parMgtDAO.removeRequestDataIfPresent(REQUEST_URI_5));
+            assertTrue(parMgtDAO.getRequestData(REQUEST_URI_6).isPresent());
+        }
+    }
+
     public static Connection getConnection(String database) throws SQLException {
 
         if (dataSourceMap.get(database) != null) {
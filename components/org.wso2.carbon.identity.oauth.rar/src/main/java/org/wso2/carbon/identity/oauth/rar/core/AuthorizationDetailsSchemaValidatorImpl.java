@@ -37,6 +37,8 @@ import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.oauth.rar.exception.AuthorizationDetailsProcessingException;
 import org.wso2.carbon.identity.oauth.rar.model.AuthorizationDetail;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import static org.wso2.carbon.identity.oauth.rar.util.AuthorizationDetailsConstants.SCHEMA_VALIDATION_FAILED_ERR_MSG_FORMAT;
@@ -68,10 +70,27 @@ public class AuthorizationDetailsSchemaValidatorImpl implements AuthorizationDet
 
     private static final String ADDITIONAL_PROPERTIES = "additionalProperties";
     private static final String BASE_URI = "https://wso2.com/identity-server/schemas";
+    private static final int MAX_CACHED_VALIDATORS = 1000;
 
     private static volatile AuthorizationDetailsSchemaValidator instance;
     private final JsonSchemaOptions jsonSchemaOptions;
     private final SchemaRepository schemaRepository;
+    private final Validator metaSchemaValidator;
+    /**
+     * Compiled validators keyed by the schema content. A changed schema of an authorization details type gets a new
+     * entry, while the validators of the schemas which are no longer used are evicted in LRU order.
+     */
+    private final Map<Object, Validator> validators = Collections.synchronizedMap(
+            new LinkedHashMap<Object, Validator>(16, 0.75f, true) {
+
+                private static final long serialVersionUID = 2816104715128953012L;
+
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<Object, Validator> eldest) {
+
+                    return this.size() > MAX_CACHED_VALIDATORS;
+                }
+            });
 
     private AuthorizationDetailsSchemaValidatorImpl() {
 
@@ -82,6 +101,9 @@ public class AuthorizationDetailsSchemaValidatorImpl implements AuthorizationDet
 
         this.schemaRepository = SchemaRepository.create(this.jsonSchemaOptions)
                 .preloadMetaSchema(Vertx.vertx().fileSystem());
+        // Validates the schemas themselves against json-schema DRAFT202012
+        this.metaSchemaValidator =
+                this.schemaRepository.validator(this.jsonSchemaOptions.getDraft().getIdentifier());
     }
 
     public static AuthorizationDetailsSchemaValidator getInstance() {
@@ -110,7 +132,7 @@ public class AuthorizationDetailsSchemaValidatorImpl implements AuthorizationDet
             return false;
         }
 
-        final OutputUnit outputUnit = this.buildOutputUnit(null, this.parseJsonObject(schema));
+        final OutputUnit outputUnit = this.metaSchemaValidator.validate(this.parseJsonObject(schema));
         try {
             // Validates the schema itself against the DRAFT202012 schema standard
             outputUnit.checkValidity();
@@ -125,14 +147,39 @@ public class AuthorizationDetailsSchemaValidatorImpl implements AuthorizationDet
         return true;
     }
 
-    private OutputUnit buildOutputUnit(final JsonObject jsonSchema, final JsonObject jsonInput) {
+    /**
+     * Returns the compiled validator of the given schema, compiling and caching it on the first use.
+     *
+     * @param jsonSchema The JSON schema.
+     * @return A {@link Validator} of the schema.
+     */
+    private Validator getValidator(final JsonObject jsonSchema) {
+
+        Validator validator = this.validators.get(jsonSchema);
+        if (validator == null) {
+            // Cache against a copy, so that later changes to the given schema object do not alter the cache key.
+            final JsonObject schemaCopy = jsonSchema.copy();
+            validator = this.schemaRepository.validator(JsonSchema.of(schemaCopy), this.jsonSchemaOptions);
+            this.validators.put(schemaCopy, validator);
+        }
+        return validator;
+    }
 
-        // Validate the jsonSchema if present, otherwise validate the schema itself against json-schema DRAFT202012
-        final Validator validator = (jsonSchema != null)
-                ? this.schemaRepository.validator(JsonSchema.of(jsonSchema), this.jsonSchemaOptions)
-                : this.schemaRepository.validator(this.jsonSchemaOptions.getDraft().getIdentifier());
+    /**
+     * Returns the compiled validator of the given schema string, parsing, compiling and caching it on the first use.
+     *
+     * @param schema The JSON schema as a string.
+     * @return A {@link Validator} of the schema.
+     * @throws AuthorizationDetailsProcessingException if the schema is not valid JSON.
+     */
+    private Validator getValidator(final String schema) throws AuthorizationDetailsProcessingException {
 
-        return validator.validate(jsonInput);
+        Validator validator = this.validators.get(schema);
+        if (validator == null) {
+            validator = this.getValidator(this.parseJsonObject(schema));
+            this.validators.put(schema, validator);
+        }
+        return validator;
     }
 
     /**
@@ -182,7 +229,7 @@ public class AuthorizationDetailsSchemaValidatorImpl implements AuthorizationDet
             return false;
         }
 
-        return this.isSchemaCompliant(this.parseJsonObject(schema), authorizationDetail);
+        return this.isSchemaCompliant(this.getValidator(schema), authorizationDetail);
     }
 
     public boolean isSchemaCompliant(final JsonObject schema, final AuthorizationDetail authorizationDetail)
@@ -193,8 +240,14 @@ public class AuthorizationDetailsSchemaValidatorImpl implements AuthorizationDet
             return false;
         }
 
-        final OutputUnit outputUnit =
-                this.buildOutputUnit(schema, this.parseJsonObject(authorizationDetail.toJsonString()));
+        return this.isSchemaCompliant(this.getValidator(schema), authorizationDetail);
+    }
+
+    private boolean isSchemaCompliant(final Validator validator, final AuthorizationDetail authorizationDetail)
+            throws AuthorizationDetailsProcessingException {
+
+        // Validates the in-memory map of the authorization detail, without a round trip through a JSON string
+        final OutputUnit outputUnit = validator.validate(new JsonObject(authorizationDetail.toMap()));
 
         try {
             // Validates the authorization detail against the schema
@@ -218,7 +271,8 @@ public class AuthorizationDetailsSchemaValidatorImpl implements AuthorizationDet
             return false;
         }
 
-        final JsonObject jsonSchema = new JsonObject(schema);
+        // Copies the schema, so that the caller's map is not modified
+        final JsonObject jsonSchema = new JsonObject(new LinkedHashMap<>(schema));
         jsonSchema.put(ADDITIONAL_PROPERTIES, false); // Ensure no unknown fields are allowed
 
         return this.isSchemaCompliant(jsonSchema, authorizationDetail);
@@ -34,8 +34,10 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
-import static org.junit.Assert.assertFalse;
-import static org.junit.Assert.assertTrue;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.assertThrows;
 import static org.wso2.carbon.identity.oauth.rar.util.TestConstants.TEST_SCHEMA;
 import static org.wso2.carbon.identity.oauth.rar.util.TestConstants.TEST_TYPE;
 
@@ -74,6 +76,35 @@ public class AuthorizationDetailsSchemaValidatorTest {
         assertFalse(this.uut.isSchemaCompliant(this.getTestSchema(), null));
     }
 
+    @Test
+    public void shouldNotModifySchema_whenValidatingAgainstSchemaMap() throws AuthorizationDetailsProcessingException {
+
+        AuthorizationDetail testAuthorizationDetail = new TestDAOUtils.TestAuthorizationDetail();
+        testAuthorizationDetail.setType(TEST_TYPE);
+        final Map<String, Object> schema = this.getTestSchema();
+
+        assertTrue(this.uut.isSchemaCompliant(schema, testAuthorizationDetail));
+        assertTrue(this.uut.isSchemaCompliant(schema, testAuthorizationDetail));
+        assertEquals(schema, this.getTestSchema());
+    }
+
+    @Test
+    public void shouldValidateAgainstUpdatedSchema_whenSchemaIsChanged()
+            throws AuthorizationDetailsProcessingException {
+
+        AuthorizationDetail testAuthorizationDetail = new TestDAOUtils.TestAuthorizationDetail();
+        testAuthorizationDetail.setType(TEST_TYPE);
+        testAuthorizationDetail.setActions(Collections.singletonList("cancel"));
+        final JsonObject schema = new JsonObject(this.getTestSchema());
+
+        assertThrows(AuthorizationDetailsProcessingException.class,
+                () -> this.uut.isSchemaCompliant(schema, testAuthorizationDetail));
+
+        schema.getJsonObject("properties").getJsonObject("actions").getJsonObject("items")
+                .put("enum", Arrays.asList("initiate", "cancel"));
+        assertTrue(this.uut.isSchemaCompliant(schema, testAuthorizationDetail));
+    }
+
     @Test(expectedExceptions = {AuthorizationDetailsProcessingException.class})
     public void shouldThrowAuthorizationDetailsProcessingException_whenJsonSchemaIsInvalid()
             throws AuthorizationDetailsProcessingException {
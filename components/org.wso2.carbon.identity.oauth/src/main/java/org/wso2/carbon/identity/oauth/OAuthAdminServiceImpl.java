@@ -76,6 +76,7 @@ import org.wso2.carbon.identity.oauth2.OAuth2Constants;
 import org.wso2.carbon.identity.oauth2.OAuth2Service;
 import org.wso2.carbon.identity.oauth2.Oauth2ScopeConstants;
 import org.wso2.carbon.identity.oauth2.authz.handlers.ResponseTypeHandler;
+import org.wso2.carbon.identity.oauth2.dao.BatchConsumer;
 import org.wso2.carbon.identity.oauth2.dao.OAuthTokenPersistenceFactory;
 import org.wso2.carbon.identity.oauth2.internal.OAuth2ServiceComponentHolder;
 import org.wso2.carbon.identity.oauth2.model.AccessTokenDO;
@@ -92,6 +93,7 @@ import java.io.IOException;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -1462,18 +1464,20 @@ public class OAuthAdminServiceImpl {
     void updateAppAndRevokeTokensAndAuthzCodes(String consumerKey,
                                                Properties properties) throws IdentityOAuthAdminException {
 
-        int countToken = 0;
         try {
-            Set<AccessTokenDO> activeDetailedTokens = OAuthTokenPersistenceFactory
-                    .getInstance().getAccessTokenDAO().getActiveAcessTokenDataByConsumerKey(consumerKey);
-            String[] accessTokens = new String[activeDetailedTokens.size()];
-
-            for (AccessTokenDO detailToken : activeDetailedTokens) {
-                String token = detailToken.getAccessToken();
-                accessTokens[countToken] = token;
-                countToken++;
-            }
-            clearTokenCacheEntry(consumerKey, activeDetailedTokens);
+            // Only the token identifiers are kept while the token details are read batch by batch.
+            List<String> accessTokens = new ArrayList<>();
+            OAuthTokenPersistenceFactory.getInstance().getAccessTokenDAO().processActiveAccessTokenDataByConsumerKey(
+                    consumerKey, BatchConsumer.DEFAULT_BATCH_SIZE, activeDetailedTokens -> {
+                        for (AccessTokenDO detailToken : activeDetailedTokens) {
+                            accessTokens.add(detailToken.getAccessToken());
+                        }
+                        try {
+                            clearTokenCacheEntry(consumerKey, activeDetailedTokens);
+                        } catch (IdentityOAuthAdminException e) {
+                            throw new IdentityOAuth2Exception(e.getMessage(), e);
+                        }
+                    });
 
             if (LOG.isDebugEnabled()) {
                 LOG.debug("Access tokens and token of users are removed from the cache for OAuth App with " +
@@ -1493,9 +1497,16 @@ public class OAuthAdminServiceImpl {
             OAuthTokenPersistenceFactory.getInstance().getTokenManagementDAO()
                     .updateAppAndRevokeTokensAndAuthzCodes(
                             consumerKey, properties, authorizationCodes.toArray(
-                                    new String[0]), accessTokens);
+                                    new String[0]), accessTokens.toArray(new String[0]));
 
-        } catch (IdentityOAuth2Exception | IdentityApplicationManagementException e) {
+        } catch (IdentityOAuth2Exception e) {
+            if (e.getCause() instanceof IdentityOAuthAdminException) {
+                // Error of clearing the token cache, which is already handled.
+                throw (IdentityOAuthAdminException) e.getCause();
+            }
+            throw handleError("Error in updating oauth app & revoking access tokens and authz " +
+                    "codes for OAuth App with consumerKey: " + consumerKey, e);
+        } catch (IdentityApplicationManagementException e) {
             throw handleError("Error in updating oauth app & revoking access tokens and authz " +
                     "codes for OAuth App with consumerKey: " + consumerKey, e);
         }
@@ -2824,7 +2835,7 @@ public class OAuthAdminServiceImpl {
                 OAuth2Util.buildScopeString(detailToken.getScope()), tokenBindingRef);
     }
 
-    private static void clearTokenCacheEntry(String consumerKey, Set<AccessTokenDO> activeDetailedTokens)
+    private static void clearTokenCacheEntry(String consumerKey, Collection<AccessTokenDO> activeDetailedTokens)
             throws IdentityOAuthAdminException {
 
         for (AccessTokenDO detailToken : activeDetailedTokens) {
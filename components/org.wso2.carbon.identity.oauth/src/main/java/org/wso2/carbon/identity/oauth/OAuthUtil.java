@@ -114,6 +114,7 @@ public final class OAuthUtil {
     public static final Log LOG = LogFactory.getLog(OAuthUtil.class);
     private static final String ALGORITHM_SHA1 = "HmacSHA1";
     private static final String ALGORITHM_SHA256 = "HmacSHA256";
+    private static final int TOKEN_REVOCATION_BATCH_SIZE = 100;
     private static final String managedOrgClaim = "http://wso2.org/claims/identity/managedOrg";
 
     private OAuthUtil() {
@@ -960,8 +961,6 @@ public final class OAuthUtil {
                             currentTokenReference)) {
                         continue;
                     }
-                    OAuthUtil.clearOAuthCache(accessTokenDO.getConsumerKey(), accessTokenDO.getAuthzUser(),
-                            OAuth2Util.buildScopeString(accessTokenDO.getScope()), tokenBindingReference);
                     OAuthUtil.clearOAuthCache(accessTokenDO.getConsumerKey(), accessTokenDO.getAuthzUser(),
                             OAuth2Util.buildScopeString(accessTokenDO.getScope()), tokenBindingReference);
                     OAuthUtil.clearOAuthCache(accessTokenDO.getConsumerKey(), accessTokenDO.getAuthzUser(),
@@ -1171,12 +1170,18 @@ public final class OAuthUtil {
 
     private static void revokeTokens(List<AccessTokenDO> accessTokens) throws IdentityOAuth2Exception {
 
-        if (!accessTokens.isEmpty()) {
-            // Revoking token from database.
-            for (AccessTokenDO accessToken : accessTokens) {
-                OAuthUtil.invokePreRevocationBySystemListeners(accessToken, Collections.emptyMap());
-                OAuthTokenPersistenceFactory.getInstance().getAccessTokenDAO()
-                        .revokeAccessTokens(new String[]{accessToken.getAccessToken()}, OAuth2Util.isHashEnabled());
+        // Revoking tokens from database in batches.
+        for (int from = 0; from < accessTokens.size(); from += TOKEN_REVOCATION_BATCH_SIZE) {
+            List<AccessTokenDO> batch = accessTokens.subList(from,
+                    Math.min(from + TOKEN_REVOCATION_BATCH_SIZE, accessTokens.size()));
+            String[] tokens = new String[batch.size()];
+            for (int i = 0; i < batch.size(); i++) {
+                OAuthUtil.invokePreRevocationBySystemListeners(batch.get(i), Collections.emptyMap());
+                tokens[i] = batch.get(i).getAccessToken();
+            }
+            OAuthTokenPersistenceFactory.getInstance().getAccessTokenDAO()
+                    .revokeAccessTokens(tokens, OAuth2Util.isHashEnabled());
+            for (AccessTokenDO accessToken : batch) {
                 OAuthUtil.invokePostRevocationBySystemListeners(accessToken, Collections.emptyMap());
             }
         }
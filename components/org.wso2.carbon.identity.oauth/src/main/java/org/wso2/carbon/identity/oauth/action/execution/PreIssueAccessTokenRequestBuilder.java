@@ -63,7 +63,6 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -331,12 +330,21 @@ public class PreIssueAccessTokenRequestBuilder implements ActionExecutionRequest
             return tokenMessageContext.getAdditionalAccessTokenClaims();
         }
 
+        if (tokenMessageContext.getAccessTokenOIDCClaims() != null) {
+            return tokenMessageContext.getAccessTokenOIDCClaims();
+        }
+
         try {
             CustomClaimsCallbackHandler claimsCallBackHandler =
                     ClaimHandlerUtil.getClaimsCallbackHandler(getAppInformation(tokenMessageContext));
             JWTClaimsSet claimsSet =
                     claimsCallBackHandler.handleCustomClaims(new JWTClaimsSet.Builder(), tokenMessageContext);
-            return Optional.ofNullable(claimsSet).map(JWTClaimsSet::getClaims).orElseGet(HashMap::new);
+            if (claimsSet == null) {
+                return new HashMap<>();
+            }
+            // Kept in the context, so that the token issuer does not resolve the same user claims again.
+            tokenMessageContext.setAccessTokenOIDCClaims(claimsSet.getClaims());
+            return claimsSet.getClaims();
         } catch (IdentityOAuth2Exception e) {
             throw new ActionExecutionRequestBuilderException(
                     "Failed to retrieve OIDC claim set for the access token for grant type: " +
@@ -19,20 +19,45 @@
 package org.wso2.carbon.identity.oauth.cache;
 
 import org.wso2.carbon.identity.application.authentication.framework.cache.AuthenticationBaseCache;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.oauth.dao.OAuthAppDO;
 import org.wso2.carbon.utils.CarbonUtils;
 
+import java.util.concurrent.TimeUnit;
+
+import static org.wso2.carbon.identity.oauth2.util.OAuth2Util.getPositiveIntProperty;
+
 /**
  * AppInfoCache is used to cache oauth application information.
+ * <p>
+ * Next to the cached applications, this keeps a short lived node local record of client IDs which are not registered,
+ * and a set of striped locks which lets concurrent cache misses of one client ID be served by a single load.
  */
 public class AppInfoCache extends AuthenticationBaseCache<String, OAuthAppDO> {
 
     private static final String OAUTH_APP_INFO_CACHE_NAME = "AppInfoCache";
+    private static final String NEGATIVE_CACHE_ENABLE = "OAuth.AppInfoCache.NegativeCache.Enable";
+    private static final String NEGATIVE_CACHE_MAX_ENTRIES = "OAuth.AppInfoCache.NegativeCache.MaxEntries";
+    private static final String NEGATIVE_CACHE_TIME_TO_LIVE = "OAuth.AppInfoCache.NegativeCache.TimeToLive";
+
+    private static final int DEFAULT_NEGATIVE_CACHE_MAX_ENTRIES = 10000;
+    private static final int DEFAULT_NEGATIVE_CACHE_TIME_TO_LIVE_SECONDS = 15;
+    private static final int LOAD_LOCK_STRIPES = 64;
 
     private static volatile AppInfoCache instance;
 
+    private final AppInfoNegativeCache negativeCache;
+    private final Object[] loadLocks = new Object[LOAD_LOCK_STRIPES];
+
     private AppInfoCache() {
         super(OAUTH_APP_INFO_CACHE_NAME);
+        negativeCache = new AppInfoNegativeCache(Boolean.parseBoolean(IdentityUtil.getProperty(NEGATIVE_CACHE_ENABLE)),
+                getPositiveIntProperty(NEGATIVE_CACHE_MAX_ENTRIES, DEFAULT_NEGATIVE_CACHE_MAX_ENTRIES),
+                TimeUnit.SECONDS.toMillis(getPositiveIntProperty(NEGATIVE_CACHE_TIME_TO_LIVE,
+                        DEFAULT_NEGATIVE_CACHE_TIME_TO_LIVE_SECONDS)));
+        for (int i = 0; i < LOAD_LOCK_STRIPES; i++) {
+            loadLocks[i] = new Object();
+        }
     }
 
     /**
@@ -51,4 +76,40 @@ public class AppInfoCache extends AuthenticationBaseCache<String, OAuthAppDO> {
         }
         return instance;
     }
+
+    @Override
+    public void addToCache(String key, OAuthAppDO entry) {
+
+        super.addToCache(key, entry);
+        negativeCache.clearMissingClient(key);
+    }
+
+    @Override
+    public void addToCache(String key, OAuthAppDO entry, String tenantDomain) {
+
+        super.addToCache(key, entry, tenantDomain);
+        negativeCache.clearMissingClient(key);
+    }
+
+    /**
+     * Get the node local record of client IDs which are not registered.
+     *
+     * @return Negative cache of client IDs.
+     */
+    public AppInfoNegativeCache getNegativeCache() {
+
+        return negativeCache;
+    }
+
+    /**
+     * Get the lock to be held while loading the application of the given client ID into the cache.
+     *
+     * @param clientId Client ID.
+     * @return Lock of the stripe the client ID belongs to.
+     */
+    public Object getLoadLock(String clientId) {
+
+        int hash = clientId == null ? 0 : clientId.hashCode();
+        return loadLocks[(hash ^ (hash >>> 16)) & (LOAD_LOCK_STRIPES - 1)];
+    }
 }
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth.cache;
+
+import org.apache.commons.lang.StringUtils;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Node local cache of client IDs which are not registered in a tenant, keyed by the client ID with the set of tenants
+ * the client ID was looked up in.
+ * <p>
+ * Entries live for a short time only, since an application registered on another node is not visible here until the
+ * entry expires. The tenants recorded for a client ID expire along with the first one. Registrations on this node
+ * clear the entry of the client ID right away.
+ */
+public class AppInfoNegativeCache {
+
+    private final NodeLocalExpiringCache<Set<Integer>> missingClients;
+    private final boolean enabled;
+
+    AppInfoNegativeCache(boolean enabled, int maxEntries, long timeToLiveMillis) {
+
+        this.enabled = enabled;
+        this.missingClients = new NodeLocalExpiringCache<>(maxEntries, timeToLiveMillis);
+    }
+
+    public boolean isEnabled() {
+
+        return enabled;
+    }
+
+    /**
+     * Check whether the client ID was recently found to be not registered in the tenant.
+     *
+     * @param clientId Client ID.
+     * @param tenantId Tenant ID the client ID was looked up in.
+     * @return True if there is a live entry for the client ID.
+     */
+    public boolean isMissingClient(String clientId, int tenantId) {
+
+        if (!enabled || clientId == null) {
+            return false;
+        }
+        Set<Integer> tenantIds = missingClients.getValue(clientId);
+        return tenantIds != null && tenantIds.contains(tenantId);
+    }
+
+    /**
+     * Record a client ID which is not registered in the tenant.
+     *
+     * @param clientId Client ID.
+     * @param tenantId Tenant ID the client ID was looked up in.
+     */
+    public void addMissingClient(String clientId, int tenantId) {
+
+        if (!enabled || StringUtils.isEmpty(clientId)) {
+            return;
+        }
+        Set<Integer> tenantIds = missingClients.getValue(clientId);
+        if (tenantIds != null) {
+            tenantIds.add(tenantId);
+            return;
+        }
+        // A tenant added by a concurrent call may be lost here, which only costs another lookup of the client ID.
+        tenantIds = ConcurrentHashMap.newKeySet();
+        tenantIds.add(tenantId);
+        missingClients.addValue(clientId, tenantIds, Long.MAX_VALUE);
+    }
+
+    /**
+     * Remove the entries of the client ID in all tenants.
+     *
+     * @param clientId Client ID.
+     */
+    public void clearMissingClient(String clientId) {
+
+        if (!enabled || clientId == null) {
+            return;
+        }
+        missingClients.removeValue(clientId);
+    }
+
+    public void clear() {
+
+        missingClients.clear();
+    }
+}
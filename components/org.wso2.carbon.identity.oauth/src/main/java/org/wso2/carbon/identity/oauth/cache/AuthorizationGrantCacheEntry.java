@@ -22,6 +22,7 @@ import org.wso2.carbon.identity.application.common.model.ClaimMapping;
 import org.wso2.carbon.identity.oauth2.model.AccessTokenExtendedAttributes;
 import org.wso2.carbon.identity.oauth2.model.FederatedTokenDO;
 import org.wso2.carbon.identity.openidconnect.model.RequestObject;
+import org.wso2.carbon.identity.openidconnect.model.ResolvedUserClaims;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -93,6 +94,8 @@ public class AuthorizationGrantCacheEntry extends CacheEntry {
 
     private boolean isPreIssueAccessTokenActionsExecuted;
 
+    private ResolvedUserClaims resolvedUserClaims;
+
     public String getSubjectClaim() {
         return subjectClaim;
     }
@@ -414,4 +417,20 @@ public class AuthorizationGrantCacheEntry extends CacheEntry {
 
         this.mappedRemoteClaims = mappedRemoteClaims;
     }
+
+    /**
+     * Returns the user claims retrieved from the user store while issuing the access token, which the user info
+     * endpoint may reuse.
+     *
+     * @return Resolved user claims, or null if not carried forward.
+     */
+    public ResolvedUserClaims getResolvedUserClaims() {
+
+        return resolvedUserClaims;
+    }
+
+    public void setResolvedUserClaims(ResolvedUserClaims resolvedUserClaims) {
+
+        this.resolvedUserClaims = resolvedUserClaims;
+    }
 }
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth.cache;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * Bounded cache of the values kept on this node only, where each value expires after the configured time to live or
+ * earlier if asked for.
+ * <p>
+ * Expired values are dropped when they are looked up. Once the cache is full a new value is only added after the
+ * expired values are swept, and a sweep is only run once one of the values held can have expired, so that adding to a
+ * cache full of live values does not scan it every time. A value is not added while the cache is full of live values.
+ *
+ * @param <V> Type of the cached values.
+ */
+public class NodeLocalExpiringCache<V> {
+
+    private final Map<String, CachedValue<V>> values = new ConcurrentHashMap<>();
+    private final AtomicLong earliestExpiryTime = new AtomicLong(Long.MAX_VALUE);
+    private final int maxEntries;
+    private final long timeToLiveMillis;
+
+    public NodeLocalExpiringCache(int maxEntries, long timeToLiveMillis) {
+
+        this.maxEntries = maxEntries;
+        this.timeToLiveMillis = timeToLiveMillis;
+    }
+
+    /**
+     * Get the live value of the given key.
+     *
+     * @param key Cache key.
+     * @return Value or null if there is no live value for the key.
+     */
+    public V getValue(String key) {
+
+        CachedValue<V> cachedValue = values.get(key);
+        if (cachedValue == null) {
+            return null;
+        }
+        if (cachedValue.isExpired(System.currentTimeMillis())) {
+            values.remove(key, cachedValue);
+            return null;
+        }
+        return cachedValue.value;
+    }
+
+    /**
+     * Add a value which expires after the time to live of the cache, or at the given time if it is earlier.
+     *
+     * @param key        Cache key.
+     * @param value      Value.
+     * @param expiryTime Latest time the value may live until, in milliseconds.
+     * @return True if the value was added, false if it has already expired or the cache is full.
+     */
+    public boolean addValue(String key, V value, long expiryTime) {
+
+        long now = System.currentTimeMillis();
+        expiryTime = Math.min(expiryTime, now + timeToLiveMillis);
+        if (expiryTime <= now) {
+            return false;
+        }
+        if (values.size() >= maxEntries && !values.containsKey(key)) {
+            if (earliestExpiryTime.get() <= now) {
+                removeExpiredValues(now);
+            }
+            if (values.size() >= maxEntries) {
+                return false;
+            }
+        }
+        values.put(key, new CachedValue<>(value, expiryTime));
+        earliestExpiryTime.accumulateAndGet(expiryTime, Math::min);
+        return true;
+    }
+
+    /**
+     * Remove the value of the given key.
+     *
+     * @param key Cache key.
+     * @return True if a value was removed.
+     */
+    public boolean removeValue(String key) {
+
+        return values.remove(key) != null;
+    }
+
+    /**
+     * Remove the given value of the key, if it is still the value of the key.
+     *
+     * @param key   Cache key.
+     * @param value Value to be removed.
+     */
+    public void removeValue(String key, V value) {
+
+        CachedValue<V> cachedValue = values.get(key);
+        if (cachedValue != null && cachedValue.value == value) {
+            values.remove(key, cachedValue);
+        }
+    }
+
+    /**
+     * Remove the values matching the given filter.
+     *
+     * @param filter Filter of the values to be removed.
+     * @return True if any value was removed.
+     */
+    public boolean removeValues(Predicate<V> filter) {
+
+        if (values.isEmpty()) {
+            return false;
+        }
+        return values.values().removeIf(cachedValue -> filter.test(cachedValue.value));
+    }
+
+    /**
+     * Remove all values.
+     */
+    public void clear() {
+
+        values.clear();
+        earliestExpiryTime.set(Long.MAX_VALUE);
+    }
+
+    private void removeExpiredValues(long now) {
+
+        long earliestRemainingExpiryTime = Long.MAX_VALUE;
+        Iterator<CachedValue<V>> iterator = values.values().iterator();
+        while (iterator.hasNext()) {
+            CachedValue<V> cachedValue = iterator.next();
+            if (cachedValue.isExpired(now)) {
+                iterator.remove();
+            } else {
+                earliestRemainingExpiryTime = Math.min(earliestRemainingExpiryTime, cachedValue.expiryTime);
+            }
+        }
+        // A value added while sweeping may expire before the time kept here. That only delays freeing its slot, as an
+        // expired value is never served.
+        earliestExpiryTime.set(earliestRemainingExpiryTime);
+    }
+
+    private static final class CachedValue<V> {
+
+        private final V value;
+        private final long expiryTime;
+
+        private CachedValue(V value, long expiryTime) {
+
+            this.value = value;
+            this.expiryTime = expiryTime;
+        }
+
+        private boolean isExpired(long now) {
+
+            return expiryTime <= now;
+        }
+    }
+}
@@ -29,6 +29,7 @@ import org.wso2.carbon.utils.CarbonUtils;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * OAuth cache.
@@ -37,6 +38,7 @@ public class OAuthCache extends AuthenticationBaseCache<OAuthCacheKey, CacheEntr
 
     private static final String OAUTH_CACHE_NAME = "OAuthCache";
     private static final List<AbstractCacheListener<OAuthCacheKey, CacheEntry>> cacheListeners = new ArrayList<>();
+    private static final List<OAuthCacheClearListener> cacheClearListeners = new CopyOnWriteArrayList<>();
     private static volatile OAuthCache instance;
     private static final Log LOG = LogFactory.getLog(OAuthCache.class);
 
@@ -60,12 +62,23 @@ public class OAuthCache extends AuthenticationBaseCache<OAuthCacheKey, CacheEntr
         return instance;
     }
 
+    /**
+     * Register a listener to be notified whenever an entry is cleared from the OAuth cache on this node.
+     *
+     * @param cacheClearListener Listener to be registered.
+     */
+    public static void addCacheClearListener(OAuthCacheClearListener cacheClearListener) {
+
+        cacheClearListeners.add(cacheClearListener);
+    }
+
     @Override
     public void addToCache(OAuthCacheKey key, CacheEntry entry) {
 
         if (entry instanceof AccessTokenDO) {
             AccessTokenDO tokenDO = (AccessTokenDO) entry;
             String tenantDomain = tokenDO.getAuthzUser().getTenantDomain();
+            tokenDO.setCacheGeneration(OAuthCacheGenerations.getInstance().getGeneration(tokenDO.getConsumerKey()));
             if (LOG.isDebugEnabled()) {
                 LOG.debug(String.format("AccessTokenDO was added for the given token identifier: %s in the tenant: %s.",
                         ((AccessTokenDO) entry).getTokenId(), tenantDomain));
@@ -90,12 +103,19 @@ public class OAuthCache extends AuthenticationBaseCache<OAuthCacheKey, CacheEntr
         } else {
             super.clearCacheEntry(key);
         }
+        notifyCacheClearListeners(key);
         // Added below logs to make sure the cache is cleared properly.
         if (LOG.isDebugEnabled() && super.getValueFromCache(key, tenantDomain) == null) {
             LOG.debug("Successfully cleared OAuthCache for the provided key in tenant domain: " + tenantDomain);
         }
     }
 
+    @Override
+    public void clearCacheEntry(OAuthCacheKey key) {
+
+        super.clearCacheEntry(key);
+        notifyCacheClearListeners(key);
+    }
 
     @Override
     public CacheEntry getValueFromCache(OAuthCacheKey key, String tenantDomain) {
@@ -109,9 +129,44 @@ public class OAuthCache extends AuthenticationBaseCache<OAuthCacheKey, CacheEntr
         } else {
             cacheEntry = super.getValueFromCache(key);
         }
+        if (isStale(cacheEntry)) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Ignored a cache entry of an invalidated client in tenant domain: " + tenantDomain);
+            }
+            return null;
+        }
         if (LOG.isDebugEnabled() && cacheEntry != null) {
             LOG.debug("Successfully retrieved cache entry from OauthCache for tenant domain: " + tenantDomain);
         }
         return cacheEntry;
     }
+
+    @Override
+    public CacheEntry getValueFromCache(OAuthCacheKey key) {
+
+        CacheEntry cacheEntry = super.getValueFromCache(key);
+        if (isStale(cacheEntry)) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Ignored a cache entry of an invalidated client.");
+            }
+            return null;
+        }
+        return cacheEntry;
+    }
+
+    private boolean isStale(CacheEntry cacheEntry) {
+
+        if (!(cacheEntry instanceof AccessTokenDO)) {
+            return false;
+        }
+        AccessTokenDO tokenDO = (AccessTokenDO) cacheEntry;
+        return OAuthCacheGenerations.getInstance().isStale(tokenDO.getConsumerKey(), tokenDO.getCacheGeneration());
+    }
+
+    private void notifyCacheClearListeners(OAuthCacheKey key) {
+
+        for (OAuthCacheClearListener cacheClearListener : cacheClearListeners) {
+            cacheClearListener.onCacheEntryCleared(key.getCacheKeyString());
+        }
+    }
 }
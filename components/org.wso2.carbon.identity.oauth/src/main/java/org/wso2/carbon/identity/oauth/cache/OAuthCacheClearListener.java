@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.identity.oauth.cache;
+
+/**
+ * Listener notified whenever an entry is cleared from the {@link OAuthCache} on this node.
+ * <p>
+ * Unlike the cache entry listeners of the OAuth cache, this is notified even when the entry is not present in the
+ * local cache, hence node local caches derived from a token use it to drop their entries of the token.
+ */
+public interface OAuthCacheClearListener {
+
+    /**
+     * Invoked after an entry is cleared from the OAuth cache.
+     *
+     * @param cacheKey Cache key string of the cleared entry, i.e. the token for token entries.
+     */
+    void onCacheEntryCleared(String cacheKey);
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.identity.oauth.cache;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generation based invalidation of the OAuth cache entries of a client.
+ * <p>
+ * Tokens added to the {@link OAuthCache} are stamped with the current generation of their client, which is kept in the
+ * {@link OAuthClientGenerationCache}. A cached token is only served while its stamp is still the current generation of
+ * the client. Invalidating a client clears its generation, which reaches the other nodes of the cluster as a single
+ * cache invalidation message instead of one message per token. A node without a generation for the client, because it
+ * was invalidated or evicted, treats every token of the client it has cached as stale and starts a new generation on
+ * the next addition. Hence the generation cache must be enabled along with this, otherwise no token is served from
+ * the OAuth cache.
+ * <p>
+ * Generations are numbers of this node only and are never compared across nodes.
+ */
+public class OAuthCacheGenerations {
+
+    private static final Log log = LogFactory.getLog(OAuthCacheGenerations.class);
+
+    private static final String GENERATION_INVALIDATION_ENABLE = "OAuth.OAuthCache.GenerationInvalidation.Enable";
+
+    private static volatile OAuthCacheGenerations instance;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final boolean enabled;
+
+    OAuthCacheGenerations(boolean enabled) {
+
+        this.enabled = enabled;
+    }
+
+    public static OAuthCacheGenerations getInstance() {
+
+        if (instance == null) {
+            synchronized (OAuthCacheGenerations.class) {
+                if (instance == null) {
+                    instance = new OAuthCacheGenerations(
+                            Boolean.parseBoolean(IdentityUtil.getProperty(GENERATION_INVALIDATION_ENABLE)));
+                }
+            }
+        }
+        return instance;
+    }
+
+    public boolean isEnabled() {
+
+        return enabled;
+    }
+
+    /**
+     * Get the generation to stamp a newly cached entry of the client with. A new generation is started if this node
+     * does not hold one for the client.
+     *
+     * @param consumerKey Consumer key of the client.
+     * @return Current generation of the client, or 0 if generation based invalidation is disabled.
+     */
+    public long getGeneration(String consumerKey) {
+
+        if (!enabled || consumerKey == null) {
+            return 0;
+        }
+        OAuthClientGenerationCache generationCache = OAuthClientGenerationCache.getInstance();
+        Long generation = generationCache.getValueFromCache(consumerKey);
+        if (generation == null) {
+            // Concurrent additions may each start a generation. Only the last one stays current, which makes the
+            // entries stamped with the others stale earlier than needed.
+            generation = sequence.incrementAndGet();
+            generationCache.addToCache(consumerKey, generation);
+        }
+        return generation;
+    }
+
+    /**
+     * Check whether an entry of the client stamped with the given generation must no longer be served.
+     *
+     * @param consumerKey Consumer key of the client.
+     * @param generation  Generation the entry was stamped with.
+     * @return True if the client was invalidated after the entry was stamped.
+     */
+    public boolean isStale(String consumerKey, long generation) {
+
+        if (!enabled || consumerKey == null) {
+            return false;
+        }
+        Long currentGeneration = OAuthClientGenerationCache.getInstance().getValueFromCache(consumerKey);
+        return currentGeneration == null || currentGeneration != generation;
+    }
+
+    /**
+     * Make all cached entries of the client stale on all nodes.
+     *
+     * @param consumerKey Consumer key of the client.
+     */
+    public void invalidateClient(String consumerKey) {
+
+        if (!enabled || consumerKey == null) {
+            return;
+        }
+        OAuthClientGenerationCache.getInstance().clearCacheEntry(consumerKey);
+        if (log.isDebugEnabled()) {
+            log.debug("Invalidated the OAuth cache generation of the client: " + consumerKey);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.identity.oauth.cache;
+
+import org.wso2.carbon.identity.application.authentication.framework.cache.AuthenticationBaseCache;
+import org.wso2.carbon.utils.CarbonUtils;
+
+/**
+ * Cache of the current OAuth cache generation of each client on this node, keyed by the consumer key.
+ * <p>
+ * Clearing the entry of a client sends a single cache invalidation message to the other nodes of the cluster.
+ */
+public class OAuthClientGenerationCache extends AuthenticationBaseCache<String, Long> {
+
+    private static final String OAUTH_CLIENT_GENERATION_CACHE_NAME = "OAuthClientGenerationCache";
+    private static volatile OAuthClientGenerationCache instance;
+
+    private OAuthClientGenerationCache() {
+        super(OAUTH_CLIENT_GENERATION_CACHE_NAME);
+    }
+
+    public static OAuthClientGenerationCache getInstance() {
+        CarbonUtils.checkSecurity();
+        if (instance == null) {
+            synchronized (OAuthClientGenerationCache.class) {
+                if (instance == null) {
+                    instance = new OAuthClientGenerationCache();
+                }
+            }
+        }
+        return instance;
+    }
+}
@@ -69,6 +69,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -603,6 +604,126 @@ public class OAuthAppDAO {
         return oauthApp;
     }
 
+    /**
+     * Get the active OAuth applications of a tenant along with their OIDC properties, scope validators and access
+     * token claims. The applications and their OIDC properties are read with a single joined query and the scope
+     * validators and access token claims of the tenant with one query each, instead of a set of queries per
+     * application. The console and my account applications are not included since their callback URLs are resolved
+     * per request.
+     *
+     * @param tenantId Tenant ID of the OAuth applications.
+     * @param maxApps  Maximum number of applications to be returned.
+     * @return Active OAuth applications of the tenant.
+     * @throws IdentityOAuth2Exception Error while retrieving the OAuth applications.
+     */
+    public List<OAuthAppDO> getActiveAppsInformation(int tenantId, int maxApps) throws IdentityOAuth2Exception {
+
+        Map<Integer, OAuthAppDO> apps = new LinkedHashMap<>();
+        Map<Integer, Map<String, List<String>>> spOIDCProperties = new HashMap<>();
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(false)) {
+            try (PreparedStatement prepStmt = connection.prepareStatement(
+                    SQLQueries.OAuthAppDAOSQLQueries.GET_ACTIVE_APPS_INFO_WITH_OIDC_PROPERTIES)) {
+                prepStmt.setInt(1, tenantId);
+                prepStmt.setString(2, OAuthConstants.OauthAppStates.APP_STATE_ACTIVE);
+                try (ResultSet rSet = prepStmt.executeQuery()) {
+                    while (rSet.next()) {
+                        int appId = rSet.getInt(ID);
+                        OAuthAppDO oauthApp = apps.get(appId);
+                        if (oauthApp == null) {
+                            if (apps.size() >= maxApps) {
+                                // Rows are ordered by the application ID, hence the remaining rows are of other apps.
+                                break;
+                            }
+                            oauthApp = buildActiveAppInformation(rSet);
+                            if (oauthApp == null) {
+                                continue;
+                            }
+                            apps.put(appId, oauthApp);
+                        }
+                        String propertyKey = rSet.getString("PROPERTY_KEY");
+                        if (propertyKey != null) {
+                            spOIDCProperties.computeIfAbsent(appId, k -> new HashMap<>())
+                                    .computeIfAbsent(propertyKey, k -> new ArrayList<>())
+                                    .add(rSet.getString("PROPERTY_VALUE"));
+                        }
+                    }
+                }
+            }
+            if (apps.isEmpty()) {
+                return new ArrayList<>();
+            }
+            Map<Integer, List<String>> scopeValidators = getAppAttributesByTenant(connection,
+                    SQLQueries.OAuthAppDAOSQLQueries.GET_APP_SCOPE_VALIDATORS_BY_TENANT, tenantId);
+            Map<Integer, List<String>> accessTokenClaims = getAppAttributesByTenant(connection,
+                    SQLQueries.OAuthAppDAOSQLQueries.GET_ACCESS_TOKEN_CLAIMS_BY_TENANT, tenantId);
+            for (Map.Entry<Integer, OAuthAppDO> app : apps.entrySet()) {
+                OAuthAppDO oauthApp = app.getValue();
+                setSpOIDCProperties(spOIDCProperties.getOrDefault(app.getKey(), new HashMap<>()), oauthApp);
+                oauthApp.setScopeValidators(scopeValidators.getOrDefault(app.getKey(), new ArrayList<>())
+                        .toArray(new String[0]));
+                oauthApp.setAccessTokenClaims(accessTokenClaims.getOrDefault(app.getKey(), new ArrayList<>())
+                        .toArray(new String[0]));
+            }
+        } catch (SQLException e) {
+            throw new IdentityOAuth2Exception("Error while retrieving the active applications of the tenant: " +
+                    tenantId, e);
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug(String.format("Retrieved %d active OAuth applications of the tenant: %d", apps.size(),
+                    tenantId));
+        }
+        return new ArrayList<>(apps.values());
+    }
+
+    private OAuthAppDO buildActiveAppInformation(ResultSet rSet) throws SQLException, IdentityOAuth2Exception {
+
+        String appName = rSet.getString(APP_NAME);
+        if (StringUtils.isBlank(rSet.getString(OAUTH_VERSION)) || ApplicationMgtUtil.isConsoleOrMyAccount(appName)) {
+            return null;
+        }
+        OAuthAppDO oauthApp = new OAuthAppDO();
+        oauthApp.setOauthConsumerKey(persistenceProcessor.getPreprocessedClientId(rSet.getString(CONSUMER_KEY)));
+        if (isHashDisabled) {
+            oauthApp.setOauthConsumerSecret(persistenceProcessor.getPreprocessedClientSecret(
+                    rSet.getString(CONSUMER_SECRET)));
+        } else {
+            oauthApp.setOauthConsumerSecret(rSet.getString(CONSUMER_SECRET));
+        }
+        AuthenticatedUser authenticatedUser = new AuthenticatedUser();
+        authenticatedUser.setUserName(rSet.getString(USERNAME));
+        authenticatedUser.setTenantDomain(IdentityTenantUtil.getTenantDomain(rSet.getInt(TENANT_ID)));
+        authenticatedUser.setUserStoreDomain(rSet.getString(USER_DOMAIN));
+        oauthApp.setAppOwner(authenticatedUser);
+        oauthApp.setApplicationName(appName);
+        oauthApp.setOauthVersion(rSet.getString(OAUTH_VERSION));
+        oauthApp.setCallbackUrl(rSet.getString(CALLBACK_URL));
+        oauthApp.setGrantTypes(rSet.getString(GRANT_TYPES));
+        oauthApp.setId(rSet.getInt(ID));
+        oauthApp.setPkceMandatory(!"0".equals(rSet.getString(PKCE_MANDATORY)));
+        oauthApp.setPkceSupportPlain(!"0".equals(rSet.getString(PKCE_SUPPORT_PLAIN)));
+        oauthApp.setUserAccessTokenExpiryTime(rSet.getLong(USER_ACCESS_TOKEN_EXPIRE_TIME));
+        oauthApp.setApplicationAccessTokenExpiryTime(rSet.getLong(APP_ACCESS_TOKEN_EXPIRE_TIME));
+        oauthApp.setRefreshTokenExpiryTime(rSet.getLong(REFRESH_TOKEN_EXPIRE_TIME));
+        oauthApp.setIdTokenExpiryTime(rSet.getLong(ID_TOKEN_EXPIRE_TIME));
+        oauthApp.setState(rSet.getString(APP_STATE));
+        return oauthApp;
+    }
+
+    private Map<Integer, List<String>> getAppAttributesByTenant(Connection connection, String sqlQuery, int tenantId)
+            throws SQLException {
+
+        Map<Integer, List<String>> appAttributes = new HashMap<>();
+        try (PreparedStatement stmt = connection.prepareStatement(sqlQuery)) {
+            stmt.setInt(1, tenantId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    appAttributes.computeIfAbsent(rs.getInt(1), k -> new ArrayList<>()).add(rs.getString(2));
+                }
+            }
+        }
+        return appAttributes;
+    }
+
     /**
      * Get a list of OAuth applications for the given consumer key.
      *
@@ -107,6 +107,23 @@ public class SQLQueries {
                 "REFRESH_TOKEN_EXPIRE_TIME, ID_TOKEN_EXPIRE_TIME, APP_STATE FROM IDN_OAUTH_CONSUMER_APPS " +
                 "WHERE CONSUMER_KEY=?";
 
+        public static final String GET_ACTIVE_APPS_INFO_WITH_OIDC_PROPERTIES = "SELECT APP.CONSUMER_KEY, " +
+                "APP.CONSUMER_SECRET, APP.USERNAME, APP.APP_NAME, APP.OAUTH_VERSION, APP.CALLBACK_URL, " +
+                "APP.TENANT_ID, APP.USER_DOMAIN, APP.GRANT_TYPES, APP.ID, APP.PKCE_MANDATORY, " +
+                "APP.PKCE_SUPPORT_PLAIN, APP.USER_ACCESS_TOKEN_EXPIRE_TIME, APP.APP_ACCESS_TOKEN_EXPIRE_TIME, " +
+                "APP.REFRESH_TOKEN_EXPIRE_TIME, APP.ID_TOKEN_EXPIRE_TIME, APP.APP_STATE, PROP.PROPERTY_KEY, " +
+                "PROP.PROPERTY_VALUE FROM IDN_OAUTH_CONSUMER_APPS APP LEFT OUTER JOIN IDN_OIDC_PROPERTY PROP ON " +
+                "APP.CONSUMER_KEY = PROP.CONSUMER_KEY AND APP.TENANT_ID = PROP.TENANT_ID WHERE APP.TENANT_ID = ? " +
+                "AND APP.APP_STATE = ? ORDER BY APP.ID";
+
+        public static final String GET_APP_SCOPE_VALIDATORS_BY_TENANT = "SELECT VALIDATORS.APP_ID, " +
+                "VALIDATORS.SCOPE_VALIDATOR FROM IDN_OAUTH2_SCOPE_VALIDATORS VALIDATORS INNER JOIN " +
+                "IDN_OAUTH_CONSUMER_APPS APP ON VALIDATORS.APP_ID = APP.ID WHERE APP.TENANT_ID = ?";
+
+        public static final String GET_ACCESS_TOKEN_CLAIMS_BY_TENANT = "SELECT CLAIMS.APP_ID, CLAIMS.CLAIM_URI " +
+                "FROM IDN_OAUTH2_TOKEN_CLAIMS CLAIMS INNER JOIN IDN_OAUTH_CONSUMER_APPS APP ON " +
+                "CLAIMS.APP_ID = APP.ID WHERE APP.TENANT_ID = ?";
+
         public static final String GET_ALL_SP_OIDC_PROPERTIES =
                 "SELECT PROPERTY_KEY, PROPERTY_VALUE FROM IDN_OIDC_PROPERTY WHERE CONSUMER_KEY = ? AND TENANT_ID = ?";
 
@@ -33,6 +33,7 @@ import org.wso2.carbon.identity.oauth.cache.AuthorizationGrantCache;
 import org.wso2.carbon.identity.oauth.cache.AuthorizationGrantCacheKey;
 import org.wso2.carbon.identity.oauth.common.OAuthConstants;
 import org.wso2.carbon.identity.oauth.internal.OAuthComponentServiceHolder;
+import org.wso2.carbon.identity.oauth.tokenprocessor.UserTokenRevocationExecutor;
 import org.wso2.carbon.identity.oauth.util.ClaimCache;
 import org.wso2.carbon.identity.oauth.util.ClaimMetaDataCache;
 import org.wso2.carbon.identity.oauth.util.ClaimMetaDataCacheEntry;
@@ -42,6 +43,9 @@ import org.wso2.carbon.identity.oauth2.dao.OAuthTokenPersistenceFactory;
 import org.wso2.carbon.identity.oauth2.internal.OAuth2ServiceComponentHolder;
 import org.wso2.carbon.identity.oauth2.model.AccessTokenDO;
 import org.wso2.carbon.identity.oauth2.model.AuthzCodeDO;
+import org.wso2.carbon.identity.openidconnect.OIDCClaimUtil;
+import org.wso2.carbon.identity.openidconnect.UserClaimsUpdateTracker;
+import org.wso2.carbon.identity.openidconnect.UserInfoResponseCache;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.models.UserAssociation;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
 import org.wso2.carbon.user.core.UserCoreConstants;
@@ -129,6 +133,7 @@ public class IdentityOathEventListener extends AbstractIdentityUserOperationEven
         if (!isEnable()) {
             return true;
         }
+        removeUserInfoResponsesFromCache(userName, userStoreManager);
         return true;
     }
 
@@ -139,6 +144,7 @@ public class IdentityOathEventListener extends AbstractIdentityUserOperationEven
         if (!isEnable()) {
             return true;
         }
+        removeUserInfoResponsesFromCache(userName, userStoreManager);
         return true;
     }
 
@@ -278,12 +284,13 @@ public class IdentityOathEventListener extends AbstractIdentityUserOperationEven
 
         // Revoke the tokens if this group has some associated roles.
         if (CollectionUtils.isNotEmpty(roles)) {
+            List<String> usernames = new ArrayList<>(userList.size());
             for (User user : userList) {
                 OAuthUtil.removeUserClaimsFromCache(user.getUsername(), userStoreManager);
-                OAuth2ServiceComponentHolder.getInstance()
-                        .getRevocationProcessor()
-                        .revokeTokens(user.getUsername(), userStoreManager);
+                usernames.add(user.getUsername());
             }
+            UserTokenRevocationExecutor.getInstance().revokeTokens(usernames, userStoreManager,
+                    OAuth2ServiceComponentHolder.getInstance().getRevocationProcessor());
         } else {
             if (log.isDebugEnabled()) {
                 log.debug("No roles associated with the group: " + roleName);
@@ -311,11 +318,8 @@ public class IdentityOathEventListener extends AbstractIdentityUserOperationEven
         for (String username : userList) {
             OAuthUtil.removeUserClaimsFromCache(username, userStoreManager);
         }
-        for (String deletedUser : deletedUsers) {
-            OAuth2ServiceComponentHolder.getInstance()
-                    .getRevocationProcessor()
-                    .revokeTokens(deletedUser, userStoreManager);
-        }
+        UserTokenRevocationExecutor.getInstance().revokeTokens(Arrays.asList(deletedUsers), userStoreManager,
+                OAuth2ServiceComponentHolder.getInstance().getRevocationProcessor());
         return true;
     }
 
@@ -425,6 +429,30 @@ public class IdentityOathEventListener extends AbstractIdentityUserOperationEven
                 IdentityTenantUtil.getTenantDomain(userStoreManager.getTenantId()));
     }
 
+    /**
+     * Remove the cached user info responses of the user, as they carry the claim values before the update. The claims
+     * resolved while issuing the tokens of the user are marked as stale too, so that the user info endpoint does not
+     * reuse them.
+     *
+     * @param username         Username of the user.
+     * @param userStoreManager User store manager of the user.
+     */
+    private void removeUserInfoResponsesFromCache(String username, UserStoreManager userStoreManager)
+            throws UserStoreException {
+
+        UserInfoResponseCache userInfoResponseCache = UserInfoResponseCache.getInstance();
+        boolean isResolvedClaimsReuseEnabled = OIDCClaimUtil.isUserInfoResolvedClaimsReuseEnabled();
+        if (!userInfoResponseCache.isEnabled() && !isResolvedClaimsReuseEnabled) {
+            return;
+        }
+        String tenantDomain = IdentityTenantUtil.getTenantDomain(userStoreManager.getTenantId());
+        String userStoreDomain = UserCoreUtil.getDomainName(userStoreManager.getRealmConfiguration());
+        if (isResolvedClaimsReuseEnabled) {
+            UserClaimsUpdateTracker.getInstance().markUserClaimsUpdated(tenantDomain, userStoreDomain, username);
+        }
+        userInfoResponseCache.clearUserInfoResponsesOfUser(tenantDomain, userStoreDomain, username);
+    }
+
     /**
      * Revoke access tokens of associated users.
      *
@@ -25,9 +25,8 @@ import org.apache.commons.logging.LogFactory;
 import org.json.JSONObject;
 import org.wso2.carbon.identity.oauth.config.OAuthServerConfiguration;
 import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+import org.wso2.carbon.identity.oauth2.util.MessageDigestUtil;
 
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 
 /**
@@ -113,30 +112,17 @@ public class HashingPersistenceProcessor implements TokenPersistenceProcessor {
             throw new IdentityOAuth2Exception("plainText value is null or empty to be hash.");
         }
 
-        MessageDigest messageDigest = null;
-        byte[] hash = null;
+        byte[] hash;
         String hashAlgorithm = OAuthServerConfiguration.getInstance().getHashAlgorithm();
         try {
-            messageDigest = MessageDigest.getInstance(hashAlgorithm);
-            messageDigest.update(plainText.getBytes(StandardCharsets.UTF_8));
-            hash = messageDigest.digest();
-
+            hash = MessageDigestUtil.digest(hashAlgorithm, plainText);
         } catch (NoSuchAlgorithmException e) {
             throw new IdentityOAuth2Exception(
                     "Error while retrieving MessageDigest for the provided hash algorithm: " + hashAlgorithm, e);
         }
         JSONObject object = new JSONObject();
         object.put(ALGORITHM, hashAlgorithm);
-        object.put(HASH, bytesToHex(hash));
+        object.put(HASH, MessageDigestUtil.toHex(hash));
         return object.toString();
     }
-
-    private static String bytesToHex(byte[] bytes) {
-
-        StringBuilder result = new StringBuilder();
-        for (byte byt : bytes) {
-            result.append(Integer.toString((byt & 0xff) + 0x100, 16).substring(1));
-        }
-        return result.toString();
-    }
 }
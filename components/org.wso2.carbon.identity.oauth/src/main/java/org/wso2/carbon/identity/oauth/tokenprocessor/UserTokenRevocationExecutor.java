@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth.tokenprocessor;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.user.core.UserStoreException;
+import org.wso2.carbon.user.core.UserStoreManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.wso2.carbon.identity.oauth2.util.OAuth2Util.getPositiveIntProperty;
+
+/**
+ * Revokes the tokens of the users of a role on a bounded pool of worker threads.
+ * <p>
+ * Role deletions and role membership changes revoke the tokens of every affected user. Instead of revoking the tokens
+ * of the users one after the other on the user store listener thread, the users are revoked in parallel with at most
+ * {@code PoolSize} users at a time. The caller still waits until the tokens of all the users are revoked, and a
+ * failure for any user is reported after the remaining users are processed.
+ * <p>
+ * The parallel revocation is disabled by default and can be enabled with the {@code OAuth.TokenRevocation.Parallel}
+ * configurations in identity.xml.
+ */
+public class UserTokenRevocationExecutor {
+
+    private static final Log log = LogFactory.getLog(UserTokenRevocationExecutor.class);
+
+    private static final String PARALLEL_REVOCATION_ENABLE = "OAuth.TokenRevocation.Parallel.Enable";
+    private static final String PARALLEL_REVOCATION_POOL_SIZE = "OAuth.TokenRevocation.Parallel.PoolSize";
+    private static final String PARALLEL_REVOCATION_PROGRESS_LOG_INTERVAL =
+            "OAuth.TokenRevocation.Parallel.ProgressLogInterval";
+
+    private static final int DEFAULT_POOL_SIZE = 4;
+    private static final int DEFAULT_PROGRESS_LOG_INTERVAL = 1000;
+
+    private static volatile UserTokenRevocationExecutor instance;
+
+    private final boolean enabled;
+    private final int progressLogInterval;
+    private final ExecutorService executorService;
+
+    UserTokenRevocationExecutor(boolean enabled, int poolSize, int progressLogInterval) {
+
+        this.enabled = enabled;
+        this.progressLogInterval = progressLogInterval;
+        if (enabled) {
+            AtomicInteger threadCount = new AtomicInteger();
+            executorService = Executors.newFixedThreadPool(poolSize, runnable -> {
+                Thread thread = new Thread(runnable, "oauth-user-token-revocation-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        } else {
+            executorService = null;
+        }
+    }
+
+    public static UserTokenRevocationExecutor getInstance() {
+
+        if (instance == null) {
+            synchronized (UserTokenRevocationExecutor.class) {
+                if (instance == null) {
+                    instance = new UserTokenRevocationExecutor(
+                            Boolean.parseBoolean(IdentityUtil.getProperty(PARALLEL_REVOCATION_ENABLE)),
+                            getPositiveIntProperty(PARALLEL_REVOCATION_POOL_SIZE, DEFAULT_POOL_SIZE),
+                            getPositiveIntProperty(PARALLEL_REVOCATION_PROGRESS_LOG_INTERVAL,
+                                    DEFAULT_PROGRESS_LOG_INTERVAL));
+                }
+            }
+        }
+        return instance;
+    }
+
+    public boolean isEnabled() {
+
+        return enabled;
+    }
+
+    /**
+     * Shut down the executor if it has been created. A later call to {@link #getInstance()} creates a new one.
+     *
+     * @param timeoutMillis Time to wait for the running revocations.
+     */
+    public static void shutdownIfStarted(long timeoutMillis) {
+
+        synchronized (UserTokenRevocationExecutor.class) {
+            if (instance != null) {
+                instance.shutdown(timeoutMillis);
+                instance = null;
+            }
+        }
+    }
+
+    /**
+     * Stop the workers after the running revocations.
+     *
+     * @param timeoutMillis Time to wait for the running revocations.
+     */
+    void shutdown(long timeoutMillis) {
+
+        if (executorService == null) {
+            return;
+        }
+        executorService.shutdown();
+        try {
+            if (!executorService.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                log.warn("User token revocation did not terminate in " + timeoutMillis + "ms.");
+                executorService.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executorService.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Revoke the tokens of the given users and wait until the tokens of all the users are revoked.
+     *
+     * @param usernames            Usernames of the users.
+     * @param userStoreManager     User store manager of the users.
+     * @param revocationProcessor  Revocation processor used to revoke the tokens of a user.
+     * @throws UserStoreException If the tokens of any of the users could not be revoked.
+     */
+    public void revokeTokens(Collection<String> usernames, UserStoreManager userStoreManager,
+                             OAuth2RevocationProcessor revocationProcessor) throws UserStoreException {
+
+        if (!enabled || usernames.size() <= 1) {
+            for (String username : usernames) {
+                revocationProcessor.revokeTokens(username, userStoreManager);
+            }
+            return;
+        }
+
+        PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+        String tenantDomain = carbonContext.getTenantDomain();
+        int tenantId = carbonContext.getTenantId();
+        String contextUsername = carbonContext.getUsername();
+        Map<String, Object> threadLocalProperties = new HashMap<>(IdentityUtil.threadLocalProperties.get());
+
+        List<Future<?>> futures = new ArrayList<>(usernames.size());
+        for (String username : usernames) {
+            futures.add(executorService.submit(() -> {
+                PrivilegedCarbonContext.startTenantFlow();
+                try {
+                    PrivilegedCarbonContext context = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+                    context.setTenantId(tenantId);
+                    context.setTenantDomain(tenantDomain);
+                    context.setUsername(contextUsername);
+                    IdentityUtil.threadLocalProperties.get().putAll(threadLocalProperties);
+                    revocationProcessor.revokeTokens(username, userStoreManager);
+                } finally {
+                    IdentityUtil.threadLocalProperties.remove();
+                    PrivilegedCarbonContext.endTenantFlow();
+                }
+                return null;
+            }));
+        }
+
+        int completed = 0;
+        int failed = 0;
+        Throwable firstError = null;
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                failed++;
+                if (firstError == null) {
+                    firstError = e.getCause();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new UserStoreException("Interrupted while revoking the tokens of " + usernames.size() +
+                        " users.", e);
+            }
+            completed++;
+            if (completed % progressLogInterval == 0 && log.isDebugEnabled()) {
+                log.debug("Revoked the tokens of " + completed + " out of " + usernames.size() + " users.");
+            }
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Completed the token revocation of " + usernames.size() + " users with " + failed +
+                    " failures.");
+        }
+        if (firstError != null) {
+            throw new UserStoreException("Error occurred while revoking the tokens of " + failed + " out of " +
+                    usernames.size() + " users.", firstError);
+        }
+    }
+}
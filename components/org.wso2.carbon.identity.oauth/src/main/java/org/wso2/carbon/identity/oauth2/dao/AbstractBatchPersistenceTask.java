@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.dao;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Base persistence task which drains the queued items in batches. A batch is flushed once it reaches the configured
+ * batch size or once the flush interval elapses after the first item of the batch was taken, whichever comes first.
+ *
+ * @param <T> Type of the queued item.
+ */
+public abstract class AbstractBatchPersistenceTask<T> implements Runnable {
+
+    private static final Log log = LogFactory.getLog(AbstractBatchPersistenceTask.class);
+
+    protected static final int DEFAULT_BATCH_SIZE = 100;
+    protected static final long DEFAULT_FLUSH_INTERVAL_MILLIS = 50;
+
+    private final BlockingQueue<T> queue;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final TokenPersistenceMetrics metrics;
+    private volatile boolean running = true;
+
+    protected AbstractBatchPersistenceTask(BlockingQueue<T> queue, int batchSize, long flushIntervalMillis,
+                                           TokenPersistenceMetrics metrics) {
+
+        this.queue = queue;
+        this.batchSize = batchSize > 0 ? batchSize : DEFAULT_BATCH_SIZE;
+        this.flushIntervalMillis = flushIntervalMillis > 0 ? flushIntervalMillis : DEFAULT_FLUSH_INTERVAL_MILLIS;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void run() {
+
+        if (log.isDebugEnabled()) {
+            log.debug(getClass().getSimpleName() + " is started with batch size: " + batchSize +
+                    " and flush interval: " + flushIntervalMillis + "ms.");
+        }
+
+        List<T> batch = new ArrayList<>(batchSize);
+        while (running && !Thread.currentThread().isInterrupted()) {
+            try {
+                fillBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            flush(batch);
+        }
+
+        // Persist whatever is left in the queue before the consumer exits.
+        while (queue.drainTo(batch, batchSize) > 0) {
+            flush(batch);
+        }
+        if (log.isDebugEnabled()) {
+            log.debug(getClass().getSimpleName() + " is stopped.");
+        }
+    }
+
+    /**
+     * Signal the task to stop after flushing the remaining items.
+     */
+    public void stop() {
+
+        running = false;
+    }
+
+    /**
+     * Persist a batch of items.
+     *
+     * @param batch Items to be persisted.
+     * @throws IdentityOAuth2Exception If an error occurred while persisting the items.
+     */
+    protected abstract void persist(List<T> batch) throws IdentityOAuth2Exception;
+
+    private void fillBatch(List<T> batch) throws InterruptedException {
+
+        T first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            if (batch.size() >= batchSize) {
+                break;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                break;
+            }
+            T next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void flush(List<T> batch) {
+
+        if (batch.isEmpty()) {
+            return;
+        }
+        long start = System.nanoTime();
+        boolean successful = false;
+        try {
+            persist(batch);
+            successful = true;
+        } catch (IdentityOAuth2Exception e) {
+            log.error("Error occurred while persisting a batch of " + batch.size() + " items.", e);
+        } catch (RuntimeException e) {
+            // Make sure an unexpected failure does not terminate the consumer thread.
+            log.error("Unexpected error occurred while persisting a batch of " + batch.size() + " items.", e);
+        } finally {
+            if (metrics != null) {
+                metrics.recordFlush(batch.size(), System.nanoTime() - start, successful);
+            }
+            batch.clear();
+        }
+    }
+}
@@ -30,6 +30,10 @@ public class AccessContextTokenDO {
     private AccessTokenDO newAccessTokenDO;
     private AccessTokenDO existingAccessTokenDO;
     private String userStoreDomain;
+    private Integer appTenantId;
+    private String tenantDomain;
+    private int tenantId;
+    private String applicationResidentOrganizationId;
 
     public AccessContextTokenDO(String accessToken, String consumerKey, AccessTokenDO newAccessTokenDO, AccessTokenDO
             existingAccessTokenDO, String userStoreDomain) {
@@ -59,4 +63,47 @@ public class AccessContextTokenDO {
     public AccessTokenDO getExistingAccessTokenDO() {
         return existingAccessTokenDO;
     }
+
+    /**
+     * Get the tenant id of the application, captured when the token was queued for persistence.
+     *
+     * @return Tenant id of the application or null if it was not captured.
+     */
+    public Integer getAppTenantId() {
+        return appTenantId;
+    }
+
+    public void setAppTenantId(Integer appTenantId) {
+        this.appTenantId = appTenantId;
+    }
+
+    /**
+     * Get the tenant domain of the carbon context the token was issued in, captured when the token was queued for
+     * persistence.
+     *
+     * @return Tenant domain of the carbon context or null if it was not captured.
+     */
+    public String getTenantDomain() {
+        return tenantDomain;
+    }
+
+    public void setTenantDomain(String tenantDomain) {
+        this.tenantDomain = tenantDomain;
+    }
+
+    public int getTenantId() {
+        return tenantId;
+    }
+
+    public void setTenantId(int tenantId) {
+        this.tenantId = tenantId;
+    }
+
+    public String getApplicationResidentOrganizationId() {
+        return applicationResidentOrganizationId;
+    }
+
+    public void setApplicationResidentOrganizationId(String applicationResidentOrganizationId) {
+        this.applicationResidentOrganizationId = applicationResidentOrganizationId;
+    }
 }
@@ -24,6 +24,7 @@ import org.wso2.carbon.identity.oauth2.model.AccessTokenDO;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -38,6 +39,22 @@ public interface AccessTokenDAO {
                               AccessTokenDO newAccessTokenDO, AccessTokenDO existingAccessTokenDO,
                               String rawUserStoreDomain) throws IdentityOAuth2Exception;
 
+    /**
+     * Persist a set of access tokens. Implementations may group the tokens by the target token table and persist each
+     * group with a single JDBC batch and commit.
+     *
+     * @param accessContextTokenDOs Access tokens to be persisted along with the tokens they replace.
+     * @throws IdentityOAuth2Exception If one or more tokens could not be persisted.
+     */
+    default void insertAccessTokens(List<AccessContextTokenDO> accessContextTokenDOs) throws IdentityOAuth2Exception {
+
+        for (AccessContextTokenDO accessContextTokenDO : accessContextTokenDOs) {
+            insertAccessToken(accessContextTokenDO.getAccessToken(), accessContextTokenDO.getConsumerKey(),
+                    accessContextTokenDO.getNewAccessTokenDO(), accessContextTokenDO.getExistingAccessTokenDO(),
+                    accessContextTokenDO.getUserStoreDomain());
+        }
+    }
+
     AccessTokenDO getLatestAccessToken(String consumerKey, AuthenticatedUser authzUser, String userStoreDomain,
                                        String scope, boolean includeExpiredTokens) throws IdentityOAuth2Exception;
 
@@ -111,8 +128,38 @@ public interface AccessTokenDAO {
 
     Set<AccessTokenDO> getActiveAcessTokenDataByConsumerKey(String consumerKey) throws IdentityOAuth2Exception;
 
+    /**
+     * Feed the active access tokens of the client to the consumer in batches, instead of loading all of them at once.
+     *
+     * @param consumerKey Consumer key of the client.
+     * @param batchSize   Maximum number of tokens in a batch.
+     * @param consumer    Consumer of the batches.
+     * @throws IdentityOAuth2Exception If an error occurs while reading or consuming the tokens.
+     */
+    default void processActiveAccessTokenDataByConsumerKey(String consumerKey, int batchSize,
+                                                           BatchConsumer<AccessTokenDO> consumer)
+            throws IdentityOAuth2Exception {
+
+        BatchConsumer.acceptInBatches(getActiveAcessTokenDataByConsumerKey(consumerKey), batchSize, consumer);
+    }
+
     Set<AccessTokenDO> getAccessTokensByTenant(int tenantId) throws IdentityOAuth2Exception;
 
+    /**
+     * Feed the ACTIVE and EXPIRED access tokens of the tenant to the consumer in batches, instead of loading all of
+     * them at once.
+     *
+     * @param tenantId  Tenant ID.
+     * @param batchSize Maximum number of tokens in a batch.
+     * @param consumer  Consumer of the batches.
+     * @throws IdentityOAuth2Exception If an error occurs while reading or consuming the tokens.
+     */
+    default void processAccessTokensByTenant(int tenantId, int batchSize, BatchConsumer<AccessTokenDO> consumer)
+            throws IdentityOAuth2Exception {
+
+        BatchConsumer.acceptInBatches(getAccessTokensByTenant(tenantId), batchSize, consumer);
+    }
+
     default Set<AccessTokenDO> getAccessTokensByAuthorizedOrg(String organizationId) throws IdentityOAuth2Exception {
 
         return Collections.emptySet();
@@ -121,6 +168,23 @@ public interface AccessTokenDAO {
     Set<AccessTokenDO> getAccessTokensOfUserStore(int tenantId, String userStoreDomain) throws
             IdentityOAuth2Exception;
 
+    /**
+     * Feed the ACTIVE and EXPIRED access tokens of the user store to the consumer in batches, instead of loading all
+     * of them at once.
+     *
+     * @param tenantId        Tenant ID.
+     * @param userStoreDomain User store domain.
+     * @param batchSize       Maximum number of tokens in a batch.
+     * @param consumer        Consumer of the batches.
+     * @throws IdentityOAuth2Exception If an error occurs while reading or consuming the tokens.
+     */
+    default void processAccessTokensOfUserStore(int tenantId, String userStoreDomain, int batchSize,
+                                                BatchConsumer<AccessTokenDO> consumer)
+            throws IdentityOAuth2Exception {
+
+        BatchConsumer.acceptInBatches(getAccessTokensOfUserStore(tenantId, userStoreDomain), batchSize, consumer);
+    }
+
     /**
      * This method is to revoke specific tokens where tokens should be plain text tokens.
      *
@@ -295,4 +359,33 @@ public interface AccessTokenDAO {
     default void updateTokenIsConsented(String tokenId, boolean isConsentedGrant)
             throws IdentityOAuth2Exception {
     }
+
+    /**
+     * Retrieve the hashes of the revoked and inactive access tokens in the token tables which have not expired yet.
+     * The token tables do not record when a token was revoked, hence this reads all such tokens issued after the
+     * given time.
+     *
+     * @param createdAfter Only tokens issued after this time in milliseconds are considered.
+     * @return Map of access token hashes to the expiry time of the tokens in milliseconds.
+     * @throws IdentityOAuth2Exception If the retrieval process fails.
+     */
+    default Map<String, Long> getInvalidatedAccessTokenHashes(long createdAfter) throws IdentityOAuth2Exception {
+
+        return Collections.emptyMap();
+    }
+
+    /**
+     * Retrieve the hashes of the revoked and inactive access tokens which were moved to the audit table after the
+     * given time and have not expired yet.
+     *
+     * @param createdAfter     Only tokens issued after this time in milliseconds are considered.
+     * @param invalidatedAfter Only tokens invalidated after this time in milliseconds are considered.
+     * @return Map of access token hashes to the expiry time of the tokens in milliseconds.
+     * @throws IdentityOAuth2Exception If the retrieval process fails.
+     */
+    default Map<String, Long> getInvalidatedAuditAccessTokenHashes(long createdAfter, long invalidatedAfter)
+            throws IdentityOAuth2Exception {
+
+        return Collections.emptyMap();
+    }
 }
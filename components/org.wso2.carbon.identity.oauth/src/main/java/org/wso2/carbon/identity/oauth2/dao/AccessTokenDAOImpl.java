@@ -50,8 +50,10 @@ import org.wso2.carbon.identity.oauth2.model.AccessTokenExtendedAttributes;
 import org.wso2.carbon.identity.oauth2.token.OAuthTokenReqMessageContext;
 import org.wso2.carbon.identity.oauth2.token.OauthTokenIssuer;
 import org.wso2.carbon.identity.oauth2.token.bindings.TokenBinding;
+import org.wso2.carbon.identity.oauth2.util.JdbcUtils;
 import org.wso2.carbon.identity.oauth2.util.OAuth2TokenUtil;
 import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
+import org.wso2.carbon.identity.oauth2.validators.RevokedAccessTokenFilter;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
 
 import java.sql.Connection;
@@ -134,23 +136,7 @@ public class AccessTokenDAOImpl extends AbstractOAuthDAO implements AccessTokenD
                     "Authorized user should be available for further execution.");
         }
 
-        String accessTokenHash = accessToken;
-        try {
-            OauthTokenIssuer oauthTokenIssuer = OAuth2Util.getOAuthTokenIssuerForOAuthApp(consumerKey);
-            //check for persist alias for the token type
-            if (oauthTokenIssuer.usePersistedAccessTokenAlias()) {
-                accessTokenHash = oauthTokenIssuer.getAccessTokenHash(accessToken);
-            }
-        } catch (OAuthSystemException e) {
-            if (log.isDebugEnabled() && IdentityUtil.isTokenLoggable(IdentityConstants.IdentityTokens.ACCESS_TOKEN)) {
-                log.debug("Error while getting access token hash for token(hashed): " + DigestUtils
-                        .sha256Hex(accessTokenHash));
-            }
-            throw new IdentityOAuth2Exception("Error while getting access token hash.", e);
-        } catch (InvalidOAuthClientException e) {
-            throw new IdentityOAuth2Exception(
-                    "Error while retrieving oauth issuer for the app with clientId: " + consumerKey, e);
-        }
+        String accessTokenHash = getAccessTokenHash(accessToken, consumerKey);
 
         if (log.isDebugEnabled()) {
             if (IdentityUtil.isTokenLoggable(IdentityConstants.IdentityTokens.ACCESS_TOKEN)) {
@@ -180,21 +166,7 @@ public class AccessTokenDAOImpl extends AbstractOAuthDAO implements AccessTokenD
             log.debug("Userstore domain for user: " + username + " is " + userDomain);
         }
 
-        String sql;
-        if (OAuth2ServiceComponentHolder.isIDPIdColumnEnabled()) {
-            if (OAuth2ServiceComponentHolder.isConsentedTokenColumnEnabled()) {
-                sql = SQLQueries.INSERT_OAUTH2_ACCESS_TOKEN_WITH_IDP_NAME_WITH_CONSENTED_TOKEN;
-            } else {
-                sql = SQLQueries.INSERT_OAUTH2_ACCESS_TOKEN_WITH_IDP_NAME;
-            }
-        } else {
-            if (OAuth2ServiceComponentHolder.isConsentedTokenColumnEnabled()) {
-                sql = SQLQueries.INSERT_OAUTH2_ACCESS_TOKEN_WITH_CONSENTED_TOKEN;
-            } else {
-                sql = SQLQueries.INSERT_OAUTH2_ACCESS_TOKEN;
-            }
-        }
-        sql = OAuth2Util.getTokenPartitionedSqlByUserStore(sql, userDomain);
+        String sql = OAuth2Util.getTokenPartitionedSqlByUserStore(getInsertAccessTokenSql(), userDomain);
         String sqlAddScopes = OAuth2Util.getTokenPartitionedSqlByUserStore(SQLQueries.INSERT_OAUTH2_TOKEN_SCOPE,
                 userDomain);
         String sqlInsertTokenExtendedAttribute = OAuth2Util.getTokenPartitionedSqlByUserStore(
@@ -205,97 +177,11 @@ public class AccessTokenDAOImpl extends AbstractOAuthDAO implements AccessTokenD
                 accessTokenDO.getAccessTokenExtendedAttributes().isExtendedToken();
         try {
             insertTokenPrepStmt = connection.prepareStatement(sql);
-            insertTokenPrepStmt.setString(1, getPersistenceProcessor().getProcessedAccessTokenIdentifier(
-                    accessTokenHash));
-
-            if (accessTokenDO.getRefreshToken() != null) {
-                insertTokenPrepStmt.setString(2,
-                        getPersistenceProcessor().getProcessedRefreshToken(accessTokenDO.getRefreshToken()));
-            } else {
-                insertTokenPrepStmt.setString(2, accessTokenDO.getRefreshToken());
-            }
-
-            insertTokenPrepStmt.setString(3, accessTokenDO.getAuthzUser().getUserName());
             String userTenantDomain = getUserResidentTenantDomain(accessTokenDO.getAuthzUser());
             int tenantId = OAuth2Util.getTenantId(userTenantDomain);
-            insertTokenPrepStmt.setInt(4, tenantId);
-            insertTokenPrepStmt.setString(5, OAuth2Util.getSanitizedUserStoreDomain(userDomain));
-            insertTokenPrepStmt
-                    .setTimestamp(6, accessTokenDO.getIssuedTime(), Calendar.getInstance(TimeZone.getTimeZone(UTC)));
-            insertTokenPrepStmt.setTimestamp(7, accessTokenDO.getRefreshTokenIssuedTime(), Calendar.getInstance(TimeZone
-                    .getTimeZone(UTC)));
-            insertTokenPrepStmt.setLong(8, accessTokenDO.getValidityPeriodInMillis());
-            insertTokenPrepStmt.setLong(9, accessTokenDO.getRefreshTokenValidityPeriodInMillis());
-            insertTokenPrepStmt.setString(10, OAuth2Util.hashScopes(accessTokenDO.getScope()));
-            insertTokenPrepStmt.setString(11, accessTokenDO.getTokenState());
-            insertTokenPrepStmt.setString(12, accessTokenDO.getTokenType());
-            insertTokenPrepStmt.setString(13, accessTokenDO.getTokenId());
-            insertTokenPrepStmt.setString(14, accessTokenDO.getGrantType());
-            insertTokenPrepStmt.setString(15, accessTokenDO.getAuthzUser().getAuthenticatedSubjectIdentifier());
-            insertTokenPrepStmt
-                    .setString(16, getHashingPersistenceProcessor().getProcessedAccessTokenIdentifier(accessTokenHash));
-            if (accessTokenDO.getRefreshToken() != null) {
-                insertTokenPrepStmt.setString(17,
-                        getHashingPersistenceProcessor().getProcessedRefreshToken(accessTokenDO.getRefreshToken()));
-            } else {
-                insertTokenPrepStmt.setString(17, accessTokenDO.getRefreshToken());
-            }
+            setInsertAccessTokenParameters(insertTokenPrepStmt, accessTokenHash, consumerKey, accessTokenDO, userDomain,
+                    authenticatedIDP, tenantId, resolveAppTenantId());
             boolean tokenBindingAvailable = isTokenBindingAvailable(accessTokenDO.getTokenBinding());
-            if (tokenBindingAvailable) {
-                insertTokenPrepStmt.setString(18, accessTokenDO.getTokenBinding().getBindingReference());
-            } else {
-                insertTokenPrepStmt.setString(18, NONE);
-            }
-
-            String authorizedOrganization = accessTokenDO.getAuthzUser().getAccessingOrganization();
-            if (StringUtils.isBlank(authorizedOrganization)) {
-                authorizedOrganization = OAuthConstants.AuthorizedOrganization.NONE;
-            }
-            insertTokenPrepStmt.setString(19, authorizedOrganization);
-
-            int appTenantId = IdentityTenantUtil.getLoginTenantId();
-            String applicationResidentOrgId = PrivilegedCarbonContext.getThreadLocalCarbonContext()
-                    .getApplicationResidentOrganizationId();
-            /*
-             If applicationResidentOrgId is not empty, then the request comes for an application which is registered
-             directly in the organization of the applicationResidentOrgId. Therefore, we need to resolve the
-             tenant domain of the organization to get the application tenant id.
-            */
-            if (StringUtils.isNotEmpty(applicationResidentOrgId)) {
-                try {
-                    String tenantDomain = OAuthComponentServiceHolder.getInstance().getOrganizationManager()
-                            .resolveTenantDomain(applicationResidentOrgId);
-                    appTenantId = OAuth2Util.getTenantId(tenantDomain);
-                } catch (OrganizationManagementException e) {
-                    throw new IdentityOAuth2Exception("Error while resolving tenant domain from the organization id: "
-                            + applicationResidentOrgId, e);
-                }
-            }
-            if (OAuth2ServiceComponentHolder.isIDPIdColumnEnabled()) {
-                if (OAuth2ServiceComponentHolder.isConsentedTokenColumnEnabled()) {
-                    insertTokenPrepStmt.setString(20, Boolean.toString(accessTokenDO.isConsentedToken()));
-                    insertTokenPrepStmt.setString(21, authenticatedIDP);
-                    // Set tenant ID of the IDP by considering it is same as appTenantID.
-                    insertTokenPrepStmt.setInt(22, appTenantId);
-                    insertTokenPrepStmt.setString(23, getPersistenceProcessor().getProcessedClientId(consumerKey));
-                    insertTokenPrepStmt.setInt(24, appTenantId);
-                } else {
-                    insertTokenPrepStmt.setString(20, authenticatedIDP);
-                    // Set tenant ID of the IDP by considering it is same as appTenantID.
-                    insertTokenPrepStmt.setInt(21, appTenantId);
-                    insertTokenPrepStmt.setString(22, getPersistenceProcessor().getProcessedClientId(consumerKey));
-                    insertTokenPrepStmt.setInt(23, appTenantId);
-                }
-            } else {
-                if (OAuth2ServiceComponentHolder.isConsentedTokenColumnEnabled()) {
-                    insertTokenPrepStmt.setString(20, Boolean.toString(accessTokenDO.isConsentedToken()));
-                    insertTokenPrepStmt.setString(21, getPersistenceProcessor().getProcessedClientId(consumerKey));
-                    insertTokenPrepStmt.setInt(22, appTenantId);
-                } else {
-                    insertTokenPrepStmt.setString(20, getPersistenceProcessor().getProcessedClientId(consumerKey));
-                    insertTokenPrepStmt.setInt(21, appTenantId);
-                }
-            }
             insertTokenPrepStmt.executeUpdate();
 
             String accessTokenId = accessTokenDO.getTokenId();
@@ -466,6 +352,335 @@ public class AccessTokenDAOImpl extends AbstractOAuthDAO implements AccessTokenD
         }
     }
 
+    @Override
+    public void insertAccessTokens(List<AccessContextTokenDO> accessContextTokenDOs) throws IdentityOAuth2Exception {
+
+        if (!isPersistenceEnabled() || CollectionUtils.isEmpty(accessContextTokenDOs)) {
+            return;
+        }
+
+        // Tokens of users in the same user store end up in the same (partitioned) table, hence they can share the
+        // same prepared statements.
+        Map<String, List<AccessContextTokenDO>> tokensByTable = new HashMap<>();
+        // Tokens without an authorized user can't be mapped to a table. They are handed over to the single token
+        // insert, which validates them and reports the failure.
+        List<AccessContextTokenDO> unmappedTokens = new ArrayList<>();
+        for (AccessContextTokenDO accessContextTokenDO : accessContextTokenDOs) {
+            AccessTokenDO newAccessTokenDO = accessContextTokenDO.getNewAccessTokenDO();
+            if (newAccessTokenDO == null || newAccessTokenDO.getAuthzUser() == null) {
+                unmappedTokens.add(accessContextTokenDO);
+                continue;
+            }
+            String userDomain = OAuth2Util.getUserStoreDomain(newAccessTokenDO.getAuthzUser());
+            String tableName = OAuthConstants.ACCESS_TOKEN_STORE_TABLE;
+            if (OAuth2Util.checkAccessTokenPartitioningEnabled() && OAuth2Util.checkUserNameAssertionEnabled()) {
+                tableName = OAuth2Util.getPartitionedTableByUserStore(tableName, userDomain);
+            }
+            tokensByTable.computeIfAbsent(tableName, k -> new ArrayList<>()).add(accessContextTokenDO);
+        }
+
+        int failedCount = insertAccessTokensIndividually(unmappedTokens);
+        for (Map.Entry<String, List<AccessContextTokenDO>> entry : tokensByTable.entrySet()) {
+            try {
+                insertAccessTokenBatch(entry.getValue());
+            } catch (IdentityOAuth2Exception e) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Batch persistence of " + entry.getValue().size() + " access tokens to table: " +
+                            entry.getKey() + " failed. Persisting the tokens individually.", e);
+                }
+                failedCount += insertAccessTokensIndividually(entry.getValue());
+            }
+        }
+        if (failedCount > 0) {
+            throw new IdentityOAuth2Exception("Error while persisting " + failedCount + " out of " +
+                    accessContextTokenDOs.size() + " access tokens.");
+        }
+    }
+
+    /**
+     * Persist a set of access tokens which belong to the same token table using a single connection, JDBC batches and
+     * a single commit. Any failure rolls back the whole batch. The user store domain of the first token is only used
+     * to resolve the (partitioned) table; the USER_DOMAIN column is written from each token's own user.
+     *
+     * @param accessContextTokenDOs Access tokens to be persisted.
+     * @throws IdentityOAuth2Exception If an error occurred while persisting the tokens.
+     */
+    private void insertAccessTokenBatch(List<AccessContextTokenDO> accessContextTokenDOs)
+            throws IdentityOAuth2Exception {
+
+        String tableUserDomain = OAuth2Util.getUserStoreDomain(
+                accessContextTokenDOs.get(0).getNewAccessTokenDO().getAuthzUser());
+        String sql = OAuth2Util.getTokenPartitionedSqlByUserStore(getInsertAccessTokenSql(), tableUserDomain);
+        String sqlAddScopes = OAuth2Util.getTokenPartitionedSqlByUserStore(SQLQueries.INSERT_OAUTH2_TOKEN_SCOPE,
+                tableUserDomain);
+        String sqlInsertTokenExtendedAttribute = OAuth2Util.getTokenPartitionedSqlByUserStore(
+                SQLQueries.INSERT_OAUTH2_TOKEN_ATTRIBUTES, tableUserDomain);
+
+        Connection connection = IdentityDatabaseUtil.getDBConnection();
+        try {
+            for (AccessContextTokenDO accessContextTokenDO : accessContextTokenDOs) {
+                AccessTokenDO existingAccessTokenDO = accessContextTokenDO.getExistingAccessTokenDO();
+                if (existingAccessTokenDO != null) {
+                    // Mark the existing access token as expired before inserting the new one to avoid
+                    // CON_APP_KEY constraint violations.
+                    updateAccessTokenState(connection, existingAccessTokenDO.getTokenId(),
+                            OAuthConstants.TokenStates.TOKEN_STATE_EXPIRED, UUID.randomUUID().toString(),
+                            OAuth2Util.getSanitizedUserStoreDomain(accessContextTokenDO.getUserStoreDomain()),
+                            existingAccessTokenDO.getGrantType());
+                }
+            }
+
+            try (PreparedStatement insertTokenPrepStmt = connection.prepareStatement(sql);
+                 PreparedStatement addScopePrepStmt = connection.prepareStatement(sqlAddScopes);
+                 PreparedStatement tokenBindingPrepStmt = connection.prepareStatement(STORE_TOKEN_BINDING);
+                 PreparedStatement insertTokenExtendedAttributePrepStmt =
+                         connection.prepareStatement(sqlInsertTokenExtendedAttribute)) {
+                for (AccessContextTokenDO accessContextTokenDO : accessContextTokenDOs) {
+                    AccessTokenDO accessTokenDO = accessContextTokenDO.getNewAccessTokenDO();
+                    String consumerKey = accessContextTokenDO.getConsumerKey();
+                    String accessTokenHash = getAccessTokenHash(accessContextTokenDO.getAccessToken(), consumerKey);
+                    int tenantId = OAuth2Util.getTenantId(getUserResidentTenantDomain(accessTokenDO.getAuthzUser()));
+                    int appTenantId = accessContextTokenDO.getAppTenantId() != null ?
+                            accessContextTokenDO.getAppTenantId() : resolveAppTenantId();
+
+                    setInsertAccessTokenParameters(insertTokenPrepStmt, accessTokenHash, consumerKey, accessTokenDO,
+                            OAuth2Util.getUserStoreDomain(accessTokenDO.getAuthzUser()),
+                            OAuth2Util.getAuthenticatedIDP(accessTokenDO.getAuthzUser()), tenantId, appTenantId);
+                    insertTokenPrepStmt.addBatch();
+
+                    String accessTokenId = accessTokenDO.getTokenId();
+                    if (accessTokenDO.getScope() != null) {
+                        for (String scope : accessTokenDO.getScope()) {
+                            addScopePrepStmt.setString(1, accessTokenId);
+                            addScopePrepStmt.setString(2, scope);
+                            addScopePrepStmt.setInt(3, tenantId);
+                            addScopePrepStmt.addBatch();
+                        }
+                    }
+
+                    if (isTokenBindingAvailable(accessTokenDO.getTokenBinding())) {
+                        tokenBindingPrepStmt.setString(1, accessTokenId);
+                        tokenBindingPrepStmt.setString(2, accessTokenDO.getTokenBinding().getBindingType());
+                        tokenBindingPrepStmt.setString(3, accessTokenDO.getTokenBinding().getBindingReference());
+                        tokenBindingPrepStmt.setString(4, accessTokenDO.getTokenBinding().getBindingValue());
+                        tokenBindingPrepStmt.setInt(5, tenantId);
+                        tokenBindingPrepStmt.addBatch();
+                    }
+
+                    if (OAuth2ServiceComponentHolder.isTokenExtendedTableExist() &&
+                            accessTokenDO.getAccessTokenExtendedAttributes() != null &&
+                            accessTokenDO.getAccessTokenExtendedAttributes().isExtendedToken()) {
+                        insertTokenExtendedAttributePrepStmt.setString(1, IS_EXTENDED_TOKEN);
+                        insertTokenExtendedAttributePrepStmt.setString(2, "true");
+                        insertTokenExtendedAttributePrepStmt.setString(3, accessTokenId);
+                        insertTokenExtendedAttributePrepStmt.addBatch();
+                        if (accessTokenDO.getAccessTokenExtendedAttributes().getParameters() != null) {
+                            for (Map.Entry<String, String> entry : accessTokenDO.getAccessTokenExtendedAttributes()
+                                    .getParameters().entrySet()) {
+                                insertTokenExtendedAttributePrepStmt.setString(1, entry.getKey());
+                                insertTokenExtendedAttributePrepStmt.setString(2, entry.getValue());
+                                insertTokenExtendedAttributePrepStmt.setString(3, accessTokenId);
+                                insertTokenExtendedAttributePrepStmt.addBatch();
+                            }
+                        }
+                    }
+                }
+                insertTokenPrepStmt.executeBatch();
+                addScopePrepStmt.executeBatch();
+                tokenBindingPrepStmt.executeBatch();
+                insertTokenExtendedAttributePrepStmt.executeBatch();
+            }
+
+            if (isTokenCleanupFeatureEnabled) {
+                for (AccessContextTokenDO accessContextTokenDO : accessContextTokenDOs) {
+                    if (accessContextTokenDO.getExistingAccessTokenDO() != null) {
+                        oldTokenCleanupObject.cleanupTokenByTokenId(
+                                accessContextTokenDO.getExistingAccessTokenDO().getTokenId(), connection);
+                    }
+                }
+            }
+            IdentityDatabaseUtil.commitTransaction(connection);
+            if (log.isDebugEnabled()) {
+                log.debug("Persisted a batch of " + accessContextTokenDOs.size() + " access tokens.");
+            }
+        } catch (SQLException e) {
+            IdentityDatabaseUtil.rollbackTransaction(connection);
+            throw new IdentityOAuth2Exception("Error occurred while persisting a batch of access tokens.", e);
+        } catch (IdentityOAuth2Exception | RuntimeException e) {
+            // Do not leave the expired state updates of the existing tokens to the driver's behaviour on close.
+            IdentityDatabaseUtil.rollbackTransaction(connection);
+            throw e;
+        } finally {
+            IdentityDatabaseUtil.closeConnection(connection);
+        }
+    }
+
+    /**
+     * Persist the given access tokens one by one. This is used as the fallback when a batch fails, so that a single
+     * faulty token (eg: a CON_APP_KEY violation which needs to be recovered) does not fail the other tokens.
+     *
+     * @param accessContextTokenDOs Access tokens to be persisted.
+     * @return Number of tokens which could not be persisted.
+     */
+    private int insertAccessTokensIndividually(List<AccessContextTokenDO> accessContextTokenDOs) {
+
+        int failedCount = 0;
+        for (AccessContextTokenDO accessContextTokenDO : accessContextTokenDOs) {
+            try {
+                insertAccessToken(accessContextTokenDO.getAccessToken(), accessContextTokenDO.getConsumerKey(),
+                        accessContextTokenDO.getNewAccessTokenDO(), accessContextTokenDO.getExistingAccessTokenDO(),
+                        accessContextTokenDO.getUserStoreDomain());
+            } catch (IdentityOAuth2Exception e) {
+                failedCount++;
+                String tokenId = accessContextTokenDO.getNewAccessTokenDO() != null ?
+                        accessContextTokenDO.getNewAccessTokenDO().getTokenId() : null;
+                log.error("Error occurred while persisting access token with id: " + tokenId + " of client: " +
+                        accessContextTokenDO.getConsumerKey(), e);
+            }
+        }
+        return failedCount;
+    }
+
+    private String getAccessTokenHash(String accessToken, String consumerKey) throws IdentityOAuth2Exception {
+
+        String accessTokenHash = accessToken;
+        try {
+            OauthTokenIssuer oauthTokenIssuer = OAuth2Util.getOAuthTokenIssuerForOAuthApp(consumerKey);
+            //check for persist alias for the token type
+            if (oauthTokenIssuer.usePersistedAccessTokenAlias()) {
+                accessTokenHash = oauthTokenIssuer.getAccessTokenHash(accessToken);
+            }
+        } catch (OAuthSystemException e) {
+            if (log.isDebugEnabled() && IdentityUtil.isTokenLoggable(IdentityConstants.IdentityTokens.ACCESS_TOKEN)) {
+                log.debug("Error while getting access token hash for token(hashed): " + DigestUtils
+                        .sha256Hex(accessTokenHash));
+            }
+            throw new IdentityOAuth2Exception("Error while getting access token hash.", e);
+        } catch (InvalidOAuthClientException e) {
+            throw new IdentityOAuth2Exception(
+                    "Error while retrieving oauth issuer for the app with clientId: " + consumerKey, e);
+        }
+        return accessTokenHash;
+    }
+
+    private String getInsertAccessTokenSql() {
+
+        if (OAuth2ServiceComponentHolder.isIDPIdColumnEnabled()) {
+            if (OAuth2ServiceComponentHolder.isConsentedTokenColumnEnabled()) {
+                return SQLQueries.INSERT_OAUTH2_ACCESS_TOKEN_WITH_IDP_NAME_WITH_CONSENTED_TOKEN;
+            }
+            return SQLQueries.INSERT_OAUTH2_ACCESS_TOKEN_WITH_IDP_NAME;
+        }
+        if (OAuth2ServiceComponentHolder.isConsentedTokenColumnEnabled()) {
+            return SQLQueries.INSERT_OAUTH2_ACCESS_TOKEN_WITH_CONSENTED_TOKEN;
+        }
+        return SQLQueries.INSERT_OAUTH2_ACCESS_TOKEN;
+    }
+
+    private void setInsertAccessTokenParameters(PreparedStatement prepStmt, String accessTokenHash, String consumerKey,
+                                                AccessTokenDO accessTokenDO, String userDomain,
+                                                String authenticatedIDP, int tenantId, int appTenantId)
+            throws SQLException, IdentityOAuth2Exception {
+
+        prepStmt.setString(1, getPersistenceProcessor().getProcessedAccessTokenIdentifier(accessTokenHash));
+
+        if (accessTokenDO.getRefreshToken() != null) {
+            prepStmt.setString(2,
+                    getPersistenceProcessor().getProcessedRefreshToken(accessTokenDO.getRefreshToken()));
+        } else {
+            prepStmt.setString(2, accessTokenDO.getRefreshToken());
+        }
+
+        prepStmt.setString(3, accessTokenDO.getAuthzUser().getUserName());
+        prepStmt.setInt(4, tenantId);
+        prepStmt.setString(5, OAuth2Util.getSanitizedUserStoreDomain(userDomain));
+        prepStmt.setTimestamp(6, accessTokenDO.getIssuedTime(), Calendar.getInstance(TimeZone.getTimeZone(UTC)));
+        prepStmt.setTimestamp(7, accessTokenDO.getRefreshTokenIssuedTime(), Calendar.getInstance(TimeZone
+                .getTimeZone(UTC)));
+        prepStmt.setLong(8, accessTokenDO.getValidityPeriodInMillis());
+        prepStmt.setLong(9, accessTokenDO.getRefreshTokenValidityPeriodInMillis());
+        prepStmt.setString(10, OAuth2Util.hashScopes(accessTokenDO.getScope()));
+        prepStmt.setString(11, accessTokenDO.getTokenState());
+        prepStmt.setString(12, accessTokenDO.getTokenType());
+        prepStmt.setString(13, accessTokenDO.getTokenId());
+        prepStmt.setString(14, accessTokenDO.getGrantType());
+        prepStmt.setString(15, accessTokenDO.getAuthzUser().getAuthenticatedSubjectIdentifier());
+        prepStmt.setString(16, getHashingPersistenceProcessor().getProcessedAccessTokenIdentifier(accessTokenHash));
+        if (accessTokenDO.getRefreshToken() != null) {
+            prepStmt.setString(17,
+                    getHashingPersistenceProcessor().getProcessedRefreshToken(accessTokenDO.getRefreshToken()));
+        } else {
+            prepStmt.setString(17, accessTokenDO.getRefreshToken());
+        }
+        if (isTokenBindingAvailable(accessTokenDO.getTokenBinding())) {
+            prepStmt.setString(18, accessTokenDO.getTokenBinding().getBindingReference());
+        } else {
+            prepStmt.setString(18, NONE);
+        }
+
+        String authorizedOrganization = accessTokenDO.getAuthzUser().getAccessingOrganization();
+        if (StringUtils.isBlank(authorizedOrganization)) {
+            authorizedOrganization = OAuthConstants.AuthorizedOrganization.NONE;
+        }
+        prepStmt.setString(19, authorizedOrganization);
+
+        if (OAuth2ServiceComponentHolder.isIDPIdColumnEnabled()) {
+            if (OAuth2ServiceComponentHolder.isConsentedTokenColumnEnabled()) {
+                prepStmt.setString(20, Boolean.toString(accessTokenDO.isConsentedToken()));
+                prepStmt.setString(21, authenticatedIDP);
+                // Set tenant ID of the IDP by considering it is same as appTenantID.
+                prepStmt.setInt(22, appTenantId);
+                prepStmt.setString(23, getPersistenceProcessor().getProcessedClientId(consumerKey));
+                prepStmt.setInt(24, appTenantId);
+            } else {
+                prepStmt.setString(20, authenticatedIDP);
+                // Set tenant ID of the IDP by considering it is same as appTenantID.
+                prepStmt.setInt(21, appTenantId);
+                prepStmt.setString(22, getPersistenceProcessor().getProcessedClientId(consumerKey));
+                prepStmt.setInt(23, appTenantId);
+            }
+        } else {
+            if (OAuth2ServiceComponentHolder.isConsentedTokenColumnEnabled()) {
+                prepStmt.setString(20, Boolean.toString(accessTokenDO.isConsentedToken()));
+                prepStmt.setString(21, getPersistenceProcessor().getProcessedClientId(consumerKey));
+                prepStmt.setInt(22, appTenantId);
+            } else {
+                prepStmt.setString(20, getPersistenceProcessor().getProcessedClientId(consumerKey));
+                prepStmt.setInt(21, appTenantId);
+            }
+        }
+    }
+
+    /**
+     * Resolve the tenant id of the application for which the token is issued, using the carbon context of the current
+     * thread.
+     *
+     * @return Tenant id of the application.
+     * @throws IdentityOAuth2Exception If the tenant of the application resident organization cannot be resolved.
+     */
+    static int resolveAppTenantId() throws IdentityOAuth2Exception {
+
+        int appTenantId = IdentityTenantUtil.getLoginTenantId();
+        String applicationResidentOrgId = PrivilegedCarbonContext.getThreadLocalCarbonContext()
+                .getApplicationResidentOrganizationId();
+        /*
+         If applicationResidentOrgId is not empty, then the request comes for an application which is registered
+         directly in the organization of the applicationResidentOrgId. Therefore, we need to resolve the
+         tenant domain of the organization to get the application tenant id.
+        */
+        if (StringUtils.isNotEmpty(applicationResidentOrgId)) {
+            try {
+                String tenantDomain = OAuthComponentServiceHolder.getInstance().getOrganizationManager()
+                        .resolveTenantDomain(applicationResidentOrgId);
+                appTenantId = OAuth2Util.getTenantId(tenantDomain);
+            } catch (OrganizationManagementException e) {
+                throw new IdentityOAuth2Exception("Error while resolving tenant domain from the organization id: "
+                        + applicationResidentOrgId, e);
+            }
+        }
+        return appTenantId;
+    }
+
     @Override
     public AccessTokenDO getLatestAccessToken(String consumerKey, AuthenticatedUser authzUser, String userStoreDomain,
                                               String scope, boolean includeExpiredTokens)
@@ -1344,6 +1559,80 @@ public class AccessTokenDAOImpl extends AbstractOAuthDAO implements AccessTokenD
         return sessionId;
     }
 
+    @Override
+    public Map<String, Long> getInvalidatedAccessTokenHashes(long createdAfter) throws IdentityOAuth2Exception {
+
+        Map<String, Long> invalidatedTokens = new HashMap<>();
+        addInvalidatedAccessTokenHashes(IdentityUtil.getPrimaryDomainName(), createdAfter, invalidatedTokens);
+        if (OAuth2Util.checkAccessTokenPartitioningEnabled() && OAuth2Util.checkUserNameAssertionEnabled()) {
+            Map<String, String> availableDomainMappings = OAuth2Util.getAvailableUserStoreDomainMappings();
+            for (Map.Entry<String, String> availableDomainMapping : availableDomainMappings.entrySet()) {
+                addInvalidatedAccessTokenHashes(availableDomainMapping.getKey(), createdAfter, invalidatedTokens);
+            }
+        }
+        return invalidatedTokens;
+    }
+
+    @Override
+    public Map<String, Long> getInvalidatedAuditAccessTokenHashes(long createdAfter, long invalidatedAfter)
+            throws IdentityOAuth2Exception {
+
+        Map<String, Long> invalidatedTokens = new HashMap<>();
+        // Revoked tokens are moved to the audit table only when the token cleanup is enabled.
+        if (!isTokenCleanupFeatureEnabled) {
+            return invalidatedTokens;
+        }
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(false);
+             PreparedStatement prepStmt = connection.prepareStatement(
+                     SQLQueries.RETRIEVE_INVALIDATED_AUDIT_ACCESS_TOKEN_HASHES)) {
+            prepStmt.setString(1, OAuthConstants.TokenStates.TOKEN_STATE_REVOKED);
+            prepStmt.setString(2, OAuthConstants.TokenStates.TOKEN_STATE_INACTIVE);
+            prepStmt.setTimestamp(3, new Timestamp(invalidatedAfter), Calendar.getInstance(TimeZone.getTimeZone(UTC)));
+            prepStmt.setTimestamp(4, new Timestamp(createdAfter), Calendar.getInstance(TimeZone.getTimeZone(UTC)));
+            addInvalidatedAccessTokenHashes(prepStmt, invalidatedTokens, System.currentTimeMillis());
+        } catch (SQLException e) {
+            throw new IdentityOAuth2Exception("Error occurred while retrieving audited revoked and inactive access " +
+                    "tokens.", e);
+        }
+        return invalidatedTokens;
+    }
+
+    private void addInvalidatedAccessTokenHashes(String userStoreDomain, long createdAfter,
+                                                 Map<String, Long> invalidatedTokens) throws IdentityOAuth2Exception {
+
+        String sql = OAuth2Util.getTokenPartitionedSqlByUserStore(SQLQueries.RETRIEVE_INVALIDATED_ACCESS_TOKEN_HASHES,
+                userStoreDomain);
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(false);
+             PreparedStatement prepStmt = connection.prepareStatement(sql)) {
+            prepStmt.setString(1, OAuthConstants.TokenStates.TOKEN_STATE_REVOKED);
+            prepStmt.setString(2, OAuthConstants.TokenStates.TOKEN_STATE_INACTIVE);
+            prepStmt.setTimestamp(3, new Timestamp(createdAfter), Calendar.getInstance(TimeZone.getTimeZone(UTC)));
+            addInvalidatedAccessTokenHashes(prepStmt, invalidatedTokens, System.currentTimeMillis());
+        } catch (SQLException e) {
+            throw new IdentityOAuth2Exception("Error occurred while retrieving revoked and inactive access tokens of " +
+                    "user store: " + userStoreDomain, e);
+        }
+    }
+
+    private void addInvalidatedAccessTokenHashes(PreparedStatement prepStmt, Map<String, Long> invalidatedTokens,
+                                                 long now) throws SQLException {
+
+        try (ResultSet resultSet = prepStmt.executeQuery()) {
+            while (resultSet.next()) {
+                String accessTokenHash = resultSet.getString(1);
+                long issuedTime = resultSet.getTimestamp(2, Calendar.getInstance(TimeZone.getTimeZone(UTC)))
+                        .getTime();
+                long validityPeriod = resultSet.getLong(3);
+                // Negative validity periods and overflowing expiry times denote tokens which never expire.
+                long expiryTime = validityPeriod < 0 || issuedTime + validityPeriod < 0 ? Long.MAX_VALUE :
+                        issuedTime + validityPeriod;
+                if (accessTokenHash != null && expiryTime > now) {
+                    invalidatedTokens.put(accessTokenHash, expiryTime);
+                }
+            }
+        }
+    }
+
     public void updateAccessTokenState(String tokenId, String tokenState) throws IdentityOAuth2Exception {
         updateAccessTokenState(tokenId, tokenState, null);
     }
@@ -1593,6 +1882,7 @@ public class AccessTokenDAOImpl extends AbstractOAuthDAO implements AccessTokenD
                 IdentityDatabaseUtil.closeAllConnections(connection, null, ps);
             }
         }
+        RevokedAccessTokenFilter.getInstance().addRevokedTokens(tokens, isHashedToken);
     }
 
     /**
@@ -1669,6 +1959,7 @@ public class AccessTokenDAOImpl extends AbstractOAuthDAO implements AccessTokenD
         } finally {
             IdentityDatabaseUtil.closeAllConnections(connection, null, ps);
         }
+        RevokedAccessTokenFilter.getInstance().addRevokedTokens(tokens, isHashedToken);
     }
 
     /**
@@ -1979,39 +2270,58 @@ public class AccessTokenDAOImpl extends AbstractOAuthDAO implements AccessTokenD
     @Override
     public Set<AccessTokenDO> getActiveAcessTokenDataByConsumerKey(String consumerKey) throws IdentityOAuth2Exception {
 
+        Set<AccessTokenDO> accessTokenDOs = new HashSet<>();
+        processActiveAccessTokenDataByConsumerKey(consumerKey, BatchConsumer.DEFAULT_BATCH_SIZE,
+                accessTokenDOs::addAll);
+        return accessTokenDOs;
+    }
+
+    /**
+     * Feeds active AccessTokenDOs of the given consumer key to the consumer in batches.
+     *
+     * @param consumerKey Consumer key of the client.
+     * @param batchSize   Maximum number of tokens in a batch.
+     * @param consumer    Consumer of the batches.
+     * @throws IdentityOAuth2Exception If an error occurs while reading or consuming the tokens.
+     */
+    @Override
+    public void processActiveAccessTokenDataByConsumerKey(String consumerKey, int batchSize,
+                                                          BatchConsumer<AccessTokenDO> consumer)
+            throws IdentityOAuth2Exception {
+
         if (log.isDebugEnabled()) {
             log.debug("Retrieving active access tokens for client: " + consumerKey);
         }
 
-        Set<AccessTokenDO> accessTokenDOs = getActiveAcessTokenDataByConsumerKey(consumerKey,
-                IdentityUtil.getPrimaryDomainName());
+        processActiveAccessTokenDataByConsumerKey(consumerKey, IdentityUtil.getPrimaryDomainName(), batchSize,
+                consumer);
 
         if (OAuth2Util.checkAccessTokenPartitioningEnabled() && OAuth2Util.checkUserNameAssertionEnabled()) {
             Map<String, String> availableDomainMappings = OAuth2Util.getAvailableUserStoreDomainMappings();
             for (Map.Entry<String, String> availableDomainMapping : availableDomainMappings.entrySet()) {
-                accessTokenDOs.addAll(getActiveAcessTokenDataByConsumerKey(consumerKey,
-                        availableDomainMapping.getKey()));
+                processActiveAccessTokenDataByConsumerKey(consumerKey, availableDomainMapping.getKey(), batchSize,
+                        consumer);
             }
         }
-        return accessTokenDOs;
     }
 
     /**
-     * Retrieves active AccessTokenDOs of specified user store for the given consumer key.
+     * Feeds active AccessTokenDOs of specified user store for the given consumer key to the consumer in batches.
+     * The rows are ordered by the token ID, hence all the scope rows of a token are read together.
      *
-     * @param consumerKey
-     * @param userStoreDomain
-     * @return
-     * @throws IdentityOAuth2Exception
+     * @param consumerKey     Consumer key of the client.
+     * @param userStoreDomain User store domain of the token partition.
+     * @param batchSize       Maximum number of tokens in a batch.
+     * @param consumer        Consumer of the batches.
+     * @throws IdentityOAuth2Exception If an error occurs while reading or consuming the tokens.
      */
-    private Set<AccessTokenDO> getActiveAcessTokenDataByConsumerKey(String consumerKey, String userStoreDomain)
+    private void processActiveAccessTokenDataByConsumerKey(String consumerKey, String userStoreDomain, int batchSize,
+                                                           BatchConsumer<AccessTokenDO> consumer)
             throws IdentityOAuth2Exception {
 
         Connection connection = IdentityDatabaseUtil.getDBConnection(false);
         PreparedStatement ps = null;
         ResultSet rs = null;
-        Set<AccessTokenDO> activeDetailedTokens;
-        Map<String, AccessTokenDO> tokenMap = new HashMap<>();
 
         try {
             String sqlQuery;
@@ -2027,17 +2337,22 @@ public class AccessTokenDAOImpl extends AbstractOAuthDAO implements AccessTokenD
             int appTenantId = IdentityTenantUtil.getLoginTenantId();
             ps.setInt(2, appTenantId);
             ps.setString(3, OAuthConstants.TokenStates.TOKEN_STATE_ACTIVE);
+            JdbcUtils.setStreamingFetchSize(ps, batchSize);
             rs = ps.executeQuery();
+            List<AccessTokenDO> batch = new ArrayList<>();
+            AccessTokenDO tokenObj = null;
             while (rs.next()) {
                 String token = rs.getString(2);
-                if (tokenMap.containsKey(token)) {
-                    AccessTokenDO tokenObj = tokenMap.get(token);
+                if (tokenObj != null && token.equals(tokenObj.getAccessToken())) {
                     String[] previousScope = tokenObj.getScope();
                     String[] newSope = new String[tokenObj.getScope().length + 1];
                     System.arraycopy(previousScope, 0, newSope, 0, previousScope.length);
                     newSope[previousScope.length] = rs.getString(5);
                     tokenObj.setScope(newSope);
                 } else {
+                    if (tokenObj != null) {
+                        batch = addToBatch(batch, tokenObj, batchSize, consumer);
+                    }
                     String authzUser = rs.getString(1);
                     int tenentId = rs.getInt(3);
                     String userDomain = rs.getString(4);
@@ -2053,25 +2368,49 @@ public class AccessTokenDAOImpl extends AbstractOAuthDAO implements AccessTokenD
                             OAuth2Util.getTenantDomain(tenentId), authenticatedIDP, authorizedOrganizationId,
                             appTenantId);
                     user.setAuthenticatedSubjectIdentifier(rs.getString(7));
-                    AccessTokenDO aTokenDetail = new AccessTokenDO();
-                    aTokenDetail.setAccessToken(token);
-                    aTokenDetail.setConsumerKey(consumerKey);
-                    aTokenDetail.setScope(scope);
-                    aTokenDetail.setAuthzUser(user);
-                    aTokenDetail.setAuthorizedOrganizationId(authorizedOrganizationId);
-                    tokenMap.put(token, aTokenDetail);
+                    tokenObj = new AccessTokenDO();
+                    tokenObj.setAccessToken(token);
+                    tokenObj.setConsumerKey(consumerKey);
+                    tokenObj.setScope(scope);
+                    tokenObj.setAuthzUser(user);
+                    tokenObj.setAuthorizedOrganizationId(authorizedOrganizationId);
                 }
             }
-            activeDetailedTokens = new HashSet<>(tokenMap.values());
+            if (tokenObj != null) {
+                batch.add(tokenObj);
+            }
+            if (!batch.isEmpty()) {
+                consumer.accept(batch);
+            }
         } catch (SQLException e) {
             IdentityDatabaseUtil.rollbackTransaction(connection);
             throw new IdentityOAuth2Exception("Error occurred while getting access tokens from acces token table for " +
                     "the application with consumer key : " + consumerKey, e);
         } finally {
-            IdentityDatabaseUtil.closeAllConnections(connection, null, ps);
+            IdentityDatabaseUtil.closeAllConnections(connection, rs, ps);
         }
+    }
 
-        return activeDetailedTokens;
+    /**
+     * Add the token to the batch and hand the batch over to the consumer once it is full.
+     *
+     * @param batch     Current batch.
+     * @param record    Record to add.
+     * @param batchSize Maximum number of records in a batch.
+     * @param consumer  Consumer of the batches.
+     * @return Batch to add the next record.
+     * @throws IdentityOAuth2Exception If an error occurs while consuming the batch.
+     */
+    private static List<AccessTokenDO> addToBatch(List<AccessTokenDO> batch, AccessTokenDO record, int batchSize,
+                                                  BatchConsumer<AccessTokenDO> consumer)
+            throws IdentityOAuth2Exception {
+
+        batch.add(record);
+        if (batch.size() < batchSize) {
+            return batch;
+        }
+        consumer.accept(batch);
+        return new ArrayList<>();
     }
 
     /**
@@ -2178,19 +2517,35 @@ public class AccessTokenDAOImpl extends AbstractOAuthDAO implements AccessTokenD
     @Override
     public Set<AccessTokenDO> getAccessTokensByTenant(int tenantId) throws IdentityOAuth2Exception {
 
+        Set<AccessTokenDO> accessTokenDOs = new HashSet<>();
+        processAccessTokensByTenant(tenantId, BatchConsumer.DEFAULT_BATCH_SIZE, accessTokenDOs::addAll);
+        return accessTokenDOs;
+    }
+
+    /**
+     * Feeds AccessTokenDOs of the given tenant to the consumer in batches.
+     *
+     * @param tenantId  Tenant ID.
+     * @param batchSize Maximum number of tokens in a batch.
+     * @param consumer  Consumer of the batches.
+     * @throws IdentityOAuth2Exception If an error occurs while reading or consuming the tokens.
+     */
+    @Override
+    public void processAccessTokensByTenant(int tenantId, int batchSize, BatchConsumer<AccessTokenDO> consumer)
+            throws IdentityOAuth2Exception {
+
         if (log.isDebugEnabled()) {
             log.debug("Retrieving all access tokens of tenant id: " + tenantId);
         }
 
-        Set<AccessTokenDO> accessTokenDOs = getAccessTokensByTenant(tenantId, IdentityUtil.getPrimaryDomainName());
+        processAccessTokensByTenant(tenantId, IdentityUtil.getPrimaryDomainName(), batchSize, consumer);
 
         if (OAuth2Util.checkAccessTokenPartitioningEnabled() && OAuth2Util.checkUserNameAssertionEnabled()) {
             Map<String, String> availableDomainMappings = OAuth2Util.getAvailableUserStoreDomainMappings();
             for (Map.Entry<String, String> availableDomainMapping : availableDomainMappings.entrySet()) {
-                accessTokenDOs.addAll(getAccessTokensByTenant(tenantId, availableDomainMapping.getKey()));
+                processAccessTokensByTenant(tenantId, availableDomainMapping.getKey(), batchSize, consumer);
             }
         }
-        return accessTokenDOs;
     }
 
     public Set<AccessTokenDO> getAccessTokensByAuthorizedOrg(String organizationId) throws IdentityOAuth2Exception {
@@ -2212,14 +2567,17 @@ public class AccessTokenDAOImpl extends AbstractOAuthDAO implements AccessTokenD
     }
 
     /**
-     * Retrieves AccessTokenDOs of specified user store of the given tenant.
+     * Feeds AccessTokenDOs of specified user store of the given tenant to the consumer in batches. The rows are
+     * ordered by the token ID, hence all the scope rows of a token are read together.
      *
-     * @param tenantId
-     * @param userStoreDomain
-     * @return
-     * @throws IdentityOAuth2Exception
+     * @param tenantId        Tenant ID.
+     * @param userStoreDomain User store domain of the token partition.
+     * @param batchSize       Maximum number of tokens in a batch.
+     * @param consumer        Consumer of the batches.
+     * @throws IdentityOAuth2Exception If an error occurs while reading or consuming the tokens.
      */
-    private Set<AccessTokenDO> getAccessTokensByTenant(int tenantId, String userStoreDomain)
+    private void processAccessTokensByTenant(int tenantId, String userStoreDomain, int batchSize,
+                                             BatchConsumer<AccessTokenDO> consumer)
             throws IdentityOAuth2Exception {
 
         String organizationId = resolveOrganizationId(IdentityTenantUtil.getTenantDomain(tenantId));
@@ -2227,7 +2585,6 @@ public class AccessTokenDAOImpl extends AbstractOAuthDAO implements AccessTokenD
         Connection connection = IdentityDatabaseUtil.getDBConnection(false);
         PreparedStatement prepStmt = null;
         ResultSet resultSet = null;
-        Map<String, AccessTokenDO> accessTokenDOMap = new HashMap<>();
         try {
             String sql;
             if (OAuth2ServiceComponentHolder.isIDPIdColumnEnabled()) {
@@ -2239,12 +2596,19 @@ public class AccessTokenDAOImpl extends AbstractOAuthDAO implements AccessTokenD
 
             prepStmt = connection.prepareStatement(sql);
             prepStmt.setInt(1, tenantId);
+            JdbcUtils.setStreamingFetchSize(prepStmt, batchSize);
             resultSet = prepStmt.executeQuery();
 
+            List<AccessTokenDO> batch = new ArrayList<>();
+            AccessTokenDO dataDO = null;
             while (resultSet.next()) {
-                String accessToken = getPersistenceProcessor().
-                        getPreprocessedAccessTokenIdentifier(resultSet.getString(1));
-                if (accessTokenDOMap.get(accessToken) == null) {
+                String tokenId = resultSet.getString(9);
+                if (dataDO == null || !tokenId.equals(dataDO.getTokenId())) {
+                    if (dataDO != null) {
+                        batch = addToBatch(batch, dataDO, batchSize, consumer);
+                    }
+                    String accessToken = getPersistenceProcessor().
+                            getPreprocessedAccessTokenIdentifier(resultSet.getString(1));
                     String refreshToken = getPersistenceProcessor().getPreprocessedRefreshToken(resultSet.getString(2));
                     Timestamp issuedTime = resultSet.getTimestamp(3, Calendar.getInstance(TimeZone.getTimeZone(UTC)));
                     Timestamp refreshTokenIssuedTime = resultSet.getTimestamp(4, Calendar.getInstance(TimeZone
@@ -2253,7 +2617,6 @@ public class AccessTokenDAOImpl extends AbstractOAuthDAO implements AccessTokenD
                     long refreshTokenValidityPeriodMillis = resultSet.getLong(6);
                     String tokenType = resultSet.getString(7);
                     String[] scope = OAuth2Util.buildScopeArray(resultSet.getString(8));
-                    String tokenId = resultSet.getString(9);
                     String authzUser = resultSet.getString(10);
                     userStoreDomain = resultSet.getString(11);
                     String consumerKey = resultSet.getString(12);
@@ -2266,20 +2629,24 @@ public class AccessTokenDAOImpl extends AbstractOAuthDAO implements AccessTokenD
                     AuthenticatedUser user = OAuth2Util.createAuthenticatedUser(authzUser, userStoreDomain,
                             OAuth2Util.getTenantDomain(tenantId), authenticatedIDP, authorizedOrganization,
                             rootTenantDomain);
-                    AccessTokenDO dataDO = new AccessTokenDO(consumerKey, user, scope, issuedTime,
+                    dataDO = new AccessTokenDO(consumerKey, user, scope, issuedTime,
                             refreshTokenIssuedTime, validityPeriodInMillis,
                             refreshTokenValidityPeriodMillis, tokenType);
                     dataDO.setAccessToken(accessToken);
                     dataDO.setRefreshToken(refreshToken);
                     dataDO.setTokenId(tokenId);
                     dataDO.setTenantID(tenantId);
-                    accessTokenDOMap.put(accessToken, dataDO);
                 } else {
                     String scope = resultSet.getString(8).trim();
-                    AccessTokenDO accessTokenDO = accessTokenDOMap.get(accessToken);
-                    accessTokenDO.setScope((String[]) ArrayUtils.add(accessTokenDO.getScope(), scope));
+                    dataDO.setScope((String[]) ArrayUtils.add(dataDO.getScope(), scope));
                 }
             }
+            if (dataDO != null) {
+                batch.add(dataDO);
+            }
+            if (!batch.isEmpty()) {
+                consumer.accept(batch);
+            }
         } catch (SQLException e) {
             String errorMsg = "Error occurred while retrieving 'ACTIVE or EXPIRED' access tokens for " +
                     "user  tenant id : " + tenantId;
@@ -2287,8 +2654,6 @@ public class AccessTokenDAOImpl extends AbstractOAuthDAO implements AccessTokenD
         } finally {
             IdentityDatabaseUtil.closeAllConnections(connection, resultSet, prepStmt);
         }
-
-        return new HashSet<>(accessTokenDOMap.values());
     }
 
     private Set<AccessTokenDO> getAccessTokensByAuthorizedOrg(String organizationId, String userStoreDomain)
@@ -2362,6 +2727,17 @@ public class AccessTokenDAOImpl extends AbstractOAuthDAO implements AccessTokenD
     public Set<AccessTokenDO> getAccessTokensOfUserStore(int tenantId, String userStoreDomain) throws
             IdentityOAuth2Exception {
 
+        Set<AccessTokenDO> accessTokenDOs = new HashSet<>();
+        processAccessTokensOfUserStore(tenantId, userStoreDomain, BatchConsumer.DEFAULT_BATCH_SIZE,
+                accessTokenDOs::addAll);
+        return accessTokenDOs;
+    }
+
+    @Override
+    public void processAccessTokensOfUserStore(int tenantId, String userStoreDomain, int batchSize,
+                                               BatchConsumer<AccessTokenDO> consumer)
+            throws IdentityOAuth2Exception {
+
         if (log.isDebugEnabled()) {
             log.debug("Retrieving all ACTIVE and EXPIRED access tokens of userstore: " + userStoreDomain + " tenant " +
                     "id: " + tenantId);
@@ -2372,7 +2748,6 @@ public class AccessTokenDAOImpl extends AbstractOAuthDAO implements AccessTokenD
         userStoreDomain = OAuth2Util.getSanitizedUserStoreDomain(userStoreDomain);
         PreparedStatement prepStmt = null;
         ResultSet resultSet = null;
-        Map<String, AccessTokenDO> accessTokenDOMap = new HashMap<>();
         try {
             String sql;
             if (OAuth2ServiceComponentHolder.isIDPIdColumnEnabled()) {
@@ -2385,12 +2760,19 @@ public class AccessTokenDAOImpl extends AbstractOAuthDAO implements AccessTokenD
             prepStmt = connection.prepareStatement(sql);
             prepStmt.setInt(1, tenantId);
             prepStmt.setString(2, userStoreDomain);
+            JdbcUtils.setStreamingFetchSize(prepStmt, batchSize);
             resultSet = prepStmt.executeQuery();
 
+            List<AccessTokenDO> batch = new ArrayList<>();
+            AccessTokenDO dataDO = null;
             while (resultSet.next()) {
-                String accessToken =
-                        getPersistenceProcessor().getPreprocessedAccessTokenIdentifier(resultSet.getString(1));
-                if (accessTokenDOMap.get(accessToken) == null) {
+                String tokenId = resultSet.getString(9);
+                if (dataDO == null || !tokenId.equals(dataDO.getTokenId())) {
+                    if (dataDO != null) {
+                        batch = addToBatch(batch, dataDO, batchSize, consumer);
+                    }
+                    String accessToken =
+                            getPersistenceProcessor().getPreprocessedAccessTokenIdentifier(resultSet.getString(1));
                     String refreshToken = getPersistenceProcessor().getPreprocessedRefreshToken(resultSet.getString(2));
                     Timestamp issuedTime = resultSet.getTimestamp(3, Calendar.getInstance(TimeZone.getTimeZone(UTC)));
                     Timestamp refreshTokenIssuedTime = resultSet.getTimestamp(4, Calendar.getInstance(TimeZone
@@ -2399,7 +2781,6 @@ public class AccessTokenDAOImpl extends AbstractOAuthDAO implements AccessTokenD
                     long refreshTokenValidityPeriodMillis = resultSet.getLong(6);
                     String tokenType = resultSet.getString(7);
                     String[] scope = OAuth2Util.buildScopeArray(resultSet.getString(8));
-                    String tokenId = resultSet.getString(9);
                     String authzUser = resultSet.getString(10);
                     String consumerKey = resultSet.getString(11);
                     String authenticatedIDP = null;
@@ -2409,20 +2790,24 @@ public class AccessTokenDAOImpl extends AbstractOAuthDAO implements AccessTokenD
 
                     AuthenticatedUser user = OAuth2Util.createAuthenticatedUser(authzUser, userStoreDomain,
                             OAuth2Util.getTenantDomain(tenantId), authenticatedIDP);
-                    AccessTokenDO dataDO = new AccessTokenDO(consumerKey, user, scope, issuedTime,
+                    dataDO = new AccessTokenDO(consumerKey, user, scope, issuedTime,
                             refreshTokenIssuedTime, validityPeriodInMillis,
                             refreshTokenValidityPeriodMillis, tokenType);
                     dataDO.setAccessToken(accessToken);
                     dataDO.setRefreshToken(refreshToken);
                     dataDO.setTokenId(tokenId);
                     dataDO.setTenantID(tenantId);
-                    accessTokenDOMap.put(accessToken, dataDO);
                 } else {
                     String scope = resultSet.getString(8).trim();
-                    AccessTokenDO accessTokenDO = accessTokenDOMap.get(accessToken);
-                    accessTokenDO.setScope((String[]) ArrayUtils.add(accessTokenDO.getScope(), scope));
+                    dataDO.setScope((String[]) ArrayUtils.add(dataDO.getScope(), scope));
                 }
             }
+            if (dataDO != null) {
+                batch.add(dataDO);
+            }
+            if (!batch.isEmpty()) {
+                consumer.accept(batch);
+            }
         } catch (SQLException e) {
             String errorMsg = "Error occurred while retrieving 'ACTIVE or EXPIRED' access tokens for " +
                     "user in store domain : " + userStoreDomain + " and tenant id : " + tenantId;
@@ -2430,8 +2815,6 @@ public class AccessTokenDAOImpl extends AbstractOAuthDAO implements AccessTokenD
         } finally {
             IdentityDatabaseUtil.closeAllConnections(connection, resultSet, prepStmt);
         }
-
-        return new HashSet<>(accessTokenDOMap.values());
     }
 
     @Override
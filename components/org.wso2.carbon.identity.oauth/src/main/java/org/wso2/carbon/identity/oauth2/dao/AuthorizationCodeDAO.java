@@ -21,6 +21,7 @@
 package org.wso2.carbon.identity.oauth2.dao;
 
 import org.wso2.carbon.identity.application.authentication.framework.model.AuthenticatedUser;
+import org.wso2.carbon.identity.oauth.common.OAuthConstants;
 import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
 import org.wso2.carbon.identity.oauth2.model.AuthzCodeDO;
 
@@ -70,6 +71,21 @@ public interface AuthorizationCodeDAO {
 
     void updateAuthorizationCodeState(String authzCode, String newState) throws IdentityOAuth2Exception;
 
+    /**
+     * Revoke an authorization code, if it is still active, with a single conditional update. Only one of the
+     * concurrent token requests of the same authorization code can redeem it.
+     *
+     * @param authzCode Authorization code.
+     * @param codeId    Authorization code ID.
+     * @return True if the authorization code was active and is revoked by this call.
+     * @throws IdentityOAuth2Exception If the state of the authorization code could not be updated.
+     */
+    default boolean redeemAuthorizationCode(String authzCode, String codeId) throws IdentityOAuth2Exception {
+
+        updateAuthorizationCodeState(authzCode, codeId, OAuthConstants.AuthorizationCodeState.REVOKED);
+        return true;
+    }
+
     void deactivateAuthorizationCode(AuthzCodeDO authzCodeDO) throws
             IdentityOAuth2Exception;
 
@@ -93,9 +109,43 @@ public interface AuthorizationCodeDAO {
 
     List<AuthzCodeDO> getLatestAuthorizationCodesByTenant(int tenantId) throws IdentityOAuth2Exception;
 
+    /**
+     * Feed the latest authorization codes of the tenant to the consumer in batches, instead of loading all of them at
+     * once.
+     *
+     * @param tenantId  Tenant ID.
+     * @param batchSize Maximum number of authorization codes in a batch.
+     * @param consumer  Consumer of the batches.
+     * @throws IdentityOAuth2Exception If an error occurs while reading or consuming the authorization codes.
+     */
+    default void processLatestAuthorizationCodesByTenant(int tenantId, int batchSize,
+                                                         BatchConsumer<AuthzCodeDO> consumer)
+            throws IdentityOAuth2Exception {
+
+        BatchConsumer.acceptInBatches(getLatestAuthorizationCodesByTenant(tenantId), batchSize, consumer);
+    }
+
     List<AuthzCodeDO> getLatestAuthorizationCodesByUserStore(int tenantId, String userStorDomain) throws
             IdentityOAuth2Exception;
 
+    /**
+     * Feed the latest authorization codes of the user store to the consumer in batches, instead of loading all of
+     * them at once.
+     *
+     * @param tenantId        Tenant ID.
+     * @param userStoreDomain User store domain.
+     * @param batchSize       Maximum number of authorization codes in a batch.
+     * @param consumer        Consumer of the batches.
+     * @throws IdentityOAuth2Exception If an error occurs while reading or consuming the authorization codes.
+     */
+    default void processLatestAuthorizationCodesByUserStore(int tenantId, String userStoreDomain, int batchSize,
+                                                            BatchConsumer<AuthzCodeDO> consumer)
+            throws IdentityOAuth2Exception {
+
+        BatchConsumer.acceptInBatches(getLatestAuthorizationCodesByUserStore(tenantId, userStoreDomain), batchSize,
+                consumer);
+    }
+
     void updateUserStoreDomain(int tenantId, String currentUserStoreDomain, String
             newUserStoreDomain) throws IdentityOAuth2Exception;
 
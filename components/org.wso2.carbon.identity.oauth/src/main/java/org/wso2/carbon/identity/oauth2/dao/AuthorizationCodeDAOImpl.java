@@ -350,6 +350,44 @@ public class AuthorizationCodeDAOImpl extends AbstractOAuthDAO implements Author
         updateAuthorizationCodeState(authzCode, null, newState);
     }
 
+    @Override
+    public boolean redeemAuthorizationCode(String authzCode, String codeId) throws IdentityOAuth2Exception {
+
+        if (!OAuth2Util.isAuthCodePersistenceEnabled()) {
+            // There is no persisted state to compare against, hence the code is only revoked.
+            updateAuthorizationCodeState(authzCode, codeId, OAuthConstants.AuthorizationCodeState.REVOKED);
+            return true;
+        }
+        if (log.isDebugEnabled()) {
+            if (IdentityUtil.isTokenLoggable(IdentityConstants.IdentityTokens.AUTHORIZATION_CODE)) {
+                log.debug("Redeeming authorization code(hashed): " + DigestUtils.sha256Hex(authzCode));
+            } else {
+                log.debug("Redeeming authorization code.");
+            }
+        }
+        boolean redeemed;
+        Connection connection = IdentityDatabaseUtil.getDBConnection();
+        PreparedStatement prepStmt = null;
+        try {
+            prepStmt = connection.prepareStatement(SQLQueries.REDEEM_AUTHORIZATION_CODE);
+            prepStmt.setString(1, getHashingPersistenceProcessor().getProcessedAuthzCode(authzCode));
+            redeemed = prepStmt.executeUpdate() > 0;
+            IdentityDatabaseUtil.commitTransaction(connection);
+        } catch (SQLException e) {
+            IdentityDatabaseUtil.rollbackTransaction(connection);
+            throw new IdentityOAuth2Exception("Error occurred while redeeming the Authorization Code : " +
+                    authzCode, e);
+        } finally {
+            IdentityDatabaseUtil.closeAllConnections(connection, null, prepStmt);
+        }
+        if (redeemed) {
+            OAuth2TokenUtil.postRevokeCode(codeId, OAuthConstants.AuthorizationCodeState.REVOKED, null, authzCode);
+        } else if (log.isDebugEnabled()) {
+            log.debug("Authorization code with id: " + codeId + " is not active anymore. Hence not redeemed.");
+        }
+        return redeemed;
+    }
+
     @Override
     public void deactivateAuthorizationCode(AuthzCodeDO authzCodeDO) throws
             IdentityOAuth2Exception {
@@ -656,6 +694,16 @@ public class AuthorizationCodeDAOImpl extends AbstractOAuthDAO implements Author
     @Override
     public List<AuthzCodeDO> getLatestAuthorizationCodesByTenant(int tenantId) throws IdentityOAuth2Exception {
 
+        List<AuthzCodeDO> latestAuthzCodes = new ArrayList<>();
+        processLatestAuthorizationCodesByTenant(tenantId, BatchConsumer.DEFAULT_BATCH_SIZE, latestAuthzCodes::addAll);
+        return latestAuthzCodes;
+    }
+
+    @Override
+    public void processLatestAuthorizationCodesByTenant(int tenantId, int batchSize,
+                                                        BatchConsumer<AuthzCodeDO> consumer)
+            throws IdentityOAuth2Exception {
+
         if (log.isDebugEnabled()) {
             log.debug("Retrieving latest authorization codes of tenant id: " + tenantId);
         }
@@ -664,7 +712,6 @@ public class AuthorizationCodeDAOImpl extends AbstractOAuthDAO implements Author
         PreparedStatement ps = null;
         ResultSet rs = null;
 
-        List<AuthzCodeDO> latestAuthzCodes = new ArrayList<>();
         try {
             String sqlQuery;
             if (OAuth2ServiceComponentHolder.isIDPIdColumnEnabled()) {
@@ -674,7 +721,11 @@ public class AuthorizationCodeDAOImpl extends AbstractOAuthDAO implements Author
             }
             ps = connection.prepareStatement(sqlQuery);
             ps.setInt(1, tenantId);
+            // The scopes of a code may be read on the same connection while iterating, hence the result set is not
+            // streamed on MySQL as done for access tokens. Only the latest code of each user, client and scope is read.
+            ps.setFetchSize(batchSize);
             rs = ps.executeQuery();
+            List<AuthzCodeDO> batch = new ArrayList<>();
             while (rs.next()) {
                 String authzCodeId = rs.getString(1);
                 String authzCode = rs.getString(2);
@@ -701,8 +752,15 @@ public class AuthorizationCodeDAOImpl extends AbstractOAuthDAO implements Author
                     scope = authorizationCodeScopes.toArray(new String[0]);
                 }
 
-                latestAuthzCodes.add(new AuthzCodeDO(user, scope, issuedTime, validityPeriodInMillis, callbackUrl,
+                batch.add(new AuthzCodeDO(user, scope, issuedTime, validityPeriodInMillis, callbackUrl,
                         consumerKey, authzCode, authzCodeId));
+                if (batch.size() >= batchSize) {
+                    consumer.accept(batch);
+                    batch = new ArrayList<>();
+                }
+            }
+            if (!batch.isEmpty()) {
+                consumer.accept(batch);
             }
         } catch (SQLException e) {
             IdentityDatabaseUtil.rollbackTransaction(connection);
@@ -711,13 +769,23 @@ public class AuthorizationCodeDAOImpl extends AbstractOAuthDAO implements Author
         } finally {
             IdentityDatabaseUtil.closeAllConnections(connection, rs, ps);
         }
-        return latestAuthzCodes;
     }
 
     @Override
     public List<AuthzCodeDO> getLatestAuthorizationCodesByUserStore(int tenantId, String userStorDomain) throws
             IdentityOAuth2Exception {
 
+        List<AuthzCodeDO> latestAuthzCodes = new ArrayList<>();
+        processLatestAuthorizationCodesByUserStore(tenantId, userStorDomain, BatchConsumer.DEFAULT_BATCH_SIZE,
+                latestAuthzCodes::addAll);
+        return latestAuthzCodes;
+    }
+
+    @Override
+    public void processLatestAuthorizationCodesByUserStore(int tenantId, String userStorDomain, int batchSize,
+                                                           BatchConsumer<AuthzCodeDO> consumer)
+            throws IdentityOAuth2Exception {
+
         if (log.isDebugEnabled()) {
             log.debug("Retrieving latest authorization codes of userstore: " + userStorDomain + " tenant id: " +
                     tenantId);
@@ -729,7 +797,6 @@ public class AuthorizationCodeDAOImpl extends AbstractOAuthDAO implements Author
 
         String userStoreDomain = OAuth2Util.getSanitizedUserStoreDomain(userStorDomain);
 
-        List<AuthzCodeDO> latestAuthzCodes = new ArrayList<>();
         try {
             String sqlQuery;
             if (OAuth2ServiceComponentHolder.isIDPIdColumnEnabled()) {
@@ -740,7 +807,11 @@ public class AuthorizationCodeDAOImpl extends AbstractOAuthDAO implements Author
             ps = connection.prepareStatement(sqlQuery);
             ps.setInt(1, tenantId);
             ps.setString(2, userStoreDomain);
+            // The scopes of a code may be read on the same connection while iterating, hence the result set is not
+            // streamed on MySQL as done for access tokens. Only the latest code of each user, client and scope is read.
+            ps.setFetchSize(batchSize);
             rs = ps.executeQuery();
+            List<AuthzCodeDO> batch = new ArrayList<>();
             while (rs.next()) {
                 String authzCodeId = rs.getString(1);
                 String authzCode = rs.getString(2);
@@ -765,8 +836,15 @@ public class AuthorizationCodeDAOImpl extends AbstractOAuthDAO implements Author
                     scope = scopes.toArray(new String[0]);
                 }
 
-                latestAuthzCodes.add(new AuthzCodeDO(user, scope, issuedTime, validityPeriodInMillis, callbackUrl,
+                batch.add(new AuthzCodeDO(user, scope, issuedTime, validityPeriodInMillis, callbackUrl,
                         consumerKey, authzCode, authzCodeId));
+                if (batch.size() >= batchSize) {
+                    consumer.accept(batch);
+                    batch = new ArrayList<>();
+                }
+            }
+            if (!batch.isEmpty()) {
+                consumer.accept(batch);
             }
         } catch (SQLException e) {
             IdentityDatabaseUtil.rollbackTransaction(connection);
@@ -775,7 +853,6 @@ public class AuthorizationCodeDAOImpl extends AbstractOAuthDAO implements Author
         } finally {
             IdentityDatabaseUtil.closeAllConnections(connection, rs, ps);
         }
-        return latestAuthzCodes;
     }
 
     @Override
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.dao;
+
+import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Consumes the records read by a DAO one batch at a time, so that the callers do not need to hold all the records
+ * of a large result in memory.
+ *
+ * @param <T> Type of the records.
+ */
+@FunctionalInterface
+public interface BatchConsumer<T> {
+
+    int DEFAULT_BATCH_SIZE = 1000;
+
+    /**
+     * Consume a batch of records.
+     *
+     * @param batch Records of the batch.
+     * @throws IdentityOAuth2Exception If an error occurs while consuming the batch.
+     */
+    void accept(List<T> batch) throws IdentityOAuth2Exception;
+
+    /**
+     * Feed already loaded records to the consumer in batches.
+     *
+     * @param records   Records to consume.
+     * @param batchSize Maximum number of records in a batch.
+     * @param consumer  Consumer of the batches.
+     * @param <T>       Type of the records.
+     * @throws IdentityOAuth2Exception If an error occurs while consuming a batch.
+     */
+    static <T> void acceptInBatches(Collection<T> records, int batchSize, BatchConsumer<T> consumer)
+            throws IdentityOAuth2Exception {
+
+        if (records == null || records.isEmpty()) {
+            return;
+        }
+        List<T> batch = new ArrayList<>(Math.min(batchSize, records.size()));
+        for (T record : records) {
+            batch.add(record);
+            if (batch.size() >= batchSize) {
+                consumer.accept(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            consumer.accept(batch);
+        }
+    }
+}
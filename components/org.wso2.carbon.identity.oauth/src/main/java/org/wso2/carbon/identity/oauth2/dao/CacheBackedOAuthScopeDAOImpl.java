@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.dao;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+import org.wso2.carbon.identity.oauth2.IdentityOAuth2ScopeException;
+import org.wso2.carbon.identity.oauth2.IdentityOAuth2ScopeServerException;
+import org.wso2.carbon.identity.oauth2.bean.Scope;
+import org.wso2.carbon.identity.oauth2.internal.cache.OAuthScopeRegistry;
+import org.wso2.carbon.identity.oauth2.internal.cache.OAuthScopeRegistryCache;
+
+import java.sql.Connection;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Cache backed OAuth scope management data access object implementation.
+ * <p>
+ * When the scope registry is enabled, all the scopes of a tenant are loaded with a single query into an
+ * {@link OAuthScopeRegistry}, and scope lookups by name are served from the registry. Hence validating the scopes of a
+ * request does not need a query per scope. Any change to the scopes of a tenant drops the registry of the tenant.
+ * Scope names are matched case insensitively only on databases which compare them so, as described in
+ * {@link OAuthScopeRegistry}.
+ */
+public class CacheBackedOAuthScopeDAOImpl implements OAuthScopeDAO {
+
+    private static final Log log = LogFactory.getLog(CacheBackedOAuthScopeDAOImpl.class);
+
+    private static final String SCOPE_REGISTRY_ENABLE = "OAuth.ScopeRegistry.Enable";
+
+    private final OAuthScopeRegistryCache cache;
+    private final OAuthScopeDAOImpl dao;
+
+    public CacheBackedOAuthScopeDAOImpl() {
+
+        this(OAuthScopeRegistryCache.getInstance(), new OAuthScopeDAOImpl());
+    }
+
+    CacheBackedOAuthScopeDAOImpl(OAuthScopeRegistryCache cache, OAuthScopeDAOImpl dao) {
+
+        this.cache = cache;
+        this.dao = dao;
+    }
+
+    /**
+     * Check whether the scope lookups are served from the scope registry.
+     *
+     * @return True if the scope registry is enabled.
+     */
+    public static boolean isScopeRegistryEnabled() {
+
+        return Boolean.parseBoolean(IdentityUtil.getProperty(SCOPE_REGISTRY_ENABLE));
+    }
+
+    @Override
+    public void addScope(Scope scope, int tenantID) throws IdentityOAuth2ScopeException {
+
+        try {
+            dao.addScope(scope, tenantID);
+        } finally {
+            cache.clearScopeRegistry(tenantID);
+        }
+    }
+
+    @Override
+    public Set<Scope> getAllScopes(int tenantID) throws IdentityOAuth2ScopeServerException {
+
+        if (!isScopeRegistryEnabled()) {
+            return dao.getAllScopes(tenantID);
+        }
+        return getScopeRegistry(tenantID).getScopes(false);
+    }
+
+    @Override
+    public Set<Scope> getAllScopes(int tenantID, Boolean includeOIDCScopes) throws IdentityOAuth2ScopeServerException {
+
+        if (!isScopeRegistryEnabled()) {
+            return dao.getAllScopes(tenantID, includeOIDCScopes);
+        }
+        return getScopeRegistry(tenantID).getScopes(includeOIDCScopes);
+    }
+
+    @Override
+    public Set<Scope> getRequestedScopesOnly(int tenantID, Boolean includeOIDCScopes, String requestedScopes)
+            throws IdentityOAuth2ScopeServerException {
+
+        if (!isScopeRegistryEnabled()) {
+            return dao.getRequestedScopesOnly(tenantID, includeOIDCScopes, requestedScopes);
+        }
+        if (StringUtils.isBlank(requestedScopes)) {
+            return new HashSet<>();
+        }
+        return getScopeRegistry(tenantID).getScopes(Arrays.asList(requestedScopes.split("\\s+")),
+                includeOIDCScopes);
+    }
+
+    @Override
+    public Set<Scope> getScopes(int tenantID, String bindingType) throws IdentityOAuth2ScopeServerException {
+
+        if (!isScopeRegistryEnabled()) {
+            return dao.getScopes(tenantID, bindingType);
+        }
+        return getScopeRegistry(tenantID).getScopesByBindingType(bindingType);
+    }
+
+    @Override
+    public Set<Scope> getScopesWithPagination(Integer offset, Integer limit, int tenantID)
+            throws IdentityOAuth2ScopeServerException {
+
+        return dao.getScopesWithPagination(offset, limit, tenantID);
+    }
+
+    @Override
+    public Set<Scope> getScopesWithPagination(Integer offset, Integer limit, int tenantID, Boolean includeOIDCScopes)
+            throws IdentityOAuth2ScopeServerException {
+
+        return dao.getScopesWithPagination(offset, limit, tenantID, includeOIDCScopes);
+    }
+
+    @Override
+    public Scope getScopeByName(String name, int tenantID) throws IdentityOAuth2ScopeServerException {
+
+        if (!isScopeRegistryEnabled()) {
+            return dao.getScopeByName(name, tenantID);
+        }
+        return getScopeRegistry(tenantID).getScope(name);
+    }
+
+    @Override
+    public boolean isScopeExists(String scopeName, int tenantID) throws IdentityOAuth2ScopeServerException {
+
+        if (!isScopeRegistryEnabled()) {
+            return dao.isScopeExists(scopeName, tenantID);
+        }
+        return getScopeRegistry(tenantID).isScopeExists(scopeName, false);
+    }
+
+    @Override
+    public boolean isScopeExists(String scopeName, int tenantID, Boolean includeOIDCScopes)
+            throws IdentityOAuth2ScopeServerException {
+
+        if (!isScopeRegistryEnabled()) {
+            return dao.isScopeExists(scopeName, tenantID, includeOIDCScopes);
+        }
+        return getScopeRegistry(tenantID).isScopeExists(scopeName, includeOIDCScopes);
+    }
+
+    @Override
+    public int getScopeIDByName(String scopeName, int tenantID) throws IdentityOAuth2ScopeServerException {
+
+        return dao.getScopeIDByName(scopeName, tenantID);
+    }
+
+    @Override
+    public void deleteScopeByName(String name, int tenantID) throws IdentityOAuth2ScopeServerException {
+
+        try {
+            dao.deleteScopeByName(name, tenantID);
+        } finally {
+            cache.clearScopeRegistry(tenantID);
+        }
+    }
+
+    @Override
+    public void updateScopeByName(Scope updatedScope, int tenantID) throws IdentityOAuth2ScopeServerException {
+
+        try {
+            dao.updateScopeByName(updatedScope, tenantID);
+        } finally {
+            cache.clearScopeRegistry(tenantID);
+        }
+    }
+
+    @Override
+    public boolean validateScope(Connection connection, String accessToken, String resourceUri) {
+
+        return dao.validateScope(connection, accessToken, resourceUri);
+    }
+
+    @Override
+    public Set<String> getBindingsOfScopeByScopeName(String scopeName, int tenantId) throws IdentityOAuth2Exception {
+
+        if (!isScopeRegistryEnabled()) {
+            return dao.getBindingsOfScopeByScopeName(scopeName, tenantId);
+        }
+        return getScopeRegistry(tenantId).getBindings(scopeName);
+    }
+
+    private OAuthScopeRegistry getScopeRegistry(int tenantId) throws IdentityOAuth2ScopeServerException {
+
+        OAuthScopeRegistry scopeRegistry = cache.getValueFromCache(tenantId, tenantId);
+        if (scopeRegistry == null) {
+            scopeRegistry = dao.getScopeRegistry(tenantId);
+            cache.addToCache(tenantId, scopeRegistry, tenantId);
+            if (log.isDebugEnabled()) {
+                log.debug("Loaded " + scopeRegistry.size() + " scopes of tenant: " + tenantId +
+                        " into the scope registry.");
+            }
+        }
+        return scopeRegistry;
+    }
+}
@@ -27,38 +27,48 @@ import java.util.List;
 
 /**
  * Cache backed OAuth user consented scopes management data access object implementation.
+ * <p>
+ * The consents of a user for all the applications are loaded with a single query and cached against the user. Hence
+ * an application without a consent is also served from the cache. Changes to the consents of a user clear the cached
+ * consents of the user after they are persisted, instead of modifying the cached entry, so that concurrent changes
+ * of the same user can not overwrite each other in the cache. The next read loads the consents again.
  */
 public class CacheBackedOAuthUserConsentedScopesDAOImpl implements OAuthUserConsentedScopesDAO {
 
-    private final OAuthUserConsentedScopeCache cache = OAuthUserConsentedScopeCache.getInstance();
-    private final OAuthUserConsentedScopesDAO dao = new OAuthUserConsentedScopesDAOImpl();
+    private final OAuthUserConsentedScopeCache cache;
+    private final OAuthUserConsentedScopesDAO dao;
+
+    public CacheBackedOAuthUserConsentedScopesDAOImpl() {
+
+        this(OAuthUserConsentedScopeCache.getInstance(), new OAuthUserConsentedScopesDAOImpl());
+    }
+
+    CacheBackedOAuthUserConsentedScopesDAOImpl(OAuthUserConsentedScopeCache cache, OAuthUserConsentedScopesDAO dao) {
+
+        this.cache = cache;
+        this.dao = dao;
+    }
 
     @Override
     public UserApplicationScopeConsentDO getUserConsentForApplication(String userId, String appId, int tenantId)
             throws IdentityOAuth2ScopeConsentException {
 
-        OAuthUserConsentedScopeCacheEntry entry = cache.getValueFromCache(userId, tenantId);
-        if (entry != null && entry.getAppID().equals(appId)) {
-            return entry.getUserApplicationScopeConsentDO();
-        }
-        UserApplicationScopeConsentDO userConsent = dao.getUserConsentForApplication(userId, appId, tenantId);
-        cache.addToCache(userId, new OAuthUserConsentedScopeCacheEntry(appId, userConsent), tenantId);
-        return userConsent;
+        return getUserConsentsEntry(userId, tenantId).getUserConsent(appId);
     }
 
     @Override
     public List<UserApplicationScopeConsentDO> getUserConsents(String userId, int tenantId)
             throws IdentityOAuth2ScopeConsentException {
 
-        return dao.getUserConsents(userId, tenantId);
+        return getUserConsentsEntry(userId, tenantId).getUserConsents();
     }
 
     @Override
     public void addUserConsentForApplication(String userId, int tenantId, UserApplicationScopeConsentDO userConsent)
             throws IdentityOAuth2ScopeConsentException {
 
-        cache.clearCacheEntry(userId, tenantId);
         dao.addUserConsentForApplication(userId, tenantId, userConsent);
+        cache.clearCacheEntry(userId, tenantId);
     }
 
     @Override
@@ -67,28 +77,41 @@ public class CacheBackedOAuthUserConsentedScopesDAOImpl implements OAuthUserCons
                                                     UserApplicationScopeConsentDO consentsToBeUpdated)
             throws IdentityOAuth2ScopeConsentException {
 
-        cache.clearCacheEntry(userId, tenantId);
         dao.updateExistingConsentForApplication(userId, appId, tenantId, consentsToBeAdded, consentsToBeUpdated);
+        cache.clearCacheEntry(userId, tenantId);
     }
 
     @Override
     public void deleteUserConsentOfApplication(String userId, String appId, int tenantId)
             throws IdentityOAuth2ScopeConsentException {
 
-        cache.clearCacheEntry(userId, tenantId);
         dao.deleteUserConsentOfApplication(userId, appId, tenantId);
+        cache.clearCacheEntry(userId, tenantId);
     }
 
     @Override
    public void revokeConsentOfApplication(String appId, int tenantId) throws IdentityOAuth2ScopeConsentException {
 
         dao.revokeConsentOfApplication(appId, tenantId);
+        // The consents of all the users of the tenant are cached together, hence the tenant cache is cleared.
+        cache.clear(tenantId);
     }
 
     @Override
     public void deleteUserConsents(String userId, int tenantId) throws IdentityOAuth2ScopeConsentException {
 
-        cache.clearCacheEntry(userId, tenantId);
         dao.deleteUserConsents(userId, tenantId);
+        cache.clearCacheEntry(userId, tenantId);
+    }
+
+    private OAuthUserConsentedScopeCacheEntry getUserConsentsEntry(String userId, int tenantId)
+            throws IdentityOAuth2ScopeConsentException {
+
+        OAuthUserConsentedScopeCacheEntry entry = cache.getValueFromCache(userId, tenantId);
+        if (entry == null) {
+            entry = new OAuthUserConsentedScopeCacheEntry(dao.getUserConsents(userId, tenantId));
+            cache.addToCache(userId, entry, tenantId);
+        }
+        return entry;
     }
 }
@@ -31,6 +31,8 @@ import org.wso2.carbon.identity.oauth2.IdentityOAuth2ScopeServerException;
 import org.wso2.carbon.identity.oauth2.Oauth2ScopeConstants;
 import org.wso2.carbon.identity.oauth2.bean.Scope;
 import org.wso2.carbon.identity.oauth2.bean.ScopeBinding;
+import org.wso2.carbon.identity.oauth2.internal.cache.OAuthScopeRegistry;
+import org.wso2.carbon.identity.oauth2.util.JdbcUtils;
 import org.wso2.carbon.identity.oauth2.util.NamedPreparedStatement;
 import org.wso2.carbon.identity.oauth2.util.Oauth2ScopeUtils;
 import org.wso2.carbon.utils.DBUtils;
@@ -254,6 +256,42 @@ public class OAuthScopeDAOImpl implements OAuthScopeDAO {
         }
     }
 
+    /**
+     * Load all the scopes of the tenant including OIDC scopes, with their bindings, into a scope registry.
+     *
+     * @param tenantID Tenant ID.
+     * @return Scope registry of the tenant.
+     * @throws IdentityOAuth2ScopeServerException If an error occurs while retrieving the scopes.
+     */
+    public OAuthScopeRegistry getScopeRegistry(int tenantID) throws IdentityOAuth2ScopeServerException {
+
+        if (log.isDebugEnabled()) {
+            log.debug("Load the scope registry of tenantId: " + tenantID);
+        }
+
+        Map<Integer, OAuthScopeRegistry.ScopeRecord> scopeRecords = new HashMap<>();
+        try (Connection conn = IdentityDatabaseUtil.getDBConnection(false);
+             PreparedStatement ps = conn.prepareStatement(SQLQueries.RETRIEVE_ALL_SCOPES_WITH_SCOPE_TYPE)) {
+            ps.setInt(1, tenantID);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    int scopeID = rs.getInt(1);
+                    OAuthScopeRegistry.ScopeRecord scopeRecord = scopeRecords.get(scopeID);
+                    if (scopeRecord == null) {
+                        scopeRecord = new OAuthScopeRegistry.ScopeRecord(rs.getString(2), rs.getString(3),
+                                rs.getString(4), rs.getString(5));
+                        scopeRecords.put(scopeID, scopeRecord);
+                    }
+                    scopeRecord.addBinding(rs.getString(7), rs.getString(6));
+                }
+            }
+            return new OAuthScopeRegistry(scopeRecords.values(), JdbcUtils.isCaseInsensitiveCollationDB(conn));
+        } catch (SQLException e) {
+            String msg = "Error occurred while loading the scope registry of tenant :" + tenantID;
+            throw new IdentityOAuth2ScopeServerException(msg, e);
+        }
+    }
+
     @Override
     public Set<Scope> getRequestedScopesOnly(int tenantID, Boolean includeOIDCScopes, String requestedScopes)
             throws IdentityOAuth2ScopeServerException {
@@ -49,7 +49,7 @@ public class OAuthTokenPersistenceFactory {
 
         this.authorizationCodeDAO = new AuthorizationCodeDAOImpl();
         this.tokenDAO = new AccessTokenDAOImpl();
-        this.scopeDAO = new OAuthScopeDAOImpl();
+        this.scopeDAO = new CacheBackedOAuthScopeDAOImpl();
         this.managementDAO = new TokenManagementDAOImpl();
         this.requestObjectDAO = new RequestObjectDAOImpl();
         this.scopeClaimMappingDAO = new CacheBackedScopeClaimMappingDAOImpl();
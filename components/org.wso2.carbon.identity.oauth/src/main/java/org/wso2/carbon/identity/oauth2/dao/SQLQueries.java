@@ -486,6 +486,14 @@ public class SQLQueries {
     public static final String REVOKE_ACCESS_TOKEN = "UPDATE IDN_OAUTH2_ACCESS_TOKEN SET TOKEN_STATE=?, " +
             "TOKEN_STATE_ID=? WHERE ACCESS_TOKEN_HASH=?";
 
+    public static final String RETRIEVE_INVALIDATED_ACCESS_TOKEN_HASHES = "SELECT ACCESS_TOKEN_HASH, " +
+            "TIME_CREATED, VALIDITY_PERIOD FROM IDN_OAUTH2_ACCESS_TOKEN WHERE TOKEN_STATE IN (?, ?) AND " +
+            "TIME_CREATED > ?";
+
+    public static final String RETRIEVE_INVALIDATED_AUDIT_ACCESS_TOKEN_HASHES = "SELECT ACCESS_TOKEN_HASH, " +
+            "TIME_CREATED, VALIDITY_PERIOD FROM IDN_OAUTH2_ACCESS_TOKEN_AUDIT WHERE TOKEN_STATE IN (?, ?) AND " +
+            "INVALIDATED_TIME > ? AND TIME_CREATED > ?";
+
     public static final String REVOKE_APP_ACCESS_TOKEN = "UPDATE IDN_OAUTH2_ACCESS_TOKEN SET TOKEN_STATE=?, " +
             "TOKEN_STATE_ID=? WHERE CONSUMER_KEY_ID = (SELECT ID FROM " +
             "IDN_OAUTH_CONSUMER_APPS WHERE CONSUMER_KEY = ? AND TENANT_ID = ?) AND TOKEN_STATE=?";
@@ -565,7 +573,7 @@ public class SQLQueries {
             "FROM IDN_OAUTH2_ACCESS_TOKEN LEFT JOIN IDN_OAUTH2_ACCESS_TOKEN_SCOPE " +
             "ON IDN_OAUTH2_ACCESS_TOKEN.TOKEN_ID=IDN_OAUTH2_ACCESS_TOKEN_SCOPE.TOKEN_ID WHERE " +
             "CONSUMER_KEY_ID = (SELECT ID FROM IDN_OAUTH_CONSUMER_APPS WHERE CONSUMER_KEY=? AND TENANT_ID = ?) " +
-            "AND TOKEN_STATE=?";
+            "AND TOKEN_STATE=? ORDER BY IDN_OAUTH2_ACCESS_TOKEN.TOKEN_ID";
 
     public static final String GET_ACTIVE_DETAILS_FOR_CONSUMER_KEY_IDP_NAME = "SELECT IDN_OAUTH2_ACCESS_TOKEN" +
             ".AUTHZ_USER, IDN_OAUTH2_ACCESS_TOKEN.ACCESS_TOKEN, IDN_OAUTH2_ACCESS_TOKEN.TENANT_ID, " +
@@ -575,7 +583,7 @@ public class SQLQueries {
             " ON IDN_OAUTH2_ACCESS_TOKEN.TOKEN_ID=IDN_OAUTH2_ACCESS_TOKEN_SCOPE.TOKEN_ID " +
             " JOIN IDP ON IDN_OAUTH2_ACCESS_TOKEN.IDP_ID=IDP.ID WHERE " +
             "CONSUMER_KEY_ID = (SELECT ID FROM IDN_OAUTH_CONSUMER_APPS WHERE CONSUMER_KEY=? AND TENANT_ID = ?) " +
-            "AND TOKEN_STATE=?";
+            "AND TOKEN_STATE=? ORDER BY IDN_OAUTH2_ACCESS_TOKEN.TOKEN_ID";
 
     public static final String GET_AUTHORIZATION_CODES_FOR_CONSUMER_KEY = "SELECT AUTHORIZATION_CODE FROM " +
             "IDN_OAUTH2_AUTHORIZATION_CODE WHERE CONSUMER_KEY_ID IN (SELECT ID FROM IDN_OAUTH_CONSUMER_APPS WHERE " +
@@ -592,6 +600,9 @@ public class SQLQueries {
     public static final String UPDATE_AUTHORIZATION_CODE_STATE = "UPDATE IDN_OAUTH2_AUTHORIZATION_CODE SET STATE=? " +
             "WHERE AUTHORIZATION_CODE_HASH=?";
 
+    public static final String REDEEM_AUTHORIZATION_CODE = "UPDATE IDN_OAUTH2_AUTHORIZATION_CODE SET " +
+            "STATE='REVOKED' WHERE AUTHORIZATION_CODE_HASH=? AND STATE='ACTIVE'";
+
     public static final String GET_AUTHORIZATION_CODES_BY_AUTHZUSER = "SELECT DISTINCT AUTHORIZATION_CODE, " +
             "TIME_CREATED, VALIDITY_PERIOD " +
             " FROM IDN_OAUTH2_AUTHORIZATION_CODE WHERE AUTHZ_USER=? AND TENANT_ID=? AND USER_DOMAIN=? AND STATE=?";
@@ -1006,7 +1017,8 @@ public class SQLQueries {
             "AUTHORIZED_ORGANIZATION FROM " +
             "IDN_OAUTH2_ACCESS_TOKEN WHERE TENANT_ID=? AND (TOKEN_STATE='ACTIVE' OR TOKEN_STATE='EXPIRED')) " +
             "ACCESS_TOKEN_TABLE JOIN IDN_OAUTH_CONSUMER_APPS ON ID = CONSUMER_KEY_ID LEFT JOIN " +
-            "IDN_OAUTH2_ACCESS_TOKEN_SCOPE ON ACCESS_TOKEN_TABLE.TOKEN_ID = IDN_OAUTH2_ACCESS_TOKEN_SCOPE.TOKEN_ID";
+            "IDN_OAUTH2_ACCESS_TOKEN_SCOPE ON ACCESS_TOKEN_TABLE.TOKEN_ID = IDN_OAUTH2_ACCESS_TOKEN_SCOPE.TOKEN_ID " +
+            "ORDER BY ACCESS_TOKEN_TABLE.TOKEN_ID";
 
     public static final String LIST_ALL_TOKENS_IN_TENANT_IDP_NAME = "SELECT ACCESS_TOKEN, REFRESH_TOKEN, " +
             "TIME_CREATED, REFRESH_TOKEN_TIME_CREATED, VALIDITY_PERIOD, REFRESH_TOKEN_VALIDITY_PERIOD, USER_TYPE, " +
@@ -1019,7 +1031,7 @@ public class SQLQueries {
             "ACCESS_TOKEN_TABLE JOIN IDN_OAUTH_CONSUMER_APPS ON IDN_OAUTH_CONSUMER_APPS.ID = CONSUMER_KEY_ID " +
             "LEFT JOIN IDN_OAUTH2_ACCESS_TOKEN_SCOPE " +
             "ON ACCESS_TOKEN_TABLE.TOKEN_ID = IDN_OAUTH2_ACCESS_TOKEN_SCOPE.TOKEN_ID " +
-            "JOIN IDP ON IDP.ID=IDP_ID";
+            "JOIN IDP ON IDP.ID=IDP_ID ORDER BY ACCESS_TOKEN_TABLE.TOKEN_ID";
 
     public static final String LIST_ALL_TOKENS_ISSUED_FOR_ORGANIZATION = "SELECT ACCESS_TOKEN, REFRESH_TOKEN, " +
             "TIME_CREATED, REFRESH_TOKEN_TIME_CREATED, VALIDITY_PERIOD, REFRESH_TOKEN_VALIDITY_PERIOD, USER_TYPE, " +
@@ -1051,7 +1063,7 @@ public class SQLQueries {
             "VALIDITY_PERIOD, REFRESH_TOKEN_VALIDITY_PERIOD, USER_TYPE FROM IDN_OAUTH2_ACCESS_TOKEN WHERE TENANT_ID=?" +
             " AND USER_DOMAIN=? AND (TOKEN_STATE='ACTIVE' OR TOKEN_STATE='EXPIRED')) ACCESS_TOKEN_TABLE JOIN " +
             "IDN_OAUTH_CONSUMER_APPS ON ID = CONSUMER_KEY_ID LEFT JOIN IDN_OAUTH2_ACCESS_TOKEN_SCOPE ON " +
-            "ACCESS_TOKEN_TABLE.TOKEN_ID = IDN_OAUTH2_ACCESS_TOKEN_SCOPE.TOKEN_ID";
+            "ACCESS_TOKEN_TABLE.TOKEN_ID = IDN_OAUTH2_ACCESS_TOKEN_SCOPE.TOKEN_ID ORDER BY ACCESS_TOKEN_TABLE.TOKEN_ID";
 
     public static final String LIST_ALL_TOKENS_IN_USER_STORE_IDP_NAME = "SELECT ACCESS_TOKEN, REFRESH_TOKEN, " +
             "TIME_CREATED, REFRESH_TOKEN_TIME_CREATED, VALIDITY_PERIOD, REFRESH_TOKEN_VALIDITY_PERIOD, USER_TYPE, " +
@@ -1062,7 +1074,7 @@ public class SQLQueries {
             " AND USER_DOMAIN=? AND (TOKEN_STATE='ACTIVE' OR TOKEN_STATE='EXPIRED')) ACCESS_TOKEN_TABLE JOIN " +
             "IDN_OAUTH_CONSUMER_APPS ON IDN_OAUTH_CONSUMER_APPS.ID = CONSUMER_KEY_ID LEFT JOIN " +
             "IDN_OAUTH2_ACCESS_TOKEN_SCOPE ON ACCESS_TOKEN_TABLE.TOKEN_ID = IDN_OAUTH2_ACCESS_TOKEN_SCOPE.TOKEN_ID " +
-            "JOIN IDP ON IDP.ID=IDP_ID";
+            "JOIN IDP ON IDP.ID=IDP_ID ORDER BY ACCESS_TOKEN_TABLE.TOKEN_ID";
 
     public static final String LIST_LATEST_AUTHZ_CODES_IN_USER_DOMAIN = "SELECT CODE_ID, AUTHORIZATION_CODE, " +
             "CONSUMER_KEY, IDN_OAUTH2_AUTHORIZATION_CODE.AUTHZ_USER, IDN_OAUTH2_AUTHORIZATION_CODE.SCOPE, " +
@@ -1323,6 +1335,12 @@ public class SQLQueries {
                     "LEFT JOIN IDN_OAUTH2_SCOPE_BINDING AS SCOPEBINDINGS ON SCOPES.SCOPE_ID=SCOPEBINDINGS.SCOPE_ID " +
                     "WHERE SCOPES.TENANT_ID=?";
 
+    public static final String RETRIEVE_ALL_SCOPES_WITH_SCOPE_TYPE =
+            "SELECT SCOPES.SCOPE_ID, SCOPES.NAME, SCOPES.DISPLAY_NAME, SCOPES.DESCRIPTION, SCOPES.SCOPE_TYPE, " +
+                    "SCOPEBINDINGS.SCOPE_BINDING, SCOPEBINDINGS.BINDING_TYPE FROM IDN_OAUTH2_SCOPE SCOPES " +
+                    "LEFT JOIN IDN_OAUTH2_SCOPE_BINDING SCOPEBINDINGS ON SCOPES.SCOPE_ID=SCOPEBINDINGS.SCOPE_ID " +
+                    "WHERE SCOPES.TENANT_ID=?";
+
     public static final String RETRIEVE_ALL_OAUTH2_SCOPES =
             "SELECT SCOPES.SCOPE_ID, SCOPES.NAME, SCOPES.DISPLAY_NAME, SCOPES.DESCRIPTION, " +
                     "SCOPEBINDINGS.SCOPE_BINDING ,SCOPEBINDINGS.BINDING_TYPE FROM IDN_OAUTH2_SCOPE AS SCOPES " +
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.dao;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Holds the runtime statistics of the asynchronous token persistence pipeline.
+ */
+public class TokenPersistenceMetrics {
+
+    private final AtomicLong flushCount = new AtomicLong();
+    private final AtomicLong failedFlushCount = new AtomicLong();
+    private final AtomicLong persistedItemCount = new AtomicLong();
+    private final AtomicLong rejectedItemCount = new AtomicLong();
+    private final AtomicLong totalFlushLatencyNanos = new AtomicLong();
+    private final AtomicLong maxFlushLatencyNanos = new AtomicLong();
+
+    /**
+     * Record a flush of a batch to the database.
+     *
+     * @param batchSize    Number of items in the batch.
+     * @param latencyNanos Time taken to flush the batch in nanoseconds.
+     * @param successful   Whether the batch was persisted successfully.
+     */
+    void recordFlush(int batchSize, long latencyNanos, boolean successful) {
+
+        flushCount.incrementAndGet();
+        if (successful) {
+            persistedItemCount.addAndGet(batchSize);
+        } else {
+            failedFlushCount.incrementAndGet();
+        }
+        totalFlushLatencyNanos.addAndGet(latencyNanos);
+        maxFlushLatencyNanos.accumulateAndGet(latencyNanos, Math::max);
+    }
+
+    /**
+     * Record an item which could not be queued due to back pressure.
+     */
+    void recordRejection() {
+
+        rejectedItemCount.incrementAndGet();
+    }
+
+    public long getFlushCount() {
+
+        return flushCount.get();
+    }
+
+    public long getFailedFlushCount() {
+
+        return failedFlushCount.get();
+    }
+
+    public long getPersistedItemCount() {
+
+        return persistedItemCount.get();
+    }
+
+    public long getRejectedItemCount() {
+
+        return rejectedItemCount.get();
+    }
+
+    /**
+     * Get the average time taken to flush a batch.
+     *
+     * @return Average flush latency in milliseconds.
+     */
+    public double getAverageFlushLatencyMillis() {
+
+        long flushes = flushCount.get();
+        if (flushes == 0) {
+            return 0;
+        }
+        return (double) totalFlushLatencyNanos.get() / flushes / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * Get the maximum time taken to flush a batch.
+     *
+     * @return Maximum flush latency in milliseconds.
+     */
+    public long getMaxFlushLatencyMillis() {
+
+        return TimeUnit.NANOSECONDS.toMillis(maxFlushLatencyNanos.get());
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.dao;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.wso2.carbon.identity.oauth2.util.OAuth2Util.getPositiveIntProperty;
+
+/**
+ * Asynchronous, batched persistence stage for access tokens.
+ * <p>
+ * Tokens are queued in a bounded queue and drained by a configurable number of consumer threads. Each consumer
+ * collects up to {@code BatchSize} tokens or waits up to {@code FlushInterval} milliseconds, and writes the collected
+ * tokens with a single JDBC batch and commit per target table. When the queue is full the producer waits up to
+ * {@code OfferTimeout} milliseconds and then falls back to synchronous persistence, which provides back pressure
+ * without dropping tokens.
+ * <p>
+ * Authorization codes are not routed through this stage since a code has to be in the database by the time the client
+ * exchanges it, possibly on another node.
+ * <p>
+ * The stage is disabled by default and can be enabled with the {@code OAuth.TokenPersistence.AsyncPersistence}
+ * configurations in identity.xml.
+ */
+public class TokenPersistencePipeline {
+
+    private static final Log log = LogFactory.getLog(TokenPersistencePipeline.class);
+
+    private static final String ASYNC_PERSISTENCE_ENABLE = "OAuth.TokenPersistence.AsyncPersistence.Enable";
+    private static final String ASYNC_PERSISTENCE_CONSUMER_COUNT =
+            "OAuth.TokenPersistence.AsyncPersistence.ConsumerCount";
+    private static final String ASYNC_PERSISTENCE_QUEUE_SIZE = "OAuth.TokenPersistence.AsyncPersistence.QueueSize";
+    private static final String ASYNC_PERSISTENCE_BATCH_SIZE = "OAuth.TokenPersistence.AsyncPersistence.BatchSize";
+    private static final String ASYNC_PERSISTENCE_FLUSH_INTERVAL =
+            "OAuth.TokenPersistence.AsyncPersistence.FlushInterval";
+    private static final String ASYNC_PERSISTENCE_OFFER_TIMEOUT =
+            "OAuth.TokenPersistence.AsyncPersistence.OfferTimeout";
+
+    private static final int DEFAULT_CONSUMER_COUNT = 2;
+    private static final int DEFAULT_QUEUE_SIZE = 10000;
+    private static final int DEFAULT_BATCH_SIZE = 100;
+    private static final long DEFAULT_FLUSH_INTERVAL_MILLIS = 50;
+    private static final long DEFAULT_OFFER_TIMEOUT_MILLIS = 10;
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 30000;
+
+    private static volatile TokenPersistencePipeline instance;
+
+    private final BlockingQueue<AccessContextTokenDO> accessContextTokenQueue;
+    private final TokenPersistenceMetrics accessTokenMetrics = new TokenPersistenceMetrics();
+    private final List<AbstractBatchPersistenceTask<?>> tasks = new ArrayList<>();
+    private final ExecutorService consumerPool;
+    private final long offerTimeoutMillis;
+
+    private TokenPersistencePipeline() {
+
+        int consumerCount = getPositiveIntProperty(ASYNC_PERSISTENCE_CONSUMER_COUNT, DEFAULT_CONSUMER_COUNT);
+        int queueSize = getPositiveIntProperty(ASYNC_PERSISTENCE_QUEUE_SIZE, DEFAULT_QUEUE_SIZE);
+        int batchSize = getPositiveIntProperty(ASYNC_PERSISTENCE_BATCH_SIZE, DEFAULT_BATCH_SIZE);
+        long flushIntervalMillis = getPositiveIntProperty(ASYNC_PERSISTENCE_FLUSH_INTERVAL,
+                (int) DEFAULT_FLUSH_INTERVAL_MILLIS);
+        offerTimeoutMillis = getPositiveIntProperty(ASYNC_PERSISTENCE_OFFER_TIMEOUT,
+                (int) DEFAULT_OFFER_TIMEOUT_MILLIS);
+
+        accessContextTokenQueue = new LinkedBlockingQueue<>(queueSize);
+
+        AtomicInteger threadCount = new AtomicInteger();
+        consumerPool = Executors.newFixedThreadPool(consumerCount, runnable -> {
+            Thread thread = new Thread(runnable, "oauth-token-persistence-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < consumerCount; i++) {
+            tasks.add(new TokenPersistenceTask(accessContextTokenQueue, batchSize, flushIntervalMillis,
+                    accessTokenMetrics));
+        }
+        for (AbstractBatchPersistenceTask<?> task : tasks) {
+            consumerPool.execute(task);
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Token persistence pipeline initialized with consumer count: " + consumerCount +
+                    ", queue size: " + queueSize + ", batch size: " + batchSize + ", flush interval: " +
+                    flushIntervalMillis + "ms, offer timeout: " + offerTimeoutMillis + "ms.");
+        }
+    }
+
+    /**
+     * Check whether asynchronous token persistence is enabled.
+     *
+     * @return True if asynchronous token persistence is enabled.
+     */
+    public static boolean isEnabled() {
+
+        return Boolean.parseBoolean(IdentityUtil.getProperty(ASYNC_PERSISTENCE_ENABLE));
+    }
+
+    public static TokenPersistencePipeline getInstance() {
+
+        if (instance == null) {
+            synchronized (TokenPersistencePipeline.class) {
+                if (instance == null) {
+                    instance = new TokenPersistencePipeline();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Queue an access token for persistence.
+     *
+     * @param accessContextTokenDO Access token to be persisted.
+     * @return True if the token was queued, false if the queue is full and the caller has to persist the token
+     * synchronously.
+     * @throws IdentityOAuth2Exception If the application tenant cannot be resolved.
+     */
+    public boolean persistAccessToken(AccessContextTokenDO accessContextTokenDO) throws IdentityOAuth2Exception {
+
+        // The consumer threads do not carry the carbon context of the request, hence capture it here.
+        if (accessContextTokenDO.getAppTenantId() == null) {
+            accessContextTokenDO.setAppTenantId(AccessTokenDAOImpl.resolveAppTenantId());
+        }
+        if (accessContextTokenDO.getTenantDomain() == null) {
+            PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+            accessContextTokenDO.setTenantDomain(carbonContext.getTenantDomain());
+            accessContextTokenDO.setTenantId(carbonContext.getTenantId());
+            accessContextTokenDO.setApplicationResidentOrganizationId(
+                    carbonContext.getApplicationResidentOrganizationId());
+        }
+        return offer(accessContextTokenQueue, accessContextTokenDO, accessTokenMetrics);
+    }
+
+    public int getAccessTokenQueueDepth() {
+
+        return accessContextTokenQueue.size();
+    }
+
+    public TokenPersistenceMetrics getAccessTokenMetrics() {
+
+        return accessTokenMetrics;
+    }
+
+    /**
+     * Shut down the pipeline if it has been started, persisting the queued tokens first. This is invoked when the
+     * bundle is deactivated and does not create the pipeline when asynchronous persistence was never used.
+     */
+    public static void shutdownIfStarted() {
+
+        TokenPersistencePipeline pipeline = instance;
+        if (pipeline != null) {
+            pipeline.shutdown();
+        }
+    }
+
+    /**
+     * Stop the consumers after persisting the queued tokens.
+     */
+    public void shutdown() {
+
+        for (AbstractBatchPersistenceTask<?> task : tasks) {
+            task.stop();
+        }
+        consumerPool.shutdown();
+        try {
+            if (!consumerPool.awaitTermination(SHUTDOWN_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                log.warn("Token persistence pipeline did not terminate in " + SHUTDOWN_TIMEOUT_MILLIS + "ms with " +
+                        getAccessTokenQueueDepth() + " tokens in the queue.");
+                consumerPool.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            consumerPool.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private <T> boolean offer(BlockingQueue<T> queue, T item, TokenPersistenceMetrics metrics) {
+
+        try {
+            if (queue.offer(item, offerTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        metrics.recordRejection();
+        if (log.isDebugEnabled()) {
+            log.debug("Token persistence queue is full. Falling back to synchronous persistence.");
+        }
+        return false;
+    }
+}
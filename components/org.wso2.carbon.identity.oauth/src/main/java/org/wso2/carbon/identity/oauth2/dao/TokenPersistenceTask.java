@@ -17,48 +17,82 @@
  */
 package org.wso2.carbon.identity.oauth2.dao;
 
-import org.apache.commons.logging.Log;
-import org.apache.commons.logging.LogFactory;
-import org.wso2.carbon.identity.base.IdentityException;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.oauth.common.OAuthConstants;
+import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.BlockingQueue;
 
 /**
- * OAuth token persistence task.
+ * OAuth token persistence task. Drains the queued access tokens in batches and persists each batch through
+ * {@link AccessTokenDAO#insertAccessTokens(List)}. The consumer threads do not carry a carbon context, hence the tokens
+ * are persisted in a tenant flow of the tenant and the application resident organization captured when they were
+ * queued.
  */
-public class TokenPersistenceTask implements Runnable {
-
-    private static final Log log = LogFactory.getLog(TokenPersistenceTask.class);
-    private BlockingDeque<AccessContextTokenDO> accessContextTokenQueue;
+public class TokenPersistenceTask extends AbstractBatchPersistenceTask<AccessContextTokenDO> {
 
     public TokenPersistenceTask(BlockingDeque<AccessContextTokenDO> accessContextTokenQueue) {
-        this.accessContextTokenQueue = accessContextTokenQueue;
+
+        this(accessContextTokenQueue, DEFAULT_BATCH_SIZE, DEFAULT_FLUSH_INTERVAL_MILLIS, null);
+    }
+
+    public TokenPersistenceTask(BlockingQueue<AccessContextTokenDO> accessContextTokenQueue, int batchSize,
+                                long flushIntervalMillis, TokenPersistenceMetrics metrics) {
+
+        super(accessContextTokenQueue, batchSize, flushIntervalMillis, metrics);
     }
 
     @Override
-    public void run() {
+    protected void persist(List<AccessContextTokenDO> batch) throws IdentityOAuth2Exception {
 
-        log.debug("Access Token context persist consumer is started");
+        AccessTokenDAO accessTokenDAO = OAuthTokenPersistenceFactory.getInstance().getAccessTokenDAO();
+        Map<List<String>, List<AccessContextTokenDO>> tokensByContext = new LinkedHashMap<>();
+        for (AccessContextTokenDO accessContextTokenDO : batch) {
+            tokensByContext.computeIfAbsent(Arrays.asList(accessContextTokenDO.getTenantDomain(),
+                    accessContextTokenDO.getApplicationResidentOrganizationId()), k -> new ArrayList<>())
+                    .add(accessContextTokenDO);
+        }
 
-        while (true) {
-            AccessContextTokenDO accessContextTokenDO = null;
-            String accessToken = null;
+        IdentityOAuth2Exception error = null;
+        for (List<AccessContextTokenDO> tokens : tokensByContext.values()) {
+            startTenantFlow(tokens.get(0));
             try {
-                accessContextTokenDO =  accessContextTokenQueue.take();
-                if (accessContextTokenDO != null) {
-                    accessToken = accessContextTokenDO.getAccessToken();
-                    log.debug("Access Token Data persisting Task is started to run");
-                    OAuthTokenPersistenceFactory.getInstance().getAccessTokenDAO()
-                            .insertAccessToken(accessToken, accessContextTokenDO.getConsumerKey(),
-                                    accessContextTokenDO.getNewAccessTokenDO(),
-                                    accessContextTokenDO.getExistingAccessTokenDO(),
-                                    accessContextTokenDO.getUserStoreDomain());
+                accessTokenDAO.insertAccessTokens(tokens);
+            } catch (IdentityOAuth2Exception e) {
+                // Persist the tokens of the other tenants before reporting the failure.
+                if (error == null) {
+                    error = e;
+                } else {
+                    error.addSuppressed(e);
                 }
-            } catch (InterruptedException e) {
-                log.error("Error occurred while getting AccessContextTokenDO instance from accessContextTokenQueue", e);
-            } catch (IdentityException e) {
-                log.error("Error occurred while persisting access token :" + accessToken, e);
+            } finally {
+                IdentityUtil.threadLocalProperties.get().remove(OAuthConstants.TENANT_NAME_FROM_CONTEXT);
+                PrivilegedCarbonContext.endTenantFlow();
             }
         }
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    private void startTenantFlow(AccessContextTokenDO accessContextTokenDO) {
+
+        PrivilegedCarbonContext.startTenantFlow();
+        String tenantDomain = accessContextTokenDO.getTenantDomain();
+        if (tenantDomain == null) {
+            return;
+        }
+        PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+        carbonContext.setTenantId(accessContextTokenDO.getTenantId());
+        carbonContext.setTenantDomain(tenantDomain);
+        carbonContext.setApplicationResidentOrganizationId(accessContextTokenDO.getApplicationResidentOrganizationId());
+        IdentityUtil.threadLocalProperties.get().put(OAuthConstants.TENANT_NAME_FROM_CONTEXT, tenantDomain);
     }
 }
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.identity.oauth2.device.cache;
+
+import org.wso2.carbon.identity.application.common.cache.BaseCache;
+import org.wso2.carbon.utils.CarbonUtils;
+
+/**
+ * Stores the polling state of device codes which are pending user authorization, against the device code.
+ * Entries are cleared when the status of the device code changes, so that every node reads the new status from the
+ * database.
+ */
+public class DeviceFlowPollStateCache extends BaseCache<String, DeviceFlowPollStateCacheEntry> {
+
+    private static final String DEVICE_FLOW_POLL_STATE_CACHE_NAME = "DeviceFlowPollStateCache";
+
+    private static volatile DeviceFlowPollStateCache instance;
+
+    private DeviceFlowPollStateCache() {
+
+        super(DEVICE_FLOW_POLL_STATE_CACHE_NAME);
+    }
+
+    /**
+     * Return DeviceFlowPollStateCache instance.
+     *
+     * @return DeviceFlowPollStateCache instance.
+     */
+    public static DeviceFlowPollStateCache getInstance() {
+
+        CarbonUtils.checkSecurity();
+        if (instance == null) {
+            synchronized (DeviceFlowPollStateCache.class) {
+                if (instance == null) {
+                    instance = new DeviceFlowPollStateCache();
+                }
+            }
+        }
+        return instance;
+    }
+}
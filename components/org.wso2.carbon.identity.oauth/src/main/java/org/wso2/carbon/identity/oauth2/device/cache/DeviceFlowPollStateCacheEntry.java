@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.identity.oauth2.device.cache;
+
+import org.wso2.carbon.identity.oauth.cache.CacheEntry;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Polling state of a device code which is pending user authorization. The poll times are updated by concurrent polls
+ * of the same device code, hence they are kept in atomic fields instead of locking the cached entry.
+ */
+public class DeviceFlowPollStateCacheEntry extends CacheEntry {
+
+    private static final long serialVersionUID = 4306255962213460197L;
+
+    private final String clientId;
+    private final long pollInterval;
+    private final long expiryTime;
+    private final AtomicLong lastPollTime;
+    private final AtomicInteger handledPolls = new AtomicInteger();
+
+    public DeviceFlowPollStateCacheEntry(String clientId, long pollInterval, long expiryTime, long lastPollTime) {
+
+        this.clientId = clientId;
+        this.pollInterval = pollInterval;
+        this.expiryTime = expiryTime;
+        this.lastPollTime = new AtomicLong(lastPollTime);
+    }
+
+    public String getClientId() {
+
+        return clientId;
+    }
+
+    public long getPollInterval() {
+
+        return pollInterval;
+    }
+
+    public long getExpiryTime() {
+
+        return expiryTime;
+    }
+
+    public long getLastPollTime() {
+
+        return lastPollTime.get();
+    }
+
+    /**
+     * Move the last poll time forward to the given time. An earlier time does not change the last poll time.
+     *
+     * @param pollTime Time of the poll.
+     */
+    public void updateLastPollTime(long pollTime) {
+
+        lastPollTime.accumulateAndGet(pollTime, Math::max);
+    }
+
+    /**
+     * Set the last poll time only if it has not changed since it was read, so that only one of the concurrent polls
+     * of the device code is accepted.
+     *
+     * @param expectedLastPollTime Last poll time which was read.
+     * @param pollTime             Time of the poll.
+     * @return True if the last poll time was set.
+     */
+    public boolean compareAndSetLastPollTime(long expectedLastPollTime, long pollTime) {
+
+        return lastPollTime.compareAndSet(expectedLastPollTime, pollTime);
+    }
+
+    /**
+     * Record a poll which was fully handled while reading the state, hence does not need to be persisted again.
+     */
+    public void addHandledPoll() {
+
+        handledPolls.incrementAndGet();
+    }
+
+    /**
+     * Take one of the polls which were fully handled while reading the state.
+     *
+     * @return True if there was such a poll.
+     */
+    public boolean takeHandledPoll() {
+
+        return handledPolls.getAndUpdate(count -> count > 0 ? count - 1 : 0) > 0;
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.identity.oauth2.device.dao;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.application.authentication.framework.model.AuthenticatedUser;
+import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
+import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+import org.wso2.carbon.identity.oauth2.device.cache.DeviceFlowPollStateCache;
+import org.wso2.carbon.identity.oauth2.device.cache.DeviceFlowPollStateCacheEntry;
+import org.wso2.carbon.identity.oauth2.device.constants.Constants;
+import org.wso2.carbon.identity.oauth2.device.errorcodes.DeviceErrorCodes;
+import org.wso2.carbon.identity.oauth2.device.model.DeviceFlowDO;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Calendar;
+import java.util.TimeZone;
+
+/**
+ * Cache backed device flow DAO which keeps the polling state of pending device codes in memory.
+ * <p>
+ * A poll of a pending device code does not read the device code from the database. A poll within the poll interval
+ * of the last poll seen by this node is answered with slow_down without going to the database. Other polls update the
+ * last poll time with a single conditional statement, which only succeeds if the device code is still pending and no
+ * poll was recorded within the interval on any node. Otherwise the state is read from the database again. Status
+ * changes clear the cached state on all nodes.
+ * <p>
+ * The time of a poll answered with slow_down from the cached state is not persisted, as persisting it would bring back
+ * a write per rejected poll. Such a poll still extends the slow_down window on this node, but not on the other nodes,
+ * which only see the last accepted poll. The conditional update still accepts at most one poll per interval across
+ * the cluster.
+ */
+public class CacheBackedDeviceFlowDAO extends DeviceFlowDAOImpl {
+
+    private static final Log log = LogFactory.getLog(CacheBackedDeviceFlowDAO.class);
+
+    private final DeviceFlowPollStateCache pollStateCache = DeviceFlowPollStateCache.getInstance();
+
+    @Override
+    public DeviceFlowDO getAuthenticationDetails(String deviceCode, String clientId) throws IdentityOAuth2Exception {
+
+        DeviceFlowPollStateCacheEntry pollState = pollStateCache.getValueFromCache(deviceCode);
+        if (pollState == null || !StringUtils.equals(pollState.getClientId(), clientId)) {
+            return super.getAuthenticationDetails(deviceCode, clientId);
+        }
+        long newPollTime = System.currentTimeMillis();
+        if (pollState.getExpiryTime() < newPollTime) {
+            pollStateCache.clearCacheEntry(deviceCode);
+            return super.getAuthenticationDetails(deviceCode, clientId);
+        }
+        long lastPollTime = pollState.getLastPollTime();
+        // Only one of the concurrent polls of the device code on this node can move the last poll time.
+        if (newPollTime - lastPollTime <= pollState.getPollInterval() ||
+                !pollState.compareAndSetLastPollTime(lastPollTime, newPollTime)) {
+            pollState.updateLastPollTime(newPollTime);
+            pollState.addHandledPoll();
+            throw new IdentityOAuth2Exception(DeviceErrorCodes.SubDeviceErrorCodes.SLOW_DOWN,
+                    Constants.SLOW_DOWN);
+        }
+        if (!setLastPollTimeIfPending(deviceCode, newPollTime, pollState.getPollInterval())) {
+            if (log.isDebugEnabled()) {
+                log.debug("Cached poll state is outdated for device_code: " + deviceCode);
+            }
+            pollStateCache.clearCacheEntry(deviceCode);
+            return super.getAuthenticationDetails(deviceCode, clientId);
+        }
+        pollState.addHandledPoll();
+        throw new IdentityOAuth2Exception(DeviceErrorCodes.SubDeviceErrorCodes.AUTHORIZATION_PENDING,
+                Constants.PENDING);
+    }
+
+    @Override
+    protected void handlePollState(String deviceCode, String clientId, DeviceFlowDO deviceFlowDO) {
+
+        if (!Constants.PENDING.equals(deviceFlowDO.getStatus()) || deviceFlowDO.getLastPollTime() == null ||
+                deviceFlowDO.getExpiryTime() == null) {
+            return;
+        }
+        pollStateCache.addToCache(deviceCode, new DeviceFlowPollStateCacheEntry(clientId,
+                deviceFlowDO.getPollTime(), deviceFlowDO.getExpiryTime().getTime(),
+                deviceFlowDO.getLastPollTime().getTime()));
+    }
+
+    @Override
+    public void setLastPollTime(String deviceCode, Timestamp newPollTime) throws IdentityOAuth2Exception {
+
+        DeviceFlowPollStateCacheEntry pollState = pollStateCache.getValueFromCache(deviceCode);
+        if (pollState != null) {
+            if (pollState.takeHandledPoll()) {
+                // The poll was already handled while reading the poll state.
+                return;
+            }
+            pollState.updateLastPollTime(newPollTime.getTime());
+        }
+        super.setLastPollTime(deviceCode, newPollTime);
+    }
+
+    @Override
+    public void setAuthenticationStatus(String userCode) throws IdentityOAuth2Exception {
+
+        super.setAuthenticationStatus(userCode);
+        clearPollStateForUserCode(userCode);
+    }
+
+    @Override
+    public void setAuthenticationStatus(String userCode, String status) throws IdentityOAuth2Exception {
+
+        super.setAuthenticationStatus(userCode, status);
+        clearPollStateForUserCode(userCode);
+    }
+
+    @Override
+    public void setAuthzUserAndStatus(String userCode, String status, AuthenticatedUser authenticatedUser)
+            throws IdentityOAuth2Exception {
+
+        super.setAuthzUserAndStatus(userCode, status, authenticatedUser);
+        clearPollStateForUserCode(userCode);
+    }
+
+    @Override
+    public void setDeviceCodeExpired(String deviceCode, String status) throws IdentityOAuth2Exception {
+
+        super.setDeviceCodeExpired(deviceCode, status);
+        pollStateCache.clearCacheEntry(deviceCode);
+    }
+
+    private void clearPollStateForUserCode(String userCode) throws IdentityOAuth2Exception {
+
+        getDeviceCodeForUserCode(userCode).ifPresent(pollStateCache::clearCacheEntry);
+    }
+
+    private boolean setLastPollTimeIfPending(String deviceCode, long newPollTime, long pollInterval)
+            throws IdentityOAuth2Exception {
+
+        Calendar utcCalendar = Calendar.getInstance(TimeZone.getTimeZone(Constants.UTC));
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(true)) {
+            try (PreparedStatement prepStmt = connection.prepareStatement(
+                    SQLQueries.DeviceFlowDAOSQLQueries.SET_LAST_POLL_TIME_IF_PENDING)) {
+                prepStmt.setTimestamp(1, new Timestamp(newPollTime), utcCalendar);
+                prepStmt.setString(2, deviceCode);
+                prepStmt.setString(3, Constants.PENDING);
+                prepStmt.setTimestamp(4, new Timestamp(newPollTime - pollInterval), utcCalendar);
+                int updatedRows = prepStmt.executeUpdate();
+                IdentityDatabaseUtil.commitTransaction(connection);
+                return updatedRows > 0;
+            } catch (SQLException e) {
+                IdentityDatabaseUtil.rollbackTransaction(connection);
+                throw new IdentityOAuth2Exception("Error when setting last poll time for device_code: "
+                        + deviceCode, e);
+            }
+        } catch (SQLException e) {
+            throw new IdentityOAuth2Exception("Error when setting last poll time for device_code: " + deviceCode, e);
+        }
+    }
+}
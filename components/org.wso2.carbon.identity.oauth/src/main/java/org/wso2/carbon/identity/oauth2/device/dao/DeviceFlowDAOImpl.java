@@ -202,6 +202,7 @@ public class DeviceFlowDAOImpl implements DeviceFlowDAO {
                             Calendar.getInstance(TimeZone.getTimeZone(Constants.UTC))));
 
                     if (!Constants.AUTHORIZED.equals(deviceStatus)) {
+                        handlePollState(deviceCode, clientId, deviceFlowDO);
                         handleAuthorizationPending(deviceStatus, newPollTime, deviceFlowDO);
                     }
 
@@ -250,6 +251,17 @@ public class DeviceFlowDAOImpl implements DeviceFlowDAO {
         }
     }
 
+    /**
+     * Invoked with the stored state of a device code which is not authorized yet, before the poll is validated.
+     *
+     * @param deviceCode   Code that is used to identify the device.
+     * @param clientId     Consumer key of the application.
+     * @param deviceFlowDO Stored status, last poll time, poll interval and expiry time of the device code.
+     */
+    protected void handlePollState(String deviceCode, String clientId, DeviceFlowDO deviceFlowDO) {
+
+    }
+
     private void handleAuthorizationPending(String deviceStatus, Timestamp newPollTime, DeviceFlowDO deviceFlowDO)
             throws IdentityOAuth2Exception {
 
@@ -18,17 +18,25 @@
 
 package org.wso2.carbon.identity.oauth2.device.dao;
 
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
 /**
  * This class is device flow DAO factory.
  */
 public class DeviceFlowPersistenceFactory {
 
+    private static final String POLL_STATE_CACHE_ENABLE = "OAuth.DeviceFlow.PollStateCache.Enable";
+
     private static DeviceFlowPersistenceFactory factory = new DeviceFlowPersistenceFactory();
     private DeviceFlowDAO deviceFlowDAO;
 
     private DeviceFlowPersistenceFactory() {
 
-        this.deviceFlowDAO = new DeviceFlowDAOImpl();
+        if (Boolean.parseBoolean(IdentityUtil.getProperty(POLL_STATE_CACHE_ENABLE))) {
+            this.deviceFlowDAO = new CacheBackedDeviceFlowDAO();
+        } else {
+            this.deviceFlowDAO = new DeviceFlowDAOImpl();
+        }
     }
 
     public static DeviceFlowPersistenceFactory getInstance() {
@@ -71,6 +71,9 @@ public class SQLQueries {
         public static final String SET_LAST_POLL_TIME = "UPDATE IDN_OAUTH2_DEVICE_FLOW SET LAST_POLL_TIME = ? WHERE " +
                 "DEVICE_CODE = ?";
 
+        public static final String SET_LAST_POLL_TIME_IF_PENDING = "UPDATE IDN_OAUTH2_DEVICE_FLOW SET " +
+                "LAST_POLL_TIME = ? WHERE DEVICE_CODE = ? AND STATUS = ? AND LAST_POLL_TIME < ?";
+
         public static final String SET_AUTHZ_USER_AND_STATUS = "UPDATE IDN_OAUTH2_DEVICE_FLOW SET AUTHZ_USER = ?, " +
                 "STATUS = ?, TENANT_ID = ?, USER_DOMAIN = ?, IDP_ID = (SELECT ID FROM IDP WHERE NAME = ? AND " +
                 "TENANT_ID = ?), SUBJECT_IDENTIFIER = ? " +
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.internal;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.oauth.cache.AppInfoCache;
+import org.wso2.carbon.identity.oauth.dao.OAuthAppDAO;
+import org.wso2.carbon.identity.oauth.dao.OAuthAppDO;
+import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+import org.wso2.carbon.utils.AbstractAxis2ConfigurationContextObserver;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+import static org.wso2.carbon.identity.oauth2.util.OAuth2Util.getPositiveIntProperty;
+
+/**
+ * Loads the active OAuth applications of a tenant into the {@link AppInfoCache} when the tenant is loaded, so that the
+ * first requests of the tenant do not have to go to the database for the application.
+ * <p>
+ * The applications are loaded in the background with a bulk query and only up to the configured number of
+ * applications per tenant.
+ */
+public class AppInfoCacheWarmUpObserver extends AbstractAxis2ConfigurationContextObserver {
+
+    private static final Log log = LogFactory.getLog(AppInfoCacheWarmUpObserver.class);
+
+    private static final String WARM_UP_ENABLE = "OAuth.AppInfoCache.WarmUp.Enable";
+    private static final String WARM_UP_MAX_APPS = "OAuth.AppInfoCache.WarmUp.MaxApps";
+    private static final int DEFAULT_WARM_UP_MAX_APPS = 1000;
+
+    private final int maxApps;
+    private final Executor executor;
+
+    public AppInfoCacheWarmUpObserver() {
+
+        this(getPositiveIntProperty(WARM_UP_MAX_APPS, DEFAULT_WARM_UP_MAX_APPS),
+                Executors.newSingleThreadExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "oauth-app-info-cache-warm-up");
+                    thread.setDaemon(true);
+                    return thread;
+                }));
+    }
+
+    AppInfoCacheWarmUpObserver(int maxApps, Executor executor) {
+
+        this.maxApps = maxApps;
+        this.executor = executor;
+    }
+
+    /**
+     * Check whether the warm up of the application cache is enabled.
+     *
+     * @return True if the warm up is enabled and the application cache is enabled.
+     */
+    public static boolean isEnabled() {
+
+        return Boolean.parseBoolean(IdentityUtil.getProperty(WARM_UP_ENABLE)) &&
+                AppInfoCache.getInstance().isEnabled();
+    }
+
+    @Override
+    public void creatingConfigurationContext(int tenantId) {
+
+        warmUp(tenantId);
+    }
+
+    /**
+     * Load the active applications of the tenant into the application cache in the background.
+     *
+     * @param tenantId Tenant ID.
+     */
+    public void warmUp(int tenantId) {
+
+        executor.execute(() -> loadApps(tenantId));
+    }
+
+    private void loadApps(int tenantId) {
+
+        try {
+            String tenantDomain = IdentityTenantUtil.getTenantDomain(tenantId);
+            List<OAuthAppDO> apps = new OAuthAppDAO().getActiveAppsInformation(tenantId, maxApps);
+            AppInfoCache appInfoCache = AppInfoCache.getInstance();
+            for (OAuthAppDO app : apps) {
+                String appTenantDomain = app.getAppOwner() != null &&
+                        StringUtils.isNotEmpty(app.getAppOwner().getTenantDomain()) ?
+                        app.getAppOwner().getTenantDomain() : tenantDomain;
+                appInfoCache.addToCache(app.getOauthConsumerKey(), app, appTenantDomain);
+            }
+            if (log.isDebugEnabled()) {
+                log.debug("Loaded " + apps.size() + " OAuth applications of the tenant: " + tenantDomain +
+                        " into the application cache.");
+            }
+        } catch (IdentityOAuth2Exception | RuntimeException e) {
+            // The cache is filled on demand anyway, hence a failed warm up is not fatal.
+            log.warn("Error while loading the OAuth applications of the tenant: " + tenantId +
+                    " into the application cache.", e);
+        }
+    }
+}
@@ -61,6 +61,7 @@ import org.wso2.carbon.identity.oauth.rar.core.AuthorizationDetailsSchemaValidat
 import org.wso2.carbon.identity.oauth.tokenprocessor.OAuth2RevocationProcessor;
 import org.wso2.carbon.identity.oauth.tokenprocessor.RefreshTokenGrantProcessor;
 import org.wso2.carbon.identity.oauth.tokenprocessor.TokenProvider;
+import org.wso2.carbon.identity.oauth.tokenprocessor.UserTokenRevocationExecutor;
 import org.wso2.carbon.identity.oauth2.IntrospectionDataProvider;
 import org.wso2.carbon.identity.oauth2.OAuth2ScopeService;
 import org.wso2.carbon.identity.oauth2.OAuth2Service;
@@ -76,6 +77,7 @@ import org.wso2.carbon.identity.oauth2.client.authentication.PublicClientAuthent
 import org.wso2.carbon.identity.oauth2.dao.AccessTokenDAO;
 import org.wso2.carbon.identity.oauth2.dao.OAuthTokenPersistenceFactory;
 import org.wso2.carbon.identity.oauth2.dao.TokenManagementDAO;
+import org.wso2.carbon.identity.oauth2.dao.TokenPersistencePipeline;
 import org.wso2.carbon.identity.oauth2.device.api.DeviceAuthService;
 import org.wso2.carbon.identity.oauth2.device.api.DeviceAuthServiceImpl;
 import org.wso2.carbon.identity.oauth2.device.response.DeviceFlowResponseTypeRequestValidator;
@@ -131,8 +133,10 @@ import org.wso2.carbon.idp.mgt.IdpManager;
 import org.wso2.carbon.registry.core.service.RegistryService;
 import org.wso2.carbon.stratos.common.listeners.TenantMgtListener;
 import org.wso2.carbon.user.core.service.RealmService;
+import org.wso2.carbon.utils.Axis2ConfigurationContextObserver;
 import org.wso2.carbon.utils.CarbonUtils;
 import org.wso2.carbon.utils.ConfigurationContextService;
+import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
 
 import java.io.File;
 import java.io.FileInputStream;
@@ -184,6 +188,8 @@ public class OAuth2ServiceComponent {
     private static final String HTTP_METHOD = "http-method";
     private static final String SECURED = "secured";
     private static final String SCOPES = "Scopes";
+    private static final long SAAS_TOKEN_REVOCATION_SHUTDOWN_TIMEOUT_MILLIS = 10000;
+    private static final long USER_TOKEN_REVOCATION_SHUTDOWN_TIMEOUT_MILLIS = 10000;
     private BundleContext bundleContext;
 
     @Reference(
@@ -348,6 +354,13 @@ public class OAuth2ServiceComponent {
                 log.error("OAuth - TenantMgtListener could not be registered.");
             }
 
+            if (AppInfoCacheWarmUpObserver.isEnabled()) {
+                AppInfoCacheWarmUpObserver appInfoCacheWarmUpObserver = new AppInfoCacheWarmUpObserver();
+                bundleContext.registerService(Axis2ConfigurationContextObserver.class.getName(),
+                        appInfoCacheWarmUpObserver, null);
+                appInfoCacheWarmUpObserver.warmUp(MultitenantConstants.SUPER_TENANT_ID);
+            }
+
             ServiceRegistration userStoreConfigEventSR = bundleContext.registerService(
                     UserStoreConfigListener.class.getName(), new OAuthUserStoreConfigListenerImpl(), null);
             if (userStoreConfigEventSR != null) {
@@ -486,6 +499,19 @@ public class OAuth2ServiceComponent {
         }
     }
 
+    protected void deactivate(ComponentContext context) {
+
+        // Let the queued SaaS token revocations complete before the bundle stops.
+        SaaSTokenRevocationExecutor.shutdownIfStarted(SAAS_TOKEN_REVOCATION_SHUTDOWN_TIMEOUT_MILLIS);
+        // Stop the workers of the parallel user token revocation.
+        UserTokenRevocationExecutor.shutdownIfStarted(USER_TOKEN_REVOCATION_SHUTDOWN_TIMEOUT_MILLIS);
+        // Flush the access tokens which are still queued for asynchronous persistence.
+        TokenPersistencePipeline.shutdownIfStarted();
+        if (log.isDebugEnabled()) {
+            log.debug("Identity OAuth2 bundle is deactivated.");
+        }
+    }
+
     /**
      * Set Application management service implementation
      *
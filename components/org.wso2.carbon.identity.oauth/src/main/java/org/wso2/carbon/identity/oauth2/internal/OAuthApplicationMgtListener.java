@@ -48,6 +48,7 @@ import org.wso2.carbon.identity.oauth.cache.AuthorizationGrantCache;
 import org.wso2.carbon.identity.oauth.cache.AuthorizationGrantCacheKey;
 import org.wso2.carbon.identity.oauth.cache.CacheEntry;
 import org.wso2.carbon.identity.oauth.cache.OAuthCache;
+import org.wso2.carbon.identity.oauth.cache.OAuthCacheGenerations;
 import org.wso2.carbon.identity.oauth.cache.OAuthCacheKey;
 import org.wso2.carbon.identity.oauth.common.OAuthConstants;
 import org.wso2.carbon.identity.oauth.common.exception.InvalidOAuthClientException;
@@ -58,6 +59,7 @@ import org.wso2.carbon.identity.oauth.dto.OAuthConsumerAppDTO;
 import org.wso2.carbon.identity.oauth.internal.OAuthComponentServiceHolder;
 import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
 import org.wso2.carbon.identity.oauth2.IdentityOAuth2ScopeConsentException;
+import org.wso2.carbon.identity.oauth2.dao.BatchConsumer;
 import org.wso2.carbon.identity.oauth2.dao.OAuthTokenPersistenceFactory;
 import org.wso2.carbon.identity.oauth2.model.AccessTokenDO;
 import org.wso2.carbon.identity.oauth2.model.AuthzCodeDO;
@@ -494,50 +496,79 @@ public class OAuthApplicationMgtListener extends AbstractApplicationMgtListener
     }
 
     /**
-     * Clear the cache entries against the token.
+     * Clear the cache entries against the given tokens of the application.
      *
-     * @param accessTokenDOSet Set of access token DO.
-     * @param consumerKey      Consumer key of the application.
-     * @param tenantDomain     Tenant domain of the application.
+     * @param accessTokenDOs Access token DOs.
+     * @param tenantDomain   Tenant domain of the application.
+     */
+    private void clearCacheEntriesAgainstTokens(List<AccessTokenDO> accessTokenDOs, String tenantDomain) {
+
+        // The cached tokens of the application are made stale at once by invalidating its generation.
+        boolean generationsEnabled = OAuthCacheGenerations.getInstance().isEnabled();
+        for (AccessTokenDO accessTokenDo : accessTokenDOs) {
+            // Remove access token from AuthorizationGrantCache
+            AuthorizationGrantCacheKey grantCacheKey = new AuthorizationGrantCacheKey(accessTokenDo.getAccessToken());
+            AuthorizationGrantCache.getInstance().clearCacheEntryByToken(grantCacheKey);
+            if (generationsEnabled) {
+                continue;
+            }
+            String tokenBindingReference = "NONE";
+            if (accessTokenDo.getTokenBinding() != null && StringUtils
+                    .isNotBlank(accessTokenDo.getTokenBinding().getBindingReference())) {
+                tokenBindingReference = accessTokenDo.getTokenBinding().getBindingReference();
+            }
+            // Remove access token from OAuthCache.
+            OAuthUtil.clearOAuthCache(accessTokenDo.getConsumerKey(), accessTokenDo.getAuthzUser(),
+                    OAuth2Util.buildScopeString(accessTokenDo.getScope()), tokenBindingReference);
+            OAuthUtil.clearOAuthCache(accessTokenDo.getConsumerKey(), accessTokenDo.getAuthzUser(),
+                    OAuth2Util.buildScopeString(accessTokenDo.getScope()));
+            OAuthUtil.clearOAuthCache(accessTokenDo.getConsumerKey(), accessTokenDo.getAuthzUser());
+            OAuthUtil.clearOAuthCache(accessTokenDo);
+            OAuthCacheKey oauthCacheKey = new OAuthCacheKey(accessTokenDo.getAccessToken());
+            CacheEntry oauthCacheEntry = OAuthCache.getInstance().getValueFromCache(oauthCacheKey);
+            if (oauthCacheEntry != null) {
+                OAuthCache.getInstance().clearCacheEntry(oauthCacheKey);
+                OAuthCache.getInstance().clearCacheEntry(oauthCacheKey, tenantDomain);
+            }
+        }
+    }
+
+    /**
+     * Clear the cache entries of the application.
      *
-     * @throws IdentityOAuth2Exception IdentityOAuth2Exception.
+     * @param consumerKey  Consumer key of the application.
+     * @param tenantDomain Tenant domain of the application.
      */
-    private void clearCacheEntriesAgainstTokenByConsumerKey(Set<AccessTokenDO> accessTokenDOSet, String consumerKey,
-                                                            String tenantDomain) throws IdentityOAuth2Exception {
+    private void clearCacheEntriesAgainstConsumerKey(String consumerKey, String tenantDomain) {
 
         AppInfoCache appInfoCache = AppInfoCache.getInstance();
         appInfoCache.clearCacheEntry(consumerKey, tenantDomain);
         OAuthCache.getInstance().clearCacheEntry(new OAuthCacheKey(consumerKey));
-        if (isNotEmpty(accessTokenDOSet)) {
-            for (AccessTokenDO accessTokenDo : accessTokenDOSet) {
-                String tokenBindingReference = "NONE";
-                if (accessTokenDo.getTokenBinding() != null && StringUtils
-                        .isNotBlank(accessTokenDo.getTokenBinding().getBindingReference())) {
-                    tokenBindingReference = accessTokenDo.getTokenBinding().getBindingReference();
-                }
-                // Remove access token from OAuthCache.
-                OAuthUtil.clearOAuthCache(accessTokenDo.getConsumerKey(), accessTokenDo.getAuthzUser(),
-                        OAuth2Util.buildScopeString(accessTokenDo.getScope()), tokenBindingReference);
-                OAuthUtil.clearOAuthCache(accessTokenDo.getConsumerKey(), accessTokenDo.getAuthzUser(),
-                        OAuth2Util.buildScopeString(accessTokenDo.getScope()));
-                OAuthUtil.clearOAuthCache(accessTokenDo.getConsumerKey(), accessTokenDo.getAuthzUser());
-                OAuthUtil.clearOAuthCache(accessTokenDo);
-            }
+        OAuthCacheGenerations.getInstance().invalidateClient(consumerKey);
+    }
 
-            Set<String> accessTokens = OAuthTokenPersistenceFactory.getInstance()
-                    .getAccessTokenDAO().getActiveTokensByConsumerKey(consumerKey);
-            for (String accessToken : accessTokens) {
-                // Remove access token from AuthorizationGrantCache
-                AuthorizationGrantCacheKey grantCacheKey = new AuthorizationGrantCacheKey(accessToken);
-                AuthorizationGrantCache.getInstance().clearCacheEntryByToken(grantCacheKey);
-                OAuthCacheKey oauthCacheKey = new OAuthCacheKey(accessToken);
-                CacheEntry oauthCacheEntry = OAuthCache.getInstance().getValueFromCache(oauthCacheKey);
-                if (oauthCacheEntry != null) {
-                    OAuthCache.getInstance().clearCacheEntry(oauthCacheKey);
-                    OAuthCache.getInstance().clearCacheEntry(oauthCacheKey, tenantDomain);
-                }
-            }
+    /**
+     * Revoke a batch of active tokens of the application and clear their cache entries.
+     *
+     * @param consumerKey    Consumer key of the application.
+     * @param accessTokenDOs Active access token DOs of the batch.
+     * @param tenantDomain   Tenant domain of the application.
+     * @throws IdentityOAuth2Exception If the tokens of the batch could not be revoked.
+     */
+    private void revokeTokenBatch(String consumerKey, List<AccessTokenDO> accessTokenDOs, String tenantDomain)
+            throws IdentityOAuth2Exception {
+
+        String[] accessTokens = new String[accessTokenDOs.size()];
+        for (int i = 0; i < accessTokens.length; i++) {
+            accessTokens[i] = accessTokenDOs.get(i).getAccessToken();
         }
+        try {
+            OAuthTokenPersistenceFactory.getInstance().getTokenManagementDAO().revokeTokens(consumerKey, accessTokens);
+        } catch (IdentityApplicationManagementException e) {
+            throw new IdentityOAuth2Exception("Error occurred while revoking a batch of tokens of the client ID: " +
+                    consumerKey, e);
+        }
+        clearCacheEntriesAgainstTokens(accessTokenDOs, tenantDomain);
     }
 
     /**
@@ -700,24 +731,15 @@ public class OAuthApplicationMgtListener extends AbstractApplicationMgtListener
                 }
                 final int tenantId = IdentityTenantUtil.getTenantId(tenantDomain);
 
-                new Thread(() -> {
-                    InboundAuthenticationRequestConfig[] configs = serviceProvider.getInboundAuthenticationConfig()
-                            .getInboundAuthenticationRequestConfigs();
-                    for (InboundAuthenticationRequestConfig config : configs) {
-                        if (IdentityApplicationConstants.OAuth2.NAME
-                                .equalsIgnoreCase(config.getInboundAuthType()) &&
-                                config.getInboundAuthKey() != null) {
-                            String oauthKey = config.getInboundAuthKey();
-                            try {
-                                OAuthTokenPersistenceFactory.getInstance().getTokenManagementDAO()
-                                        .revokeSaaSTokensOfOtherTenants(oauthKey, tenantId);
-                            } catch (IdentityOAuth2Exception e) {
-                                log.error("Error occurred while revoking access tokens for client ID: "
-                                        + config.getInboundAuthKey() + " and tenant domain: " + tenantDomain, e);
-                            }
-                        }
+                InboundAuthenticationRequestConfig[] configs = serviceProvider.getInboundAuthenticationConfig()
+                        .getInboundAuthenticationRequestConfigs();
+                for (InboundAuthenticationRequestConfig config : configs) {
+                    if (IdentityApplicationConstants.OAuth2.NAME.equalsIgnoreCase(config.getInboundAuthType()) &&
+                            config.getInboundAuthKey() != null) {
+                        SaaSTokenRevocationExecutor.getInstance().revokeSaaSTokensOfOtherTenants(
+                                config.getInboundAuthKey(), tenantDomain, tenantId);
                     }
-                }).start();
+                }
             }
         } finally {
             IdentityUtil.threadLocalProperties.get().remove(SAAS_PROPERTY);
@@ -741,21 +763,14 @@ public class OAuthApplicationMgtListener extends AbstractApplicationMgtListener
                     .equalsIgnoreCase(config.getInboundAuthType()) &&
                     config.getInboundAuthKey() != null) {
                 String oauthKey = config.getInboundAuthKey();
-                int countToken = 0;
-                Set<AccessTokenDO> activeDetailedTokens;
                 try {
-                    activeDetailedTokens = OAuthTokenPersistenceFactory
-                            .getInstance().getAccessTokenDAO().getActiveAcessTokenDataByConsumerKey(oauthKey);
-                    String[] accessTokens = new String[activeDetailedTokens.size()];
-                    for (AccessTokenDO detailToken : activeDetailedTokens) {
-                        String token = detailToken.getAccessToken();
-                        accessTokens[countToken] = token;
-                        countToken++;
-                    }
-                    clearCacheEntriesAgainstTokenByConsumerKey(activeDetailedTokens, oauthKey, tenantDomain);
-                    OAuthTokenPersistenceFactory.getInstance().getTokenManagementDAO()
-                            .revokeTokens(oauthKey, accessTokens);
-                } catch (IdentityOAuth2Exception | IdentityApplicationManagementException e) {
+                    // Each batch is revoked and cleared from the caches before the next batch is read.
+                    OAuthTokenPersistenceFactory.getInstance().getAccessTokenDAO()
+                            .processActiveAccessTokenDataByConsumerKey(oauthKey, BatchConsumer.DEFAULT_BATCH_SIZE,
+                                    activeDetailedTokens -> revokeTokenBatch(oauthKey, activeDetailedTokens,
+                                            tenantDomain));
+                    clearCacheEntriesAgainstConsumerKey(oauthKey, tenantDomain);
+                } catch (IdentityOAuth2Exception e) {
                     throw new IdentityApplicationManagementException("Error occurred while revoking tokens and " +
                             "authz code for client ID: " + config.getInboundAuthKey() + " and tenant domain: " +
                             tenantDomain, e);
@@ -21,6 +21,9 @@ package org.wso2.carbon.identity.oauth2.internal;
 import org.wso2.carbon.identity.core.util.IdentityCoreConstants.UserStoreState;
 import org.wso2.carbon.identity.oauth.OAuthUtil;
 import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+import org.wso2.carbon.identity.oauth2.dao.AccessTokenDAO;
+import org.wso2.carbon.identity.oauth2.dao.AuthorizationCodeDAO;
+import org.wso2.carbon.identity.oauth2.dao.BatchConsumer;
 import org.wso2.carbon.identity.oauth2.dao.OAuthTokenPersistenceFactory;
 import org.wso2.carbon.identity.oauth2.model.AccessTokenDO;
 import org.wso2.carbon.identity.oauth2.model.AuthzCodeDO;
@@ -28,11 +31,7 @@ import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
 import org.wso2.carbon.identity.user.store.configuration.listener.AbstractUserStoreConfigListener;
 import org.wso2.carbon.user.api.UserStoreException;
 
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
 
 /**
  * Userstore config listener for OAuth related functionality.
@@ -43,15 +42,8 @@ public class OAuthUserStoreConfigListenerImpl extends AbstractUserStoreConfigLis
     public void onUserStoreNamePreUpdate(int tenantId, String currentUserStoreName, String newUserStoreName) throws
             UserStoreException {
         try {
-            Set<AccessTokenDO> accessTokenDOs = OAuthTokenPersistenceFactory.getInstance()
-                    .getAccessTokenDAO().getAccessTokensOfUserStore(tenantId, currentUserStoreName);
-            for (AccessTokenDO accessTokenDO : accessTokenDOs) {
-                //Clear cache
-                OAuthUtil.clearOAuthCache(accessTokenDO.getConsumerKey(), accessTokenDO.getAuthzUser(),
-                        OAuth2Util.buildScopeString(accessTokenDO.getScope()));
-                OAuthUtil.clearOAuthCache(accessTokenDO.getConsumerKey(), accessTokenDO.getAuthzUser());
-                OAuthUtil.clearOAuthCache(accessTokenDO);
-            }
+            OAuthTokenPersistenceFactory.getInstance().getAccessTokenDAO().processAccessTokensOfUserStore(tenantId,
+                    currentUserStoreName, BatchConsumer.DEFAULT_BATCH_SIZE, this::clearCacheEntries);
             OAuthTokenPersistenceFactory.getInstance().getAccessTokenDAO()
                     .updateUserStoreDomain(tenantId, currentUserStoreName, newUserStoreName);
             OAuthTokenPersistenceFactory.getInstance().getAuthorizationCodeDAO()
@@ -80,53 +72,40 @@ public class OAuthUserStoreConfigListenerImpl extends AbstractUserStoreConfigLis
     private void revokeTokens(int tenantId, String userStoreName) throws UserStoreException {
 
         try {
-            Set<AccessTokenDO> accessTokenDOs = OAuthTokenPersistenceFactory.getInstance().getAccessTokenDAO()
-                    .getAccessTokensOfUserStore(tenantId, userStoreName);
-            Map<String, AccessTokenDO> latestAccessTokens = new HashMap<>();
-            for (AccessTokenDO accessTokenDO : accessTokenDOs) {
-                String keyString = accessTokenDO.getConsumerKey() + ":" + accessTokenDO.getAuthzUser() + ":" +
-                        OAuth2Util.buildScopeString(accessTokenDO.getScope()) + ":"
-                        + accessTokenDO.getAuthzUser().getFederatedIdPName();
-                AccessTokenDO accessTokenDOFromMap = latestAccessTokens.get(keyString);
-                if (accessTokenDOFromMap != null) {
-                    if (accessTokenDOFromMap.getIssuedTime().before(accessTokenDO.getIssuedTime())) {
-                        latestAccessTokens.put(keyString, accessTokenDO);
-                    }
-                } else {
-                    latestAccessTokens.put(keyString, accessTokenDO);
-                }
+            // Tokens are read and revoked batch by batch, so that the tokens of a large user store are not held in
+            // memory.
+            AccessTokenDAO accessTokenDAO = OAuthTokenPersistenceFactory.getInstance().getAccessTokenDAO();
+            accessTokenDAO.processAccessTokensOfUserStore(tenantId, userStoreName, BatchConsumer.DEFAULT_BATCH_SIZE,
+                    accessTokenDOs -> {
+                        clearCacheEntries(accessTokenDOs);
+                        accessTokenDAO.revokeAccessTokens(accessTokenDOs.stream().map(AccessTokenDO::getAccessToken)
+                                .toArray(String[]::new), OAuth2Util.isHashEnabled());
+                    });
 
-                //Clear cache
-                OAuthUtil.clearOAuthCache(accessTokenDO.getConsumerKey(), accessTokenDO.getAuthzUser(),
-                        OAuth2Util.buildScopeString(accessTokenDO.getScope()));
-                OAuthUtil.clearOAuthCache(accessTokenDO.getConsumerKey(), accessTokenDO.getAuthzUser());
-                OAuthUtil.clearOAuthCache(accessTokenDO);
-            }
-            ArrayList<String> tokensToRevoke = new ArrayList<>();
-            for (Map.Entry entry : latestAccessTokens.entrySet()) {
-                tokensToRevoke.add(((AccessTokenDO) entry.getValue()).getAccessToken());
-            }
-
-            if (!tokensToRevoke.isEmpty()) {
-                OAuthTokenPersistenceFactory.getInstance().getAccessTokenDAO()
-                        .revokeAccessTokens(tokensToRevoke.toArray(new String[tokensToRevoke.size()]),
-                                OAuth2Util.isHashEnabled());
-            }
-
-            List<AuthzCodeDO> latestAuthzCodes = OAuthTokenPersistenceFactory.getInstance()
-                    .getAuthorizationCodeDAO().getLatestAuthorizationCodesByUserStore(tenantId, userStoreName);
-
-            if (!latestAuthzCodes.isEmpty()) {
-                for (AuthzCodeDO authzCodeDO : latestAuthzCodes) {
-                    // remove the authorization code from the cache
-                    OAuthUtil.clearOAuthCache(authzCodeDO.getConsumerKey() + ":" + authzCodeDO.getAuthorizationCode());
-                }
-                OAuthTokenPersistenceFactory.getInstance()
-                        .getAuthorizationCodeDAO().deactivateAuthorizationCodes(latestAuthzCodes);
-            }
+            AuthorizationCodeDAO authorizationCodeDAO =
+                    OAuthTokenPersistenceFactory.getInstance().getAuthorizationCodeDAO();
+            authorizationCodeDAO.processLatestAuthorizationCodesByUserStore(tenantId, userStoreName,
+                    BatchConsumer.DEFAULT_BATCH_SIZE, latestAuthzCodes -> {
+                        for (AuthzCodeDO authzCodeDO : latestAuthzCodes) {
+                            // remove the authorization code from the cache
+                            OAuthUtil.clearOAuthCache(authzCodeDO.getConsumerKey() + ":" +
+                                    authzCodeDO.getAuthorizationCode());
+                        }
+                        authorizationCodeDAO.deactivateAuthorizationCodes(latestAuthzCodes);
+                    });
         } catch (IdentityOAuth2Exception e) {
             throw new UserStoreException("Error occurred while revoking Access Token of user store : " +
                     userStoreName + " in tenant :" + tenantId, e);
         }
     }
+
+    private void clearCacheEntries(List<AccessTokenDO> accessTokenDOs) {
+
+        for (AccessTokenDO accessTokenDO : accessTokenDOs) {
+            OAuthUtil.clearOAuthCache(accessTokenDO.getConsumerKey(), accessTokenDO.getAuthzUser(),
+                    OAuth2Util.buildScopeString(accessTokenDO.getScope()));
+            OAuthUtil.clearOAuthCache(accessTokenDO.getConsumerKey(), accessTokenDO.getAuthzUser());
+            OAuthUtil.clearOAuthCache(accessTokenDO);
+        }
+    }
 }
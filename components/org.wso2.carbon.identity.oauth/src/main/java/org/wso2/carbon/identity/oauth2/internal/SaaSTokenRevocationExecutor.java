@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.internal;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+import org.wso2.carbon.identity.oauth2.dao.OAuthTokenPersistenceFactory;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.wso2.carbon.identity.oauth2.util.OAuth2Util.getPositiveIntProperty;
+
+/**
+ * Revokes the tokens issued to other tenants for a client whose application is no longer a SaaS application.
+ * <p>
+ * The revocations run on a shared pool with a bounded queue instead of a new thread per application update. A client
+ * which is already waiting in the queue is not queued again, hence repeated updates of an application do not pile up.
+ * When the queue is full the revocation runs on the calling thread, so that no revocation is dropped.
+ */
+public class SaaSTokenRevocationExecutor {
+
+    private static final Log log = LogFactory.getLog(SaaSTokenRevocationExecutor.class);
+
+    private static final String POOL_SIZE = "OAuth.SaaSTokenRevocation.PoolSize";
+    private static final String QUEUE_SIZE = "OAuth.SaaSTokenRevocation.QueueSize";
+    private static final int DEFAULT_POOL_SIZE = 2;
+    private static final int DEFAULT_QUEUE_SIZE = 1000;
+
+    private static volatile SaaSTokenRevocationExecutor instance;
+
+    private final ClientTokenRevoker clientTokenRevoker;
+    private final ThreadPoolExecutor executor;
+    private final Set<String> pendingClients = ConcurrentHashMap.newKeySet();
+    private final AtomicLong submittedCount = new AtomicLong();
+    private final AtomicLong deduplicatedCount = new AtomicLong();
+    private final AtomicLong callerRunsCount = new AtomicLong();
+    private final AtomicLong completedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong totalRevocationTimeMillis = new AtomicLong();
+
+    SaaSTokenRevocationExecutor(int poolSize, int queueSize, ClientTokenRevoker clientTokenRevoker) {
+
+        this.clientTokenRevoker = clientTokenRevoker;
+        AtomicInteger threadCount = new AtomicInteger();
+        executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(queueSize), runnable -> {
+            Thread thread = new Thread(runnable, "oauth-saas-token-revocation-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public static SaaSTokenRevocationExecutor getInstance() {
+
+        if (instance == null) {
+            synchronized (SaaSTokenRevocationExecutor.class) {
+                if (instance == null) {
+                    instance = new SaaSTokenRevocationExecutor(getPositiveIntProperty(POOL_SIZE, DEFAULT_POOL_SIZE),
+                            getPositiveIntProperty(QUEUE_SIZE, DEFAULT_QUEUE_SIZE),
+                            (consumerKey, tenantId) -> OAuthTokenPersistenceFactory.getInstance()
+                                    .getTokenManagementDAO().revokeSaaSTokensOfOtherTenants(consumerKey, tenantId));
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Queue the revocation of the tokens issued to other tenants for the client.
+     *
+     * @param consumerKey  Consumer key of the client.
+     * @param tenantDomain Tenant domain of the application.
+     * @param tenantId     Tenant ID of the application.
+     */
+    public void revokeSaaSTokensOfOtherTenants(String consumerKey, String tenantDomain, int tenantId) {
+
+        submittedCount.incrementAndGet();
+        String clientKey = consumerKey + "@" + tenantId;
+        if (!pendingClients.add(clientKey)) {
+            deduplicatedCount.incrementAndGet();
+            if (log.isDebugEnabled()) {
+                log.debug("Token revocation of client: " + consumerKey + " is already queued.");
+            }
+            return;
+        }
+        Runnable task = () -> {
+            // Drop the client from the pending clients first, so that an update made during the revocation queues
+            // the client again.
+            pendingClients.remove(clientKey);
+            revoke(consumerKey, tenantDomain, tenantId);
+        };
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            callerRunsCount.incrementAndGet();
+            log.warn("SaaS token revocation queue is full. Revoking the tokens of client: " + consumerKey +
+                    " on the calling thread.");
+            task.run();
+        }
+    }
+
+    public int getQueueDepth() {
+
+        return executor.getQueue().size();
+    }
+
+    public int getActiveCount() {
+
+        return executor.getActiveCount();
+    }
+
+    public long getSubmittedCount() {
+
+        return submittedCount.get();
+    }
+
+    public long getDeduplicatedCount() {
+
+        return deduplicatedCount.get();
+    }
+
+    public long getCallerRunsCount() {
+
+        return callerRunsCount.get();
+    }
+
+    public long getCompletedCount() {
+
+        return completedCount.get();
+    }
+
+    public long getFailedCount() {
+
+        return failedCount.get();
+    }
+
+    /**
+     * Get the average time taken to revoke the tokens of a client.
+     *
+     * @return Average revocation time in milliseconds.
+     */
+    public long getAverageRevocationTimeMillis() {
+
+        long revocations = completedCount.get() + failedCount.get();
+        return revocations == 0 ? 0 : totalRevocationTimeMillis.get() / revocations;
+    }
+
+    /**
+     * Stop the workers of the executor after the queued revocations, if the executor was started.
+     *
+     * @param timeoutMillis Time to wait for the queued revocations.
+     */
+    static void shutdownIfStarted(long timeoutMillis) {
+
+        SaaSTokenRevocationExecutor executor = instance;
+        if (executor != null) {
+            executor.shutdown(timeoutMillis);
+        }
+    }
+
+    /**
+     * Stop the workers after the queued revocations.
+     *
+     * @param timeoutMillis Time to wait for the queued revocations.
+     */
+    public void shutdown(long timeoutMillis) {
+
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                log.warn("SaaS token revocation did not terminate in " + timeoutMillis + "ms with " +
+                        getQueueDepth() + " clients in the queue.");
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void revoke(String consumerKey, String tenantDomain, int tenantId) {
+
+        long startTime = System.currentTimeMillis();
+        PrivilegedCarbonContext.startTenantFlow();
+        try {
+            PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+            carbonContext.setTenantId(tenantId);
+            carbonContext.setTenantDomain(tenantDomain);
+            clientTokenRevoker.revoke(consumerKey, tenantId);
+            completedCount.incrementAndGet();
+        } catch (IdentityOAuth2Exception | RuntimeException e) {
+            failedCount.incrementAndGet();
+            log.error("Error occurred while revoking access tokens for client ID: " + consumerKey +
+                    " and tenant domain: " + tenantDomain, e);
+        } finally {
+            PrivilegedCarbonContext.endTenantFlow();
+            totalRevocationTimeMillis.addAndGet(System.currentTimeMillis() - startTime);
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("SaaS token revocation of client: " + consumerKey + " completed. Queue depth: " +
+                    getQueueDepth() + ", completed: " + completedCount.get() + ", failed: " + failedCount.get() +
+                    ", deduplicated: " + deduplicatedCount.get());
+        }
+    }
+
+    /**
+     * Revokes the tokens issued to other tenants for a client.
+     */
+    @FunctionalInterface
+    interface ClientTokenRevoker {
+
+        void revoke(String consumerKey, int tenantId) throws IdentityOAuth2Exception;
+    }
+}
@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.internal.cache;
+
+import org.apache.commons.lang.StringUtils;
+import org.wso2.carbon.identity.core.cache.CacheEntry;
+import org.wso2.carbon.identity.oauth2.Oauth2ScopeConstants;
+import org.wso2.carbon.identity.oauth2.bean.Scope;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import static org.wso2.carbon.identity.oauth2.Oauth2ScopeConstants.DEFAULT_SCOPE_BINDING;
+
+/**
+ * Registry of all the scopes of a tenant, indexed by the scope name.
+ * <p>
+ * The registry is built from a single query over the scopes and the scope bindings of the tenant and is not modified
+ * once built. A change to the scopes of the tenant drops the registry, and the next lookup builds a new one. Scopes
+ * handed out by the registry are copies, hence callers may modify them.
+ * <p>
+ * Scope names and binding types are matched the way the database compares them. The default collations of MySQL,
+ * MariaDB and MSSQL compare strings case insensitively, hence the registry of such a database matches them case
+ * insensitively too, while the other databases match them exactly.
+ */
+public class OAuthScopeRegistry extends CacheEntry {
+
+    private static final long serialVersionUID = 4627391580264738012L;
+
+    private final Map<String, ScopeRecord> scopes;
+    private final boolean caseInsensitive;
+
+    public OAuthScopeRegistry(Collection<ScopeRecord> scopeRecords) {
+
+        this(scopeRecords, false);
+    }
+
+    /**
+     * Build the registry of the given scopes.
+     *
+     * @param scopeRecords    Scopes of the tenant.
+     * @param caseInsensitive Whether the database compares scope names and binding types case insensitively.
+     */
+    public OAuthScopeRegistry(Collection<ScopeRecord> scopeRecords, boolean caseInsensitive) {
+
+        this.caseInsensitive = caseInsensitive;
+        Map<String, ScopeRecord> scopeMap = new HashMap<>();
+        for (ScopeRecord scopeRecord : scopeRecords) {
+            ScopeRecord existingRecord = scopeMap.get(getKey(scopeRecord.name));
+            if (existingRecord == null) {
+                scopeMap.put(getKey(scopeRecord.name), scopeRecord);
+            } else {
+                existingRecord.bindingRows.addAll(scopeRecord.bindingRows);
+            }
+        }
+        this.scopes = Collections.unmodifiableMap(scopeMap);
+    }
+
+    /**
+     * Check whether a scope with the given name exists in the tenant.
+     *
+     * @param scopeName         Name of the scope.
+     * @param includeOIDCScopes Whether to consider OIDC scopes as well.
+     * @return True if the scope exists.
+     */
+    public boolean isScopeExists(String scopeName, boolean includeOIDCScopes) {
+
+        ScopeRecord scopeRecord = scopes.get(getKey(scopeName));
+        return scopeRecord != null && (includeOIDCScopes || scopeRecord.isOAuth2Scope());
+    }
+
+    /**
+     * Get the OAuth2 scope with the given name.
+     *
+     * @param scopeName Name of the scope.
+     * @return Copy of the scope, or null if there is no OAuth2 scope with the name.
+     */
+    public Scope getScope(String scopeName) {
+
+        ScopeRecord scopeRecord = scopes.get(getKey(scopeName));
+        if (scopeRecord == null || !scopeRecord.isOAuth2Scope()) {
+            return null;
+        }
+        Scope scope = scopeRecord.newScope();
+        for (String[] bindingRow : scopeRecord.bindingRows) {
+            // A scope without bindings is returned with an empty default binding.
+            String bindingType = bindingRow[0] != null ? bindingRow[0] : DEFAULT_SCOPE_BINDING;
+            scope.addScopeBinding(bindingType, bindingRow[1]);
+        }
+        return scope;
+    }
+
+    /**
+     * Get the scopes of the tenant.
+     *
+     * @param includeOIDCScopes Whether to include OIDC scopes as well.
+     * @return Copies of the scopes.
+     */
+    public Set<Scope> getScopes(boolean includeOIDCScopes) {
+
+        return getScopes(scopes.keySet(), includeOIDCScopes);
+    }
+
+    /**
+     * Get the scopes of the tenant among the given scope names.
+     *
+     * @param scopeNames        Names of the scopes.
+     * @param includeOIDCScopes Whether to include OIDC scopes as well.
+     * @return Copies of the existing scopes.
+     */
+    public Set<Scope> getScopes(Collection<String> scopeNames, boolean includeOIDCScopes) {
+
+        Set<String> keys = new HashSet<>();
+        for (String scopeName : scopeNames) {
+            keys.add(getKey(scopeName));
+        }
+        Set<Scope> result = new HashSet<>();
+        for (String key : keys) {
+            ScopeRecord scopeRecord = scopes.get(key);
+            if (scopeRecord == null || (!includeOIDCScopes && !scopeRecord.isOAuth2Scope())) {
+                continue;
+            }
+            Scope scope = scopeRecord.newScope();
+            for (String[] bindingRow : scopeRecord.bindingRows) {
+                if (bindingRow[1] != null) {
+                    scope.addScopeBinding(bindingRow[0], bindingRow[1]);
+                }
+            }
+            result.add(scope);
+        }
+        return result;
+    }
+
+    /**
+     * Get the OAuth2 scopes which have bindings of the given binding type. Only the bindings of the binding type are
+     * added to the returned scopes.
+     *
+     * @param bindingType Binding type.
+     * @return Copies of the scopes.
+     */
+    public Set<Scope> getScopesByBindingType(String bindingType) {
+
+        Set<Scope> result = new HashSet<>();
+        for (ScopeRecord scopeRecord : scopes.values()) {
+            if (!scopeRecord.isOAuth2Scope()) {
+                continue;
+            }
+            Scope scope = null;
+            for (String[] bindingRow : scopeRecord.bindingRows) {
+                if (bindingType != null && bindingRow[0] != null && getKey(bindingType).equals(getKey(bindingRow[0]))) {
+                    if (scope == null) {
+                        scope = scopeRecord.newScope();
+                    }
+                    scope.addScopeBinding(bindingType, bindingRow[1]);
+                }
+            }
+            if (scope != null) {
+                result.add(scope);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get the bindings of the scope with the given name regardless of the scope type and the binding type.
+     *
+     * @param scopeName Name of the scope.
+     * @return Bindings of the scope.
+     */
+    public Set<String> getBindings(String scopeName) {
+
+        Set<String> bindings = new HashSet<>();
+        ScopeRecord scopeRecord = scopes.get(getKey(scopeName));
+        if (scopeRecord != null) {
+            for (String[] bindingRow : scopeRecord.bindingRows) {
+                if (StringUtils.isNotEmpty(bindingRow[1])) {
+                    bindings.add(bindingRow[1]);
+                }
+            }
+        }
+        return bindings;
+    }
+
+    public int size() {
+
+        return scopes.size();
+    }
+
+    private String getKey(String name) {
+
+        return caseInsensitive && name != null ? name.toLowerCase(Locale.ENGLISH) : name;
+    }
+
+    /**
+     * A scope of the registry as it is stored in the database.
+     */
+    public static class ScopeRecord implements Serializable {
+
+        private static final long serialVersionUID = -2154386107329845716L;
+
+        private final String name;
+        private final String displayName;
+        private final String description;
+        private final String scopeType;
+        private final List<String[]> bindingRows = new ArrayList<>();
+
+        public ScopeRecord(String name, String displayName, String description, String scopeType) {
+
+            this.name = name;
+            this.displayName = displayName;
+            this.description = description;
+            this.scopeType = scopeType;
+        }
+
+        /**
+         * Add a binding row of the scope. Rows of a scope without bindings carry null values.
+         *
+         * @param bindingType Binding type.
+         * @param binding     Binding.
+         */
+        public void addBinding(String bindingType, String binding) {
+
+            bindingRows.add(new String[]{bindingType, binding});
+        }
+
+        private boolean isOAuth2Scope() {
+
+            return Oauth2ScopeConstants.SCOPE_TYPE_OAUTH2.equals(scopeType);
+        }
+
+        private Scope newScope() {
+
+            return new Scope(name, displayName, new ArrayList<>(), description);
+        }
+    }
+}
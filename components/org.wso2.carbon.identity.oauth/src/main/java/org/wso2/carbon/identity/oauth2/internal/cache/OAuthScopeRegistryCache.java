@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.internal.cache;
+
+import org.wso2.carbon.identity.core.cache.BaseCache;
+
+/**
+ * Cache of the scope registries of the tenants. The registry of a tenant is cached against the tenant ID.
+ */
+public class OAuthScopeRegistryCache extends BaseCache<Integer, OAuthScopeRegistry> {
+
+    private static final String CACHE_NAME = "OAuthScopeRegistryCache";
+
+    private static final OAuthScopeRegistryCache instance = new OAuthScopeRegistryCache();
+
+    private OAuthScopeRegistryCache() {
+
+        super(CACHE_NAME);
+    }
+
+    /**
+     * Returns OAuthScopeRegistryCache instance
+     *
+     * @return instance of OAuthScopeRegistryCache
+     */
+    public static OAuthScopeRegistryCache getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Drop the scope registry of the tenant.
+     *
+     * @param tenantId Tenant ID.
+     */
+    public void clearScopeRegistry(int tenantId) {
+
+        clearCacheEntry(tenantId, tenantId);
+    }
+}
@@ -21,38 +21,60 @@ package org.wso2.carbon.identity.oauth2.internal.cache;
 import org.wso2.carbon.identity.core.cache.CacheEntry;
 import org.wso2.carbon.identity.oauth2.model.UserApplicationScopeConsentDO;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Cache entry for User Consented Scope.
+ * <p>
+ * The entry holds the consents of a user for all the applications. An application without a consent in the entry
+ * has no consent of the user. The entry is not modified once created.
  */
 public class OAuthUserConsentedScopeCacheEntry extends CacheEntry {
 
-    private String appID;
-    private UserApplicationScopeConsentDO userApplicationScopeConsentDO;
-
-    public OAuthUserConsentedScopeCacheEntry(String appId, UserApplicationScopeConsentDO userConsent) {
-
-        this.appID = appId;
-        this.userApplicationScopeConsentDO = userConsent;
-
-    }
+    private final Map<String, UserApplicationScopeConsentDO> userConsents;
 
-    public String getAppID() {
+    public OAuthUserConsentedScopeCacheEntry(List<UserApplicationScopeConsentDO> userConsents) {
 
-        return appID;
+        Map<String, UserApplicationScopeConsentDO> consents = new HashMap<>();
+        for (UserApplicationScopeConsentDO userConsent : userConsents) {
+            consents.put(userConsent.getAppId(), copyOf(userConsent));
+        }
+        this.userConsents = Collections.unmodifiableMap(consents);
     }
 
-    public void setAppID(String appID) {
+    /**
+     * Get the consent of the user for the application.
+     *
+     * @param appId Application ID.
+     * @return Copy of the consent, or an empty consent if the user has no consent for the application.
+     */
+    public UserApplicationScopeConsentDO getUserConsent(String appId) {
 
-        this.appID = appID;
+        UserApplicationScopeConsentDO userConsent = userConsents.get(appId);
+        return userConsent != null ? copyOf(userConsent) : new UserApplicationScopeConsentDO(appId);
     }
 
-    public UserApplicationScopeConsentDO getUserApplicationScopeConsentDO() {
+    /**
+     * Get the consents of the user for all the applications.
+     *
+     * @return Copies of the consents.
+     */
+    public List<UserApplicationScopeConsentDO> getUserConsents() {
 
-        return userApplicationScopeConsentDO;
+        List<UserApplicationScopeConsentDO> consents = new ArrayList<>(userConsents.size());
+        for (UserApplicationScopeConsentDO userConsent : userConsents.values()) {
+            consents.add(copyOf(userConsent));
+        }
+        return consents;
     }
 
-    public void setUserApplicationScopeConsentDO(UserApplicationScopeConsentDO userApplicationScopeConsentDO) {
+    private static UserApplicationScopeConsentDO copyOf(UserApplicationScopeConsentDO userConsent) {
 
-        this.userApplicationScopeConsentDO = userApplicationScopeConsentDO;
+        return new UserApplicationScopeConsentDO(userConsent.getAppId(),
+                new ArrayList<>(userConsent.getApprovedScopes()), new ArrayList<>(userConsent.getDeniedScopes()));
     }
 }
@@ -79,6 +79,8 @@ public class AccessTokenDO extends CacheEntry {
 
     private int appResidentTenantId = MultitenantConstants.INVALID_TENANT_ID;
 
+    private transient long cacheGeneration;
+
     public AccessTokenDO(String consumerKey, AuthenticatedUser authzUser, String[] scope, Timestamp issuedTime,
                          Timestamp refreshTokenIssuedTime, long validityPeriodInMillis,
                          long refreshTokenValidityPeriodInMillis, String tokenType) {
@@ -359,4 +361,19 @@ public class AccessTokenDO extends CacheEntry {
 
         this.appResidentTenantId = appResidentTenantId;
     }
+
+    /**
+     * Get the OAuth cache generation of the client this token was stamped with when it was added to the OAuth cache.
+     *
+     * @return Cache generation of the token.
+     */
+    public long getCacheGeneration() {
+
+        return cacheGeneration;
+    }
+
+    public void setCacheGeneration(long cacheGeneration) {
+
+        this.cacheGeneration = cacheGeneration;
+    }
 }
@@ -90,6 +90,8 @@ import org.wso2.carbon.identity.oauth2.validators.DefaultOAuth2ScopeValidator;
 import org.wso2.carbon.identity.oauth2.validators.JDBCPermissionBasedInternalScopeValidator;
 import org.wso2.carbon.identity.oauth2.validators.RoleBasedInternalScopeValidator;
 import org.wso2.carbon.identity.openidconnect.IDTokenBuilder;
+import org.wso2.carbon.identity.openidconnect.OIDCClaimUtil;
+import org.wso2.carbon.identity.openidconnect.model.ResolvedUserClaims;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
 import org.wso2.carbon.user.api.UserStoreException;
 import org.wso2.carbon.user.core.common.AbstractUserStoreManager;
@@ -694,6 +696,7 @@ public class AccessTokenIssuer {
             }
         }
         if (authorizationGrantCacheEntry.isPresent()) {
+            carryForwardResolvedUserClaims(authorizationGrantCacheEntry.get(), tokReqMsgCtx);
             cacheUserAttributesAgainstAccessToken(authorizationGrantCacheEntry.get(), tokenRespDTO);
         }
 
@@ -1440,6 +1443,7 @@ public class AccessTokenIssuer {
             AuthorizationGrantCacheEntry authorizationGrantCacheEntry =
                     new AuthorizationGrantCacheEntry(tokReqMsgCtx.getAuthorizedUser().getUserAttributes());
             authorizationGrantCacheEntry.setTokenId(tokenRespDTO.getTokenId());
+            carryForwardResolvedUserClaims(authorizationGrantCacheEntry, tokReqMsgCtx);
 
             authorizationGrantCacheEntry.setValidityPeriod(
                     TimeUnit.MILLISECONDS.toNanos(tokenRespDTO.getExpiresInMillis()));
@@ -1447,6 +1451,20 @@ public class AccessTokenIssuer {
         }
     }
 
+    /**
+     * Adds the user claims retrieved from the user store while issuing the token to the cache entry added against the
+     * access token, so that a subsequent user info request can reuse them.
+     */
+    private void carryForwardResolvedUserClaims(AuthorizationGrantCacheEntry authorizationGrantCacheEntry,
+                                                OAuthTokenReqMessageContext tokReqMsgCtx) {
+
+        ResolvedUserClaims resolvedUserClaims = tokReqMsgCtx.getResolvedUserClaims();
+        if (resolvedUserClaims != null && !resolvedUserClaims.isEmpty() &&
+                OIDCClaimUtil.isUserInfoResolvedClaimsReuseEnabled()) {
+            authorizationGrantCacheEntry.setResolvedUserClaims(resolvedUserClaims);
+        }
+    }
+
     private void persistCustomizedAccessTokenAttributesForRefreshToken(OAuth2AccessTokenRespDTO tokenRespDTO,
                                                                        OAuthTokenReqMessageContext tokReqMsgCtx) {
 
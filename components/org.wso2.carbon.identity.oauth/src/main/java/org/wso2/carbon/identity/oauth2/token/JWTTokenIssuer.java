@@ -23,8 +23,6 @@ import com.nimbusds.jose.JOSEException;
 import com.nimbusds.jose.JOSEObjectType;
 import com.nimbusds.jose.JWSAlgorithm;
 import com.nimbusds.jose.JWSHeader;
-import com.nimbusds.jose.JWSSigner;
-import com.nimbusds.jose.util.Base64URL;
 import com.nimbusds.jwt.JWT;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.JWTParser;
@@ -52,15 +50,14 @@ import org.wso2.carbon.identity.oauth2.internal.OAuth2ServiceComponentHolder;
 import org.wso2.carbon.identity.oauth2.token.bindings.TokenBinding;
 import org.wso2.carbon.identity.oauth2.token.handlers.claims.JWTAccessTokenClaimProvider;
 import org.wso2.carbon.identity.oauth2.token.handlers.grant.AuthorizationGrantHandler;
+import org.wso2.carbon.identity.oauth2.util.JWTSigningContext;
+import org.wso2.carbon.identity.oauth2.util.JWTSigningContextCache;
 import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
 import org.wso2.carbon.identity.openidconnect.CustomClaimsCallbackHandler;
 import org.wso2.carbon.identity.openidconnect.OIDCClaimUtil;
 import org.wso2.carbon.identity.openidconnect.util.ClaimHandlerUtil;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
 
-import java.security.Key;
-import java.security.cert.Certificate;
-import java.security.interfaces.RSAPrivateKey;
 import java.text.ParseException;
 import java.util.Arrays;
 import java.util.Calendar;
@@ -74,7 +71,6 @@ import java.util.UUID;
 import static org.wso2.carbon.identity.oauth.common.OAuthConstants.OIDCConfigProperties.SUBJECT_TOKEN_EXPIRY_TIME_VALUE;
 import static org.wso2.carbon.identity.oauth.common.OAuthConstants.RENEW_TOKEN_WITHOUT_REVOKING_EXISTING_ENABLE_CONFIG;
 import static org.wso2.carbon.identity.oauth.common.OAuthConstants.REQUEST_BINDING_TYPE;
-import static org.wso2.carbon.identity.oauth2.util.OAuth2Util.getPrivateKey;
 
 /**
  * Self contained access token builder.
@@ -481,13 +477,9 @@ public class JWTTokenIssuer extends OauthTokenIssuerImpl {
             // Add claim with signer tenant to jwt claims set.
             jwtClaimsSet = setSignerRealm(tenantDomain, jwtClaimsSet);
 
-            Key privateKey = getPrivateKey(tenantDomain, tenantId);
-            JWSSigner signer = OAuth2Util.createJWSSigner((RSAPrivateKey) privateKey);
-            JWSHeader.Builder headerBuilder = new JWSHeader.Builder((JWSAlgorithm) signatureAlgorithm);
-            Certificate certificate = OAuth2Util.getCertificate(tenantDomain, tenantId);
-            String certThumbPrint = OAuth2Util.getThumbPrintWithPrevAlgorithm(certificate, false);
-            headerBuilder.keyID(OAuth2Util.getKID(OAuth2Util.getCertificate(tenantDomain, tenantId),
-                    (JWSAlgorithm) signatureAlgorithm, tenantDomain));
+            JWTSigningContext signingContext = JWTSigningContextCache.getInstance()
+                    .getSigningContext(tenantDomain, tenantId, (JWSAlgorithm) signatureAlgorithm);
+            JWSHeader.Builder headerBuilder = signingContext.getHeaderBuilder();
 
             if (authorizationContext != null && authorizationContext.isSubjectTokenFlow()) {
                 headerBuilder.type(new JOSEObjectType(JWT_TYP_HEADER_VALUE));
@@ -495,9 +487,8 @@ public class JWTTokenIssuer extends OauthTokenIssuerImpl {
                 // Set the required "typ" header "at+jwt" for access tokens issued by the issuer
                 headerBuilder.type(new JOSEObjectType(DEFAULT_TYP_HEADER_VALUE));
             }
-            headerBuilder.x509CertThumbprint(new Base64URL(certThumbPrint));
             SignedJWT signedJWT = new SignedJWT(headerBuilder.build(), jwtClaimsSet);
-            signedJWT.sign(signer);
+            signedJWT.sign(signingContext.getSigner());
             return signedJWT.serialize();
         } catch (JOSEException e) {
             throw new IdentityOAuth2Exception("Error occurred while signing JWT", e);
@@ -943,10 +934,36 @@ public class JWTTokenIssuer extends OauthTokenIssuerImpl {
             return jwtClaimsSetBuilder.build();
         }
 
+        if (tokenReqMessageContext != null && tokenReqMessageContext.getAccessTokenOIDCClaims() != null) {
+            return handleResolvedAccessTokenOIDCClaims(jwtClaimsSetBuilder, tokenReqMessageContext);
+        }
+
         CustomClaimsCallbackHandler claimsCallBackHandler = ClaimHandlerUtil.getClaimsCallbackHandler(oAuthAppDO);
         return claimsCallBackHandler.handleCustomClaims(jwtClaimsSetBuilder, tokenReqMessageContext);
     }
 
+    /**
+     * Adds the OIDC claims already resolved for this token request, instead of resolving them again. As the claims
+     * callback handlers do, a claim already set in the builder is not overridden.
+     */
+    private JWTClaimsSet handleResolvedAccessTokenOIDCClaims(JWTClaimsSet.Builder jwtClaimsSetBuilder,
+                                                             OAuthTokenReqMessageContext tokenReqMessageContext) {
+
+        Map<String, Object> accessTokenOIDCClaims = tokenReqMessageContext.getAccessTokenOIDCClaims();
+        if (log.isDebugEnabled()) {
+            log.debug("Using the OIDC claims already resolved for the token request. Claims: " +
+                    accessTokenOIDCClaims.keySet());
+        }
+
+        JWTClaimsSet jwtClaimsSet = jwtClaimsSetBuilder.build();
+        accessTokenOIDCClaims.forEach((claimKey, claimValue) -> {
+            if (jwtClaimsSet.getClaim(claimKey) == null) {
+                jwtClaimsSetBuilder.claim(claimKey, claimValue);
+            }
+        });
+        return jwtClaimsSetBuilder.build();
+    }
+
     private boolean shouldSkipOIDCClaimHandling(OAuthTokenReqMessageContext tokenReqMessageContext) {
 
         String grantType = tokenReqMessageContext.getOauth2AccessTokenReqDTO().getGrantType();
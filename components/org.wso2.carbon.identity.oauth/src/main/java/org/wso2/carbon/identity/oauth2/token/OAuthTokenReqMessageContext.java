@@ -23,6 +23,7 @@ import org.wso2.carbon.identity.oauth.common.OAuthConstants;
 import org.wso2.carbon.identity.oauth.rar.model.AuthorizationDetails;
 import org.wso2.carbon.identity.oauth2.dto.OAuth2AccessTokenReqDTO;
 import org.wso2.carbon.identity.oauth2.token.bindings.TokenBinding;
+import org.wso2.carbon.identity.openidconnect.model.ResolvedUserClaims;
 
 import java.util.List;
 import java.util.Map;
@@ -66,6 +67,10 @@ public class OAuthTokenReqMessageContext {
 
     private Map<String, Object> additionalAccessTokenClaims;
 
+    private Map<String, Object> accessTokenOIDCClaims;
+
+    private ResolvedUserClaims resolvedUserClaims;
+
     private AuthorizationDetails authorizationDetails;
 
     public OAuthTokenReqMessageContext(OAuth2AccessTokenReqDTO oauth2AccessTokenReqDTO) {
@@ -236,6 +241,42 @@ public class OAuthTokenReqMessageContext {
         this.additionalAccessTokenClaims = additionalAccessTokenClaims;
     }
 
+    /**
+     * Returns the OIDC claims of the user resolved for the access token of this token request.
+     *
+     * @return The resolved OIDC claims, or {@code null} if the claims are not resolved yet.
+     */
+    public Map<String, Object> getAccessTokenOIDCClaims() {
+
+        return accessTokenOIDCClaims;
+    }
+
+    /**
+     * Sets the OIDC claims of the user resolved for the access token, so that they are resolved only once per token
+     * request.
+     *
+     * @param accessTokenOIDCClaims The resolved OIDC claims.
+     */
+    public void setAccessTokenOIDCClaims(Map<String, Object> accessTokenOIDCClaims) {
+
+        this.accessTokenOIDCClaims = accessTokenOIDCClaims;
+    }
+
+    /**
+     * Returns the claims of the user retrieved from the user store while serving this token request.
+     *
+     * @return The resolved user claims, or {@code null} if no claims are retrieved yet.
+     */
+    public ResolvedUserClaims getResolvedUserClaims() {
+
+        return resolvedUserClaims;
+    }
+
+    public void setResolvedUserClaims(ResolvedUserClaims resolvedUserClaims) {
+
+        this.resolvedUserClaims = resolvedUserClaims;
+    }
+
     /**
      * Retrieves the user consented or authorized authorization details.
      *
@@ -81,6 +81,7 @@ public class AuthorizationCodeGrantHandler extends AbstractAuthorizationGrantHan
         AuthzCodeDO authzCodeBean = getPersistedAuthzCode(tokenReq);
 
         validateAuthzCodeFromRequest(authzCodeBean, tokenReq.getClientId(), tokenReq.getAuthorizationCode());
+        boolean redeemed;
         try {
             // If redirect_uri was given in the authorization request,
             // token request should send matching redirect_uri value.
@@ -89,9 +90,13 @@ public class AuthorizationCodeGrantHandler extends AbstractAuthorizationGrantHan
             setPropertiesForTokenGeneration(tokReqMsgCtx, tokenReq, authzCodeBean);
         } finally {
             // After validating grant, authorization code is revoked. This is done to stop repetitive usage of
-            // same authorization code in erroneous token requests.
+            // same authorization code in erroneous token requests. The code is revoked only if it is still active,
+            // hence only one of the concurrent token requests of the same code can proceed.
             tokReqMsgCtx.addProperty(CODE_ID, authzCodeBean.getAuthzCodeId());
-            revokeAuthorizationCode(authzCodeBean);
+            redeemed = redeemAuthorizationCode(authzCodeBean);
+        }
+        if (!redeemed) {
+            throw new IdentityOAuth2Exception("Inactive authorization code received from token request");
         }
         if (log.isDebugEnabled()) {
             log.debug("Found Authorization Code for Client : " + tokenReq.getClientId() +
@@ -598,13 +603,18 @@ public class AuthorizationCodeGrantHandler extends AbstractAuthorizationGrantHan
         return true;
     }
 
-    private void revokeAuthorizationCode(AuthzCodeDO authzCodeBean) throws IdentityOAuth2Exception {
+    private boolean redeemAuthorizationCode(AuthzCodeDO authzCodeBean) throws IdentityOAuth2Exception {
 
-        OAuthTokenPersistenceFactory.getInstance().getAuthorizationCodeDAO().updateAuthorizationCodeState(
-                authzCodeBean.getAuthorizationCode(), authzCodeBean.getAuthzCodeId(),
-                OAuthConstants.AuthorizationCodeState.REVOKED);
+        boolean redeemed = OAuthTokenPersistenceFactory.getInstance().getAuthorizationCodeDAO()
+                .redeemAuthorizationCode(authzCodeBean.getAuthorizationCode(), authzCodeBean.getAuthzCodeId());
         if (log.isDebugEnabled()) {
-            log.debug("Changed state of authorization code : " + authzCodeBean.getAuthorizationCode() + " to revoked");
+            if (redeemed) {
+                log.debug("Changed state of authorization code : " + authzCodeBean.getAuthorizationCode() +
+                        " to revoked");
+            } else {
+                log.debug("Authorization code : " + authzCodeBean.getAuthorizationCode() + " was already " +
+                        "redeemed by another token request");
+            }
         }
         if (cacheEnabled) {
             // remove the authorization code from the cache
@@ -616,6 +626,7 @@ public class AuthorizationCodeGrantHandler extends AbstractAuthorizationGrantHan
                         " was removed from the cache.");
             }
         }
+        return redeemed;
     }
 
     private OAuthAppDO getOAuthAppDO(String clientId) throws IdentityOAuth2Exception {
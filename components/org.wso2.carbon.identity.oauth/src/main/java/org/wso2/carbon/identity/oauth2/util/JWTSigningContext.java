@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.util;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.util.Base64URL;
+
+import java.security.cert.Certificate;
+
+/**
+ * Immutable signing material of a tenant for a given JWS algorithm. Holds the signer, the key id and the x5t
+ * thumbprint computed from the tenant's signing certificate along with a header template, so that they do not need to
+ * be recomputed for every signed JWT.
+ */
+public class JWTSigningContext {
+
+    private final Certificate certificate;
+    private final JWSSigner signer;
+    private final String keyId;
+    private final Base64URL x509CertThumbprint;
+    private final JWSHeader headerTemplate;
+
+    public JWTSigningContext(JWSAlgorithm algorithm, Certificate certificate, JWSSigner signer, String keyId,
+                             Base64URL x509CertThumbprint) {
+
+        this.certificate = certificate;
+        this.signer = signer;
+        this.keyId = keyId;
+        this.x509CertThumbprint = x509CertThumbprint;
+        this.headerTemplate = new JWSHeader.Builder(algorithm)
+                .keyID(keyId)
+                .x509CertThumbprint(x509CertThumbprint)
+                .build();
+    }
+
+    /**
+     * Get a new header builder pre-populated with the algorithm, key id and x5t thumbprint of this context.
+     *
+     * @return JWS header builder.
+     */
+    public JWSHeader.Builder getHeaderBuilder() {
+
+        return new JWSHeader.Builder(headerTemplate);
+    }
+
+    public JWSSigner getSigner() {
+
+        return signer;
+    }
+
+    public String getKeyId() {
+
+        return keyId;
+    }
+
+    public Base64URL getX509CertThumbprint() {
+
+        return x509CertThumbprint;
+    }
+
+    /**
+     * Check whether this context was built for the given signing certificate.
+     *
+     * @param certificate Current signing certificate of the tenant.
+     * @return True if the context was built for the given certificate.
+     */
+    public boolean isBuiltFor(Certificate certificate) {
+
+        return this.certificate == certificate || (this.certificate != null && this.certificate.equals(certificate));
+    }
+}
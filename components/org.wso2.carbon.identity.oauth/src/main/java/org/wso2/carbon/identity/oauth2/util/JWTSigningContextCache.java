@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.util;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.util.Base64URL;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+
+import java.security.Key;
+import java.security.cert.Certificate;
+import java.security.interfaces.RSAPrivateKey;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Node local cache of the {@link JWTSigningContext} of each tenant and JWS algorithm.
+ * <p>
+ * The signing certificate of the tenant is resolved on each lookup. Since the keystore resolver caches the keystores,
+ * this is a cheap operation and it makes sure that a context built for a rotated certificate is never served. The
+ * cached signer, key id and thumbprint are rebuilt whenever the certificate of the tenant changes.
+ */
+public class JWTSigningContextCache {
+
+    private static final Log log = LogFactory.getLog(JWTSigningContextCache.class);
+    private static final JWTSigningContextCache instance = new JWTSigningContextCache();
+
+    private final Map<String, JWTSigningContext> signingContexts = new ConcurrentHashMap<>();
+
+    private JWTSigningContextCache() {
+
+    }
+
+    public static JWTSigningContextCache getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Get the RSA signing context of the tenant using the tenant domain to resolve the signing key.
+     *
+     * @param tenantDomain Tenant domain.
+     * @param algorithm    JWS algorithm.
+     * @return Signing context.
+     * @throws IdentityOAuth2Exception If the signing key or certificate cannot be resolved.
+     */
+    public JWTSigningContext getSigningContext(String tenantDomain, JWSAlgorithm algorithm)
+            throws IdentityOAuth2Exception {
+
+        Certificate certificate = OAuth2Util.getCertificate(tenantDomain);
+        JWTSigningContext signingContext = signingContexts.get(getCacheKey(tenantDomain, algorithm));
+        if (signingContext != null && signingContext.isBuiltFor(certificate)) {
+            return signingContext;
+        }
+        return buildSigningContext(tenantDomain, algorithm, certificate, OAuth2Util.getPrivateKey(tenantDomain));
+    }
+
+    /**
+     * Get the RSA signing context of the tenant using the tenant domain and the tenant id to resolve the signing key.
+     *
+     * @param tenantDomain Tenant domain.
+     * @param tenantId     Tenant id.
+     * @param algorithm    JWS algorithm.
+     * @return Signing context.
+     * @throws IdentityOAuth2Exception If the signing key or certificate cannot be resolved.
+     */
+    public JWTSigningContext getSigningContext(String tenantDomain, int tenantId, JWSAlgorithm algorithm)
+            throws IdentityOAuth2Exception {
+
+        Certificate certificate = OAuth2Util.getCertificate(tenantDomain, tenantId);
+        JWTSigningContext signingContext = signingContexts.get(getCacheKey(tenantDomain, algorithm));
+        if (signingContext != null && signingContext.isBuiltFor(certificate)) {
+            return signingContext;
+        }
+        return buildSigningContext(tenantDomain, algorithm, certificate,
+                OAuth2Util.getPrivateKey(tenantDomain, tenantId));
+    }
+
+    /**
+     * Remove the signing contexts of the given tenant. This should be called when the keystore of the tenant is
+     * changed or the tenant is removed.
+     *
+     * @param tenantDomain Tenant domain.
+     */
+    public void clearSigningContexts(String tenantDomain) {
+
+        if (log.isDebugEnabled()) {
+            log.debug("Clearing the JWT signing contexts of the tenant: " + tenantDomain);
+        }
+        String prefix = tenantDomain + ":";
+        signingContexts.keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    /**
+     * Remove the signing contexts of all tenants.
+     */
+    public void clear() {
+
+        signingContexts.clear();
+    }
+
+    private JWTSigningContext buildSigningContext(String tenantDomain, JWSAlgorithm algorithm, Certificate certificate,
+                                                  Key privateKey) throws IdentityOAuth2Exception {
+
+        if (log.isDebugEnabled()) {
+            log.debug("Building the JWT signing context of the tenant: " + tenantDomain + " for the algorithm: " +
+                    algorithm);
+        }
+        JWTSigningContext signingContext = new JWTSigningContext(algorithm, certificate,
+                OAuth2Util.createJWSSigner((RSAPrivateKey) privateKey),
+                OAuth2Util.getKID(certificate, algorithm, tenantDomain),
+                new Base64URL(OAuth2Util.getThumbPrintWithPrevAlgorithm(certificate, false)));
+        signingContexts.put(getCacheKey(tenantDomain, algorithm), signingContext);
+        return signingContext;
+    }
+
+    private String getCacheKey(String tenantDomain, JWSAlgorithm algorithm) {
+
+        return tenantDomain + ":" + algorithm.getName();
+    }
+}
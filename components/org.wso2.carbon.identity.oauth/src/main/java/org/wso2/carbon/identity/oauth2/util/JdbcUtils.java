@@ -20,6 +20,11 @@ import org.wso2.carbon.database.utils.jdbc.JdbcTemplate;
 import org.wso2.carbon.database.utils.jdbc.exceptions.DataAccessException;
 import org.wso2.carbon.identity.core.persistence.JDBCPersistenceManager;
 
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
 import static org.wso2.carbon.identity.application.mgt.ApplicationConstants.DB2;
 import static org.wso2.carbon.identity.application.mgt.ApplicationConstants.H2;
 import static org.wso2.carbon.identity.application.mgt.ApplicationConstants.INFORMIX;
@@ -100,6 +105,45 @@ public class JdbcUtils {
         return isDBTypeOf(H2);
     }
 
+    /**
+     * Set the fetch size of a statement whose result set is read in batches, so that the driver does not load the
+     * whole result set into memory. MySQL Connector/J ignores a positive fetch size unless useCursorFetch is enabled
+     * in the connection URL, hence MySQL result sets are streamed row by row with a fetch size of
+     * {@link Integer#MIN_VALUE}. No other statement can be run on the same connection until such a result set is
+     * closed. PostgreSQL only honours the fetch size when auto commit is disabled on the connection.
+     *
+     * @param prepStmt  Statement to be executed.
+     * @param batchSize Number of rows to fetch at a time.
+     * @throws SQLException If an error occurred while reading the driver name or setting the fetch size.
+     */
+    public static void setStreamingFetchSize(PreparedStatement prepStmt, int batchSize) throws SQLException {
+
+        if (prepStmt.getConnection().getMetaData().getDriverName().contains(MY_SQL)) {
+            prepStmt.setFetchSize(Integer.MIN_VALUE);
+        } else {
+            prepStmt.setFetchSize(batchSize);
+        }
+    }
+
+    /**
+     * Check if the DB of the given connection is MySQL/MariaDB or MSSql, whose default collations compare strings case
+     * insensitively.
+     *
+     * @param connection Connection to the DB.
+     * @return true if DB is MySQL/MariaDB or MSSql, false otherwise.
+     * @throws SQLException if error occurred while reading the DB metadata.
+     */
+    public static boolean isCaseInsensitiveCollationDB(Connection connection) throws SQLException {
+
+        DatabaseMetaData metaData = connection.getMetaData();
+        for (String dbType : new String[]{MY_SQL, MARIADB, MICROSOFT, S_MICROSOFT}) {
+            if (metaData.getDriverName().contains(dbType) || metaData.getDatabaseProductName().contains(dbType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Check whether the DB type string contains in the driver name or db product name.
      *
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Utility to compute message digests of token values without looking up the digest provider on every call.
+ * <p>
+ * {@link MessageDigest} instances are not thread safe, so one instance per algorithm is kept for each thread and
+ * reset before it is used. The encoders write straight into a right sized buffer instead of building the result
+ * byte by byte.
+ */
+public final class MessageDigestUtil {
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    private static final Base64.Encoder BASE64_URL_ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final ThreadLocal<Map<String, MessageDigest>> DIGESTS = ThreadLocal.withInitial(HashMap::new);
+
+    private MessageDigestUtil() {
+
+    }
+
+    /**
+     * Compute the digest of the UTF-8 bytes of the given value.
+     *
+     * @param algorithm Digest algorithm.
+     * @param value     Value to be digested.
+     * @return Digest of the value.
+     * @throws NoSuchAlgorithmException If the algorithm is not supported.
+     */
+    public static byte[] digest(String algorithm, String value) throws NoSuchAlgorithmException {
+
+        return digest(algorithm, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Compute the digest of the given bytes.
+     *
+     * @param algorithm Digest algorithm.
+     * @param input     Bytes to be digested.
+     * @return Digest of the input.
+     * @throws NoSuchAlgorithmException If the algorithm is not supported.
+     */
+    public static byte[] digest(String algorithm, byte[] input) throws NoSuchAlgorithmException {
+
+        return getMessageDigest(algorithm).digest(input);
+    }
+
+    /**
+     * Encode the given bytes as a lower case hex string.
+     *
+     * @param bytes Bytes to be encoded.
+     * @return Hex string.
+     */
+    public static String toHex(byte[] bytes) {
+
+        char[] hex = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            hex[i * 2] = HEX_DIGITS[(bytes[i] >> 4) & 0x0f];
+            hex[i * 2 + 1] = HEX_DIGITS[bytes[i] & 0x0f];
+        }
+        return new String(hex);
+    }
+
+    /**
+     * Encode the given bytes as an unpadded base64url string.
+     *
+     * @param bytes Bytes to be encoded.
+     * @return Base64url string.
+     */
+    public static String toBase64Url(byte[] bytes) {
+
+        return BASE64_URL_ENCODER.encodeToString(bytes);
+    }
+
+    private static MessageDigest getMessageDigest(String algorithm) throws NoSuchAlgorithmException {
+
+        Map<String, MessageDigest> digests = DIGESTS.get();
+        MessageDigest messageDigest = digests.get(algorithm);
+        if (messageDigest == null) {
+            messageDigest = MessageDigest.getInstance(algorithm);
+            digests.put(algorithm, messageDigest);
+        } else {
+            messageDigest.reset();
+        }
+        return messageDigest;
+    }
+}
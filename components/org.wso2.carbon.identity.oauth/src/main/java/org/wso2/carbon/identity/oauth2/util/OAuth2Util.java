@@ -26,7 +26,6 @@ import com.nimbusds.jose.JWEEncrypter;
 import com.nimbusds.jose.JWEHeader;
 import com.nimbusds.jose.JWEObject;
 import com.nimbusds.jose.JWSAlgorithm;
-import com.nimbusds.jose.JWSHeader;
 import com.nimbusds.jose.JWSSigner;
 import com.nimbusds.jose.JWSVerifier;
 import com.nimbusds.jose.Payload;
@@ -147,6 +146,7 @@ import org.wso2.carbon.identity.oauth2.token.OauthTokenIssuer;
 import org.wso2.carbon.identity.oauth2.token.bindings.TokenBinder;
 import org.wso2.carbon.identity.oauth2.token.bindings.TokenBinding;
 import org.wso2.carbon.identity.oauth2.token.handlers.grant.AuthorizationGrantHandler;
+import org.wso2.carbon.identity.oauth2.validators.RevokedAccessTokenFilter;
 import org.wso2.carbon.identity.openidconnect.model.Constants;
 import org.wso2.carbon.identity.openidconnect.model.RequestedClaim;
 import org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants;
@@ -2025,12 +2025,9 @@ public class OAuth2Util {
             } else if (OAuthConstants.OAUTH_PKCE_S256_CHALLENGE.equals(challengeMethod)) {
 
                 try {
-                    MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
-
-                    byte[] hash = messageDigest.digest(verificationCode.getBytes(StandardCharsets.US_ASCII));
-                    //Trim the base64 string to remove trailing CR LF characters.
-                    String referencePKCECodeChallenge = new String(Base64.encodeBase64URLSafe(hash),
-                            StandardCharsets.UTF_8).trim();
+                    byte[] hash = MessageDigestUtil.digest("SHA-256",
+                            verificationCode.getBytes(StandardCharsets.US_ASCII));
+                    String referencePKCECodeChallenge = MessageDigestUtil.toBase64Url(hash);
                     if (!referencePKCECodeChallenge.equals(referenceCodeChallenge)) {
                         // diagnosticLogBuilder will be null if diagnostic logs are disabled.
                         if (diagnosticLogBuilder != null) {
@@ -2171,6 +2168,15 @@ public class OAuth2Util {
                                                                     boolean includeExpired)
             throws IdentityOAuth2Exception {
 
+        // Neither the cache nor the database would return a revoked or inactive token, hence reject the tokens known
+        // to be revoked right away.
+        if (RevokedAccessTokenFilter.getInstance().isRevoked(accessTokenIdentifier)) {
+            if (log.isDebugEnabled()) {
+                log.debug("Access token is found in the revoked access token filter.");
+            }
+            throw new IllegalArgumentException(ACCESS_TOKEN_IS_NOT_ACTIVE_ERROR_MESSAGE);
+        }
+
         boolean cacheHit = false;
         AccessTokenDO accessTokenDO = null;
 
@@ -2499,16 +2505,27 @@ public class OAuth2Util {
     public static OAuthAppDO getAppInformationByClientId(String clientId)
             throws IdentityOAuth2Exception, InvalidOAuthClientException {
 
-        OAuthAppDO oAuthAppDO = AppInfoCache.getInstance().getValueFromCache(clientId);
+        AppInfoCache appInfoCache = AppInfoCache.getInstance();
+        OAuthAppDO oAuthAppDO = appInfoCache.getValueFromCache(clientId);
         if (oAuthAppDO != null) {
             return oAuthAppDO;
-        } else {
-            oAuthAppDO = new OAuthAppDAO().getAppInformation(clientId, IdentityTenantUtil.getLoginTenantId());
-            if (oAuthAppDO != null) {
-                AppInfoCache.getInstance().addToCache(clientId, oAuthAppDO);
+        }
+        int tenantId = IdentityTenantUtil.getLoginTenantId();
+        if (!appInfoCache.isEnabled()) {
+            return new OAuthAppDAO().getAppInformation(clientId, tenantId);
+        }
+        checkForMissingClient(appInfoCache, clientId, tenantId);
+        // Concurrent cache misses of a client ID wait for a single load instead of hitting the database each.
+        synchronized (appInfoCache.getLoadLock(clientId)) {
+            oAuthAppDO = appInfoCache.getValueFromCache(clientId);
+            if (oAuthAppDO == null) {
+                oAuthAppDO = loadAppInformation(appInfoCache, clientId, tenantId);
+                if (oAuthAppDO != null) {
+                    appInfoCache.addToCache(clientId, oAuthAppDO);
+                }
             }
-            return oAuthAppDO;
         }
+        return oAuthAppDO;
     }
 
     /**
@@ -2523,22 +2540,58 @@ public class OAuth2Util {
     public static OAuthAppDO getAppInformationByClientId(String clientId, String tenantDomain)
             throws IdentityOAuth2Exception, InvalidOAuthClientException {
 
-        OAuthAppDO oAuthAppDO = AppInfoCache.getInstance().getValueFromCache(clientId, tenantDomain);
-        if (oAuthAppDO == null) {
-            oAuthAppDO = new OAuthAppDAO().getAppInformation(clientId, IdentityTenantUtil.getTenantId(tenantDomain));
-            if (oAuthAppDO != null) {
-                if (!AuthzUtil.isLegacyAuthzRuntime() && oAuthAppDO.getAppOwner() != null &&
-                        StringUtils.isNotEmpty(oAuthAppDO.getAppOwner().getTenantDomain())) {
-                    AppInfoCache.getInstance().addToCache(clientId, oAuthAppDO,
-                            oAuthAppDO.getAppOwner().getTenantDomain());
-                } else {
-                    AppInfoCache.getInstance().addToCache(clientId, oAuthAppDO, tenantDomain);
+        AppInfoCache appInfoCache = AppInfoCache.getInstance();
+        OAuthAppDO oAuthAppDO = appInfoCache.getValueFromCache(clientId, tenantDomain);
+        if (oAuthAppDO != null) {
+            return oAuthAppDO;
+        }
+        int tenantId = IdentityTenantUtil.getTenantId(tenantDomain);
+        if (!appInfoCache.isEnabled()) {
+            return new OAuthAppDAO().getAppInformation(clientId, tenantId);
+        }
+        checkForMissingClient(appInfoCache, clientId, tenantId);
+        // Concurrent cache misses of a client ID wait for a single load instead of hitting the database each.
+        synchronized (appInfoCache.getLoadLock(clientId)) {
+            oAuthAppDO = appInfoCache.getValueFromCache(clientId, tenantDomain);
+            if (oAuthAppDO == null) {
+                oAuthAppDO = loadAppInformation(appInfoCache, clientId, tenantId);
+                if (oAuthAppDO != null) {
+                    if (!AuthzUtil.isLegacyAuthzRuntime() && oAuthAppDO.getAppOwner() != null &&
+                            StringUtils.isNotEmpty(oAuthAppDO.getAppOwner().getTenantDomain())) {
+                        appInfoCache.addToCache(clientId, oAuthAppDO, oAuthAppDO.getAppOwner().getTenantDomain());
+                    } else {
+                        appInfoCache.addToCache(clientId, oAuthAppDO, tenantDomain);
+                    }
                 }
             }
         }
         return oAuthAppDO;
     }
 
+    private static void checkForMissingClient(AppInfoCache appInfoCache, String clientId, int tenantId)
+            throws InvalidOAuthClientException {
+
+        if (appInfoCache.getNegativeCache().isMissingClient(clientId, tenantId)) {
+            if (log.isDebugEnabled()) {
+                log.debug("Client ID: " + clientId + " was recently found to be not registered in the tenant: " +
+                        tenantId);
+            }
+            throw new InvalidOAuthClientException(
+                    OAuthConstants.OAuthError.AuthorizationResponsei18nKey.APPLICATION_NOT_FOUND);
+        }
+    }
+
+    private static OAuthAppDO loadAppInformation(AppInfoCache appInfoCache, String clientId, int tenantId)
+            throws IdentityOAuth2Exception, InvalidOAuthClientException {
+
+        try {
+            return new OAuthAppDAO().getAppInformation(clientId, tenantId);
+        } catch (InvalidOAuthClientException e) {
+            appInfoCache.getNegativeCache().addMissingClient(clientId, tenantId);
+            throw e;
+        }
+    }
+
     /**
      * Get Oauth application information for a given client id. This method doesn't utilize the tenant and
      * treats the client ID as unique across the server.
@@ -3383,14 +3436,10 @@ public class OAuth2Util {
                         tenantDomain);
             }
 
-            Key privateKey = getPrivateKey(tenantDomain);
-            JWSSigner signer = OAuth2Util.createJWSSigner((RSAPrivateKey) privateKey);
-            JWSHeader.Builder headerBuilder = new JWSHeader.Builder((JWSAlgorithm) signatureAlgorithm);
-            headerBuilder.keyID(getKID(getCertificate(tenantDomain), signatureAlgorithm, tenantDomain));
-            Certificate certificate = getCertificate(tenantDomain);
-            headerBuilder.x509CertThumbprint(new Base64URL(getThumbPrintWithPrevAlgorithm(certificate, false)));
-            SignedJWT signedJWT = new SignedJWT(headerBuilder.build(), jwtClaimsSet);
-            signedJWT.sign(signer);
+            JWTSigningContext signingContext = JWTSigningContextCache.getInstance()
+                    .getSigningContext(tenantDomain, signatureAlgorithm);
+            SignedJWT signedJWT = new SignedJWT(signingContext.getHeaderBuilder().build(), jwtClaimsSet);
+            signedJWT.sign(signingContext.getSigner());
             return signedJWT;
         } catch (JOSEException e) {
             throw new IdentityOAuth2Exception("Error occurred while signing JWT", e);
@@ -5654,6 +5703,47 @@ public class OAuth2Util {
         return OAuth2Constants.DEFAULT_PERSIST_ENABLED;
     }
 
+    /**
+     * Get the positive integer value of a server configuration property.
+     *
+     * @param property     Name of the property.
+     * @param defaultValue Value to use if the property is not configured, is not a number or is not positive.
+     * @return Configured value of the property, or the default value.
+     */
+    public static int getPositiveIntProperty(String property, int defaultValue) {
+
+        return getIntProperty(property, defaultValue, 1);
+    }
+
+    /**
+     * Get the non-negative integer value of a server configuration property.
+     *
+     * @param property     Name of the property.
+     * @param defaultValue Value to use if the property is not configured, is not a number or is negative.
+     * @return Configured value of the property, or the default value.
+     */
+    public static int getNonNegativeIntProperty(String property, int defaultValue) {
+
+        return getIntProperty(property, defaultValue, 0);
+    }
+
+    private static int getIntProperty(String property, int defaultValue, int minValue) {
+
+        String value = IdentityUtil.getProperty(property);
+        if (StringUtils.isNotBlank(value)) {
+            try {
+                int intValue = Integer.parseInt(value.trim());
+                if (intValue >= minValue) {
+                    return intValue;
+                }
+            } catch (NumberFormatException e) {
+                log.warn("Invalid value: " + value + " configured for: " + property + ". Using the default value: " +
+                        defaultValue);
+            }
+        }
+        return defaultValue;
+    }
+
     /**
      * Resolves the grant type from the response type for implicit and hybrid flows.
      *
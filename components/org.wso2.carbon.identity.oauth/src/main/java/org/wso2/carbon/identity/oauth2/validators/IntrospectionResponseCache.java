@@ -0,0 +1,398 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.validators;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.oauth.cache.NodeLocalExpiringCache;
+import org.wso2.carbon.identity.oauth.cache.OAuthCache;
+import org.wso2.carbon.identity.oauth.cache.OAuthCacheGenerations;
+import org.wso2.carbon.identity.oauth.common.OAuthConstants;
+import org.wso2.carbon.identity.oauth2.dto.OAuth2IntrospectionResponseDTO;
+import org.wso2.carbon.identity.oauth2.dto.OAuth2TokenValidationRequestDTO;
+import org.wso2.carbon.identity.oauth2.dto.OAuth2TokenValidationResponseDTO;
+import org.wso2.carbon.identity.oauth2.model.AccessTokenDO;
+import org.wso2.carbon.identity.oauth2.token.bindings.TokenBinding;
+import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import static org.wso2.carbon.identity.oauth2.util.OAuth2Util.getPositiveIntProperty;
+
+/**
+ * Node local cache of active introspection results and valid token validation results, keyed by the token identifier.
+ * <p>
+ * Each entry keeps a private snapshot of the response and, for introspection, of the validation message context
+ * properties it was built with, and every lookup hands out fresh copies of them. An entry lives at most for the
+ * configured time to live and never beyond the expiry time of the token itself.
+ * <p>
+ * Entries are removed when the token is cleared from the OAuth cache on this node, which is how token revocation is
+ * propagated. A token cleared on another node of a cluster only reaches this node through the cluster invalidation of
+ * the OAuth cache, which is not delivered when the OAuth cache is disabled or this node no longer holds the token in
+ * it. Such revocations are caught by the {@link RevokedAccessTokenFilter} once it has synced them, when it is enabled.
+ * Otherwise a token revoked on another node may be served from here until the entry expires, hence the time to live
+ * bounds how long a revoked token can still be reported as active.
+ * <p>
+ * When generation based invalidation is enabled, entries are also dropped once their client has been invalidated on
+ * any node, see {@link OAuthCacheGenerations}.
+ */
+public class IntrospectionResponseCache {
+
+    private static final Log log = LogFactory.getLog(IntrospectionResponseCache.class);
+
+    private static final String INTROSPECTION_CACHE_ENABLE = "OAuth.TokenValidation.IntrospectionCache.Enable";
+    private static final String INTROSPECTION_CACHE_MAX_ENTRIES = "OAuth.TokenValidation.IntrospectionCache.MaxEntries";
+    private static final String INTROSPECTION_CACHE_TIME_TO_LIVE =
+            "OAuth.TokenValidation.IntrospectionCache.TimeToLive";
+
+    private static final int DEFAULT_MAX_ENTRIES = 10000;
+    private static final int DEFAULT_TIME_TO_LIVE_SECONDS = 60;
+
+    private static volatile IntrospectionResponseCache instance;
+
+    private final NodeLocalExpiringCache<CachedIntrospectionResult> results;
+    private final NodeLocalExpiringCache<CachedValidationResult> validationResults;
+    private final boolean enabled;
+
+    IntrospectionResponseCache(boolean enabled, int maxEntries, long timeToLiveMillis) {
+
+        this.enabled = enabled;
+        this.results = new NodeLocalExpiringCache<>(maxEntries, timeToLiveMillis);
+        this.validationResults = new NodeLocalExpiringCache<>(maxEntries, timeToLiveMillis);
+    }
+
+    public static IntrospectionResponseCache getInstance() {
+
+        if (instance == null) {
+            synchronized (IntrospectionResponseCache.class) {
+                if (instance == null) {
+                    IntrospectionResponseCache cache = new IntrospectionResponseCache(
+                            Boolean.parseBoolean(IdentityUtil.getProperty(INTROSPECTION_CACHE_ENABLE)),
+                            getPositiveIntProperty(INTROSPECTION_CACHE_MAX_ENTRIES, DEFAULT_MAX_ENTRIES),
+                            TimeUnit.SECONDS.toMillis(getPositiveIntProperty(INTROSPECTION_CACHE_TIME_TO_LIVE,
+                                    DEFAULT_TIME_TO_LIVE_SECONDS)));
+                    if (cache.isEnabled()) {
+                        OAuthCache.addCacheClearListener(cache::clearIntrospectionResponse);
+                    }
+                    instance = cache;
+                }
+            }
+        }
+        return instance;
+    }
+
+    public boolean isEnabled() {
+
+        return enabled;
+    }
+
+    /**
+     * Get a copy of the cached introspection response of the requested token.
+     *
+     * @param validationRequest Token validation request.
+     * @param tenantDomain      Tenant domain the request is served in.
+     * @param responseDTO       Validation response to be attached to the rebuilt message context.
+     * @return Copy of the cached introspection response or null if there is no live entry for the token.
+     */
+    public OAuth2IntrospectionResponseDTO getIntrospectionResponse(OAuth2TokenValidationRequestDTO validationRequest,
+                                                                   String tenantDomain,
+                                                                   OAuth2TokenValidationResponseDTO responseDTO) {
+
+        if (!enabled || validationRequest.getAccessToken() == null) {
+            return null;
+        }
+        String tokenIdentifier = validationRequest.getAccessToken().getIdentifier();
+        if (StringUtils.isEmpty(tokenIdentifier)) {
+            return null;
+        }
+        CachedIntrospectionResult result = results.getValue(tokenIdentifier);
+        if (result == null) {
+            return null;
+        }
+        // Revocations on other nodes are not propagated through the OAuth cache in time, hence check them here.
+        if (RevokedAccessTokenFilter.getInstance().isRevoked(result.persistedTokenIdentifier) ||
+                OAuthCacheGenerations.getInstance().isStale(result.consumerKey, result.generation)) {
+            results.removeValue(tokenIdentifier, result);
+            return null;
+        }
+        // The cross tenant check and the validator order depend on these, so only reuse results built for the same.
+        if (!StringUtils.equals(result.tenantDomain, tenantDomain) ||
+                !StringUtils.equals(result.tokenTypeHint, validationRequest.getAccessToken().getTokenType())) {
+            return null;
+        }
+
+        OAuth2TokenValidationMessageContext messageContext =
+                new OAuth2TokenValidationMessageContext(validationRequest, responseDTO);
+        messageContext.properties.putAll(result.messageContextProperties);
+        OAuth2IntrospectionResponseDTO introResp = copyOf(result.introspectionResponse);
+        introResp.getProperties().put(OAuth2Util.OAUTH2_VALIDATION_MESSAGE_CONTEXT, messageContext);
+        return introResp;
+    }
+
+    /**
+     * Cache an active introspection response along with the message context it was built with.
+     *
+     * @param validationRequest Token validation request.
+     * @param tenantDomain      Tenant domain the request is served in.
+     * @param introResp         Active introspection response.
+     * @param messageContext    Validation message context of the request.
+     */
+    public void addIntrospectionResponse(OAuth2TokenValidationRequestDTO validationRequest, String tenantDomain,
+                                         OAuth2IntrospectionResponseDTO introResp,
+                                         OAuth2TokenValidationMessageContext messageContext) {
+
+        if (!enabled || !introResp.isActive() || validationRequest.getAccessToken() == null) {
+            return;
+        }
+        String tokenIdentifier = validationRequest.getAccessToken().getIdentifier();
+        if (StringUtils.isEmpty(tokenIdentifier)) {
+            return;
+        }
+        Properties messageContextProperties = new Properties();
+        messageContextProperties.putAll(messageContext.properties);
+        boolean added = results.addValue(tokenIdentifier, new CachedIntrospectionResult(copyOf(introResp),
+                messageContextProperties, tenantDomain, validationRequest.getAccessToken().getTokenType(),
+                getPersistedTokenIdentifier(messageContext), introResp.getClientId(),
+                OAuthCacheGenerations.getInstance().getGeneration(introResp.getClientId())),
+                getTokenExpiryTime(introResp));
+        if (!added && log.isDebugEnabled()) {
+            log.debug("Introspection response of the client: " + introResp.getClientId() + " is not cached as the " +
+                    "token has expired or the cache is full.");
+        }
+    }
+
+    /**
+     * Get a copy of the cached validation response of the requested access token.
+     *
+     * @param validationRequest Token validation request.
+     * @param tenantDomain      Tenant domain the request is served in.
+     * @return Copy of the cached validation response or null if there is no live entry for the token.
+     */
+    public OAuth2TokenValidationResponseDTO getValidationResponse(OAuth2TokenValidationRequestDTO validationRequest,
+                                                                  String tenantDomain) {
+
+        if (!enabled || validationRequest.getAccessToken() == null) {
+            return null;
+        }
+        String tokenIdentifier = validationRequest.getAccessToken().getIdentifier();
+        if (StringUtils.isEmpty(tokenIdentifier)) {
+            return null;
+        }
+        CachedValidationResult result = validationResults.getValue(tokenIdentifier);
+        if (result == null) {
+            return null;
+        }
+        if (RevokedAccessTokenFilter.getInstance().isRevoked(result.persistedTokenIdentifier) ||
+                OAuthCacheGenerations.getInstance().isStale(result.consumerKey, result.generation)) {
+            validationResults.removeValue(tokenIdentifier, result);
+            return null;
+        }
+        if (!StringUtils.equals(result.tenantDomain, tenantDomain) ||
+                !StringUtils.equals(result.tokenType, validationRequest.getAccessToken().getTokenType())) {
+            return null;
+        }
+
+        OAuth2TokenValidationResponseDTO responseDTO = new OAuth2TokenValidationResponseDTO();
+        responseDTO.setValid(true);
+        responseDTO.setAuthorizedUser(result.authorizedUser);
+        responseDTO.setScope(result.scope == null ? null : result.scope.clone());
+        responseDTO.setTokenBinding(result.tokenBinding);
+        // The expiry time of the response is the remaining lifetime of the token in seconds.
+        responseDTO.setExpiryTime(result.tokenExpiryTime == Long.MAX_VALUE ? Long.MAX_VALUE :
+                TimeUnit.MILLISECONDS.toSeconds(result.tokenExpiryTime - System.currentTimeMillis()));
+        return responseDTO;
+    }
+
+    /**
+     * Cache a valid token validation response.
+     *
+     * @param validationRequest Token validation request.
+     * @param tenantDomain      Tenant domain the request is served in.
+     * @param responseDTO       Valid token validation response.
+     * @param messageContext    Validation message context of the request.
+     */
+    public void addValidationResponse(OAuth2TokenValidationRequestDTO validationRequest, String tenantDomain,
+                                      OAuth2TokenValidationResponseDTO responseDTO,
+                                      OAuth2TokenValidationMessageContext messageContext) {
+
+        // Responses carrying an authorization context token are built for the request, hence they are not cached.
+        if (!enabled || !responseDTO.isValid() || responseDTO.getAuthorizationContextToken() != null ||
+                validationRequest.getAccessToken() == null) {
+            return;
+        }
+        String tokenIdentifier = validationRequest.getAccessToken().getIdentifier();
+        if (StringUtils.isEmpty(tokenIdentifier)) {
+            return;
+        }
+        // The expiry time of the response is the remaining lifetime of the token in seconds.
+        long tokenExpiryTime = Long.MAX_VALUE;
+        if (responseDTO.getExpiryTime() < TimeUnit.MILLISECONDS.toSeconds(Long.MAX_VALUE)) {
+            tokenExpiryTime = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(responseDTO.getExpiryTime());
+        }
+        String consumerKey = getConsumerKey(messageContext);
+        boolean added = validationResults.addValue(tokenIdentifier, new CachedValidationResult(
+                responseDTO.getAuthorizedUser(), responseDTO.getScope() == null ? null : responseDTO.getScope().clone(),
+                responseDTO.getTokenBinding(), tenantDomain, validationRequest.getAccessToken().getTokenType(),
+                getPersistedTokenIdentifier(messageContext), consumerKey,
+                OAuthCacheGenerations.getInstance().getGeneration(consumerKey), tokenExpiryTime), tokenExpiryTime);
+        if (!added && log.isDebugEnabled()) {
+            log.debug("Validation response is not cached as the token has expired or the cache is full.");
+        }
+    }
+
+    /**
+     * Remove the cached introspection and validation responses of the given token.
+     *
+     * @param tokenIdentifier Access token or refresh token.
+     */
+    public void clearIntrospectionResponse(String tokenIdentifier) {
+
+        if (!enabled || tokenIdentifier == null) {
+            return;
+        }
+        boolean removed = results.removeValue(tokenIdentifier);
+        removed = validationResults.removeValue(tokenIdentifier) || removed;
+        if (removed && log.isDebugEnabled()) {
+            log.debug("Removed the cached introspection response of a token cleared from the OAuth cache.");
+        }
+    }
+
+    /**
+     * Remove all cached introspection and validation responses.
+     */
+    public void clear() {
+
+        results.clear();
+        validationResults.clear();
+    }
+
+    private long getTokenExpiryTime(OAuth2IntrospectionResponseDTO introResp) {
+
+        // exp is in seconds. Values which would overflow are treated as tokens that never expire.
+        if (introResp.getExp() > 0 && introResp.getExp() < Long.MAX_VALUE / 1000) {
+            return TimeUnit.SECONDS.toMillis(introResp.getExp());
+        }
+        return Long.MAX_VALUE;
+    }
+
+    private String getPersistedTokenIdentifier(OAuth2TokenValidationMessageContext messageContext) {
+
+        // Self-contained access tokens are persisted with their JWT ID, which is what the revocation state is kept for.
+        Object accessTokenDO = messageContext.getProperty(OAuthConstants.ACCESS_TOKEN_DO);
+        if (accessTokenDO instanceof AccessTokenDO) {
+            return ((AccessTokenDO) accessTokenDO).getAccessToken();
+        }
+        return null;
+    }
+
+    private String getConsumerKey(OAuth2TokenValidationMessageContext messageContext) {
+
+        Object accessTokenDO = messageContext.getProperty(OAuthConstants.ACCESS_TOKEN_DO);
+        if (accessTokenDO instanceof AccessTokenDO) {
+            return ((AccessTokenDO) accessTokenDO).getConsumerKey();
+        }
+        return null;
+    }
+
+    private static OAuth2IntrospectionResponseDTO copyOf(OAuth2IntrospectionResponseDTO source) {
+
+        OAuth2IntrospectionResponseDTO copy = new OAuth2IntrospectionResponseDTO();
+        copy.setActive(source.isActive());
+        copy.setScope(source.getScope());
+        copy.setClientId(source.getClientId());
+        copy.setUsername(source.getUsername());
+        copy.setTokenType(source.getTokenType());
+        copy.setNbf(source.getNbf());
+        copy.setAud(source.getAud());
+        copy.setIss(source.getIss());
+        copy.setJti(source.getJti());
+        copy.setSub(source.getSub());
+        copy.setExp(source.getExp());
+        copy.setIat(source.getIat());
+        copy.setUserContext(source.getUserContext());
+        copy.setBindingType(source.getBindingType());
+        copy.setBindingReference(source.getBindingReference());
+        copy.setCnfBindingValue(source.getCnfBindingValue());
+        copy.setAut(source.getAut());
+        copy.setAuthorizedUser(source.getAuthorizedUser());
+        copy.setError(source.getError());
+        Map<String, Object> properties = new HashMap<>(source.getProperties());
+        properties.remove(OAuth2Util.OAUTH2_VALIDATION_MESSAGE_CONTEXT);
+        copy.setProperties(properties);
+        return copy;
+    }
+
+    private static final class CachedIntrospectionResult {
+
+        private final OAuth2IntrospectionResponseDTO introspectionResponse;
+        private final Properties messageContextProperties;
+        private final String tenantDomain;
+        private final String tokenTypeHint;
+        private final String persistedTokenIdentifier;
+        private final String consumerKey;
+        private final long generation;
+
+        private CachedIntrospectionResult(OAuth2IntrospectionResponseDTO introspectionResponse,
+                                          Properties messageContextProperties, String tenantDomain,
+                                          String tokenTypeHint, String persistedTokenIdentifier, String consumerKey,
+                                          long generation) {
+
+            this.introspectionResponse = introspectionResponse;
+            this.messageContextProperties = messageContextProperties;
+            this.tenantDomain = tenantDomain;
+            this.tokenTypeHint = tokenTypeHint;
+            this.persistedTokenIdentifier = persistedTokenIdentifier;
+            this.consumerKey = consumerKey;
+            this.generation = generation;
+        }
+    }
+
+    private static final class CachedValidationResult {
+
+        private final String authorizedUser;
+        private final String[] scope;
+        private final TokenBinding tokenBinding;
+        private final String tenantDomain;
+        private final String tokenType;
+        private final String persistedTokenIdentifier;
+        private final String consumerKey;
+        private final long generation;
+        private final long tokenExpiryTime;
+
+        private CachedValidationResult(String authorizedUser, String[] scope, TokenBinding tokenBinding,
+                                       String tenantDomain, String tokenType, String persistedTokenIdentifier,
+                                       String consumerKey, long generation, long tokenExpiryTime) {
+
+            this.authorizedUser = authorizedUser;
+            this.scope = scope;
+            this.tokenBinding = tokenBinding;
+            this.tenantDomain = tenantDomain;
+            this.tokenType = tokenType;
+            this.persistedTokenIdentifier = persistedTokenIdentifier;
+            this.consumerKey = consumerKey;
+            this.generation = generation;
+            this.tokenExpiryTime = tokenExpiryTime;
+        }
+    }
+}
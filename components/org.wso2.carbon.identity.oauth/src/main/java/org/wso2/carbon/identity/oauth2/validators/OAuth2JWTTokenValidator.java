@@ -113,6 +113,15 @@ public class OAuth2JWTTokenValidator extends DefaultOAuth2TokenValidator {
                 return false;
             }
             JWTUtils.checkNotBeforeTime(claimsSet.get().getNotBeforeTime());
+            // JWT access tokens are persisted against their JWT ID, hence revocations are tracked by the JWT ID.
+            if (RevokedAccessTokenFilter.getInstance().isRevoked(claimsSet.get().getJWTID())) {
+                // diagnosticLogBuilder will be null if diagnostic logs are disabled.
+                if (diagnosticLogBuilder != null) {
+                    diagnosticLogBuilder.resultMessage("Token is revoked.");
+                    LoggerUtils.triggerDiagnosticLogEvent(diagnosticLogBuilder);
+                }
+                return false;
+            }
             setJWTMessageContext(validationReqDTO, claimsSet.get());
         } catch (JOSEException | ParseException e) {
             // diagnosticLogBuilder will be null if diagnostic logs are disabled.
@@ -0,0 +1,381 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.validators;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.oauth.tokenprocessor.HashingPersistenceProcessor;
+import org.wso2.carbon.identity.oauth.tokenprocessor.TokenPersistenceProcessor;
+import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+import org.wso2.carbon.identity.oauth2.dao.AccessTokenDAO;
+import org.wso2.carbon.identity.oauth2.dao.OAuthTokenPersistenceFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static org.wso2.carbon.identity.oauth2.util.OAuth2Util.getPositiveIntProperty;
+
+/**
+ * Node local record of revoked and inactive access tokens, keyed by the access token hash which is persisted with the
+ * token. For self-contained JWT access tokens the hash is derived from the JWT ID.
+ * <p>
+ * Lookups first consult a bloom filter, so that the common case of a token which has not been revoked is answered
+ * without touching the exact set. Positive answers of the bloom filter are confirmed against the exact set, which also
+ * holds the expiry time of each token. Entries are added when tokens are revoked on this node and by a periodic sync
+ * of the revoked and inactive tokens in the database, which picks up revocations done on other nodes. Entries are
+ * dropped once the token itself has expired, and the bloom filter is rebuilt from the remaining entries.
+ * <p>
+ * The sync is incremental on the revocation time, which is only recorded for the tokens moved to the audit table by
+ * the token cleanup. The token tables do not record when a token was revoked, hence they are read in full, which
+ * covers the configured maximum token lifetime, only on the first sync and then every {@code FullSyncInterval}
+ * seconds. When the token cleanup is disabled, revocations done on other nodes are picked up by these full syncs.
+ * A full sync filters the token tables on {@code TOKEN_STATE} and {@code TIME_CREATED}, and the incremental sync
+ * filters the audit table on {@code TOKEN_STATE} and {@code INVALIDATED_TIME}. Without the {@code IDX_AT_TS_TC} and
+ * {@code IDX_ATA_TS_IT} indexes on these columns, each sync scans the whole table, hence the indexes should be created
+ * before enabling the filter on large token tables.
+ * <p>
+ * The number of entries is capped by {@code MaxEntries}. Once the cap is reached and no entry has expired, further
+ * revoked tokens are not recorded until entries expire, and are then only detected by the token store.
+ * <p>
+ * A token which is not found here is not necessarily active. Callers must fall back to the token store in that case.
+ */
+public class RevokedAccessTokenFilter {
+
+    private static final Log log = LogFactory.getLog(RevokedAccessTokenFilter.class);
+
+    private static final String REVOKED_TOKEN_FILTER_ENABLE = "OAuth.TokenValidation.RevokedTokenFilter.Enable";
+    private static final String REVOKED_TOKEN_FILTER_EXPECTED_ENTRIES =
+            "OAuth.TokenValidation.RevokedTokenFilter.ExpectedEntries";
+    private static final String REVOKED_TOKEN_FILTER_MAX_ENTRIES =
+            "OAuth.TokenValidation.RevokedTokenFilter.MaxEntries";
+    private static final String REVOKED_TOKEN_FILTER_SYNC_INTERVAL =
+            "OAuth.TokenValidation.RevokedTokenFilter.SyncInterval";
+    private static final String REVOKED_TOKEN_FILTER_FULL_SYNC_INTERVAL =
+            "OAuth.TokenValidation.RevokedTokenFilter.FullSyncInterval";
+    private static final String REVOKED_TOKEN_FILTER_MAX_TOKEN_LIFETIME =
+            "OAuth.TokenValidation.RevokedTokenFilter.MaxTokenLifetime";
+
+    private static final int DEFAULT_EXPECTED_ENTRIES = 100000;
+    private static final int DEFAULT_MAX_ENTRIES = 1000000;
+    private static final int DEFAULT_SYNC_INTERVAL_SECONDS = 60;
+    private static final int DEFAULT_FULL_SYNC_INTERVAL_SECONDS = 900;
+    private static final int DEFAULT_MAX_TOKEN_LIFETIME_SECONDS = 86400;
+    private static final double FALSE_POSITIVE_PROBABILITY = 0.01;
+
+    private static volatile RevokedAccessTokenFilter instance;
+
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+    private final Object lock = new Object();
+    private final TokenPersistenceProcessor hashingPersistenceProcessor = new HashingPersistenceProcessor();
+    private final boolean enabled;
+    private final int expectedEntries;
+    private final int maxEntries;
+    private final long maxTokenLifetimeMillis;
+    private final long fullSyncIntervalMillis;
+    private volatile BloomFilter bloomFilter;
+    private volatile long lastSyncTime;
+    private volatile long lastFullSyncTime;
+    private ScheduledExecutorService syncScheduler;
+
+    RevokedAccessTokenFilter(boolean enabled, int expectedEntries, int maxEntries, long maxTokenLifetimeMillis,
+                             long fullSyncIntervalMillis) {
+
+        this.enabled = enabled;
+        this.expectedEntries = expectedEntries;
+        this.maxEntries = maxEntries;
+        this.maxTokenLifetimeMillis = maxTokenLifetimeMillis;
+        this.fullSyncIntervalMillis = fullSyncIntervalMillis;
+        this.bloomFilter = new BloomFilter(expectedEntries);
+        this.lastSyncTime = System.currentTimeMillis() - maxTokenLifetimeMillis;
+        // Make sure the first sync reads the token tables.
+        this.lastFullSyncTime = Long.MIN_VALUE;
+    }
+
+    public static RevokedAccessTokenFilter getInstance() {
+
+        if (instance == null) {
+            synchronized (RevokedAccessTokenFilter.class) {
+                if (instance == null) {
+                    RevokedAccessTokenFilter filter = new RevokedAccessTokenFilter(
+                            Boolean.parseBoolean(IdentityUtil.getProperty(REVOKED_TOKEN_FILTER_ENABLE)),
+                            getPositiveIntProperty(REVOKED_TOKEN_FILTER_EXPECTED_ENTRIES, DEFAULT_EXPECTED_ENTRIES),
+                            getPositiveIntProperty(REVOKED_TOKEN_FILTER_MAX_ENTRIES, DEFAULT_MAX_ENTRIES),
+                            TimeUnit.SECONDS.toMillis(getPositiveIntProperty(REVOKED_TOKEN_FILTER_MAX_TOKEN_LIFETIME,
+                                    DEFAULT_MAX_TOKEN_LIFETIME_SECONDS)),
+                            TimeUnit.SECONDS.toMillis(getPositiveIntProperty(REVOKED_TOKEN_FILTER_FULL_SYNC_INTERVAL,
+                                    DEFAULT_FULL_SYNC_INTERVAL_SECONDS)));
+                    if (filter.isEnabled()) {
+                        filter.startSync(getPositiveIntProperty(REVOKED_TOKEN_FILTER_SYNC_INTERVAL,
+                                DEFAULT_SYNC_INTERVAL_SECONDS));
+                    }
+                    instance = filter;
+                }
+            }
+        }
+        return instance;
+    }
+
+    public boolean isEnabled() {
+
+        return enabled;
+    }
+
+    /**
+     * Check whether the given token is known to be revoked or inactive.
+     *
+     * @param tokenIdentifier Access token identifier as persisted, i.e. the JWT ID for self-contained access tokens.
+     * @return True if the token is revoked or inactive. False if the token is not known to this filter.
+     */
+    public boolean isRevoked(String tokenIdentifier) {
+
+        if (!enabled || StringUtils.isEmpty(tokenIdentifier) || revokedTokens.isEmpty()) {
+            return false;
+        }
+        String tokenHash;
+        try {
+            tokenHash = hashingPersistenceProcessor.getProcessedAccessTokenIdentifier(tokenIdentifier);
+        } catch (IdentityOAuth2Exception e) {
+            log.error("Error while hashing the access token identifier to check the revocation state.", e);
+            return false;
+        }
+        return isRevokedTokenHash(tokenHash);
+    }
+
+    /**
+     * Record tokens revoked on this node. Since the expiry time of the tokens is not known here, they are kept for the
+     * configured maximum token lifetime unless a later sync provides the actual expiry time.
+     *
+     * @param tokens        Revoked access tokens.
+     * @param isHashedToken Whether the given tokens are already hashed.
+     */
+    public void addRevokedTokens(String[] tokens, boolean isHashedToken) {
+
+        if (!enabled || tokens == null) {
+            return;
+        }
+        long expiryTime = System.currentTimeMillis() + maxTokenLifetimeMillis;
+        for (String token : tokens) {
+            if (StringUtils.isEmpty(token)) {
+                continue;
+            }
+            try {
+                addRevokedTokenHash(isHashedToken ? token :
+                        hashingPersistenceProcessor.getProcessedAccessTokenIdentifier(token), expiryTime);
+            } catch (IdentityOAuth2Exception e) {
+                log.error("Error while hashing a revoked access token. The token will be picked up by the next " +
+                        "sync of revoked tokens.", e);
+            }
+        }
+    }
+
+    /**
+     * Load the tokens revoked or invalidated since the last sync from the database and drop the expired entries. The
+     * token tables are read only when a full sync is due.
+     */
+    public void sync() {
+
+        if (!enabled) {
+            return;
+        }
+        long syncStartTime = System.currentTimeMillis();
+        long createdAfter = syncStartTime - maxTokenLifetimeMillis;
+        // Make room for the synced tokens first.
+        removeExpiredEntries(syncStartTime);
+        AccessTokenDAO accessTokenDAO = OAuthTokenPersistenceFactory.getInstance().getAccessTokenDAO();
+        try {
+            Map<String, Long> invalidatedTokens = new HashMap<>(
+                    accessTokenDAO.getInvalidatedAuditAccessTokenHashes(createdAfter, lastSyncTime));
+            boolean fullSync = lastFullSyncTime == Long.MIN_VALUE ||
+                    syncStartTime - lastFullSyncTime >= fullSyncIntervalMillis;
+            if (fullSync) {
+                invalidatedTokens.putAll(accessTokenDAO.getInvalidatedAccessTokenHashes(createdAfter));
+            }
+            int skippedTokens = 0;
+            for (Map.Entry<String, Long> invalidatedToken : invalidatedTokens.entrySet()) {
+                if (!addRevokedTokenHash(invalidatedToken.getKey(), invalidatedToken.getValue())) {
+                    skippedTokens++;
+                }
+            }
+            if (skippedTokens > 0 && revokedTokens.size() >= maxEntries) {
+                log.warn("Revoked access token filter reached its maximum of " + maxEntries + " entries. " +
+                        skippedTokens + " revoked or inactive access tokens were not recorded.");
+            }
+            lastSyncTime = syncStartTime;
+            if (fullSync) {
+                lastFullSyncTime = syncStartTime;
+            }
+            if (log.isDebugEnabled()) {
+                log.debug("Synced " + invalidatedTokens.size() + " revoked or inactive access tokens. Full sync: " +
+                        fullSync);
+            }
+        } catch (IdentityOAuth2Exception e) {
+            log.error("Error while syncing revoked access tokens.", e);
+        }
+    }
+
+    public int size() {
+
+        return revokedTokens.size();
+    }
+
+    /**
+     * Remove all entries.
+     */
+    public void clear() {
+
+        synchronized (lock) {
+            revokedTokens.clear();
+            bloomFilter = new BloomFilter(expectedEntries);
+        }
+    }
+
+    boolean isRevokedTokenHash(String tokenHash) {
+
+        if (!bloomFilter.mightContain(tokenHash)) {
+            return false;
+        }
+        Long expiryTime = revokedTokens.get(tokenHash);
+        return expiryTime != null && expiryTime > System.currentTimeMillis();
+    }
+
+    boolean addRevokedTokenHash(String tokenHash, long expiryTime) {
+
+        if (expiryTime <= System.currentTimeMillis()) {
+            return false;
+        }
+        // Additions are rare compared to lookups, hence they are serialized with the rebuild of the bloom filter.
+        synchronized (lock) {
+            // Expired entries are only dropped by the sync, which keeps additions to a full filter cheap.
+            if (revokedTokens.size() >= maxEntries && !revokedTokens.containsKey(tokenHash)) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Revoked access token filter is full with " + maxEntries + " entries. The revoked " +
+                            "token is not recorded.");
+                }
+                return false;
+            }
+            revokedTokens.merge(tokenHash, expiryTime, Math::max);
+            bloomFilter.put(tokenHash);
+            return true;
+        }
+    }
+
+    void removeExpiredEntries(long now) {
+
+        synchronized (lock) {
+            if (!revokedTokens.values().removeIf(expiryTime -> expiryTime <= now)) {
+                return;
+            }
+            // A bloom filter cannot forget entries, hence rebuild it from the remaining ones.
+            BloomFilter rebuiltFilter = new BloomFilter(Math.max(expectedEntries, revokedTokens.size() * 2));
+            for (String tokenHash : revokedTokens.keySet()) {
+                rebuiltFilter.put(tokenHash);
+            }
+            bloomFilter = rebuiltFilter;
+        }
+    }
+
+    private void startSync(int syncIntervalSeconds) {
+
+        syncScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "oauth-revoked-token-sync");
+            thread.setDaemon(true);
+            return thread;
+        });
+        syncScheduler.scheduleWithFixedDelay(this::sync, 0, syncIntervalSeconds, TimeUnit.SECONDS);
+        if (log.isDebugEnabled()) {
+            log.debug("Revoked access token filter initialized with expected entries: " + expectedEntries +
+                    ", sync interval: " + syncIntervalSeconds + "s, full sync interval: " +
+                    TimeUnit.MILLISECONDS.toSeconds(fullSyncIntervalMillis) + "s, max token lifetime: " +
+                    TimeUnit.MILLISECONDS.toSeconds(maxTokenLifetimeMillis) + "s.");
+        }
+    }
+
+    /**
+     * Bloom filter over strings, using double hashing of a 64 bit FNV-1a hash to derive the bit positions.
+     */
+    private static final class BloomFilter {
+
+        private final AtomicLongArray bits;
+        private final long bitCount;
+        private final int hashCount;
+
+        private BloomFilter(int expectedEntries) {
+
+            long optimalBitCount = (long) Math.ceil(-expectedEntries * Math.log(FALSE_POSITIVE_PROBABILITY) /
+                    (Math.log(2) * Math.log(2)));
+            int wordCount = (int) Math.max(1, (optimalBitCount + 63) / 64);
+            this.bits = new AtomicLongArray(wordCount);
+            this.bitCount = wordCount * 64L;
+            this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedEntries * Math.log(2)));
+        }
+
+        private void put(String value) {
+
+            long hash = hash(value);
+            int hash1 = (int) hash;
+            int hash2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashCount; i++) {
+                long index = getIndex(hash1 + i * hash2);
+                int word = (int) (index >>> 6);
+                long mask = 1L << index;
+                long current;
+                do {
+                    current = bits.get(word);
+                } while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask));
+            }
+        }
+
+        private boolean mightContain(String value) {
+
+            long hash = hash(value);
+            int hash1 = (int) hash;
+            int hash2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashCount; i++) {
+                long index = getIndex(hash1 + i * hash2);
+                if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private long getIndex(int combinedHash) {
+
+            return (combinedHash & Integer.MAX_VALUE) % bitCount;
+        }
+
+        private static long hash(String value) {
+
+            long hash = 0xcbf29ce484222325L;
+            for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+                hash ^= b & 0xff;
+                hash *= 0x100000001b3L;
+            }
+            return hash;
+        }
+    }
+}
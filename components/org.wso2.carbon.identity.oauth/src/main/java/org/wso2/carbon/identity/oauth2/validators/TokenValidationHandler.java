@@ -160,7 +160,28 @@ public class TokenValidationHandler {
     public OAuth2TokenValidationResponseDTO validate(OAuth2TokenValidationRequestDTO requestDTO)
             throws IdentityOAuth2Exception {
 
-        OAuth2ClientApplicationDTO appToken = findOAuthConsumerIfTokenIsValid(requestDTO);
+        // Responses carrying an authorization context token are built for the request, hence they are not cached.
+        IntrospectionResponseCache introspectionResponseCache = IntrospectionResponseCache.getInstance();
+        boolean isCacheableRequest = introspectionResponseCache.isEnabled() && tokenGenerator == null;
+        String requestTenantDomain = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain();
+        if (isCacheableRequest) {
+            OAuth2TokenValidationResponseDTO cachedResponseDTO =
+                    introspectionResponseCache.getValidationResponse(requestDTO, requestTenantDomain);
+            if (cachedResponseDTO != null) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Token validation response is served from the cache.");
+                }
+                return cachedResponseDTO;
+            }
+        }
+
+        OAuth2TokenValidationMessageContext messageContext =
+                new OAuth2TokenValidationMessageContext(requestDTO, new OAuth2TokenValidationResponseDTO());
+        OAuth2ClientApplicationDTO appToken = findOAuthConsumerIfTokenIsValid(messageContext);
+        if (isCacheableRequest) {
+            introspectionResponseCache.addValidationResponse(requestDTO, requestTenantDomain,
+                    appToken.getAccessTokenValidationResponse(), messageContext);
+        }
         return appToken.getAccessTokenValidationResponse();
     }
 
@@ -175,10 +196,16 @@ public class TokenValidationHandler {
     public OAuth2ClientApplicationDTO findOAuthConsumerIfTokenIsValid(OAuth2TokenValidationRequestDTO requestDTO)
             throws IdentityOAuth2Exception {
 
+        return findOAuthConsumerIfTokenIsValid(
+                new OAuth2TokenValidationMessageContext(requestDTO, new OAuth2TokenValidationResponseDTO()));
+    }
+
+    private OAuth2ClientApplicationDTO findOAuthConsumerIfTokenIsValid(
+            OAuth2TokenValidationMessageContext messageContext) throws IdentityOAuth2Exception {
+
         OAuth2ClientApplicationDTO clientApp = new OAuth2ClientApplicationDTO();
-        OAuth2TokenValidationResponseDTO responseDTO = new OAuth2TokenValidationResponseDTO();
-        OAuth2TokenValidationMessageContext messageContext =
-                new OAuth2TokenValidationMessageContext(requestDTO, responseDTO);
+        OAuth2TokenValidationRequestDTO requestDTO = messageContext.getRequestDTO();
+        OAuth2TokenValidationResponseDTO responseDTO = messageContext.getResponseDTO();
 
         OAuth2TokenValidationRequestDTO.OAuth2AccessToken accessToken = requestDTO.getAccessToken();
         OAuth2TokenValidator tokenValidator = null;
@@ -255,6 +282,26 @@ public class TokenValidationHandler {
 
         OAuth2TokenValidationRequestDTO.OAuth2AccessToken oAuth2Token = validationRequest.getAccessToken();
 
+        // Responses carrying a user context token depend on the requested claims, hence they are not cached.
+        IntrospectionResponseCache introspectionResponseCache = IntrospectionResponseCache.getInstance();
+        boolean isCacheableRequest = introspectionResponseCache.isEnabled()
+                && (tokenGenerator == null || validationRequest.getRequiredClaimURIs() == null);
+        String requestTenantDomain = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain();
+        if (isCacheableRequest) {
+            OAuth2IntrospectionResponseDTO cachedIntroResp = introspectionResponseCache
+                    .getIntrospectionResponse(validationRequest, requestTenantDomain, responseDTO);
+            if (cachedIntroResp != null) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Introspection response of the application: " + cachedIntroResp.getClientId() +
+                            " is served from the cache.");
+                }
+                if (cachedIntroResp.getUsername() != null) {
+                    responseDTO.setAuthorizedUser(cachedIntroResp.getUsername());
+                }
+                return cachedIntroResp;
+            }
+        }
+
         // To hold the applicable validators list from all the available validators. This list will be prioritized if we
         // have a token_type_hint.
         List<OAuth2TokenValidator> applicableValidators = new ArrayList<>();
@@ -368,6 +415,11 @@ public class TokenValidationHandler {
             responseDTO.setAuthorizedUser(introResp.getUsername());
         }
 
+        if (isCacheableRequest) {
+            introspectionResponseCache.addIntrospectionResponse(validationRequest, requestTenantDomain, introResp,
+                    messageContext);
+        }
+
         if (tokenGenerator != null && validationRequest.getRequiredClaimURIs() != null) {
             // add user attributes to the introspection response.
             tokenGenerator.generateToken(messageContext);
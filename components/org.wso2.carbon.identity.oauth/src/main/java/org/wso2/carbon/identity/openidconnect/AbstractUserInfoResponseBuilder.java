@@ -47,6 +47,7 @@ import org.wso2.carbon.user.core.UserCoreConstants;
 import org.wso2.carbon.user.core.util.UserCoreUtil;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -69,13 +70,27 @@ public abstract class AbstractUserInfoResponseBuilder implements UserInfoRespons
             throws UserInfoEndpointException, OAuthSystemException {
 
         String clientId;
+        AccessTokenDO accessTokenDO;
         Optional<AccessTokenDO> optionalAccessTokenDO = OAuth2Util.getAccessTokenDO(tokenResponse);
         if (optionalAccessTokenDO.isPresent()) {
-            AccessTokenDO accessTokenDO = optionalAccessTokenDO.get();
+            accessTokenDO = optionalAccessTokenDO.get();
             clientId = accessTokenDO.getConsumerKey();
         } else {
             throw new IllegalArgumentException(OAuth2Util.ACCESS_TOKEN_IS_NOT_ACTIVE_ERROR_MESSAGE);
         }
+
+        UserInfoResponseCache userInfoResponseCache = UserInfoResponseCache.getInstance();
+        String responseFingerprint = null;
+        if (userInfoResponseCache.isEnabled() && isResponseCacheable()) {
+            responseFingerprint = getResponseFingerprint(tokenResponse);
+            String cachedResponse = userInfoResponseCache.getUserInfoResponse(accessTokenDO, responseFingerprint);
+            if (cachedResponse != null) {
+                if (log.isDebugEnabled()) {
+                    log.debug("User info response of the client_id: " + clientId + " is served from the cache.");
+                }
+                return cachedResponse;
+            }
+        }
         String spTenantDomain = getServiceProviderTenantDomain(tokenResponse);
 
         // Retrieve user claims.
@@ -90,7 +105,37 @@ public abstract class AbstractUserInfoResponseBuilder implements UserInfoRespons
         subjectClaim = getOIDCSubjectClaim(clientId, spTenantDomain, subjectClaim);
         filteredUserClaims.put(OAuth2Util.SUB, subjectClaim);
 
-        return buildResponse(tokenResponse, spTenantDomain, filteredUserClaims);
+        String response = buildResponse(tokenResponse, spTenantDomain, filteredUserClaims);
+        if (responseFingerprint != null) {
+            userInfoResponseCache.addUserInfoResponse(accessTokenDO, responseFingerprint, response);
+        }
+        return response;
+    }
+
+    /**
+     * Returns whether the responses built by this builder can be served again for the same token from the
+     * {@link UserInfoResponseCache}. Builders adding values which change per request, such as timestamps, must not
+     * allow this.
+     *
+     * @return True if the built responses can be reused.
+     */
+    protected boolean isResponseCacheable() {
+
+        return false;
+    }
+
+    /**
+     * Returns the fingerprint of the claims requested with the token and of the response format. A cached response is
+     * only reused for a request with the same fingerprint.
+     *
+     * @param tokenResponse Validated token response.
+     * @return Response fingerprint.
+     */
+    protected String getResponseFingerprint(OAuth2TokenValidationResponseDTO tokenResponse) {
+
+        String[] scopes = tokenResponse.getScope() == null ? new String[0] : tokenResponse.getScope().clone();
+        Arrays.sort(scopes);
+        return getClass().getName() + ":" + StringUtils.join(scopes, " ");
     }
 
     private void handleRolesClaim(Map<String, Object> filteredUserClaims) {
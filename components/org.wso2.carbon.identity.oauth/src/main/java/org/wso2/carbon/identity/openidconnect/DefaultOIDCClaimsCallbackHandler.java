@@ -60,6 +60,7 @@ import org.wso2.carbon.identity.oauth2.util.AuthzUtil;
 import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
 import org.wso2.carbon.identity.openidconnect.internal.OpenIDConnectServiceComponentHolder;
 import org.wso2.carbon.identity.openidconnect.model.RequestedClaim;
+import org.wso2.carbon.identity.openidconnect.model.ResolvedUserClaims;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
 import org.wso2.carbon.user.api.UserStoreException;
 
@@ -409,7 +410,8 @@ public class DefaultOIDCClaimsCallbackHandler implements CustomClaimsCallbackHan
             String clientId = requestMsgCtx.getOauth2AccessTokenReqDTO().getClientId();
             AuthenticatedUser authenticatedUser = requestMsgCtx.getAuthorizedUser();
 
-            return getUserClaimsInOIDCDialect(spTenantDomain, clientId, authenticatedUser);
+            return getUserClaimsInOIDCDialect(spTenantDomain, clientId, authenticatedUser,
+                    OIDCClaimUtil.getResolvedUserClaims(requestMsgCtx));
         } catch (UserStoreException | IdentityApplicationManagementException | IdentityException |
                  OrganizationManagementException e) {
             if (FrameworkUtils.isContinueOnClaimHandlingErrorAllowed()) {
@@ -542,7 +544,7 @@ public class DefaultOIDCClaimsCallbackHandler implements CustomClaimsCallbackHan
             String clientId = authzReqMessageContext.getAuthorizationReqDTO().getConsumerKey();
             AuthenticatedUser authenticatedUser = authzReqMessageContext.getAuthorizationReqDTO().getUser();
 
-            return getUserClaimsInOIDCDialect(spTenantDomain, clientId, authenticatedUser);
+            return getUserClaimsInOIDCDialect(spTenantDomain, clientId, authenticatedUser, null);
         } catch (UserStoreException | IdentityApplicationManagementException | IdentityException |
                  OrganizationManagementException e) {
             if (FrameworkUtils.isContinueOnClaimHandlingErrorAllowed()) {
@@ -595,7 +597,8 @@ public class DefaultOIDCClaimsCallbackHandler implements CustomClaimsCallbackHan
     }
 
     private Map<String, Object> getUserClaimsInOIDCDialect(String spTenantDomain, String clientId,
-                                                           AuthenticatedUser authenticatedUser)
+                                                           AuthenticatedUser authenticatedUser,
+                                                           ResolvedUserClaims resolvedUserClaims)
             throws IdentityApplicationManagementException, IdentityException, UserStoreException,
             OrganizationManagementException {
 
@@ -618,8 +621,9 @@ public class DefaultOIDCClaimsCallbackHandler implements CustomClaimsCallbackHan
         }
         List<String> requestedClaimUris = getRequestedClaimUris(requestClaimMappings);
         // Improve runtime claim value storage in cache through https://github.com/wso2/product-is/issues/15056
-        requestedClaimUris.removeIf(claim -> claim.startsWith("http://wso2.org/claims/runtime/"));
-        return OIDCClaimUtil.getUserClaimsInOIDCDialect(serviceProvider, authenticatedUser, requestedClaimUris);
+        requestedClaimUris.removeIf(claim -> claim.startsWith(OIDCClaimUtil.RUNTIME_CLAIM_URI_PREFIX));
+        return OIDCClaimUtil.getUserClaimsInOIDCDialect(serviceProvider, authenticatedUser, requestedClaimUris,
+                resolvedUserClaims);
     }
 
     private ClaimMapping[] getRequestedClaimMappings(ServiceProvider serviceProvider) {
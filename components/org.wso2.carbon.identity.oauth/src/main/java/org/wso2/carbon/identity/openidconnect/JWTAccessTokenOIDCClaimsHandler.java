@@ -62,6 +62,7 @@ import org.wso2.carbon.identity.oauth2.token.handlers.grant.RefreshGrantHandler;
 import org.wso2.carbon.identity.oauth2.util.AuthzUtil;
 import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
 import org.wso2.carbon.identity.openidconnect.internal.OpenIDConnectServiceComponentHolder;
+import org.wso2.carbon.identity.openidconnect.model.ResolvedUserClaims;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
 import org.wso2.carbon.user.api.UserStoreException;
 
@@ -226,7 +227,8 @@ public class JWTAccessTokenOIDCClaimsHandler implements CustomClaimsCallbackHand
             String clientId = requestMsgCtx.getOauth2AccessTokenReqDTO().getClientId();
             AuthenticatedUser authenticatedUser = requestMsgCtx.getAuthorizedUser();
 
-            return getLocalUserClaimsInOIDCDialect(spTenantDomain, clientId, authenticatedUser);
+            return getLocalUserClaimsInOIDCDialect(spTenantDomain, clientId, authenticatedUser,
+                    OIDCClaimUtil.getResolvedUserClaims(requestMsgCtx));
         } catch (UserStoreException | IdentityApplicationManagementException | IdentityException |
                  OrganizationManagementException e) {
             if (FrameworkUtils.isContinueOnClaimHandlingErrorAllowed()) {
@@ -544,7 +546,7 @@ public class JWTAccessTokenOIDCClaimsHandler implements CustomClaimsCallbackHand
             String clientId = authzReqMessageContext.getAuthorizationReqDTO().getConsumerKey();
             AuthenticatedUser authenticatedUser = authzReqMessageContext.getAuthorizationReqDTO().getUser();
 
-            return getLocalUserClaimsInOIDCDialect(spTenantDomain, clientId, authenticatedUser);
+            return getLocalUserClaimsInOIDCDialect(spTenantDomain, clientId, authenticatedUser, null);
         } catch (UserStoreException | IdentityApplicationManagementException | IdentityException |
                  OrganizationManagementException e) {
             if (FrameworkUtils.isContinueOnClaimHandlingErrorAllowed()) {
@@ -666,7 +668,8 @@ public class JWTAccessTokenOIDCClaimsHandler implements CustomClaimsCallbackHand
      * @throws OrganizationManagementException        Organization Management Exception
      */
     private Map<String, Object> getLocalUserClaimsInOIDCDialect(String spTenantDomain, String clientId,
-                                                                AuthenticatedUser authenticatedUser)
+                                                                AuthenticatedUser authenticatedUser,
+                                                                ResolvedUserClaims resolvedUserClaims)
             throws IdentityApplicationManagementException, IdentityException, UserStoreException,
             OrganizationManagementException {
 
@@ -688,7 +691,8 @@ public class JWTAccessTokenOIDCClaimsHandler implements CustomClaimsCallbackHand
         }
         List<String> localClaimURIs = allowedClaims.stream().map(oidcToLocalClaimMappings::get).filter(Objects::nonNull)
                 .collect(Collectors.toList());
-        return OIDCClaimUtil.getUserClaimsInOIDCDialect(serviceProvider, authenticatedUser, localClaimURIs);
+        return OIDCClaimUtil.getUserClaimsInOIDCDialect(serviceProvider, authenticatedUser, localClaimURIs,
+                resolvedUserClaims);
     }
 
     /**
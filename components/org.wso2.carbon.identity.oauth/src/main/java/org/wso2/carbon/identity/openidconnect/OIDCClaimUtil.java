@@ -27,6 +27,7 @@ import org.wso2.carbon.identity.application.authentication.framework.handler.app
 import org.wso2.carbon.identity.application.authentication.framework.handler.approles.exception.ApplicationRolesException;
 import org.wso2.carbon.identity.application.authentication.framework.model.AuthenticatedUser;
 import org.wso2.carbon.identity.application.authentication.framework.util.FrameworkUtils;
+import org.wso2.carbon.identity.application.common.model.ClaimMapping;
 import org.wso2.carbon.identity.application.common.model.RoleMapping;
 import org.wso2.carbon.identity.application.common.model.ServiceProvider;
 import org.wso2.carbon.identity.base.IdentityConstants;
@@ -46,8 +47,10 @@ import org.wso2.carbon.identity.oauth.dao.OAuthAppDO;
 import org.wso2.carbon.identity.oauth.internal.OAuthComponentServiceHolder;
 import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
 import org.wso2.carbon.identity.oauth2.internal.OAuth2ServiceComponentHolder;
+import org.wso2.carbon.identity.oauth2.token.OAuthTokenReqMessageContext;
 import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
 import org.wso2.carbon.identity.openidconnect.internal.OpenIDConnectServiceComponentHolder;
+import org.wso2.carbon.identity.openidconnect.model.ResolvedUserClaims;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.util.OrganizationSharedUserUtil;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
 import org.wso2.carbon.user.api.UserRealm;
@@ -66,6 +69,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 
 import static org.apache.commons.collections.CollectionUtils.isNotEmpty;
@@ -89,6 +93,10 @@ public class OIDCClaimUtil {
     private static final String SEND_ONLY_SP_MAPPED_ROLES = "SPRoleManagement.ReturnOnlyMappedLocalRoles";
     public static final String DEFAULT_SUBJECT_TYPE = "OAuth.OpenIDConnect.DefaultSubjectType";
     private static final String OIDC_DIALECT = "http://wso2.org/oidc/claim";
+    public static final String RUNTIME_CLAIM_URI_PREFIX = "http://wso2.org/claims/runtime/";
+    private static final String USER_INFO_REUSE_RESOLVED_CLAIMS_ENABLE = "OAuth.UserInfo.ReuseResolvedClaims.Enable";
+    private static final String USER_INFO_REUSE_RESOLVED_CLAIMS_MAX_AGE = "OAuth.UserInfo.ReuseResolvedClaims.MaxAge";
+    private static final long DEFAULT_USER_INFO_REUSE_RESOLVED_CLAIMS_MAX_AGE = 60L;
 
     private OIDCClaimUtil() {
     }
@@ -442,6 +450,27 @@ public class OIDCClaimUtil {
                                                           List<String> claimURIList) throws IdentityException,
             UserStoreException, OrganizationManagementException {
 
+        return getUserClaimsInOIDCDialect(serviceProvider, authenticatedUser, claimURIList, null);
+    }
+
+    /**
+     * Get user claims in OIDC dialect, reusing the claims already retrieved from the user store within the request.
+     *
+     * @param serviceProvider    Service Provider
+     * @param authenticatedUser  Authenticated User
+     * @param claimURIList       List of claim URIs
+     * @param resolvedUserClaims Claims of the user already retrieved within the request, or null if not tracked.
+     * @return User claims in OIDC dialect
+     * @throws IdentityException
+     * @throws UserStoreException
+     * @throws OrganizationManagementException
+     */
+    public static Map<String, Object> getUserClaimsInOIDCDialect(ServiceProvider serviceProvider,
+                                                                 AuthenticatedUser authenticatedUser,
+                                                                 List<String> claimURIList,
+                                                                 ResolvedUserClaims resolvedUserClaims)
+            throws IdentityException, UserStoreException, OrganizationManagementException {
+
         Map<String, Object> userClaimsMappedToOIDCDialect = new HashMap<>();
 
         String fullQualifiedUsername = authenticatedUser.toFullQualifiedUsername();
@@ -504,13 +533,16 @@ public class OIDCClaimUtil {
             } finally {
                 FrameworkUtils.endTenantFlow();
             }
+        } else if (resolvedUserClaims != null && resolvedUserClaims.isOf(userTenantDomain, fullQualifiedUsername)) {
+            userClaims = getUserClaimsInLocalDialect(serviceProvider, userTenantDomain, fullQualifiedUsername, realm,
+                    claimURIList, resolvedUserClaims);
         } else {
             userClaims = getUserClaimsInLocalDialect(fullQualifiedUsername, realm, claimURIList);
         }
 
         if (roleClaimRequested || appRoleClaimRequested) {
             String[] appAssocatedRolesOfUser = getAppAssociatedRolesOfUser(authenticatedUser,
-                    serviceProvider.getApplicationResourceId());
+                    serviceProvider.getApplicationResourceId(), resolvedUserClaims);
             if (roleClaimRequested) {
                 setRoleClaimInLocalDialect(userClaims, appAssocatedRolesOfUser);
             }
@@ -572,6 +604,133 @@ public class OIDCClaimUtil {
                 claimURIList.toArray(new String[0]), null);
     }
 
+    /**
+     * Get the local claims of the user, retrieving from the user store only the claims not retrieved yet within the
+     * request. When an ID token is built for the request, the claims requested by the application are retrieved
+     * together with the first claims, so that the ID token is served without another user store call.
+     */
+    private static Map<String, String> getUserClaimsInLocalDialect(ServiceProvider serviceProvider,
+                                                                   String userTenantDomain, String username,
+                                                                   UserRealm realm, List<String> claimURIList,
+                                                                   ResolvedUserClaims resolvedUserClaims)
+            throws UserStoreException {
+
+        List<String> unresolvedClaimURIs = resolvedUserClaims.getUnresolvedClaimURIs(claimURIList);
+        if (resolvedUserClaims.isEmpty() && resolvedUserClaims.isPrefetchRequestedClaims()) {
+            for (String claimURI : resolvedUserClaims.getUnresolvedClaimURIs(
+                    getRequestedLocalClaimURIs(serviceProvider))) {
+                if (!unresolvedClaimURIs.contains(claimURI)) {
+                    unresolvedClaimURIs.add(claimURI);
+                }
+            }
+        }
+        if (!unresolvedClaimURIs.isEmpty()) {
+            resolvedUserClaims.addClaimValues(userTenantDomain, username, unresolvedClaimURIs,
+                    getUserClaimsInLocalDialect(username, realm, unresolvedClaimURIs));
+        } else if (log.isDebugEnabled()) {
+            log.debug("All the requested claims of user: " + username + " are already retrieved for the request.");
+        }
+        return resolvedUserClaims.getClaimValues(claimURIList);
+    }
+
+    /**
+     * Get the local claim URIs requested by the service provider, which are retrieved from the user store.
+     */
+    private static List<String> getRequestedLocalClaimURIs(ServiceProvider serviceProvider) {
+
+        List<String> claimURIs = new ArrayList<>();
+        if (serviceProvider.getClaimConfig() == null || serviceProvider.getClaimConfig().getClaimMappings() == null) {
+            return claimURIs;
+        }
+        String rolesClaimURI = IdentityUtil.getLocalGroupsClaimURI();
+        for (ClaimMapping claimMapping : serviceProvider.getClaimConfig().getClaimMappings()) {
+            if (!claimMapping.isRequested() || claimMapping.getLocalClaim() == null) {
+                continue;
+            }
+            String claimURI = claimMapping.getLocalClaim().getClaimUri();
+            // Roles are resolved through the application roles resolver, while runtime claims are not in user stores.
+            if (StringUtils.isBlank(claimURI) || APP_ROLES_CLAIM.equals(claimURI) ||
+                    claimURI.startsWith(RUNTIME_CLAIM_URI_PREFIX) ||
+                    (StringUtils.equals(rolesClaimURI, claimURI) && !CarbonConstants.ENABLE_LEGACY_AUTHZ_RUNTIME)) {
+                continue;
+            }
+            claimURIs.add(claimURI);
+        }
+        return claimURIs;
+    }
+
+    /**
+     * Get the resolved user claims tracked for the token request, creating them on the first use.
+     *
+     * @param tokenReqMessageContext Token request message context.
+     * @return Resolved user claims of the token request, or null if the context is not available.
+     */
+    public static ResolvedUserClaims getResolvedUserClaims(OAuthTokenReqMessageContext tokenReqMessageContext) {
+
+        if (tokenReqMessageContext == null) {
+            return null;
+        }
+        if (tokenReqMessageContext.getResolvedUserClaims() == null) {
+            String[] scopes = tokenReqMessageContext.getScope();
+            tokenReqMessageContext.setResolvedUserClaims(
+                    new ResolvedUserClaims(scopes != null && OAuth2Util.isOIDCAuthzRequest(scopes)));
+        }
+        return tokenReqMessageContext.getResolvedUserClaims();
+    }
+
+    /**
+     * Check whether the user claims resolved at the token request can be reused by the user info endpoint.
+     *
+     * @return True if the resolved user claims are carried forward to the user info endpoint.
+     */
+    public static boolean isUserInfoResolvedClaimsReuseEnabled() {
+
+        return Boolean.parseBoolean(IdentityUtil.getProperty(USER_INFO_REUSE_RESOLVED_CLAIMS_ENABLE));
+    }
+
+    /**
+     * Get the maximum age of the resolved user claims the user info endpoint may reuse.
+     *
+     * @return Maximum age in milliseconds.
+     */
+    public static long getUserInfoResolvedClaimsMaxAgeInMillis() {
+
+        String maxAge = IdentityUtil.getProperty(USER_INFO_REUSE_RESOLVED_CLAIMS_MAX_AGE);
+        if (StringUtils.isNotBlank(maxAge)) {
+            try {
+                return TimeUnit.SECONDS.toMillis(Long.parseLong(maxAge.trim()));
+            } catch (NumberFormatException e) {
+                log.warn("Invalid value: " + maxAge + " configured for " + USER_INFO_REUSE_RESOLVED_CLAIMS_MAX_AGE +
+                        ". Using the default value: " + DEFAULT_USER_INFO_REUSE_RESOLVED_CLAIMS_MAX_AGE + " seconds.");
+            }
+        }
+        return TimeUnit.SECONDS.toMillis(DEFAULT_USER_INFO_REUSE_RESOLVED_CLAIMS_MAX_AGE);
+    }
+
+    /**
+     * Get app associated roles of the user, reusing the roles already resolved within the request.
+     *
+     * @param authenticatedUser  Authenticated user.
+     * @param applicationId      Application id.
+     * @param resolvedUserClaims Claims of the user already retrieved within the request, or null if not tracked.
+     * @return App associated roles of the user.
+     * @throws ApplicationRolesException If an error occurred while getting app associated roles.
+     */
+    private static String[] getAppAssociatedRolesOfUser(AuthenticatedUser authenticatedUser, String applicationId,
+                                                        ResolvedUserClaims resolvedUserClaims)
+            throws ApplicationRolesException {
+
+        if (resolvedUserClaims == null) {
+            return getAppAssociatedRolesOfUser(authenticatedUser, applicationId);
+        }
+        String[] appAssociatedRoles = resolvedUserClaims.getAppAssociatedRoles(applicationId);
+        if (appAssociatedRoles == null) {
+            appAssociatedRoles = getAppAssociatedRolesOfUser(authenticatedUser, applicationId);
+            resolvedUserClaims.setAppAssociatedRoles(applicationId, appAssociatedRoles);
+        }
+        return appAssociatedRoles;
+    }
+
     /**
      * Get app associated roles of the user.
      *
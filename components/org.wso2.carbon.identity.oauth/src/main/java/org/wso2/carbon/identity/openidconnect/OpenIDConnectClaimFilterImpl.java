@@ -35,10 +35,10 @@ import org.wso2.carbon.identity.claim.metadata.mgt.model.ExternalClaim;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.oauth.common.OAuthConstants;
-import org.wso2.carbon.identity.oauth.dto.ScopeDTO;
 import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
 import org.wso2.carbon.identity.oauth2.dao.OAuthTokenPersistenceFactory;
 import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
+import org.wso2.carbon.identity.openidconnect.cache.OIDCScopeClaimIndex;
 import org.wso2.carbon.identity.openidconnect.internal.OpenIDConnectServiceComponentHolder;
 import org.wso2.carbon.identity.openidconnect.model.RequestedClaim;
 import org.wso2.carbon.user.core.UserCoreConstants;
@@ -150,25 +150,14 @@ public class OpenIDConnectClaimFilterImpl implements OpenIDConnectClaimFilter {
     public List<String> getClaimsFilteredByOIDCScopes(Set<String> requestedScopes, String spTenantDomain) {
 
         List<String> filteredClaims = new ArrayList<>();
-        Map<String, List<String>> scopeClaimsMap = getOIDCScopeClaimMap(spTenantDomain);
+        OIDCScopeClaimIndex scopeClaimIndex = getOIDCScopeClaimIndex(spTenantDomain);
 
-        if (MapUtils.isNotEmpty(scopeClaimsMap)) {
-            // Iterate through scopes requested in the OAuth2/OIDC request to filter claims
-            for (String requestedScope : requestedScopes) {
-                // Check if requested scope is a supported OIDC scope value
-                if (scopeClaimsMap.containsKey(requestedScope)) {
-                    if (log.isDebugEnabled()) {
-                        log.debug("Requested scope: " + requestedScope + " is a defined OIDC Scope in tenantDomain: " +
-                                spTenantDomain + ". Filtering claims based on the permitted claims in the scope.");
-                    }
-                    // Requested scope is an registered OIDC scope. Filter and return the claims belonging to the scope.
-                    filteredClaims.addAll(getClaimUrisInSupportedOIDCScope(scopeClaimsMap, requestedScope));
-                } else {
-                    if (log.isDebugEnabled()) {
-                        log.debug("Requested scope: " + requestedScope + " is not a defined OIDC Scope in " +
-                                "tenantDomain: " + spTenantDomain + ".");
-                    }
-                }
+        if (!scopeClaimIndex.isEmpty()) {
+            // Claims of the requested scopes which are registered OIDC scopes.
+            filteredClaims.addAll(scopeClaimIndex.getAllowedClaims(requestedScopes));
+            if (log.isDebugEnabled()) {
+                log.debug("Claims: " + filteredClaims + " are permitted by the requested scopes: " + requestedScopes +
+                        " in tenantDomain: " + spTenantDomain + ".");
             }
         } else {
             if (log.isDebugEnabled()) {
@@ -283,15 +272,25 @@ public class OpenIDConnectClaimFilterImpl implements OpenIDConnectClaimFilter {
     private Map<String, List<String>> getOIDCScopeClaimMap(String spTenantDomain) {
 
         // Map<"openid", "first_name,last_name,username">
-        Map<String, List<String>> scopeClaimsMap = new HashMap<>();
-        int tenantId = IdentityTenantUtil.getTenantId(spTenantDomain);
+        return getOIDCScopeClaimIndex(spTenantDomain).getScopeClaimMap();
+    }
 
+    /**
+     * Retrieve the index of the OIDC scopes and mapped claims for the given SP tenant domain.
+     *
+     * @param spTenantDomain Tenant domain of the SP.
+     * @return OIDC scope claim index for the tenant.
+     */
+    private OIDCScopeClaimIndex getOIDCScopeClaimIndex(String spTenantDomain) {
+
+        int tenantId = IdentityTenantUtil.getTenantId(spTenantDomain);
         // Load OIDC scopes and mapped claims from the cache or db.
-        List<ScopeDTO> oidcScopesList = getOIDCScopes(tenantId);
-        for (ScopeDTO scope : oidcScopesList) {
-            scopeClaimsMap.put(scope.getName(), Arrays.asList(scope.getClaim()));
+        try {
+            return OAuthTokenPersistenceFactory.getInstance().getScopeClaimMappingDAO().getScopeClaimIndex(tenantId);
+        } catch (IdentityOAuth2Exception e) {
+            log.error("Error while loading oidc scopes and claims for the tenant: " + tenantId);
         }
-        return scopeClaimsMap;
+        return new OIDCScopeClaimIndex(Collections.emptyList());
     }
 
     private boolean isConsentManagementServiceDisabled(ServiceProvider serviceProvider) {
@@ -348,17 +347,6 @@ public class OpenIDConnectClaimFilterImpl implements OpenIDConnectClaimFilter {
         return essentialClaims;
     }
 
-    private List<ScopeDTO> getOIDCScopes(int tenantId) {
-
-        List<ScopeDTO> oidcScopesList = new ArrayList<>();
-        try {
-            oidcScopesList = OAuthTokenPersistenceFactory.getInstance().getScopeClaimMappingDAO().getScopes(tenantId);
-        } catch (IdentityOAuth2Exception e) {
-            log.error("Error while loading oidc scopes and claims for the tenant: " + tenantId);
-        }
-        return oidcScopesList;
-    }
-
     private Map<String, Object> handleRequestedOIDCScope(Map<String, Object> userClaimsInOIDCDialect,
                                                          Map<String, Object> addressScopeClaims,
                                                          Map<String, List<String>> scopeClaimsMap,
@@ -16,8 +16,6 @@
 package org.wso2.carbon.identity.openidconnect;
 
 import com.nimbusds.jose.JWSAlgorithm;
-import org.apache.commons.codec.binary.Base64;
-import org.apache.commons.io.Charsets;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.oltu.oauth2.common.message.types.ResponseType;
@@ -28,9 +26,9 @@ import org.wso2.carbon.identity.oauth2.authz.OAuthAuthzReqMessageContext;
 import org.wso2.carbon.identity.oauth2.dto.OAuth2AccessTokenRespDTO;
 import org.wso2.carbon.identity.oauth2.dto.OAuth2AuthorizeRespDTO;
 import org.wso2.carbon.identity.oauth2.token.OAuthTokenReqMessageContext;
+import org.wso2.carbon.identity.oauth2.util.MessageDigestUtil;
 import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
 
-import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.HashMap;
 import java.util.Map;
@@ -128,15 +126,12 @@ public class OpenIDConnectSystemClaimImpl implements ClaimProvider {
      */
     private String getHashValue(String value) throws IdentityOAuth2Exception {
         String digAlg = OAuth2Util.mapDigestAlgorithm(signatureAlgorithm);
-        MessageDigest md;
+        byte[] digest;
         try {
-            md = MessageDigest.getInstance(digAlg);
+            digest = MessageDigestUtil.digest(digAlg, value);
         } catch (NoSuchAlgorithmException e) {
             throw new IdentityOAuth2Exception("Error creating the hash value. Invalid Digest Algorithm: " + digAlg);
         }
-
-        md.update(value.getBytes(Charsets.UTF_8));
-        byte[] digest = md.digest();
         int leftHalfBytes = 16;
         if (SHA384.equals(digAlg)) {
             leftHalfBytes = 24;
@@ -145,7 +140,7 @@ public class OpenIDConnectSystemClaimImpl implements ClaimProvider {
         }
         byte[] leftmost = new byte[leftHalfBytes];
         System.arraycopy(digest, 0, leftmost, 0, leftHalfBytes);
-        return new String(Base64.encodeBase64URLSafe(leftmost), Charsets.UTF_8);
+        return MessageDigestUtil.toBase64Url(leftmost);
     }
 
     private boolean isCodeHashApplicable(String responseType) {
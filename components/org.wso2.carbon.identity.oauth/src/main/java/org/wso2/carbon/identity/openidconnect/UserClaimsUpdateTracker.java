@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.openidconnect;
+
+import org.wso2.carbon.identity.application.authentication.framework.model.AuthenticatedUser;
+import org.wso2.carbon.identity.oauth.cache.NodeLocalExpiringCache;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tracks the users whose claims were updated on this node, so that the user claims resolved while issuing a token are
+ * not reused by the user info endpoint after the claims are updated.
+ * <p>
+ * An update is tracked for the maximum age of the reusable claims, as older claims are not reused anyway. If too many
+ * users are updated within that time, the claims of all users resolved before the latest untracked update are treated
+ * as updated. Claim updates on the other nodes of a cluster are not tracked here, hence the reused claims may be stale
+ * up to the maximum age there.
+ */
+public class UserClaimsUpdateTracker {
+
+    private static final int MAX_TRACKED_USERS = 10000;
+
+    private static volatile UserClaimsUpdateTracker instance;
+
+    private final NodeLocalExpiringCache<Long> updateTimes;
+    private final AtomicLong untrackedUpdateTime = new AtomicLong();
+
+    UserClaimsUpdateTracker(int maxTrackedUsers, long maxAgeMillis) {
+
+        this.updateTimes = new NodeLocalExpiringCache<>(maxTrackedUsers, maxAgeMillis);
+    }
+
+    public static UserClaimsUpdateTracker getInstance() {
+
+        if (instance == null) {
+            synchronized (UserClaimsUpdateTracker.class) {
+                if (instance == null) {
+                    instance = new UserClaimsUpdateTracker(MAX_TRACKED_USERS,
+                            OIDCClaimUtil.getUserInfoResolvedClaimsMaxAgeInMillis());
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Record that the claims of the given user were updated now.
+     *
+     * @param tenantDomain    Tenant domain of the user.
+     * @param userStoreDomain User store domain of the user.
+     * @param username        Username of the user without the user store domain.
+     */
+    public void markUserClaimsUpdated(String tenantDomain, String userStoreDomain, String username) {
+
+        long now = System.currentTimeMillis();
+        if (!updateTimes.addValue(UserInfoResponseCache.getUserKey(tenantDomain, userStoreDomain, username), now,
+                Long.MAX_VALUE)) {
+            untrackedUpdateTime.accumulateAndGet(now, Math::max);
+        }
+    }
+
+    /**
+     * Check whether the claims of the given user may have been updated at or after the given time.
+     *
+     * @param authenticatedUser Authenticated user.
+     * @param time              Time the claims were resolved, in milliseconds.
+     * @return True if the claims resolved at the given time may be stale.
+     */
+    public boolean isUserClaimsUpdatedSince(AuthenticatedUser authenticatedUser, long time) {
+
+        if (untrackedUpdateTime.get() >= time) {
+            return true;
+        }
+        Long updateTime = updateTimes.getValue(UserInfoResponseCache.getUserKey(authenticatedUser.getTenantDomain(),
+                authenticatedUser.getUserStoreDomain(), authenticatedUser.getUserName()));
+        return updateTime != null && updateTime >= time;
+    }
+}
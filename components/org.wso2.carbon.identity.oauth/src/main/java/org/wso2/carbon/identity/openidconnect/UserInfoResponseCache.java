@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.openidconnect;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.application.authentication.framework.model.AuthenticatedUser;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.oauth.cache.NodeLocalExpiringCache;
+import org.wso2.carbon.identity.oauth.cache.OAuthCache;
+import org.wso2.carbon.identity.oauth.cache.OAuthCacheGenerations;
+import org.wso2.carbon.identity.oauth2.model.AccessTokenDO;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.wso2.carbon.identity.oauth2.util.OAuth2Util.getPositiveIntProperty;
+
+/**
+ * Node local cache of serialized user info responses, keyed by the access token.
+ * <p>
+ * An entry is only served for the same response fingerprint it was built with, which captures the requested claims of
+ * the token and the response format. An entry lives at most for the configured time to live and never beyond the
+ * expiry time of the token. Entries are removed when the token is cleared from the OAuth cache on this node, which is
+ * how token revocation is propagated, and when the claims of the user are updated on this node. A token cleared on
+ * another node of a cluster only reaches this node through the cluster invalidation of the OAuth cache, which is not
+ * delivered when the OAuth cache is disabled or this node no longer holds the token in it. Such revocations and claim
+ * updates on the other nodes are only reflected once the entry expires, hence the time to live is kept short.
+ * <p>
+ * When generation based invalidation is enabled, entries are also dropped once the client of the token has been
+ * invalidated on any node, see {@link OAuthCacheGenerations}.
+ */
+public class UserInfoResponseCache {
+
+    private static final Log log = LogFactory.getLog(UserInfoResponseCache.class);
+
+    private static final String USER_INFO_RESPONSE_CACHE_ENABLE = "OAuth.UserInfo.ResponseCache.Enable";
+    private static final String USER_INFO_RESPONSE_CACHE_MAX_ENTRIES = "OAuth.UserInfo.ResponseCache.MaxEntries";
+    private static final String USER_INFO_RESPONSE_CACHE_TIME_TO_LIVE = "OAuth.UserInfo.ResponseCache.TimeToLive";
+
+    private static final int DEFAULT_MAX_ENTRIES = 10000;
+    private static final int DEFAULT_TIME_TO_LIVE_SECONDS = 30;
+
+    private static volatile UserInfoResponseCache instance;
+
+    private final NodeLocalExpiringCache<CachedUserInfoResponse> responses;
+    private final boolean enabled;
+
+    UserInfoResponseCache(boolean enabled, int maxEntries, long timeToLiveMillis) {
+
+        this.enabled = enabled;
+        this.responses = new NodeLocalExpiringCache<>(maxEntries, timeToLiveMillis);
+    }
+
+    public static UserInfoResponseCache getInstance() {
+
+        if (instance == null) {
+            synchronized (UserInfoResponseCache.class) {
+                if (instance == null) {
+                    UserInfoResponseCache cache = new UserInfoResponseCache(
+                            Boolean.parseBoolean(IdentityUtil.getProperty(USER_INFO_RESPONSE_CACHE_ENABLE)),
+                            getPositiveIntProperty(USER_INFO_RESPONSE_CACHE_MAX_ENTRIES, DEFAULT_MAX_ENTRIES),
+                            TimeUnit.SECONDS.toMillis(getPositiveIntProperty(USER_INFO_RESPONSE_CACHE_TIME_TO_LIVE,
+                                    DEFAULT_TIME_TO_LIVE_SECONDS)));
+                    if (cache.isEnabled()) {
+                        OAuthCache.addCacheClearListener(cache::clearUserInfoResponse);
+                    }
+                    instance = cache;
+                }
+            }
+        }
+        return instance;
+    }
+
+    public boolean isEnabled() {
+
+        return enabled;
+    }
+
+    /**
+     * Get the cached user info response of the given token.
+     *
+     * @param accessTokenDO Access token the user info is requested with.
+     * @param fingerprint   Fingerprint of the requested claims and the response format.
+     * @return Cached user info response or null if there is no live entry for the token and the fingerprint.
+     */
+    public String getUserInfoResponse(AccessTokenDO accessTokenDO, String fingerprint) {
+
+        if (!enabled || accessTokenDO == null || accessTokenDO.getAccessToken() == null) {
+            return null;
+        }
+        CachedUserInfoResponse response = responses.getValue(accessTokenDO.getAccessToken());
+        if (response == null || !StringUtils.equals(response.fingerprint, fingerprint)) {
+            return null;
+        }
+        if (OAuthCacheGenerations.getInstance().isStale(accessTokenDO.getConsumerKey(), response.generation)) {
+            responses.removeValue(accessTokenDO.getAccessToken(), response);
+            return null;
+        }
+        return response.userInfoResponse;
+    }
+
+    /**
+     * Cache the user info response built for the given token.
+     *
+     * @param accessTokenDO    Access token the user info is requested with.
+     * @param fingerprint      Fingerprint of the requested claims and the response format.
+     * @param userInfoResponse Serialized user info response.
+     */
+    public void addUserInfoResponse(AccessTokenDO accessTokenDO, String fingerprint, String userInfoResponse) {
+
+        if (!enabled || accessTokenDO == null || accessTokenDO.getAccessToken() == null || userInfoResponse == null) {
+            return;
+        }
+        boolean added = responses.addValue(accessTokenDO.getAccessToken(),
+                new CachedUserInfoResponse(userInfoResponse, fingerprint, getUserKey(accessTokenDO.getAuthzUser()),
+                        OAuthCacheGenerations.getInstance().getGeneration(accessTokenDO.getConsumerKey())),
+                getTokenExpiryTime(accessTokenDO));
+        if (!added && log.isDebugEnabled()) {
+            log.debug("User info response of the client: " + accessTokenDO.getConsumerKey() + " is not cached as " +
+                    "the token has expired or the cache is full.");
+        }
+    }
+
+    /**
+     * Remove the cached user info response of the given token.
+     *
+     * @param accessToken Access token.
+     */
+    public void clearUserInfoResponse(String accessToken) {
+
+        if (!enabled || accessToken == null) {
+            return;
+        }
+        if (responses.removeValue(accessToken) && log.isDebugEnabled()) {
+            log.debug("Removed the cached user info response of a token removed from the cache.");
+        }
+    }
+
+    /**
+     * Remove the cached user info responses of the given user.
+     *
+     * @param tenantDomain    Tenant domain of the user.
+     * @param userStoreDomain User store domain of the user.
+     * @param username        Username of the user without the user store domain.
+     */
+    public void clearUserInfoResponsesOfUser(String tenantDomain, String userStoreDomain, String username) {
+
+        if (!enabled || username == null) {
+            return;
+        }
+        String userKey = getUserKey(tenantDomain, userStoreDomain, username);
+        if (responses.removeValues(response -> userKey.equals(response.userKey)) && log.isDebugEnabled()) {
+            log.debug("Removed the cached user info responses of a user whose claims were updated.");
+        }
+    }
+
+    /**
+     * Remove all cached user info responses.
+     */
+    public void clear() {
+
+        responses.clear();
+    }
+
+    private long getTokenExpiryTime(AccessTokenDO accessTokenDO) {
+
+        // Tokens with a negative validity period never expire.
+        if (accessTokenDO.getIssuedTime() != null && accessTokenDO.getValidityPeriodInMillis() >= 0) {
+            return accessTokenDO.getIssuedTime().getTime() + accessTokenDO.getValidityPeriodInMillis();
+        }
+        return Long.MAX_VALUE;
+    }
+
+    private static String getUserKey(AuthenticatedUser authenticatedUser) {
+
+        if (authenticatedUser == null) {
+            return null;
+        }
+        return getUserKey(authenticatedUser.getTenantDomain(), authenticatedUser.getUserStoreDomain(),
+                authenticatedUser.getUserName());
+    }
+
+    /**
+     * Returns the key the cached entries of a user are tracked with.
+     *
+     * @param tenantDomain    Tenant domain of the user.
+     * @param userStoreDomain User store domain of the user.
+     * @param username        Username of the user without the user store domain.
+     * @return User key.
+     */
+    static String getUserKey(String tenantDomain, String userStoreDomain, String username) {
+
+        return StringUtils.upperCase(userStoreDomain) + "/" + username + "@" + tenantDomain;
+    }
+
+    private static final class CachedUserInfoResponse {
+
+        private final String userInfoResponse;
+        private final String fingerprint;
+        private final String userKey;
+        private final long generation;
+
+        private CachedUserInfoResponse(String userInfoResponse, String fingerprint, String userKey, long generation) {
+
+            this.userInfoResponse = userInfoResponse;
+            this.fingerprint = fingerprint;
+            this.userKey = userKey;
+            this.generation = generation;
+        }
+    }
+}
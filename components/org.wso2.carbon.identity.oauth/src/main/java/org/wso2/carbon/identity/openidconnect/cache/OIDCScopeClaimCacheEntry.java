@@ -29,6 +29,7 @@ import java.util.List;
 public class OIDCScopeClaimCacheEntry extends CacheEntry {
 
     private List<ScopeDTO> scopeList;
+    private transient volatile OIDCScopeClaimIndex scopeClaimIndex;
 
     public List<ScopeDTO> getScopeClaimMapping() {
 
@@ -38,5 +39,21 @@ public class OIDCScopeClaimCacheEntry extends CacheEntry {
     public void setScopeClaimMapping(List<ScopeDTO> scopeList) {
 
         this.scopeList = scopeList;
+        this.scopeClaimIndex = null;
+    }
+
+    /**
+     * Get the index of the scope claim mapping of the entry. The index is built on first use.
+     *
+     * @return Index of the scope claim mapping.
+     */
+    public OIDCScopeClaimIndex getScopeClaimIndex() {
+
+        OIDCScopeClaimIndex index = scopeClaimIndex;
+        if (index == null) {
+            index = new OIDCScopeClaimIndex(scopeList);
+            scopeClaimIndex = index;
+        }
+        return index;
     }
 }
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.openidconnect.cache;
+
+import org.wso2.carbon.identity.oauth.dto.ScopeDTO;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Index of the OIDC scope claim mapping of a tenant.
+ * <p>
+ * The index maps each OIDC scope to its claim URIs and each claim URI to the scopes it belongs to. The claims allowed
+ * by a set of requested scopes are computed once per distinct set of OIDC scopes and reused afterwards. The index is
+ * not modified once built; a change to the mapping builds a new index.
+ */
+public class OIDCScopeClaimIndex {
+
+    private static final int MAX_ALLOWED_CLAIMS_ENTRIES = 1000;
+
+    private final Map<String, List<String>> scopeClaims;
+    private final Map<String, Set<String>> claimScopes;
+    private final Map<Set<String>, List<String>> allowedClaims = new ConcurrentHashMap<>();
+
+    public OIDCScopeClaimIndex(List<ScopeDTO> scopeClaimMapping) {
+
+        Map<String, List<String>> scopeClaimMap = new HashMap<>();
+        Map<String, Set<String>> claimScopeMap = new HashMap<>();
+        if (scopeClaimMapping != null) {
+            for (ScopeDTO scope : scopeClaimMapping) {
+                String[] claims = scope.getClaim() != null ? scope.getClaim() : new String[0];
+                scopeClaimMap.put(scope.getName(), Collections.unmodifiableList(Arrays.asList(claims.clone())));
+                for (String claim : claims) {
+                    claimScopeMap.computeIfAbsent(claim, key -> new HashSet<>()).add(scope.getName());
+                }
+            }
+        }
+        claimScopeMap.replaceAll((claim, scopes) -> Collections.unmodifiableSet(scopes));
+        this.scopeClaims = Collections.unmodifiableMap(scopeClaimMap);
+        this.claimScopes = Collections.unmodifiableMap(claimScopeMap);
+    }
+
+    public boolean isEmpty() {
+
+        return scopeClaims.isEmpty();
+    }
+
+    /**
+     * Get the claim URIs of each OIDC scope.
+     *
+     * @return Unmodifiable map of scope name to the claim URIs of the scope.
+     */
+    public Map<String, List<String>> getScopeClaimMap() {
+
+        return scopeClaims;
+    }
+
+    /**
+     * Get the claim URIs of the OIDC scope.
+     *
+     * @param scope Scope name.
+     * @return Unmodifiable list of claim URIs, or an empty list if the scope is not an OIDC scope.
+     */
+    public List<String> getClaims(String scope) {
+
+        List<String> claims = scopeClaims.get(scope);
+        return claims != null ? claims : Collections.emptyList();
+    }
+
+    /**
+     * Get the OIDC scopes which the claim URI belongs to.
+     *
+     * @param claim Claim URI.
+     * @return Unmodifiable set of scope names.
+     */
+    public Set<String> getScopes(String claim) {
+
+        Set<String> scopes = claimScopes.get(claim);
+        return scopes != null ? scopes : Collections.emptySet();
+    }
+
+    /**
+     * Get the claim URIs allowed by the requested scopes. Scopes which are not OIDC scopes are ignored.
+     *
+     * @param requestedScopes Requested scopes.
+     * @return Unmodifiable list of the distinct claim URIs of the requested OIDC scopes.
+     */
+    public List<String> getAllowedClaims(Collection<String> requestedScopes) {
+
+        if (requestedScopes == null || scopeClaims.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Set<String> oidcScopes = new HashSet<>();
+        for (String requestedScope : requestedScopes) {
+            if (scopeClaims.containsKey(requestedScope)) {
+                oidcScopes.add(requestedScope);
+            }
+        }
+        if (oidcScopes.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<String> claims = allowedClaims.get(oidcScopes);
+        if (claims == null) {
+            Set<String> claimSet = new LinkedHashSet<>();
+            for (String oidcScope : oidcScopes) {
+                claimSet.addAll(scopeClaims.get(oidcScope));
+            }
+            claims = Collections.unmodifiableList(new ArrayList<>(claimSet));
+            // The distinct scope sets are few in practice; the bound only guards against unusual clients.
+            if (allowedClaims.size() < MAX_ALLOWED_CLAIMS_ENTRIES) {
+                allowedClaims.put(Collections.unmodifiableSet(oidcScopes), claims);
+            }
+        }
+        return claims;
+    }
+}
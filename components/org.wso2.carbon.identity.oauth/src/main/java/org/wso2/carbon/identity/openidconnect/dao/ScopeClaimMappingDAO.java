@@ -22,6 +22,7 @@ package org.wso2.carbon.identity.openidconnect.dao;
 
 import org.wso2.carbon.identity.oauth.dto.ScopeDTO;
 import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+import org.wso2.carbon.identity.openidconnect.cache.OIDCScopeClaimIndex;
 
 import java.util.List;
 
@@ -80,6 +81,18 @@ public interface ScopeClaimMappingDAO {
      */
     List<ScopeDTO> getScopes(int tenantId) throws IdentityOAuth2Exception;
 
+    /**
+     * To retrieve the index of the oidc scopes and mapped claims of the tenant.
+     *
+     * @param tenantId Tenant ID.
+     * @return Index of the persisted scopes and claims.
+     * @throws IdentityOAuth2Exception If an error occurs when loading scopes and claims.
+     */
+    default OIDCScopeClaimIndex getScopeClaimIndex(int tenantId) throws IdentityOAuth2Exception {
+
+        return new OIDCScopeClaimIndex(getScopes(tenantId));
+    }
+
     /**
      * To retrieve all persisted oidc scopes.
      *
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.openidconnect.model;
+
+import org.apache.commons.lang.StringUtils;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Local claim values of a user, retrieved from the user store while serving a single token request.
+ * <p>
+ * The ID token, the JWT access token and the pre issue access token action resolve the claims of the same user within a
+ * token request. They read the values from here, so that a claim is retrieved from the user store only once, and the
+ * same values can be carried forward to the user info endpoint through the authorization grant cache.
+ */
+public class ResolvedUserClaims implements Serializable {
+
+    private static final long serialVersionUID = -2317620524306431549L;
+
+    private final boolean prefetchRequestedClaims;
+    private final Set<String> resolvedClaimURIs = new HashSet<>();
+    private final Map<String, String> claimValues = new HashMap<>();
+    private String tenantDomain;
+    private String username;
+    private long resolvedTime;
+    private String applicationId;
+    private String[] appAssociatedRoles;
+
+    /**
+     * @param prefetchRequestedClaims Whether the claims requested by the application should be retrieved together
+     *                                with the first claims resolved, as an ID token is built for the request.
+     */
+    public ResolvedUserClaims(boolean prefetchRequestedClaims) {
+
+        this.prefetchRequestedClaims = prefetchRequestedClaims;
+    }
+
+    public boolean isPrefetchRequestedClaims() {
+
+        return prefetchRequestedClaims;
+    }
+
+    /**
+     * Returns whether the claims held here are of the given user. Claims not resolved yet can be of any user.
+     *
+     * @param tenantDomain Tenant domain of the user.
+     * @param username     Fully qualified username of the user.
+     * @return True if the claims of the given user can be held here.
+     */
+    public boolean isOf(String tenantDomain, String username) {
+
+        return this.username == null ||
+                (StringUtils.equals(this.tenantDomain, tenantDomain) && StringUtils.equals(this.username, username));
+    }
+
+    public boolean isEmpty() {
+
+        return resolvedClaimURIs.isEmpty();
+    }
+
+    /**
+     * Returns the claim URIs out of the given claims, which are not resolved yet.
+     *
+     * @param claimURIs Claim URIs.
+     * @return Claim URIs which are not resolved yet.
+     */
+    public List<String> getUnresolvedClaimURIs(Collection<String> claimURIs) {
+
+        List<String> unresolvedClaimURIs = new ArrayList<>();
+        for (String claimURI : claimURIs) {
+            if (!resolvedClaimURIs.contains(claimURI) && !unresolvedClaimURIs.contains(claimURI)) {
+                unresolvedClaimURIs.add(claimURI);
+            }
+        }
+        return unresolvedClaimURIs;
+    }
+
+    /**
+     * Adds the claim values retrieved for the given claim URIs. A claim without a value is recorded as resolved too.
+     *
+     * @param tenantDomain Tenant domain of the user.
+     * @param username     Fully qualified username of the user.
+     * @param claimURIs    Claim URIs retrieved.
+     * @param values       Claim values retrieved.
+     */
+    public void addClaimValues(String tenantDomain, String username, Collection<String> claimURIs,
+                               Map<String, String> values) {
+
+        if (this.username == null) {
+            this.tenantDomain = tenantDomain;
+            this.username = username;
+            this.resolvedTime = System.currentTimeMillis();
+        }
+        resolvedClaimURIs.addAll(claimURIs);
+        if (values != null) {
+            claimValues.putAll(values);
+        }
+    }
+
+    /**
+     * Returns a new map with the values of the given claims.
+     *
+     * @param claimURIs Claim URIs.
+     * @return Claim values of the given claims which have a value.
+     */
+    public Map<String, String> getClaimValues(Collection<String> claimURIs) {
+
+        Map<String, String> values = new HashMap<>();
+        for (String claimURI : claimURIs) {
+            String value = claimValues.get(claimURI);
+            if (value != null) {
+                values.put(claimURI, value);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Returns the time the claims were first retrieved from the user store, in milliseconds.
+     *
+     * @return Time the claims were retrieved.
+     */
+    public long getResolvedTime() {
+
+        return resolvedTime;
+    }
+
+    /**
+     * Returns the roles of the user associated with the given application, if they are resolved already.
+     *
+     * @param applicationId Resource id of the application.
+     * @return Application associated roles, or null if not resolved yet.
+     */
+    public String[] getAppAssociatedRoles(String applicationId) {
+
+        return StringUtils.equals(this.applicationId, applicationId) ? appAssociatedRoles : null;
+    }
+
+    public void setAppAssociatedRoles(String applicationId, String[] appAssociatedRoles) {
+
+        this.applicationId = applicationId;
+        this.appAssociatedRoles = appAssociatedRoles;
+    }
+}
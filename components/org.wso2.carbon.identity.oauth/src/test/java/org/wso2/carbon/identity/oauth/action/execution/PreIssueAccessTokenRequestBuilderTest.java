@@ -58,9 +58,11 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 
 /**
  * Unit test class for PreIssueAccessTokenRequestBuilder class.
@@ -159,6 +161,25 @@ public class PreIssueAccessTokenRequestBuilderTest {
         assertAllowedOperations(actionExecutionRequest.getAllowedOperations(), getExpectedAllowedOperations());
     }
 
+    @Test
+    public void testBuildActionExecutionRequestWithResolvedOIDCClaims()
+            throws ActionExecutionRequestBuilderException {
+
+        OAuthTokenReqMessageContext tokenMessageContext = getMockTokenMessageContext();
+        tokenMessageContext.setAccessTokenOIDCClaims(Collections.singletonMap("email", "test@wso2.com"));
+        claimHandlerUtilMockedStatic.clearInvocations();
+
+        ActionExecutionRequest actionExecutionRequest = preIssueAccessTokenRequestBuilder.
+                buildActionExecutionRequest(FlowContext.create().add("tokenMessageContext", tokenMessageContext), null);
+
+        AccessToken accessToken = ((PreIssueAccessTokenEvent) actionExecutionRequest.getEvent()).getAccessToken();
+        Assert.assertNotNull(accessToken.getClaim("email"));
+        Assert.assertEquals(accessToken.getClaim("email").getValue(), "test@wso2.com");
+        Assert.assertTrue(actionExecutionRequest.getAllowedOperations().get(1).getPaths()
+                .contains(PreIssueAccessTokenRequestBuilder.ACCESS_TOKEN_CLAIMS_PATH_PREFIX + "email"));
+        claimHandlerUtilMockedStatic.verify(() -> ClaimHandlerUtil.getClaimsCallbackHandler(any()), never());
+    }
+
     /**
      * Assert that the actual event matches the expected event.
      *
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth.cache;
+
+import org.testng.annotations.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link AppInfoNegativeCache}.
+ */
+public class AppInfoNegativeCacheTest {
+
+    private static final long TIME_TO_LIVE = TimeUnit.MINUTES.toMillis(1);
+
+    @Test
+    public void testMissingClientIsScopedToTenant() {
+
+        AppInfoNegativeCache negativeCache = new AppInfoNegativeCache(true, 10, TIME_TO_LIVE);
+        negativeCache.addMissingClient("unknown-client", -1234);
+
+        assertTrue(negativeCache.isMissingClient("unknown-client", -1234));
+        assertFalse(negativeCache.isMissingClient("unknown-client", 1));
+        assertFalse(negativeCache.isMissingClient("other-client", -1234));
+    }
+
+    @Test
+    public void testExpiredEntryIsIgnored() {
+
+        AppInfoNegativeCache negativeCache = new AppInfoNegativeCache(true, 10, -1);
+        negativeCache.addMissingClient("unknown-client", -1234);
+
+        assertFalse(negativeCache.isMissingClient("unknown-client", -1234));
+    }
+
+    @Test
+    public void testClearMissingClientOfAllTenants() {
+
+        AppInfoNegativeCache negativeCache = new AppInfoNegativeCache(true, 10, TIME_TO_LIVE);
+        negativeCache.addMissingClient("new-client", -1234);
+        negativeCache.addMissingClient("new-client", 1);
+        negativeCache.addMissingClient("new-client-2", 1);
+
+        negativeCache.clearMissingClient("new-client");
+
+        assertFalse(negativeCache.isMissingClient("new-client", -1234));
+        assertFalse(negativeCache.isMissingClient("new-client", 1));
+        assertTrue(negativeCache.isMissingClient("new-client-2", 1));
+    }
+
+    @Test
+    public void testEntriesAreBounded() {
+
+        AppInfoNegativeCache negativeCache = new AppInfoNegativeCache(true, 2, TIME_TO_LIVE);
+        negativeCache.addMissingClient("client-1", -1234);
+        negativeCache.addMissingClient("client-2", -1234);
+        negativeCache.addMissingClient("client-3", -1234);
+
+        assertTrue(negativeCache.isMissingClient("client-1", -1234));
+        assertTrue(negativeCache.isMissingClient("client-2", -1234));
+        assertFalse(negativeCache.isMissingClient("client-3", -1234));
+    }
+
+    @Test
+    public void testDisabledCache() {
+
+        AppInfoNegativeCache negativeCache = new AppInfoNegativeCache(false, 10, TIME_TO_LIVE);
+        negativeCache.addMissingClient("unknown-client", -1234);
+
+        assertFalse(negativeCache.isMissingClient("unknown-client", -1234));
+    }
+}
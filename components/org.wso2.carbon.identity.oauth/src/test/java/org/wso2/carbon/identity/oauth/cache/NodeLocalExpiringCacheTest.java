@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth.cache;
+
+import org.testng.annotations.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link NodeLocalExpiringCache}.
+ */
+public class NodeLocalExpiringCacheTest {
+
+    private static final long TIME_TO_LIVE = TimeUnit.MINUTES.toMillis(1);
+
+    @Test
+    public void testValueIsBoundByExpiryTime() {
+
+        NodeLocalExpiringCache<String> cache = new NodeLocalExpiringCache<>(10, TIME_TO_LIVE);
+
+        assertTrue(cache.addValue("live", "value", Long.MAX_VALUE));
+        assertFalse(cache.addValue("expired", "value", System.currentTimeMillis() - 1));
+
+        assertEquals(cache.getValue("live"), "value");
+        assertNull(cache.getValue("expired"));
+    }
+
+    @Test
+    public void testCacheIsBounded() {
+
+        NodeLocalExpiringCache<String> cache = new NodeLocalExpiringCache<>(1, TIME_TO_LIVE);
+
+        assertTrue(cache.addValue("first", "value", Long.MAX_VALUE));
+        assertFalse(cache.addValue("second", "value", Long.MAX_VALUE));
+        // Replacing the value of a cached key does not need a free slot.
+        assertTrue(cache.addValue("first", "new value", Long.MAX_VALUE));
+
+        assertEquals(cache.getValue("first"), "new value");
+        assertNull(cache.getValue("second"));
+    }
+
+    @Test
+    public void testExpiredValuesAreSweptWhenFull() throws Exception {
+
+        NodeLocalExpiringCache<String> cache = new NodeLocalExpiringCache<>(2, TIME_TO_LIVE);
+        assertTrue(cache.addValue("short", "value", System.currentTimeMillis() + 20));
+        assertTrue(cache.addValue("long", "value", Long.MAX_VALUE));
+
+        Thread.sleep(50);
+
+        assertTrue(cache.addValue("new", "value", Long.MAX_VALUE));
+        assertEquals(cache.getValue("long"), "value");
+        assertEquals(cache.getValue("new"), "value");
+        // The remaining values are live, hence the cache stays full without a sweep.
+        assertFalse(cache.addValue("another", "value", Long.MAX_VALUE));
+    }
+
+    @Test
+    public void testRemoveValue() {
+
+        NodeLocalExpiringCache<String> cache = new NodeLocalExpiringCache<>(10, TIME_TO_LIVE);
+        String value = "value";
+        cache.addValue("key", value, Long.MAX_VALUE);
+
+        cache.removeValue("key", "other value");
+        assertEquals(cache.getValue("key"), value);
+
+        cache.removeValue("key", value);
+        assertNull(cache.getValue("key"));
+        assertFalse(cache.removeValue("key"));
+    }
+
+    @Test
+    public void testRemoveValues() {
+
+        NodeLocalExpiringCache<String> cache = new NodeLocalExpiringCache<>(10, TIME_TO_LIVE);
+        cache.addValue("john-1", "john", Long.MAX_VALUE);
+        cache.addValue("john-2", "john", Long.MAX_VALUE);
+        cache.addValue("peter-1", "peter", Long.MAX_VALUE);
+
+        assertTrue(cache.removeValues("john"::equals));
+
+        assertNull(cache.getValue("john-1"));
+        assertNull(cache.getValue("john-2"));
+        assertEquals(cache.getValue("peter-1"), "peter");
+    }
+}
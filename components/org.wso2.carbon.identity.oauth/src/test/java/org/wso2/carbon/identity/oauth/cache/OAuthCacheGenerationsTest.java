@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth.cache;
+
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link OAuthCacheGenerations}.
+ */
+public class OAuthCacheGenerationsTest {
+
+    private static final String CONSUMER_KEY = "consumerKey";
+
+    private final Map<String, Long> generationEntries = new HashMap<>();
+    private OAuthClientGenerationCache generationCache;
+    private MockedStatic<OAuthClientGenerationCache> generationCacheStatic;
+
+    @BeforeMethod
+    public void setUp() {
+
+        generationEntries.clear();
+        generationCache = mock(OAuthClientGenerationCache.class);
+        doAnswer(invocation -> generationEntries.get(invocation.<String>getArgument(0)))
+                .when(generationCache).getValueFromCache(anyString());
+        doAnswer(invocation -> generationEntries.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(generationCache).addToCache(anyString(), anyLong());
+        doAnswer(invocation -> generationEntries.remove(invocation.<String>getArgument(0)))
+                .when(generationCache).clearCacheEntry(anyString());
+        generationCacheStatic = mockStatic(OAuthClientGenerationCache.class);
+        generationCacheStatic.when(OAuthClientGenerationCache::getInstance).thenReturn(generationCache);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        generationCacheStatic.close();
+    }
+
+    @Test
+    public void testGenerationIsReusedUntilInvalidated() {
+
+        OAuthCacheGenerations generations = new OAuthCacheGenerations(true);
+
+        long generation = generations.getGeneration(CONSUMER_KEY);
+        assertEquals(generations.getGeneration(CONSUMER_KEY), generation);
+        assertFalse(generations.isStale(CONSUMER_KEY, generation));
+
+        generations.invalidateClient(CONSUMER_KEY);
+        assertTrue(generations.isStale(CONSUMER_KEY, generation));
+
+        // Entries cached after the invalidation are stamped with a new generation, which the old ones do not match.
+        long newGeneration = generations.getGeneration(CONSUMER_KEY);
+        assertNotEquals(newGeneration, generation);
+        assertFalse(generations.isStale(CONSUMER_KEY, newGeneration));
+        assertTrue(generations.isStale(CONSUMER_KEY, generation));
+    }
+
+    @Test
+    public void testMissingGenerationIsStale() {
+
+        OAuthCacheGenerations generations = new OAuthCacheGenerations(true);
+
+        long generation = generations.getGeneration(CONSUMER_KEY);
+        // An evicted generation can not tell whether the client was invalidated meanwhile.
+        generationEntries.clear();
+
+        assertTrue(generations.isStale(CONSUMER_KEY, generation));
+    }
+
+    @Test
+    public void testDisabledGenerationsAreNeverStale() {
+
+        OAuthCacheGenerations generations = new OAuthCacheGenerations(false);
+
+        assertEquals(generations.getGeneration(CONSUMER_KEY), 0);
+        generations.invalidateClient(CONSUMER_KEY);
+        assertFalse(generations.isStale(CONSUMER_KEY, 0));
+        verify(generationCache, never()).clearCacheEntry(anyString());
+    }
+}
@@ -82,6 +82,7 @@ import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.initMocks;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertEqualsNoOrder;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertNull;
@@ -1016,6 +1017,55 @@ public class OAuthAppDAOTest extends TestOAuthDAOBase {
         }
     }
 
+    @Test
+    public void testGetActiveAppsInformation() throws Exception {
+
+        try (MockedStatic<OAuthServerConfiguration> oAuthServerConfiguration = mockStatic(
+                OAuthServerConfiguration.class);
+             MockedStatic<IdentityTenantUtil> identityTenantUtil = mockStatic(IdentityTenantUtil.class);
+             MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class);
+             MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class)) {
+            setupMocksForTest(oAuthServerConfiguration, identityTenantUtil, identityUtil);
+            try (Connection connection = getConnection(DB_NAME)) {
+                mockIdentityUtilDataBaseConnection(connection, identityDatabaseUtil);
+                OAuthAppDO defaultOAuthAppDO = getDefaultOAuthAppDO();
+                defaultOAuthAppDO.setAudiences(new String[]{"audience1", "audience2"});
+                defaultOAuthAppDO.setIdTokenEncryptionEnabled(true);
+                addOAuthApplication(defaultOAuthAppDO, TENANT_ID);
+
+                OAuthAppDO secondAppDO = getDefaultOAuthAppDO();
+                secondAppDO.setApplicationName("secondApp");
+                secondAppDO.setOauthConsumerKey("secondClientID");
+                secondAppDO.setOauthConsumerSecret("secondClientSecret");
+                new OAuthAppDAO().addOAuthApplication(secondAppDO);
+
+                List<OAuthAppDO> apps = new OAuthAppDAO().getActiveAppsInformation(TENANT_ID, 10);
+                assertEquals(apps.size(), 2);
+                OAuthAppDO oAuthAppDO = apps.get(0);
+                assertEquals(oAuthAppDO.getOauthConsumerKey(), CONSUMER_KEY);
+                assertEquals(oAuthAppDO.getApplicationName(), APP_NAME);
+                assertEquals(oAuthAppDO.getAppOwner().getUserName(), USER_NAME);
+                assertEquals(oAuthAppDO.getAppOwner().getTenantDomain(), TENANT_DOMAIN);
+                assertEquals(oAuthAppDO.getAppOwner().getUserStoreDomain(), USER_STORE_DOMAIN);
+                assertEquals(oAuthAppDO.getCallbackUrl(), CALLBACK);
+                assertEquals(oAuthAppDO.getBackChannelLogoutUrl(), BACKCHANNEL_LOGOUT);
+                assertTrue(oAuthAppDO.isIdTokenEncryptionEnabled());
+                assertEqualsNoOrder(oAuthAppDO.getAudiences(), new String[]{"audience1", "audience2"});
+                assertEqualsNoOrder(oAuthAppDO.getScopeValidators(), SCOPE_VALIDATORS);
+                assertEquals(apps.get(1).getOauthConsumerKey(), "secondClientID");
+
+                // Only the first application is read when the limit is reached.
+                apps = new OAuthAppDAO().getActiveAppsInformation(TENANT_ID, 1);
+                assertEquals(apps.size(), 1);
+                assertEquals(apps.get(0).getOauthConsumerKey(), CONSUMER_KEY);
+
+                assertTrue(new OAuthAppDAO().getActiveAppsInformation(TENANT_ID_2, 10).isEmpty());
+            }
+        } finally {
+            resetPrivilegedCarbonContext();
+        }
+    }
+
     @DataProvider(name = "testGetAppInformationWithOIDCPropertiesForImpersonationData")
     public Object[][] testGetAppInformationWithOIDCPropertiesForImpersonationData() {
 
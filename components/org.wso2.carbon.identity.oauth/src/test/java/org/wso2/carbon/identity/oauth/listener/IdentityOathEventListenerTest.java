@@ -29,22 +29,31 @@ import org.wso2.carbon.identity.oauth.OAuthUtil;
 import org.wso2.carbon.identity.oauth.internal.OAuthComponentServiceHolder;
 import org.wso2.carbon.identity.oauth.tokenprocessor.OAuth2RevocationProcessor;
 import org.wso2.carbon.identity.oauth2.internal.OAuth2ServiceComponentHolder;
+import org.wso2.carbon.identity.openidconnect.OIDCClaimUtil;
+import org.wso2.carbon.identity.openidconnect.UserClaimsUpdateTracker;
+import org.wso2.carbon.identity.openidconnect.UserInfoResponseCache;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.OrganizationUserSharingService;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.models.UserAssociation;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
 import org.wso2.carbon.identity.testutil.IdentityBaseTest;
+import org.wso2.carbon.user.api.RealmConfiguration;
 import org.wso2.carbon.user.api.UserRealm;
 import org.wso2.carbon.user.api.UserStoreException;
+import org.wso2.carbon.user.core.UserCoreConstants;
 import org.wso2.carbon.user.core.common.AbstractUserStoreManager;
 import org.wso2.carbon.user.core.common.User;
 import org.wso2.carbon.user.core.common.UserStore;
 import org.wso2.carbon.user.core.service.RealmService;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.openMocks;
 import static org.testng.Assert.assertEquals;
@@ -244,6 +253,60 @@ public class IdentityOathEventListenerTest extends IdentityBaseTest {
                 abstractUserStoreManager);
     }
 
+    @DataProvider(name = "testDoPostSetUserClaimValuesData")
+    public Object[][] testDoPostSetUserClaimValuesData() {
+
+        return new Object[][]{
+                // Response cache enabled, resolved claims reuse disabled.
+                {true, false},
+                // Response cache disabled, resolved claims reuse enabled.
+                {false, true},
+                // Both enabled.
+                {true, true},
+                // Both disabled.
+                {false, false}
+        };
+    }
+
+    @Test(dataProvider = "testDoPostSetUserClaimValuesData")
+    public void testDoPostSetUserClaimValues(boolean isResponseCacheEnabled, boolean isResolvedClaimsReuseEnabled)
+            throws Exception {
+
+        String username = "claimUpdateUsername";
+        UserInfoResponseCache userInfoResponseCache = mock(UserInfoResponseCache.class);
+        UserClaimsUpdateTracker userClaimsUpdateTracker = mock(UserClaimsUpdateTracker.class);
+        RealmConfiguration realmConfiguration = mock(RealmConfiguration.class);
+        when(userInfoResponseCache.isEnabled()).thenReturn(isResponseCacheEnabled);
+        when(abstractUserStoreManager.getTenantId()).thenReturn(1234);
+        when(IdentityTenantUtil.getTenantDomain(1234)).thenReturn("testTenant");
+        when(abstractUserStoreManager.getRealmConfiguration()).thenReturn(realmConfiguration);
+        when(realmConfiguration.getUserStoreProperty(UserCoreConstants.RealmConfig.PROPERTY_DOMAIN_NAME))
+                .thenReturn("SECONDARY");
+
+        try (MockedStatic<UserInfoResponseCache> userInfoResponseCacheMockedStatic =
+                     mockStatic(UserInfoResponseCache.class);
+             MockedStatic<UserClaimsUpdateTracker> userClaimsUpdateTrackerMockedStatic =
+                     mockStatic(UserClaimsUpdateTracker.class);
+             MockedStatic<OIDCClaimUtil> oidcClaimUtilMockedStatic = mockStatic(OIDCClaimUtil.class)) {
+            userInfoResponseCacheMockedStatic.when(UserInfoResponseCache::getInstance)
+                    .thenReturn(userInfoResponseCache);
+            userClaimsUpdateTrackerMockedStatic.when(UserClaimsUpdateTracker::getInstance)
+                    .thenReturn(userClaimsUpdateTracker);
+            oidcClaimUtilMockedStatic.when(OIDCClaimUtil::isUserInfoResolvedClaimsReuseEnabled)
+                    .thenReturn(isResolvedClaimsReuseEnabled);
+
+            assertTrue(identityOathEventListener.doPostSetUserClaimValue(username, abstractUserStoreManager));
+            assertTrue(identityOathEventListener.doPostSetUserClaimValues(username, new HashMap<>(), "default",
+                    abstractUserStoreManager));
+        }
+
+        int expectedInvalidations = isResponseCacheEnabled || isResolvedClaimsReuseEnabled ? 2 : 0;
+        verify(userInfoResponseCache, times(expectedInvalidations)).clearUserInfoResponsesOfUser("testTenant",
+                "SECONDARY", username);
+        verify(userClaimsUpdateTracker, times(isResolvedClaimsReuseEnabled ? 2 : 0)).markUserClaimsUpdated(
+                "testTenant", "SECONDARY", username);
+    }
+
 //
 //    @DataProvider(name = "testGetExecutionOrderIdData")
 //    public Object[][] testGetExecutionOrderIdData() {
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth.listener;
+
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.application.authentication.framework.model.AuthenticatedUser;
+import org.wso2.carbon.identity.oauth.cache.AuthorizationGrantCacheEntry;
+import org.wso2.carbon.identity.oauth.cache.CacheEntry;
+import org.wso2.carbon.identity.oauth.cache.OAuthCache;
+import org.wso2.carbon.identity.oauth.cache.OAuthCacheKey;
+import org.wso2.carbon.identity.oauth2.model.AccessTokenDO;
+
+import javax.cache.Cache;
+import javax.cache.event.CacheEntryEvent;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for {@link OAuthCacheRemoveListener}.
+ */
+@Listeners(MockitoTestNGListener.class)
+public class OAuthCacheRemoveListenerTest {
+
+    private static final String ACCESS_TOKEN = "b1f5a2c8-access-token";
+
+    @Mock
+    private OAuthCache mockedOAuthCache;
+
+    @Test
+    public void testEntryRemovedClearsTokenEntry() throws Exception {
+
+        AuthenticatedUser authenticatedUser = new AuthenticatedUser();
+        authenticatedUser.setUserName("john");
+        authenticatedUser.setUserId("4b4414e1-916b-4475-aaee-6b0751c29f11");
+        authenticatedUser.setTenantDomain("carbon.super");
+        AccessTokenDO accessTokenDO = new AccessTokenDO();
+        accessTokenDO.setAccessToken(ACCESS_TOKEN);
+        accessTokenDO.setConsumerKey("client");
+        accessTokenDO.setAuthzUser(authenticatedUser);
+        accessTokenDO.setScope(new String[]{"openid"});
+
+        try (MockedStatic<OAuthCache> oAuthCache = mockStatic(OAuthCache.class)) {
+            oAuthCache.when(OAuthCache::getInstance).thenReturn(mockedOAuthCache);
+
+            new OAuthCacheRemoveListener().entryRemoved(buildCacheEntryEvent(accessTokenDO));
+
+            // Clearing the token entry notifies the cache clear listeners, which drop the responses of the token.
+            verify(mockedOAuthCache).clearCacheEntry(new OAuthCacheKey(ACCESS_TOKEN), "carbon.super");
+        }
+    }
+
+    @Test
+    public void testEntryRemovedIgnoresOtherEntries() throws Exception {
+
+        try (MockedStatic<OAuthCache> oAuthCache = mockStatic(OAuthCache.class)) {
+
+            new OAuthCacheRemoveListener().entryRemoved(buildCacheEntryEvent(new AuthorizationGrantCacheEntry()));
+
+            oAuthCache.verify(OAuthCache::getInstance, never());
+        }
+    }
+
+    private CacheEntryEvent<? extends OAuthCacheKey, ? extends CacheEntry> buildCacheEntryEvent(
+            CacheEntry cacheEntry) {
+
+        return new CacheEntryEvent<OAuthCacheKey, CacheEntry>(mock(Cache.class)) {
+
+            @Override
+            public OAuthCacheKey getKey() {
+
+                return new OAuthCacheKey(ACCESS_TOKEN);
+            }
+
+            @Override
+            public CacheEntry getValue() {
+
+                return cacheEntry;
+            }
+        };
+    }
+}
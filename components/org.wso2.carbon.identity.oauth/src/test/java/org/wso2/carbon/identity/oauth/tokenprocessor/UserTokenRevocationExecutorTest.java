@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth.tokenprocessor;
+
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.common.testng.WithCarbonHome;
+import org.wso2.carbon.user.core.UserStoreException;
+import org.wso2.carbon.user.core.UserStoreManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Unit tests for {@link UserTokenRevocationExecutor}.
+ */
+@WithCarbonHome
+public class UserTokenRevocationExecutorTest {
+
+    private static final int POOL_SIZE = 4;
+    private static final int USER_COUNT = 200;
+
+    private final UserStoreManager userStoreManager = mock(UserStoreManager.class);
+
+    @Test
+    public void testTokensOfAllUsersAreRevokedWithBoundedConcurrency() throws Exception {
+
+        Set<String> revokedUsers = ConcurrentHashMap.newKeySet();
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        OAuth2RevocationProcessor revocationProcessor = mock(OAuth2RevocationProcessor.class);
+        when(revocationProcessor.revokeTokens(anyString(), any(UserStoreManager.class))).thenAnswer(invocation -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(1);
+            revokedUsers.add(invocation.getArgument(0));
+            running.decrementAndGet();
+            return true;
+        });
+
+        new UserTokenRevocationExecutor(true, POOL_SIZE, 50).revokeTokens(getUsernames(), userStoreManager,
+                revocationProcessor);
+
+        assertEquals(revokedUsers.size(), USER_COUNT);
+        assertTrue(maxRunning.get() <= POOL_SIZE);
+    }
+
+    @Test
+    public void testFailureIsReportedAfterAllUsers() throws Exception {
+
+        Set<String> revokedUsers = ConcurrentHashMap.newKeySet();
+        OAuth2RevocationProcessor revocationProcessor = mock(OAuth2RevocationProcessor.class);
+        when(revocationProcessor.revokeTokens(anyString(), any(UserStoreManager.class))).thenAnswer(invocation -> {
+            String username = invocation.getArgument(0);
+            if ("user-0".equals(username)) {
+                throw new UserStoreException("Error while revoking tokens.");
+            }
+            revokedUsers.add(username);
+            return true;
+        });
+
+        try {
+            new UserTokenRevocationExecutor(true, POOL_SIZE, 50).revokeTokens(getUsernames(), userStoreManager,
+                    revocationProcessor);
+            fail("Expected a UserStoreException.");
+        } catch (UserStoreException e) {
+            assertTrue(e.getCause() instanceof UserStoreException);
+        }
+        assertEquals(revokedUsers.size(), USER_COUNT - 1);
+    }
+
+    @Test
+    public void testNoRevocationIsAcceptedAfterShutdown() throws Exception {
+
+        OAuth2RevocationProcessor revocationProcessor = mock(OAuth2RevocationProcessor.class);
+        UserTokenRevocationExecutor executor = new UserTokenRevocationExecutor(true, POOL_SIZE, 50);
+        executor.shutdown(1000);
+
+        try {
+            executor.revokeTokens(getUsernames(), userStoreManager, revocationProcessor);
+            fail("Revocations must not be accepted after the shutdown.");
+        } catch (RejectedExecutionException e) {
+            // Expected as the workers are stopped.
+        }
+        verify(revocationProcessor, never()).revokeTokens(anyString(), any(UserStoreManager.class));
+    }
+
+    @Test
+    public void testDisabledExecutorRevokesSerially() throws Exception {
+
+        OAuth2RevocationProcessor revocationProcessor = mock(OAuth2RevocationProcessor.class);
+        when(revocationProcessor.revokeTokens(eq("user-0"), any(UserStoreManager.class)))
+                .thenThrow(new UserStoreException("Error while revoking tokens."));
+
+        try {
+            new UserTokenRevocationExecutor(false, POOL_SIZE, 50).revokeTokens(Arrays.asList("user-0", "user-1"),
+                    userStoreManager, revocationProcessor);
+            fail("Expected a UserStoreException.");
+        } catch (UserStoreException e) {
+            verify(revocationProcessor, never()).revokeTokens(eq("user-1"), any(UserStoreManager.class));
+        }
+    }
+
+    private static List<String> getUsernames() {
+
+        List<String> usernames = new ArrayList<>(USER_COUNT);
+        for (int i = 0; i < USER_COUNT; i++) {
+            usernames.add("user-" + i);
+        }
+        return usernames;
+    }
+}
@@ -20,6 +20,7 @@ package org.wso2.carbon.identity.oauth2.dao;
 
 import org.apache.commons.dbcp.BasicDataSource;
 import org.mockito.MockedStatic;
+import org.mockito.Mockito;
 import org.mockito.testng.MockitoTestNGListener;
 import org.testng.annotations.AfterClass;
 import org.testng.annotations.AfterMethod;
@@ -27,24 +28,48 @@ import org.testng.annotations.BeforeClass;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Listeners;
 import org.testng.annotations.Test;
+import org.wso2.carbon.identity.application.authentication.framework.model.AuthenticatedUser;
 import org.wso2.carbon.identity.common.testng.WithCarbonHome;
 import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.oauth.common.exception.InvalidOAuthClientException;
+import org.wso2.carbon.identity.oauth.internal.OAuthComponentServiceHolder;
 import org.wso2.carbon.identity.oauth.config.OAuthServerConfiguration;
+import org.wso2.carbon.identity.oauth.tokenprocessor.PlainTextPersistenceProcessor;
 import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
 import org.wso2.carbon.identity.oauth2.dao.util.DAOUtils;
+import org.wso2.carbon.identity.oauth2.internal.OAuth2ServiceComponentHolder;
+import org.wso2.carbon.identity.oauth2.model.AccessTokenDO;
+import org.wso2.carbon.identity.oauth2.token.OauthTokenIssuer;
+import org.wso2.carbon.identity.oauth2.util.OAuth2TokenUtil;
+import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
+import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
 
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
 
 @WithCarbonHome
 @Listeners(MockitoTestNGListener.class)
@@ -56,6 +81,11 @@ public class AccessTokenDAOImplTest {
     public static final String H2_SCRIPT_NAME = "identity.sql";
     public static final String H2_SCRIPT2_NAME = "insert_token_binding.sql";
     public static final String DB_NAME = "AccessTokenDB";
+    private static final String BATCH_CONSUMER_KEY = "batchConsumerKey";
+    private static final int BATCH_TENANT_ID = 5678;
+    private static final String BATCH_TENANT_DOMAIN = "batch.com";
+    private static final String BATCH_ORGANIZATION_ID = "10084a8d-113f-4211-a0d5-efe36b082211";
+    private static final String SECONDARY_DOMAIN = "SECONDARY";
     Connection connection = null;
     private MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil;
     private MockedStatic<OAuthServerConfiguration> oAuthServerConfiguration;
@@ -68,6 +98,7 @@ public class AccessTokenDAOImplTest {
         } catch (Exception e) {
             throw new IdentityOAuth2Exception("Error while initializing the data source", e);
         }
+        addBatchTokens();
     }
 
     @BeforeMethod
@@ -156,4 +187,312 @@ public class AccessTokenDAOImplTest {
 
         accessTokenDAO.revokeAccessTokensInBatch(tokens, isHashedToken);
     }
+
+    @Test
+    public void testInsertAccessTokensWritesUserDomainOfEachToken() throws Exception {
+
+        identityDatabaseUtil.when(IdentityDatabaseUtil::getDBConnection).thenReturn(connection);
+        OAuthServerConfiguration mockOAuthServerConfiguration = OAuthServerConfiguration.getInstance();
+        when(mockOAuthServerConfiguration.getPersistenceProcessor()).thenReturn(new PlainTextPersistenceProcessor());
+        when(mockOAuthServerConfiguration.getHashAlgorithm()).thenReturn("SHA-256");
+        boolean idpIdColumnEnabled = OAuth2ServiceComponentHolder.isIDPIdColumnEnabled();
+        boolean consentedTokenColumnEnabled = OAuth2ServiceComponentHolder.isConsentedTokenColumnEnabled();
+        OAuth2ServiceComponentHolder.setIDPIdColumnEnabled(false);
+        OAuth2ServiceComponentHolder.setConsentedTokenColumnEnabled(false);
+
+        try (MockedStatic<OAuth2Util> oAuth2Util = mockStatic(OAuth2Util.class, Mockito.CALLS_REAL_METHODS)) {
+            oAuth2Util.when(() -> OAuth2Util.getOAuthTokenIssuerForOAuthApp(anyString()))
+                    .thenReturn(mock(OauthTokenIssuer.class));
+            oAuth2Util.when(() -> OAuth2Util.getTenantId(anyString())).thenReturn(1234);
+
+            // Both tokens end up in the same (non partitioned) table and are written in a single batch.
+            AccessContextTokenDO primaryUserToken = buildAccessContextToken("batchPrimaryToken", "batchPrimaryId",
+                    "primaryUser", "PRIMARY");
+            AccessContextTokenDO secondaryUserToken = buildAccessContextToken("batchSecondaryToken",
+                    "batchSecondaryId", "secondaryUser", "SECONDARY");
+            new AccessTokenDAOImpl().insertAccessTokens(Arrays.asList(primaryUserToken, secondaryUserToken));
+
+            assertEquals(getUserDomainOfToken("batchPrimaryId"), "PRIMARY");
+            assertEquals(getUserDomainOfToken("batchSecondaryId"), "SECONDARY");
+        } finally {
+            OAuth2ServiceComponentHolder.setIDPIdColumnEnabled(idpIdColumnEnabled);
+            OAuth2ServiceComponentHolder.setConsentedTokenColumnEnabled(consentedTokenColumnEnabled);
+        }
+    }
+
+    @Test
+    public void testFailedInsertAccessTokenBatchIsRolledBack() throws Exception {
+
+        identityDatabaseUtil.when(IdentityDatabaseUtil::getDBConnection).thenReturn(connection);
+        AccessTokenDO existingAccessTokenDO = new AccessTokenDO();
+        existingAccessTokenDO.setTokenId("batchExistingId");
+        AccessContextTokenDO newToken = buildAccessContextToken("batchRollbackToken", "batchRollbackId",
+                "primaryUser", "PRIMARY");
+        AccessContextTokenDO accessContextTokenDO = new AccessContextTokenDO(newToken.getAccessToken(),
+                newToken.getConsumerKey(), newToken.getNewAccessTokenDO(), existingAccessTokenDO, "PRIMARY");
+
+        try (MockedStatic<OAuth2Util> oAuth2Util = mockStatic(OAuth2Util.class, Mockito.CALLS_REAL_METHODS);
+             MockedStatic<OAuth2TokenUtil> oAuth2TokenUtil = mockStatic(OAuth2TokenUtil.class)) {
+            // The existing token is expired on the connection before the new token fails to be hashed.
+            oAuth2Util.when(() -> OAuth2Util.getOAuthTokenIssuerForOAuthApp(anyString()))
+                    .thenThrow(new InvalidOAuthClientException("Invalid client."));
+
+            expectThrows(IdentityOAuth2Exception.class,
+                    () -> accessTokenDAO.insertAccessTokens(Collections.singletonList(accessContextTokenDO)));
+        }
+
+        identityDatabaseUtil.verify(() -> IdentityDatabaseUtil.rollbackTransaction(connection));
+        identityDatabaseUtil.verify(() -> IdentityDatabaseUtil.commitTransaction(connection), never());
+    }
+
+    @Test(expectedExceptions = IdentityOAuth2Exception.class,
+            expectedExceptionsMessageRegExp = "Error while persisting 1 out of 1 access tokens.")
+    public void testInsertAccessTokensWithoutAuthorizedUser() throws Exception {
+
+        AccessTokenDO accessTokenDO = new AccessTokenDO();
+        accessTokenDO.setTokenId("tokenWithoutUserId");
+        AccessContextTokenDO accessContextTokenDO = new AccessContextTokenDO("tokenWithoutUser",
+                "ca19a540f544777860e44e75f605d924", accessTokenDO, null, "PRIMARY");
+
+        // The token can't be mapped to a token table, hence it is handed over to the single token insert.
+        accessTokenDAO.insertAccessTokens(Arrays.asList(accessContextTokenDO));
+    }
+
+    @Test
+    public void testProcessActiveAccessTokenDataByConsumerKey() throws Exception {
+
+        boolean idpIdColumnEnabled = OAuth2ServiceComponentHolder.isIDPIdColumnEnabled();
+        OAuth2ServiceComponentHolder.setIDPIdColumnEnabled(true);
+        List<List<String>> batches = new ArrayList<>();
+        Map<String, AccessTokenDO> tokens = new HashMap<>();
+        try (MockedStatic<OAuth2Util> oAuth2Util = mockStatic(OAuth2Util.class, Mockito.CALLS_REAL_METHODS);
+             MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class, Mockito.CALLS_REAL_METHODS);
+             MockedStatic<IdentityTenantUtil> identityTenantUtil = mockStatic(IdentityTenantUtil.class)) {
+            mockBatchTokenRead(oAuth2Util, identityUtil);
+            identityTenantUtil.when(IdentityTenantUtil::getLoginTenantId).thenReturn(BATCH_TENANT_ID);
+
+            accessTokenDAO.processActiveAccessTokenDataByConsumerKey(BATCH_CONSUMER_KEY, 1,
+                    batch -> collectBatch(batch, batches, tokens));
+        } finally {
+            OAuth2ServiceComponentHolder.setIDPIdColumnEnabled(idpIdColumnEnabled);
+        }
+
+        // The expired token is skipped and the partitioned user store is read after the primary one.
+        assertEquals(batches, Arrays.asList(Arrays.asList("batchAccessToken1"), Arrays.asList("batchAccessToken2"),
+                Arrays.asList("batchAccessToken4")));
+        assertScopes(tokens.get("batchAccessToken1"), "openid", "email", "profile");
+        assertScopes(tokens.get("batchAccessToken2"), "openid");
+        assertScopes(tokens.get("batchAccessToken4"), "openid", "phone");
+        assertEquals(tokens.get("batchAccessToken4").getAuthzUser().getUserStoreDomain(), SECONDARY_DOMAIN);
+        assertEquals(tokens.get("batchAccessToken1").getConsumerKey(), BATCH_CONSUMER_KEY);
+    }
+
+    @Test
+    public void testProcessAccessTokensByTenant() throws Exception {
+
+        boolean idpIdColumnEnabled = OAuth2ServiceComponentHolder.isIDPIdColumnEnabled();
+        OAuth2ServiceComponentHolder.setIDPIdColumnEnabled(true);
+        List<List<String>> batches = new ArrayList<>();
+        Map<String, AccessTokenDO> tokens = new HashMap<>();
+        OrganizationManager organizationManager = mock(OrganizationManager.class);
+        when(organizationManager.resolveOrganizationId(BATCH_TENANT_DOMAIN)).thenReturn(BATCH_ORGANIZATION_ID);
+        when(organizationManager.getPrimaryOrganizationId(BATCH_ORGANIZATION_ID)).thenReturn(BATCH_ORGANIZATION_ID);
+        when(organizationManager.resolveTenantDomain(BATCH_ORGANIZATION_ID)).thenReturn(BATCH_TENANT_DOMAIN);
+        OrganizationManager oAuth2OrganizationManager =
+                OAuth2ServiceComponentHolder.getInstance().getOrganizationManager();
+        OrganizationManager oAuthOrganizationManager =
+                OAuthComponentServiceHolder.getInstance().getOrganizationManager();
+        OAuth2ServiceComponentHolder.getInstance().setOrganizationManager(organizationManager);
+        OAuthComponentServiceHolder.getInstance().setOrganizationManager(organizationManager);
+        when(OAuthServerConfiguration.getInstance().getPersistenceProcessor())
+                .thenReturn(new PlainTextPersistenceProcessor());
+        try (MockedStatic<OAuth2Util> oAuth2Util = mockStatic(OAuth2Util.class, Mockito.CALLS_REAL_METHODS);
+             MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class, Mockito.CALLS_REAL_METHODS);
+             MockedStatic<IdentityTenantUtil> identityTenantUtil = mockStatic(IdentityTenantUtil.class)) {
+            mockBatchTokenRead(oAuth2Util, identityUtil);
+            identityTenantUtil.when(() -> IdentityTenantUtil.getTenantDomain(BATCH_TENANT_ID))
+                    .thenReturn(BATCH_TENANT_DOMAIN);
+
+            accessTokenDAO.processAccessTokensByTenant(BATCH_TENANT_ID, 2,
+                    batch -> collectBatch(batch, batches, tokens));
+        } finally {
+            OAuth2ServiceComponentHolder.setIDPIdColumnEnabled(idpIdColumnEnabled);
+            OAuth2ServiceComponentHolder.getInstance().setOrganizationManager(oAuth2OrganizationManager);
+            OAuthComponentServiceHolder.getInstance().setOrganizationManager(oAuthOrganizationManager);
+        }
+
+        // A token is not split across batches even though its scope rows are read one by one.
+        assertEquals(batches, Arrays.asList(Arrays.asList("batchAccessToken1", "batchAccessToken2"),
+                Arrays.asList("batchAccessToken3"), Arrays.asList("batchAccessToken4")));
+        assertScopes(tokens.get("batchAccessToken1"), "openid", "email", "profile");
+        assertScopes(tokens.get("batchAccessToken3"), "openid");
+        assertScopes(tokens.get("batchAccessToken4"), "openid", "phone");
+        assertEquals(tokens.get("batchAccessToken1").getTokenId(), "batchTokenId1");
+        assertEquals(tokens.get("batchAccessToken4").getAuthzUser().getUserStoreDomain(), SECONDARY_DOMAIN);
+    }
+
+    @Test
+    public void testProcessAccessTokensOfUserStore() throws Exception {
+
+        boolean idpIdColumnEnabled = OAuth2ServiceComponentHolder.isIDPIdColumnEnabled();
+        OAuth2ServiceComponentHolder.setIDPIdColumnEnabled(true);
+        List<List<String>> primaryBatches = new ArrayList<>();
+        List<List<String>> secondaryBatches = new ArrayList<>();
+        Map<String, AccessTokenDO> tokens = new HashMap<>();
+        when(OAuthServerConfiguration.getInstance().getPersistenceProcessor())
+                .thenReturn(new PlainTextPersistenceProcessor());
+        try (MockedStatic<OAuth2Util> oAuth2Util = mockStatic(OAuth2Util.class, Mockito.CALLS_REAL_METHODS);
+             MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class, Mockito.CALLS_REAL_METHODS)) {
+            mockBatchTokenRead(oAuth2Util, identityUtil);
+
+            accessTokenDAO.processAccessTokensOfUserStore(BATCH_TENANT_ID, "PRIMARY", 1,
+                    batch -> collectBatch(batch, primaryBatches, tokens));
+            accessTokenDAO.processAccessTokensOfUserStore(BATCH_TENANT_ID, SECONDARY_DOMAIN, 1,
+                    batch -> collectBatch(batch, secondaryBatches, tokens));
+        } finally {
+            OAuth2ServiceComponentHolder.setIDPIdColumnEnabled(idpIdColumnEnabled);
+        }
+
+        assertEquals(primaryBatches, Arrays.asList(Arrays.asList("batchAccessToken1"),
+                Arrays.asList("batchAccessToken2"), Arrays.asList("batchAccessToken3")));
+        assertEquals(secondaryBatches, Arrays.asList(Arrays.asList("batchAccessToken4")));
+        assertScopes(tokens.get("batchAccessToken1"), "openid", "email", "profile");
+        assertScopes(tokens.get("batchAccessToken4"), "openid", "phone");
+        assertEquals(tokens.get("batchAccessToken4").getAuthzUser().getUserStoreDomain(), SECONDARY_DOMAIN);
+    }
+
+    /**
+     * Mock the configurations and the connections needed to read the batch tokens, which are partitioned by the user
+     * store with the SECONDARY user store mapped to the "A" partition.
+     */
+    private void mockBatchTokenRead(MockedStatic<OAuth2Util> oAuth2Util, MockedStatic<IdentityUtil> identityUtil) {
+
+        OAuthServerConfiguration mockOAuthServerConfiguration = OAuthServerConfiguration.getInstance();
+        when(mockOAuthServerConfiguration.isAccessTokenPartitioningEnabled()).thenReturn(true);
+        when(mockOAuthServerConfiguration.isUserNameAssertionEnabled()).thenReturn(true);
+        when(mockOAuthServerConfiguration.getAccessTokenPartitioningDomains()).thenReturn("A:" + SECONDARY_DOMAIN);
+        oAuth2Util.when(() -> OAuth2Util.getTenantDomain(anyInt())).thenReturn(BATCH_TENANT_DOMAIN);
+        identityUtil.when(IdentityUtil::getPrimaryDomainName).thenReturn("PRIMARY");
+        identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getDBConnection(false))
+                .thenAnswer(invocation -> DAOUtils.getConnection(DB_NAME));
+        identityDatabaseUtil.when(() -> IdentityDatabaseUtil.closeAllConnections(any(Connection.class),
+                any(ResultSet.class), any(PreparedStatement.class))).thenAnswer(invocation -> {
+                    invocation.<Connection>getArgument(0).close();
+                    return null;
+                });
+    }
+
+    private static void collectBatch(List<AccessTokenDO> batch, List<List<String>> batches,
+                                     Map<String, AccessTokenDO> tokens) {
+
+        batches.add(batch.stream().map(AccessTokenDO::getAccessToken).collect(Collectors.toList()));
+        batch.forEach(token -> tokens.put(token.getAccessToken(), token));
+    }
+
+    private static void assertScopes(AccessTokenDO accessTokenDO, String... scopes) {
+
+        assertEquals(new HashSet<>(Arrays.asList(accessTokenDO.getScope())), new HashSet<>(Arrays.asList(scopes)));
+    }
+
+    /**
+     * Add the tokens read by the batch tests to a separate tenant. The SECONDARY user store token is kept in the
+     * "A" partition of the token tables.
+     */
+    private static void addBatchTokens() throws Exception {
+
+        try (Connection dbConnection = DAOUtils.getConnection(DB_NAME)) {
+            try (PreparedStatement statement = dbConnection.prepareStatement("INSERT INTO IDN_OAUTH_CONSUMER_APPS " +
+                    "(CONSUMER_KEY, CONSUMER_SECRET, USERNAME, TENANT_ID, USER_DOMAIN, APP_NAME, OAUTH_VERSION, " +
+                    "CALLBACK_URL, GRANT_TYPES, APP_STATE) VALUES (?, 'batchConsumerSecret', 'batchOwner', ?, " +
+                    "'PRIMARY', 'batchApp', 'OAuth-2.0', 'http://localhost:8080/redirect', 'password', 'ACTIVE')")) {
+                statement.setString(1, BATCH_CONSUMER_KEY);
+                statement.setInt(2, BATCH_TENANT_ID);
+                statement.executeUpdate();
+            }
+            try (PreparedStatement statement = dbConnection.prepareStatement("CREATE TABLE IDN_OAUTH2_ACCESS_TOKEN_A " +
+                    "AS SELECT * FROM IDN_OAUTH2_ACCESS_TOKEN WHERE 1 = 0")) {
+                statement.executeUpdate();
+            }
+            try (PreparedStatement statement = dbConnection.prepareStatement("CREATE TABLE " +
+                    "IDN_OAUTH2_ACCESS_TOKEN_SCOPE_A AS SELECT * FROM IDN_OAUTH2_ACCESS_TOKEN_SCOPE WHERE 1 = 0")) {
+                statement.executeUpdate();
+            }
+            addBatchToken(dbConnection, "", "1", "PRIMARY", "ACTIVE", "openid", "email", "profile");
+            addBatchToken(dbConnection, "", "2", "PRIMARY", "ACTIVE", "openid");
+            addBatchToken(dbConnection, "", "3", "PRIMARY", "EXPIRED", "openid");
+            addBatchToken(dbConnection, "_A", "4", SECONDARY_DOMAIN, "ACTIVE", "openid", "phone");
+        }
+    }
+
+    private static void addBatchToken(Connection dbConnection, String tableSuffix, String tokenNumber,
+                                      String userStoreDomain, String tokenState, String... scopes) throws Exception {
+
+        String tokenId = "batchTokenId" + tokenNumber;
+        try (PreparedStatement statement = dbConnection.prepareStatement("INSERT INTO IDN_OAUTH2_ACCESS_TOKEN" +
+                tableSuffix + " (TOKEN_ID, ACCESS_TOKEN, REFRESH_TOKEN, CONSUMER_KEY_ID, AUTHZ_USER, TENANT_ID, " +
+                "USER_DOMAIN, USER_TYPE, GRANT_TYPE, TIME_CREATED, REFRESH_TOKEN_TIME_CREATED, VALIDITY_PERIOD, " +
+                "REFRESH_TOKEN_VALIDITY_PERIOD, TOKEN_SCOPE_HASH, TOKEN_STATE, TOKEN_STATE_ID, SUBJECT_IDENTIFIER, " +
+                "IDP_ID, AUTHORIZED_ORGANIZATION) SELECT ?, ?, ?, IDN_OAUTH_CONSUMER_APPS.ID, ?, ?, ?, " +
+                "'APPLICATION_USER', 'password', NOW(), NOW(), 3600, 14400, ?, ?, 'NONE', ?, IDP.ID, 'NONE' FROM " +
+                "IDN_OAUTH_CONSUMER_APPS, IDP WHERE CONSUMER_KEY = ? AND IDP.NAME = 'LOCAL' AND " +
+                "IDP.TENANT_ID = 1234")) {
+            statement.setString(1, tokenId);
+            statement.setString(2, "batchAccessToken" + tokenNumber);
+            statement.setString(3, "batchRefreshToken" + tokenNumber);
+            statement.setString(4, "batchUser" + tokenNumber);
+            statement.setInt(5, BATCH_TENANT_ID);
+            statement.setString(6, userStoreDomain);
+            statement.setString(7, "batchScopeHash" + tokenNumber);
+            statement.setString(8, tokenState);
+            statement.setString(9, "batchUser" + tokenNumber);
+            statement.setString(10, BATCH_CONSUMER_KEY);
+            assertEquals(statement.executeUpdate(), 1);
+        }
+        for (String scope : scopes) {
+            try (PreparedStatement statement = dbConnection.prepareStatement("INSERT INTO " +
+                    "IDN_OAUTH2_ACCESS_TOKEN_SCOPE" + tableSuffix + " (TOKEN_ID, TOKEN_SCOPE, TENANT_ID) VALUES " +
+                    "(?, ?, ?)")) {
+                statement.setString(1, tokenId);
+                statement.setString(2, scope);
+                statement.setInt(3, BATCH_TENANT_ID);
+                statement.executeUpdate();
+            }
+        }
+    }
+
+    private AccessContextTokenDO buildAccessContextToken(String accessToken, String tokenId, String userName,
+                                                         String userStoreDomain) {
+
+        AuthenticatedUser authenticatedUser = new AuthenticatedUser();
+        authenticatedUser.setUserName(userName);
+        authenticatedUser.setUserStoreDomain(userStoreDomain);
+        authenticatedUser.setTenantDomain("carbon.super");
+        authenticatedUser.setAuthenticatedSubjectIdentifier(userName);
+
+        Timestamp issuedTime = new Timestamp(System.currentTimeMillis());
+        AccessTokenDO accessTokenDO = new AccessTokenDO("ca19a540f544777860e44e75f605d924", authenticatedUser,
+                new String[]{"openid"}, issuedTime, issuedTime, 3600000L, 3600000L, "APPLICATION_USER");
+        accessTokenDO.setTokenId(tokenId);
+        accessTokenDO.setAccessToken(accessToken);
+        accessTokenDO.setTokenState("ACTIVE");
+        accessTokenDO.setGrantType("password");
+
+        AccessContextTokenDO accessContextTokenDO = new AccessContextTokenDO(accessToken,
+                "ca19a540f544777860e44e75f605d924", accessTokenDO, null, userStoreDomain);
+        accessContextTokenDO.setAppTenantId(1234);
+        return accessContextTokenDO;
+    }
+
+    private String getUserDomainOfToken(String tokenId) throws Exception {
+
+        try (Connection dbConnection = DAOUtils.getConnection(DB_NAME);
+             PreparedStatement statement = dbConnection.prepareStatement(
+                     "SELECT USER_DOMAIN FROM IDN_OAUTH2_ACCESS_TOKEN WHERE TOKEN_ID = ?")) {
+            statement.setString(1, tokenId);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                assertTrue(resultSet.next(), "Access token " + tokenId + " has not been persisted.");
+                return resultSet.getString(1);
+            }
+        }
+    }
 }
@@ -68,6 +68,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.when;
 import static org.wso2.carbon.identity.oauth.common.OAuthConstants.OAuthVersions.VERSION_2;
 
@@ -417,6 +418,26 @@ public class AuthorizationCodeDAOImplTest {
         }
     }
 
+    @Test
+    public void testRedeemAuthorizationCode() throws Exception {
+
+        try (MockedStatic<OAuth2TokenUtil> oAuth2TokenUtil = mockStatic(OAuth2TokenUtil.class)) {
+            String consumerKey = UUID.randomUUID().toString();
+            String authzCodeID = UUID.randomUUID().toString();
+            String authzCode = UUID.randomUUID().toString();
+            AuthzCodeDO authzCodeDO = persistAuthorizationCode(consumerKey, authzCodeID, authzCode,
+                    OAuthConstants.AuthorizationCodeState.ACTIVE);
+
+            Assert.assertTrue(authorizationCodeDAO.redeemAuthorizationCode(authzCode, authzCodeID));
+            // A replayed or concurrent token request can not redeem the same code again.
+            Assert.assertFalse(authorizationCodeDAO.redeemAuthorizationCode(authzCode, authzCodeID));
+            Assert.assertTrue(authorizationCodeDAO.getActiveAuthorizationCodesByConsumerKey
+                    (authzCodeDO.getConsumerKey()).isEmpty());
+            oAuth2TokenUtil.verify(() -> OAuth2TokenUtil.postRevokeCode(authzCodeID,
+                    OAuthConstants.AuthorizationCodeState.REVOKED, null, authzCode), times(1));
+        }
+    }
+
     @Test
     public void testDeactivateAuthorizationCodes() throws Exception {
 
@@ -466,6 +487,36 @@ public class AuthorizationCodeDAOImplTest {
         Assert.assertTrue(authorizationCodeDAO.getLatestAuthorizationCodesByTenant(100).isEmpty());
     }
 
+    @Test
+    public void testProcessLatestAuthorizationCodesByTenantInBatches() throws Exception {
+
+        String authzCode1 = UUID.randomUUID().toString();
+        String authzCode2 = UUID.randomUUID().toString();
+        persistAuthorizationCode(UUID.randomUUID().toString(), UUID.randomUUID().toString(), authzCode1,
+                OAuthConstants.AuthorizationCodeState.ACTIVE);
+        persistAuthorizationCode(UUID.randomUUID().toString(), UUID.randomUUID().toString(), authzCode2,
+                OAuthConstants.AuthorizationCodeState.ACTIVE);
+        oAuth2Util.when(() -> OAuth2Util.createAuthenticatedUser(anyString(), anyString(), anyString(), anyString())).
+                thenReturn(authenticatedUser);
+
+        List<Integer> batchSizes = new ArrayList<>();
+        List<String> authzCodes = new ArrayList<>();
+        authorizationCodeDAO.processLatestAuthorizationCodesByTenant(DEFAULT_TENANT_ID, 1, batch -> {
+            batchSizes.add(batch.size());
+            batch.forEach(authzCodeDO -> authzCodes.add(authzCodeDO.getAuthorizationCode()));
+        });
+
+        // Every code is handed over exactly once, one per batch.
+        Set<String> latestAuthzCodes = new HashSet<>();
+        authorizationCodeDAO.getLatestAuthorizationCodesByTenant(DEFAULT_TENANT_ID)
+                .forEach(authzCodeDO -> latestAuthzCodes.add(authzCodeDO.getAuthorizationCode()));
+        Assert.assertTrue(authzCodes.contains(authzCode1));
+        Assert.assertTrue(authzCodes.contains(authzCode2));
+        Assert.assertEquals(new HashSet<>(authzCodes), latestAuthzCodes);
+        Assert.assertEquals(batchSizes.size(), latestAuthzCodes.size());
+        Assert.assertTrue(batchSizes.stream().allMatch(size -> size == 1));
+    }
+
     private void createApplication(String consumerKey, String consumerSecret, int tenantId) throws Exception {
 
         try (PreparedStatement prepStmt = connection.prepareStatement(SQLQueries.OAuthAppDAOSQLQueries.ADD_OAUTH_APP)) {
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.dao;
+
+import org.mockito.MockedStatic;
+import org.testng.annotations.Test;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.common.testng.WithCarbonHome;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.oauth.common.OAuthConstants;
+import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+import org.wso2.carbon.identity.oauth2.model.AccessTokenDO;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+/**
+ * Unit tests for the batched token persistence task.
+ */
+@WithCarbonHome
+public class BatchPersistenceTaskTest {
+
+    @Test
+    public void testAccessTokensArePersistedInBatches() throws Exception {
+
+        AccessTokenDAO accessTokenDAO = mock(AccessTokenDAO.class);
+        BlockingQueue<AccessContextTokenDO> queue = new LinkedBlockingQueue<>();
+        for (int i = 0; i < 5; i++) {
+            queue.add(new AccessContextTokenDO("token" + i, "clientId", new AccessTokenDO(), null, "PRIMARY"));
+        }
+        TokenPersistenceMetrics metrics = new TokenPersistenceMetrics();
+
+        try (MockedStatic<OAuthTokenPersistenceFactory> factory = mockStatic(OAuthTokenPersistenceFactory.class)) {
+            OAuthTokenPersistenceFactory persistenceFactory = mock(OAuthTokenPersistenceFactory.class);
+            factory.when(OAuthTokenPersistenceFactory::getInstance).thenReturn(persistenceFactory);
+            when(persistenceFactory.getAccessTokenDAO()).thenReturn(accessTokenDAO);
+
+            TokenPersistenceTask task = new TokenPersistenceTask(queue, 2, 10, metrics);
+            // A stopped task flushes the queued items and returns.
+            task.stop();
+            task.run();
+        }
+
+        verify(accessTokenDAO, times(2)).insertAccessTokens(argThat(batch -> batch.size() == 2));
+        verify(accessTokenDAO, times(1)).insertAccessTokens(argThat(batch -> batch.size() == 1));
+        assertEquals(queue.size(), 0);
+        assertEquals(metrics.getFlushCount(), 3);
+        assertEquals(metrics.getPersistedItemCount(), 5);
+        assertEquals(metrics.getFailedFlushCount(), 0);
+    }
+
+    @Test
+    public void testFailedBatchDoesNotStopTheConsumer() throws Exception {
+
+        AccessTokenDAO accessTokenDAO = mock(AccessTokenDAO.class);
+        doThrow(new IdentityOAuth2Exception("error")).when(accessTokenDAO).insertAccessTokens(anyList());
+        BlockingQueue<AccessContextTokenDO> queue = new LinkedBlockingQueue<>();
+        for (int i = 0; i < 3; i++) {
+            queue.add(new AccessContextTokenDO("token" + i, "clientId", new AccessTokenDO(), null, "PRIMARY"));
+        }
+        TokenPersistenceMetrics metrics = new TokenPersistenceMetrics();
+
+        try (MockedStatic<OAuthTokenPersistenceFactory> factory = mockStatic(OAuthTokenPersistenceFactory.class)) {
+            OAuthTokenPersistenceFactory persistenceFactory = mock(OAuthTokenPersistenceFactory.class);
+            factory.when(OAuthTokenPersistenceFactory::getInstance).thenReturn(persistenceFactory);
+            when(persistenceFactory.getAccessTokenDAO()).thenReturn(accessTokenDAO);
+
+            TokenPersistenceTask task = new TokenPersistenceTask(queue, 2, 10, metrics);
+            task.stop();
+            task.run();
+        }
+
+        verify(accessTokenDAO, times(2)).insertAccessTokens(anyList());
+        assertEquals(metrics.getFlushCount(), 2);
+        assertEquals(metrics.getFailedFlushCount(), 2);
+        assertEquals(metrics.getPersistedItemCount(), 0);
+    }
+
+    @Test
+    public void testAccessTokensArePersistedInTheirTenantFlow() throws Exception {
+
+        AccessTokenDAO accessTokenDAO = mock(AccessTokenDAO.class);
+        List<String> persistedContexts = new ArrayList<>();
+        doAnswer(invocation -> {
+            PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+            List<AccessContextTokenDO> batch = invocation.getArgument(0);
+            persistedContexts.add(carbonContext.getTenantDomain() + ":" + carbonContext.getTenantId() + ":" +
+                    carbonContext.getApplicationResidentOrganizationId() + ":" +
+                    IdentityUtil.threadLocalProperties.get().get(OAuthConstants.TENANT_NAME_FROM_CONTEXT) + ":" +
+                    batch.size());
+            return null;
+        }).when(accessTokenDAO).insertAccessTokens(anyList());
+        BlockingQueue<AccessContextTokenDO> queue = new LinkedBlockingQueue<>();
+        queue.add(buildAccessContextToken("token1", "wso2.com", 1, null));
+        queue.add(buildAccessContextToken("token2", "abc.com", 2, "orgId"));
+        queue.add(buildAccessContextToken("token3", "wso2.com", 1, null));
+
+        try (MockedStatic<OAuthTokenPersistenceFactory> factory = mockStatic(OAuthTokenPersistenceFactory.class)) {
+            OAuthTokenPersistenceFactory persistenceFactory = mock(OAuthTokenPersistenceFactory.class);
+            factory.when(OAuthTokenPersistenceFactory::getInstance).thenReturn(persistenceFactory);
+            when(persistenceFactory.getAccessTokenDAO()).thenReturn(accessTokenDAO);
+
+            TokenPersistenceTask task = new TokenPersistenceTask(queue, 10, 10, new TokenPersistenceMetrics());
+            task.stop();
+            task.run();
+        }
+
+        assertEquals(persistedContexts, Arrays.asList("wso2.com:1:null:wso2.com:2", "abc.com:2:orgId:abc.com:1"));
+        assertNull(IdentityUtil.threadLocalProperties.get().get(OAuthConstants.TENANT_NAME_FROM_CONTEXT));
+    }
+
+    private AccessContextTokenDO buildAccessContextToken(String accessToken, String tenantDomain, int tenantId,
+                                                         String applicationResidentOrganizationId) {
+
+        AccessContextTokenDO accessContextTokenDO = new AccessContextTokenDO(accessToken, "clientId",
+                new AccessTokenDO(), null, "PRIMARY");
+        accessContextTokenDO.setTenantDomain(tenantDomain);
+        accessContextTokenDO.setTenantId(tenantId);
+        accessContextTokenDO.setApplicationResidentOrganizationId(applicationResidentOrganizationId);
+        return accessContextTokenDO;
+    }
+}
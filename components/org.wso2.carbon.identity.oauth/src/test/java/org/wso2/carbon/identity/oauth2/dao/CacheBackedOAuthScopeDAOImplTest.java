@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.dao;
+
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.common.testng.WithCarbonHome;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.oauth2.Oauth2ScopeConstants;
+import org.wso2.carbon.identity.oauth2.bean.Scope;
+import org.wso2.carbon.identity.oauth2.internal.cache.OAuthScopeRegistry;
+import org.wso2.carbon.identity.oauth2.internal.cache.OAuthScopeRegistryCache;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link CacheBackedOAuthScopeDAOImpl}.
+ */
+@WithCarbonHome
+public class CacheBackedOAuthScopeDAOImplTest {
+
+    private static final int TENANT_ID = -1234;
+    private static final int SCOPE_COUNT = 20;
+
+    private MockedStatic<IdentityUtil> identityUtil;
+    private OAuthScopeDAOImpl dao;
+    private CacheBackedOAuthScopeDAOImpl cacheBackedDAO;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+
+        identityUtil = mockStatic(IdentityUtil.class);
+        identityUtil.when(() -> IdentityUtil.getProperty("OAuth.ScopeRegistry.Enable")).thenReturn("true");
+
+        Map<Integer, OAuthScopeRegistry> cacheEntries = new ConcurrentHashMap<>();
+        OAuthScopeRegistryCache cache = mock(OAuthScopeRegistryCache.class);
+        when(cache.getValueFromCache(anyInt(), anyInt())).thenAnswer(invocation ->
+                cacheEntries.get((Integer) invocation.getArgument(0)));
+        doAnswer(invocation -> cacheEntries.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(cache).addToCache(anyInt(), any(OAuthScopeRegistry.class), anyInt());
+        doAnswer(invocation -> cacheEntries.remove((Integer) invocation.getArgument(0)))
+                .when(cache).clearScopeRegistry(anyInt());
+
+        dao = mock(OAuthScopeDAOImpl.class);
+        when(dao.getScopeRegistry(TENANT_ID)).thenAnswer(invocation -> buildScopeRegistry(false));
+        cacheBackedDAO = new CacheBackedOAuthScopeDAOImpl(cache, dao);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        identityUtil.close();
+    }
+
+    @Test
+    public void testRequestedScopesAreServedFromRegistry() throws Exception {
+
+        StringBuilder requestedScopes = new StringBuilder("openid unknown_scope");
+        for (int i = 0; i < SCOPE_COUNT; i++) {
+            requestedScopes.append(" scope_").append(i);
+        }
+
+        for (int i = 0; i < 10; i++) {
+            Set<Scope> scopes = cacheBackedDAO.getRequestedScopesOnly(TENANT_ID, true, requestedScopes.toString());
+            assertEquals(scopes.size(), SCOPE_COUNT + 1);
+            assertEquals(cacheBackedDAO.getRequestedScopesOnly(TENANT_ID, false, requestedScopes.toString()).size(),
+                    SCOPE_COUNT);
+        }
+        verify(dao, times(1)).getScopeRegistry(TENANT_ID);
+        verify(dao, never()).getRequestedScopesOnly(anyInt(), any(), any());
+    }
+
+    @Test
+    public void testScopeLookups() throws Exception {
+
+        Scope scope = cacheBackedDAO.getScopeByName("scope_1", TENANT_ID);
+        assertEquals(scope.getDisplayName(), "Scope 1");
+        assertEquals(scope.getScopeBindings().get(0).getBindingType(), "PERMISSION");
+        assertEquals(scope.getScopeBindings().get(0).getBindings(), Arrays.asList("role_1", "role_2"));
+
+        Scope scopeWithoutBindings = cacheBackedDAO.getScopeByName("scope_0", TENANT_ID);
+        assertEquals(scopeWithoutBindings.getScopeBindings().get(0).getBindingType(),
+                Oauth2ScopeConstants.DEFAULT_SCOPE_BINDING);
+        assertTrue(scopeWithoutBindings.getBindings().isEmpty());
+
+        assertNull(cacheBackedDAO.getScopeByName("openid", TENANT_ID));
+        assertFalse(cacheBackedDAO.isScopeExists("openid", TENANT_ID));
+        assertTrue(cacheBackedDAO.isScopeExists("openid", TENANT_ID, true));
+        assertFalse(cacheBackedDAO.isScopeExists("unknown_scope", TENANT_ID, true));
+
+        assertEquals(cacheBackedDAO.getBindingsOfScopeByScopeName("scope_3", TENANT_ID),
+                new HashSet<>(Arrays.asList("role_3", "role_4")));
+        assertEquals(cacheBackedDAO.getScopes(TENANT_ID, "PERMISSION").size(), SCOPE_COUNT - 1);
+        assertEquals(cacheBackedDAO.getAllScopes(TENANT_ID).size(), SCOPE_COUNT);
+        assertEquals(cacheBackedDAO.getAllScopes(TENANT_ID, true).size(), SCOPE_COUNT + 1);
+        verify(dao, times(1)).getScopeRegistry(TENANT_ID);
+    }
+
+    @Test
+    public void testReturnedScopesAreCopies() throws Exception {
+
+        cacheBackedDAO.getScopeByName("scope_1", TENANT_ID).addScopeBinding("PERMISSION", "role_x");
+
+        assertEquals(cacheBackedDAO.getScopeByName("scope_1", TENANT_ID).getScopeBindings().get(0).getBindings(),
+                Arrays.asList("role_1", "role_2"));
+    }
+
+    @Test
+    public void testScopeChangesDropRegistry() throws Exception {
+
+        cacheBackedDAO.isScopeExists("scope_1", TENANT_ID);
+        cacheBackedDAO.addScope(new Scope("scope_new", "Scope New", "description"), TENANT_ID);
+        cacheBackedDAO.isScopeExists("scope_1", TENANT_ID);
+        cacheBackedDAO.updateScopeByName(new Scope("scope_1", "Scope 1", "description"), TENANT_ID);
+        cacheBackedDAO.isScopeExists("scope_1", TENANT_ID);
+        cacheBackedDAO.deleteScopeByName("scope_1", TENANT_ID);
+        cacheBackedDAO.isScopeExists("scope_1", TENANT_ID);
+
+        verify(dao, times(4)).getScopeRegistry(TENANT_ID);
+    }
+
+    @Test
+    public void testRegistryDisabled() throws Exception {
+
+        identityUtil.when(() -> IdentityUtil.getProperty("OAuth.ScopeRegistry.Enable")).thenReturn("false");
+        when(dao.isScopeExists("scope_1", TENANT_ID)).thenReturn(true);
+
+        assertTrue(cacheBackedDAO.isScopeExists("scope_1", TENANT_ID));
+        verify(dao, never()).getScopeRegistry(anyInt());
+    }
+
+    @Test
+    public void testScopeNamesAreMatchedExactly() throws Exception {
+
+        assertNull(cacheBackedDAO.getScopeByName("SCOPE_1", TENANT_ID));
+        assertFalse(cacheBackedDAO.isScopeExists("Scope_1", TENANT_ID));
+        assertTrue(cacheBackedDAO.getBindingsOfScopeByScopeName("SCOPE_3", TENANT_ID).isEmpty());
+        assertEquals(cacheBackedDAO.getRequestedScopesOnly(TENANT_ID, false, "scope_1 SCOPE_1 Scope_2").size(), 1);
+        assertTrue(cacheBackedDAO.getScopes(TENANT_ID, "permission").isEmpty());
+    }
+
+    @Test
+    public void testScopeNamesAreMatchedCaseInsensitively() throws Exception {
+
+        // Registries of databases which compare strings case insensitively, such as MySQL and MSSQL.
+        when(dao.getScopeRegistry(TENANT_ID)).thenAnswer(invocation -> buildScopeRegistry(true));
+
+        assertEquals(cacheBackedDAO.getScopeByName("SCOPE_1", TENANT_ID).getName(), "scope_1");
+        assertTrue(cacheBackedDAO.isScopeExists("Scope_1", TENANT_ID));
+        assertTrue(cacheBackedDAO.isScopeExists("OpenID", TENANT_ID, true));
+        assertEquals(cacheBackedDAO.getBindingsOfScopeByScopeName("SCOPE_3", TENANT_ID),
+                new HashSet<>(Arrays.asList("role_3", "role_4")));
+        assertEquals(cacheBackedDAO.getRequestedScopesOnly(TENANT_ID, false, "scope_1 SCOPE_1 Scope_2").size(), 2);
+        assertEquals(cacheBackedDAO.getScopes(TENANT_ID, "permission").size(), SCOPE_COUNT - 1);
+    }
+
+    private static OAuthScopeRegistry buildScopeRegistry(boolean caseInsensitive) {
+
+        List<OAuthScopeRegistry.ScopeRecord> scopeRecords = new ArrayList<>();
+        OAuthScopeRegistry.ScopeRecord scopeWithoutBindings = new OAuthScopeRegistry.ScopeRecord("scope_0",
+                "Scope 0", "description", Oauth2ScopeConstants.SCOPE_TYPE_OAUTH2);
+        scopeWithoutBindings.addBinding(null, null);
+        scopeRecords.add(scopeWithoutBindings);
+        for (int i = 1; i < SCOPE_COUNT; i++) {
+            OAuthScopeRegistry.ScopeRecord scopeRecord = new OAuthScopeRegistry.ScopeRecord("scope_" + i,
+                    "Scope " + i, "description", Oauth2ScopeConstants.SCOPE_TYPE_OAUTH2);
+            scopeRecord.addBinding("PERMISSION", "role_" + i);
+            scopeRecord.addBinding("PERMISSION", "role_" + (i + 1));
+            scopeRecords.add(scopeRecord);
+        }
+        OAuthScopeRegistry.ScopeRecord oidcScope = new OAuthScopeRegistry.ScopeRecord("openid", "openid", null,
+                Oauth2ScopeConstants.SCOPE_TYPE_OIDC);
+        oidcScope.addBinding(null, null);
+        scopeRecords.add(oidcScope);
+        return new OAuthScopeRegistry(scopeRecords, caseInsensitive);
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.dao;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.common.testng.WithCarbonHome;
+import org.wso2.carbon.identity.oauth2.internal.cache.OAuthUserConsentedScopeCache;
+import org.wso2.carbon.identity.oauth2.internal.cache.OAuthUserConsentedScopeCacheEntry;
+import org.wso2.carbon.identity.oauth2.model.UserApplicationScopeConsentDO;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link CacheBackedOAuthUserConsentedScopesDAOImpl}.
+ */
+@WithCarbonHome
+public class CacheBackedOAuthUserConsentedScopesDAOImplTest {
+
+    private static final String USER_ID = "4b4414e1-916b-4475-aaee-6b0751c29ff6";
+    private static final String APP_ID = "8f6b3a1e-7d2c-4b0c-9a3e-2f1d5c6b7a89";
+    private static final String OTHER_APP_ID = "c2d4e6f8-1a3b-4c5d-8e7f-9a0b1c2d3e4f";
+    private static final int TENANT_ID = -1234;
+
+    private OAuthUserConsentedScopesDAO dao;
+    private CacheBackedOAuthUserConsentedScopesDAOImpl cacheBackedDAO;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+
+        Map<String, OAuthUserConsentedScopeCacheEntry> cacheEntries = new ConcurrentHashMap<>();
+        OAuthUserConsentedScopeCache cache = mock(OAuthUserConsentedScopeCache.class);
+        when(cache.getValueFromCache(anyString(), anyInt())).thenAnswer(invocation ->
+                cacheEntries.get(invocation.getArgument(0) + "@" + invocation.getArgument(1)));
+        doAnswer(invocation -> cacheEntries.put(invocation.getArgument(0) + "@" + invocation.getArgument(2),
+                invocation.getArgument(1))).when(cache)
+                .addToCache(anyString(), any(OAuthUserConsentedScopeCacheEntry.class), anyInt());
+        doAnswer(invocation -> cacheEntries.remove(invocation.getArgument(0) + "@" + invocation.getArgument(1)))
+                .when(cache).clearCacheEntry(anyString(), anyInt());
+        doAnswer(invocation -> {
+            cacheEntries.clear();
+            return null;
+        }).when(cache).clear(anyInt());
+
+        dao = mock(OAuthUserConsentedScopesDAO.class);
+        when(dao.getUserConsents(USER_ID, TENANT_ID)).thenReturn(new ArrayList<>(Collections.singletonList(
+                new UserApplicationScopeConsentDO(APP_ID, new ArrayList<>(Arrays.asList("openid", "profile")),
+                        new ArrayList<>(Collections.singletonList("email"))))));
+        cacheBackedDAO = new CacheBackedOAuthUserConsentedScopesDAOImpl(cache, dao);
+    }
+
+    @Test
+    public void testConsentsAreLoadedOnce() throws Exception {
+
+        for (int i = 0; i < 5; i++) {
+            UserApplicationScopeConsentDO userConsent =
+                    cacheBackedDAO.getUserConsentForApplication(USER_ID, APP_ID, TENANT_ID);
+            assertEquals(userConsent.getApprovedScopes(), Arrays.asList("openid", "profile"));
+            assertEquals(userConsent.getDeniedScopes(), Collections.singletonList("email"));
+
+            // An application without a consent is served from the cache as well.
+            UserApplicationScopeConsentDO noConsent =
+                    cacheBackedDAO.getUserConsentForApplication(USER_ID, OTHER_APP_ID, TENANT_ID);
+            assertEquals(noConsent.getAppId(), OTHER_APP_ID);
+            assertTrue(noConsent.getApprovedScopes().isEmpty());
+            assertTrue(noConsent.getDeniedScopes().isEmpty());
+
+            assertEquals(cacheBackedDAO.getUserConsents(USER_ID, TENANT_ID).size(), 1);
+        }
+        verify(dao, times(1)).getUserConsents(USER_ID, TENANT_ID);
+    }
+
+    @Test
+    public void testCachedConsentCanNotBeModified() throws Exception {
+
+        cacheBackedDAO.getUserConsentForApplication(USER_ID, APP_ID, TENANT_ID).getApprovedScopes().add("address");
+
+        assertEquals(cacheBackedDAO.getUserConsentForApplication(USER_ID, APP_ID, TENANT_ID).getApprovedScopes(),
+                Arrays.asList("openid", "profile"));
+    }
+
+    @Test
+    public void testWritesClearCachedConsents() throws Exception {
+
+        cacheBackedDAO.getUserConsents(USER_ID, TENANT_ID);
+
+        cacheBackedDAO.addUserConsentForApplication(USER_ID, TENANT_ID, new UserApplicationScopeConsentDO(
+                OTHER_APP_ID, new ArrayList<>(Collections.singletonList("openid")), new ArrayList<>()));
+        cacheBackedDAO.getUserConsents(USER_ID, TENANT_ID);
+        verify(dao, times(2)).getUserConsents(USER_ID, TENANT_ID);
+
+        cacheBackedDAO.updateExistingConsentForApplication(USER_ID, APP_ID, TENANT_ID,
+                new UserApplicationScopeConsentDO(APP_ID, new ArrayList<>(Collections.singletonList("address")),
+                        new ArrayList<>()),
+                new UserApplicationScopeConsentDO(APP_ID, new ArrayList<>(Collections.singletonList("email")),
+                        new ArrayList<>(Collections.singletonList("profile"))));
+        cacheBackedDAO.getUserConsents(USER_ID, TENANT_ID);
+        verify(dao, times(3)).getUserConsents(USER_ID, TENANT_ID);
+
+        cacheBackedDAO.deleteUserConsentOfApplication(USER_ID, OTHER_APP_ID, TENANT_ID);
+        cacheBackedDAO.getUserConsents(USER_ID, TENANT_ID);
+        verify(dao, times(4)).getUserConsents(USER_ID, TENANT_ID);
+
+        cacheBackedDAO.deleteUserConsents(USER_ID, TENANT_ID);
+        cacheBackedDAO.getUserConsents(USER_ID, TENANT_ID);
+        verify(dao, times(5)).getUserConsents(USER_ID, TENANT_ID);
+    }
+
+    @Test
+    public void testRevokeConsentOfApplicationReloadsConsents() throws Exception {
+
+        cacheBackedDAO.getUserConsents(USER_ID, TENANT_ID);
+        cacheBackedDAO.revokeConsentOfApplication(APP_ID, TENANT_ID);
+        List<UserApplicationScopeConsentDO> userConsents = cacheBackedDAO.getUserConsents(USER_ID, TENANT_ID);
+
+        assertEquals(userConsents.size(), 1);
+        verify(dao, times(2)).getUserConsents(USER_ID, TENANT_ID);
+    }
+}
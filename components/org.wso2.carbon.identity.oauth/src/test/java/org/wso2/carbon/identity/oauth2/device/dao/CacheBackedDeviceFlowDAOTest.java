@@ -0,0 +1,281 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.device.dao;
+
+import org.mockito.MockedStatic;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.common.testng.WithCarbonHome;
+import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
+import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+import org.wso2.carbon.identity.oauth2.dao.util.DAOUtils;
+import org.wso2.carbon.identity.oauth2.device.cache.DeviceFlowPollStateCache;
+import org.wso2.carbon.identity.oauth2.device.cache.DeviceFlowPollStateCacheEntry;
+import org.wso2.carbon.identity.oauth2.device.constants.Constants;
+import org.wso2.carbon.identity.oauth2.device.errorcodes.DeviceErrorCodes;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.util.Calendar;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TimeZone;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+@WithCarbonHome
+@Listeners(MockitoTestNGListener.class)
+public class CacheBackedDeviceFlowDAOTest {
+
+    private static final String DB_NAME = "DeviceFlowDB";
+    private static final String H2_SCRIPT_NAME = "identity.sql";
+    private static final String H2_SCRIPT2_NAME = "insert_token_binding.sql";
+    private static final String CLIENT_ID = "ca19a540f544777860e44e75f605d924";
+    private static final String DEVICE_CODE = "4a9bd2c2-1b7e-4a53-bd2f-4d8a7d1d1f60";
+    private static final String USER_CODE = "s2DqSNK";
+    private static final long POLL_INTERVAL = 5000;
+    private static final long EXPIRY_PERIOD = 600000;
+
+    private Connection connection;
+    private MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil;
+    private MockedStatic<DeviceFlowPollStateCache> deviceFlowPollStateCache;
+    private Map<String, DeviceFlowPollStateCacheEntry> pollStates;
+    private CacheBackedDeviceFlowDAO deviceFlowDAO;
+
+    @BeforeClass
+    public void initTest() throws Exception {
+
+        DAOUtils.initializeBatchDataSource(DB_NAME, H2_SCRIPT_NAME, H2_SCRIPT2_NAME);
+        // Keep a connection open so that the in-memory database lives until the tests end.
+        connection = DAOUtils.getConnection(DB_NAME);
+    }
+
+    @AfterClass
+    public void tearDown() throws Exception {
+
+        connection.close();
+    }
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+
+        identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class);
+
+        pollStates = new HashMap<>();
+        DeviceFlowPollStateCache pollStateCache = mock(DeviceFlowPollStateCache.class);
+        lenient().doAnswer(invocation -> pollStates.get(invocation.<String>getArgument(0)))
+                .when(pollStateCache).getValueFromCache(anyString());
+        lenient().doAnswer(invocation -> pollStates.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(pollStateCache).addToCache(anyString(), any(DeviceFlowPollStateCacheEntry.class));
+        lenient().doAnswer(invocation -> pollStates.remove(invocation.<String>getArgument(0)))
+                .when(pollStateCache).clearCacheEntry(anyString());
+        deviceFlowPollStateCache = mockStatic(DeviceFlowPollStateCache.class);
+        deviceFlowPollStateCache.when(DeviceFlowPollStateCache::getInstance).thenReturn(pollStateCache);
+
+        deviceFlowDAO = new CacheBackedDeviceFlowDAO();
+    }
+
+    @AfterMethod
+    public void closeUp() throws Exception {
+
+        deviceFlowPollStateCache.close();
+        identityDatabaseUtil.close();
+        try (PreparedStatement prepStmt = connection.prepareStatement("DELETE FROM IDN_OAUTH2_DEVICE_FLOW")) {
+            prepStmt.executeUpdate();
+        }
+    }
+
+    @Test
+    public void testCacheMissReadsDatabaseAndCachesPollState() throws Exception {
+
+        mockDBConnection();
+        long lastPollTime = System.currentTimeMillis() - 2 * POLL_INTERVAL;
+        insertDeviceCode(Constants.PENDING, lastPollTime);
+
+        assertPollRejected(DeviceErrorCodes.SubDeviceErrorCodes.AUTHORIZATION_PENDING);
+        DeviceFlowPollStateCacheEntry pollState = pollStates.get(DEVICE_CODE);
+        assertNotNull(pollState);
+        assertEquals(pollState.getLastPollTime(), lastPollTime);
+
+        // The poll read from the database is persisted by the grant afterwards.
+        Timestamp newPollTime = new Timestamp(System.currentTimeMillis());
+        deviceFlowDAO.setLastPollTime(DEVICE_CODE, newPollTime);
+        assertEquals(getPersistedLastPollTime(), newPollTime.getTime());
+        assertEquals(pollState.getLastPollTime(), newPollTime.getTime());
+    }
+
+    @Test
+    public void testCacheHitAcceptsPollWithConditionalUpdate() throws Exception {
+
+        mockDBConnection();
+        long lastPollTime = System.currentTimeMillis() - 2 * POLL_INTERVAL;
+        insertDeviceCode(Constants.PENDING, lastPollTime);
+        DeviceFlowPollStateCacheEntry pollState = addPollState(lastPollTime);
+
+        long pollTime = System.currentTimeMillis();
+        assertPollRejected(DeviceErrorCodes.SubDeviceErrorCodes.AUTHORIZATION_PENDING);
+        identityDatabaseUtil.verify(() -> IdentityDatabaseUtil.getDBConnection(false), never());
+        long persistedLastPollTime = getPersistedLastPollTime();
+        assertTrue(persistedLastPollTime >= pollTime);
+        assertEquals(pollState.getLastPollTime(), persistedLastPollTime);
+
+        // The accepted poll was already persisted, hence the grant does not write it again.
+        deviceFlowDAO.setLastPollTime(DEVICE_CODE, new Timestamp(System.currentTimeMillis() + POLL_INTERVAL));
+        assertEquals(getPersistedLastPollTime(), persistedLastPollTime);
+    }
+
+    @Test
+    public void testCacheHitWithinPollIntervalSlowsDownWithoutDatabase() throws Exception {
+
+        long lastPollTime = System.currentTimeMillis() - POLL_INTERVAL / 2;
+        insertDeviceCode(Constants.PENDING, lastPollTime);
+        DeviceFlowPollStateCacheEntry pollState = addPollState(lastPollTime);
+
+        assertPollRejected(DeviceErrorCodes.SubDeviceErrorCodes.SLOW_DOWN);
+        identityDatabaseUtil.verify(() -> IdentityDatabaseUtil.getDBConnection(anyBoolean()), never());
+        assertTrue(pollState.getLastPollTime() > lastPollTime);
+
+        // The rejected poll is only recorded on this node.
+        deviceFlowDAO.setLastPollTime(DEVICE_CODE, new Timestamp(System.currentTimeMillis()));
+        identityDatabaseUtil.verify(() -> IdentityDatabaseUtil.getDBConnection(anyBoolean()), never());
+        assertEquals(getPersistedLastPollTime(), lastPollTime);
+    }
+
+    @Test
+    public void testPollOnAnotherNodeFallsBackToDatabase() throws Exception {
+
+        mockDBConnection();
+        long cachedLastPollTime = System.currentTimeMillis() - 2 * POLL_INTERVAL;
+        long persistedLastPollTime = System.currentTimeMillis() - POLL_INTERVAL / 2;
+        insertDeviceCode(Constants.PENDING, persistedLastPollTime);
+        addPollState(cachedLastPollTime);
+
+        assertPollRejected(DeviceErrorCodes.SubDeviceErrorCodes.SLOW_DOWN);
+        assertEquals(getPersistedLastPollTime(), persistedLastPollTime);
+        DeviceFlowPollStateCacheEntry pollState = pollStates.get(DEVICE_CODE);
+        assertNotNull(pollState);
+        assertEquals(pollState.getLastPollTime(), persistedLastPollTime);
+    }
+
+    @Test
+    public void testStatusChangeOnAnotherNodeFallsBackToDatabase() throws Exception {
+
+        mockDBConnection();
+        long lastPollTime = System.currentTimeMillis() - 2 * POLL_INTERVAL;
+        insertDeviceCode(Constants.EXPIRED, lastPollTime);
+        addPollState(lastPollTime);
+
+        assertPollRejected(DeviceErrorCodes.SubDeviceErrorCodes.EXPIRED_TOKEN);
+        assertEquals(getPersistedLastPollTime(), lastPollTime);
+        assertNull(pollStates.get(DEVICE_CODE));
+    }
+
+    @Test
+    public void testConcurrentPollsOnNodeAcceptOnlyOne() {
+
+        long lastPollTime = System.currentTimeMillis() - 2 * POLL_INTERVAL;
+        DeviceFlowPollStateCacheEntry pollState = new DeviceFlowPollStateCacheEntry(CLIENT_ID, POLL_INTERVAL,
+                lastPollTime + EXPIRY_PERIOD, lastPollTime);
+
+        long pollTime = System.currentTimeMillis();
+        assertTrue(pollState.compareAndSetLastPollTime(lastPollTime, pollTime));
+        assertFalse(pollState.compareAndSetLastPollTime(lastPollTime, pollTime + 1));
+        pollState.updateLastPollTime(lastPollTime);
+        assertEquals(pollState.getLastPollTime(), pollTime);
+
+        pollState.addHandledPoll();
+        assertTrue(pollState.takeHandledPoll());
+        assertFalse(pollState.takeHandledPoll());
+    }
+
+    private void mockDBConnection() {
+
+        identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getDBConnection(anyBoolean()))
+                .thenAnswer(invocation -> DAOUtils.getConnection(DB_NAME));
+    }
+
+    private DeviceFlowPollStateCacheEntry addPollState(long lastPollTime) {
+
+        DeviceFlowPollStateCacheEntry pollState = new DeviceFlowPollStateCacheEntry(CLIENT_ID, POLL_INTERVAL,
+                System.currentTimeMillis() + EXPIRY_PERIOD, lastPollTime);
+        pollStates.put(DEVICE_CODE, pollState);
+        return pollState;
+    }
+
+    private void assertPollRejected(String expectedErrorCode) {
+
+        try {
+            deviceFlowDAO.getAuthenticationDetails(DEVICE_CODE, CLIENT_ID);
+            fail("Poll of a device code which is not authorized should be rejected.");
+        } catch (IdentityOAuth2Exception e) {
+            assertEquals(e.getErrorCode(), expectedErrorCode);
+        }
+    }
+
+    private void insertDeviceCode(String status, long lastPollTime) throws Exception {
+
+        Calendar utcCalendar = Calendar.getInstance(TimeZone.getTimeZone(Constants.UTC));
+        try (PreparedStatement prepStmt = connection.prepareStatement("INSERT INTO IDN_OAUTH2_DEVICE_FLOW " +
+                "(CODE_ID, DEVICE_CODE, USER_CODE, CONSUMER_KEY_ID, LAST_POLL_TIME, EXPIRY_TIME, POLL_TIME, STATUS) " +
+                "SELECT ?, ?, ?, ID, ?, ?, ?, ? FROM IDN_OAUTH_CONSUMER_APPS WHERE CONSUMER_KEY = ?")) {
+            prepStmt.setString(1, DEVICE_CODE);
+            prepStmt.setString(2, DEVICE_CODE);
+            prepStmt.setString(3, USER_CODE);
+            prepStmt.setTimestamp(4, new Timestamp(lastPollTime), utcCalendar);
+            prepStmt.setTimestamp(5, new Timestamp(System.currentTimeMillis() + EXPIRY_PERIOD), utcCalendar);
+            prepStmt.setLong(6, POLL_INTERVAL);
+            prepStmt.setString(7, status);
+            prepStmt.setString(8, CLIENT_ID);
+            assertEquals(prepStmt.executeUpdate(), 1);
+        }
+    }
+
+    private long getPersistedLastPollTime() throws Exception {
+
+        try (PreparedStatement prepStmt = connection.prepareStatement(
+                "SELECT LAST_POLL_TIME FROM IDN_OAUTH2_DEVICE_FLOW WHERE DEVICE_CODE = ?")) {
+            prepStmt.setString(1, DEVICE_CODE);
+            try (ResultSet resultSet = prepStmt.executeQuery()) {
+                assertTrue(resultSet.next());
+                return resultSet.getTimestamp(1, Calendar.getInstance(TimeZone.getTimeZone(Constants.UTC)))
+                        .getTime();
+            }
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.internal;
+
+import org.mockito.MockedConstruction;
+import org.mockito.MockedStatic;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.application.authentication.framework.model.AuthenticatedUser;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.oauth.cache.AppInfoCache;
+import org.wso2.carbon.identity.oauth.dao.OAuthAppDAO;
+import org.wso2.carbon.identity.oauth.dao.OAuthAppDO;
+import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+
+import java.util.Arrays;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link AppInfoCacheWarmUpObserver}.
+ */
+public class AppInfoCacheWarmUpObserverTest {
+
+    private static final int TENANT_ID = 1;
+    private static final String TENANT_DOMAIN = "wso2.com";
+    private static final String OWNER_TENANT_DOMAIN = "owner.com";
+    private static final int MAX_APPS = 5;
+
+    @Test
+    public void testWarmUpAddsActiveAppsToCache() {
+
+        OAuthAppDO ownedApp = getApp("ownedClient", OWNER_TENANT_DOMAIN);
+        OAuthAppDO appWithoutOwner = getApp("clientWithoutOwner", null);
+        AppInfoCache appInfoCache = mock(AppInfoCache.class);
+        try (MockedStatic<AppInfoCache> appInfoCacheStatic = mockStatic(AppInfoCache.class);
+             MockedStatic<IdentityTenantUtil> identityTenantUtil = mockStatic(IdentityTenantUtil.class);
+             MockedConstruction<OAuthAppDAO> mockedConstruction = mockConstruction(OAuthAppDAO.class,
+                     (mock, context) -> when(mock.getActiveAppsInformation(TENANT_ID, MAX_APPS))
+                             .thenReturn(Arrays.asList(ownedApp, appWithoutOwner)))) {
+            appInfoCacheStatic.when(AppInfoCache::getInstance).thenReturn(appInfoCache);
+            identityTenantUtil.when(() -> IdentityTenantUtil.getTenantDomain(TENANT_ID)).thenReturn(TENANT_DOMAIN);
+
+            // Run the warm up on the calling thread, since the static mocks are thread local.
+            new AppInfoCacheWarmUpObserver(MAX_APPS, Runnable::run).creatingConfigurationContext(TENANT_ID);
+
+            assertEquals(mockedConstruction.constructed().size(), 1);
+            verify(appInfoCache).addToCache("ownedClient", ownedApp, OWNER_TENANT_DOMAIN);
+            verify(appInfoCache).addToCache("clientWithoutOwner", appWithoutOwner, TENANT_DOMAIN);
+        }
+    }
+
+    @Test
+    public void testWarmUpFailureIsNotPropagated() {
+
+        AppInfoCache appInfoCache = mock(AppInfoCache.class);
+        try (MockedStatic<AppInfoCache> appInfoCacheStatic = mockStatic(AppInfoCache.class);
+             MockedStatic<IdentityTenantUtil> identityTenantUtil = mockStatic(IdentityTenantUtil.class);
+             MockedConstruction<OAuthAppDAO> mockedConstruction = mockConstruction(OAuthAppDAO.class,
+                     (mock, context) -> when(mock.getActiveAppsInformation(TENANT_ID, MAX_APPS))
+                             .thenThrow(new IdentityOAuth2Exception("Database error.")))) {
+            appInfoCacheStatic.when(AppInfoCache::getInstance).thenReturn(appInfoCache);
+            identityTenantUtil.when(() -> IdentityTenantUtil.getTenantDomain(TENANT_ID)).thenReturn(TENANT_DOMAIN);
+
+            new AppInfoCacheWarmUpObserver(MAX_APPS, Runnable::run).warmUp(TENANT_ID);
+
+            assertEquals(mockedConstruction.constructed().size(), 1);
+            verify(appInfoCache, never()).addToCache(anyString(), any(OAuthAppDO.class), anyString());
+        }
+    }
+
+    @Test
+    public void testIsEnabled() {
+
+        AppInfoCache appInfoCache = mock(AppInfoCache.class);
+        when(appInfoCache.isEnabled()).thenReturn(true);
+        try (MockedStatic<AppInfoCache> appInfoCacheStatic = mockStatic(AppInfoCache.class);
+             MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class)) {
+            appInfoCacheStatic.when(AppInfoCache::getInstance).thenReturn(appInfoCache);
+
+            assertFalse(AppInfoCacheWarmUpObserver.isEnabled());
+
+            identityUtil.when(() -> IdentityUtil.getProperty("OAuth.AppInfoCache.WarmUp.Enable")).thenReturn("true");
+            assertTrue(AppInfoCacheWarmUpObserver.isEnabled());
+
+            when(appInfoCache.isEnabled()).thenReturn(false);
+            assertFalse(AppInfoCacheWarmUpObserver.isEnabled());
+        }
+    }
+
+    private OAuthAppDO getApp(String consumerKey, String ownerTenantDomain) {
+
+        OAuthAppDO app = new OAuthAppDO();
+        app.setOauthConsumerKey(consumerKey);
+        if (ownerTenantDomain != null) {
+            AuthenticatedUser appOwner = new AuthenticatedUser();
+            appOwner.setUserName("admin");
+            appOwner.setTenantDomain(ownerTenantDomain);
+            app.setAppOwner(appOwner);
+        }
+        return app;
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.internal;
+
+import org.testng.annotations.Test;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.common.testng.WithCarbonHome;
+import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link SaaSTokenRevocationExecutor}.
+ */
+@WithCarbonHome
+public class SaaSTokenRevocationExecutorTest {
+
+    private static final String TENANT_DOMAIN = "carbon.super";
+    private static final int TENANT_ID = -1234;
+
+    @Test
+    public void testQueuedClientIsNotQueuedAgain() throws Exception {
+
+        CountDownLatch blocker = new CountDownLatch(1);
+        List<String> revokedClients = new CopyOnWriteArrayList<>();
+        SaaSTokenRevocationExecutor executor = new SaaSTokenRevocationExecutor(1, 10, (consumerKey, tenantId) -> {
+            if ("blocking-client".equals(consumerKey)) {
+                await(blocker);
+            }
+            revokedClients.add(consumerKey);
+        });
+
+        // Occupy the only worker, so that the following revocations wait in the queue.
+        executor.revokeSaaSTokensOfOtherTenants("blocking-client", TENANT_DOMAIN, TENANT_ID);
+        waitUntil(() -> executor.getActiveCount() == 1);
+        executor.revokeSaaSTokensOfOtherTenants("client", TENANT_DOMAIN, TENANT_ID);
+        executor.revokeSaaSTokensOfOtherTenants("client", TENANT_DOMAIN, TENANT_ID);
+        executor.revokeSaaSTokensOfOtherTenants("client", TENANT_DOMAIN, TENANT_ID);
+
+        assertEquals(executor.getQueueDepth(), 1);
+        assertEquals(executor.getDeduplicatedCount(), 2);
+        blocker.countDown();
+        executor.shutdown(10000);
+
+        assertEquals(revokedClients.size(), 2);
+        assertTrue(revokedClients.contains("client"));
+        assertEquals(executor.getSubmittedCount(), 4);
+        assertEquals(executor.getCompletedCount(), 2);
+    }
+
+    @Test
+    public void testRevocationRunsOnCallerThreadWhenQueueIsFull() throws Exception {
+
+        CountDownLatch blocker = new CountDownLatch(1);
+        List<String> revokingThreads = new CopyOnWriteArrayList<>();
+        SaaSTokenRevocationExecutor executor = new SaaSTokenRevocationExecutor(1, 1, (consumerKey, tenantId) -> {
+            if ("blocking-client".equals(consumerKey)) {
+                await(blocker);
+            }
+            revokingThreads.add(consumerKey + ":" + Thread.currentThread().getName());
+        });
+
+        executor.revokeSaaSTokensOfOtherTenants("blocking-client", TENANT_DOMAIN, TENANT_ID);
+        waitUntil(() -> executor.getActiveCount() == 1);
+        executor.revokeSaaSTokensOfOtherTenants("queued-client", TENANT_DOMAIN, TENANT_ID);
+        executor.revokeSaaSTokensOfOtherTenants("overflow-client", TENANT_DOMAIN, TENANT_ID);
+
+        assertEquals(executor.getCallerRunsCount(), 1);
+        assertTrue(revokingThreads.contains("overflow-client:" + Thread.currentThread().getName()));
+        blocker.countDown();
+        executor.shutdown(10000);
+        assertEquals(executor.getCompletedCount(), 3);
+    }
+
+    @Test
+    public void testRevocationRunsInApplicationTenantAndCountsFailures() throws Exception {
+
+        List<String> tenantDomains = new CopyOnWriteArrayList<>();
+        SaaSTokenRevocationExecutor executor = new SaaSTokenRevocationExecutor(2, 10, (consumerKey, tenantId) -> {
+            tenantDomains.add(PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain());
+            if ("failing-client".equals(consumerKey)) {
+                throw new IdentityOAuth2Exception("Error while revoking tokens.");
+            }
+        });
+
+        executor.revokeSaaSTokensOfOtherTenants("client", "wso2.com", 1);
+        executor.revokeSaaSTokensOfOtherTenants("failing-client", "wso2.com", 1);
+        executor.shutdown(10000);
+
+        assertEquals(tenantDomains.size(), 2);
+        assertTrue(tenantDomains.stream().allMatch("wso2.com"::equals));
+        assertEquals(executor.getCompletedCount(), 1);
+        assertEquals(executor.getFailedCount(), 1);
+        assertEquals(executor.getQueueDepth(), 0);
+    }
+
+    private static void waitUntil(Condition condition) throws InterruptedException {
+
+        long deadline = System.currentTimeMillis() + 10000;
+        while (!condition.isMet() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(condition.isMet());
+    }
+
+    private static void await(CountDownLatch latch) {
+
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private interface Condition {
+
+        boolean isMet();
+    }
+}
@@ -61,6 +61,7 @@ import org.wso2.carbon.identity.oauth2.internal.OAuth2ServiceComponentHolder;
 import org.wso2.carbon.identity.oauth2.token.bindings.TokenBinding;
 import org.wso2.carbon.identity.oauth2.token.handlers.claims.JWTAccessTokenClaimProvider;
 import org.wso2.carbon.identity.oauth2.token.handlers.grant.AuthorizationGrantHandler;
+import org.wso2.carbon.identity.oauth2.util.JWTSigningContextCache;
 import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
 import org.wso2.carbon.identity.openidconnect.CustomClaimsCallbackHandler;
 import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
@@ -163,6 +164,7 @@ public class JWTTokenIssuerTest {
     @AfterMethod
     public void tearDown() throws Exception {
         reset(mockOAuthServerConfiguration);
+        JWTSigningContextCache.getInstance().clear();
         oAuthServerConfiguration.close();
     }
 
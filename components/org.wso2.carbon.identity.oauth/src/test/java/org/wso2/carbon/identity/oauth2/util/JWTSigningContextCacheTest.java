@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.oauth2.util;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSSigner;
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.security.cert.Certificate;
+import java.security.interfaces.RSAPrivateKey;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+
+/**
+ * Unit tests for {@link JWTSigningContextCache}.
+ */
+public class JWTSigningContextCacheTest {
+
+    private static final String TENANT_DOMAIN = "carbon.super";
+
+    private MockedStatic<OAuth2Util> oAuth2Util;
+    private Certificate certificate;
+    private JWSSigner signer;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+
+        certificate = mock(Certificate.class);
+        signer = mock(JWSSigner.class);
+        oAuth2Util = mockStatic(OAuth2Util.class);
+        oAuth2Util.when(() -> OAuth2Util.getCertificate(TENANT_DOMAIN)).thenAnswer(invocation -> certificate);
+        oAuth2Util.when(() -> OAuth2Util.getPrivateKey(TENANT_DOMAIN)).thenReturn(mock(RSAPrivateKey.class));
+        oAuth2Util.when(() -> OAuth2Util.createJWSSigner(any(RSAPrivateKey.class))).thenReturn(signer);
+        oAuth2Util.when(() -> OAuth2Util.getKID(any(Certificate.class), any(JWSAlgorithm.class), anyString()))
+                .thenReturn("kid");
+        oAuth2Util.when(() -> OAuth2Util.getThumbPrintWithPrevAlgorithm(any(Certificate.class), anyBoolean()))
+                .thenReturn("dGh1bWJwcmludA");
+        JWTSigningContextCache.getInstance().clear();
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        JWTSigningContextCache.getInstance().clear();
+        oAuth2Util.close();
+    }
+
+    @Test
+    public void testSigningContextIsReused() throws Exception {
+
+        JWTSigningContext first = JWTSigningContextCache.getInstance()
+                .getSigningContext(TENANT_DOMAIN, JWSAlgorithm.RS256);
+        JWTSigningContext second = JWTSigningContextCache.getInstance()
+                .getSigningContext(TENANT_DOMAIN, JWSAlgorithm.RS256);
+
+        assertSame(second, first);
+        assertSame(first.getSigner(), signer);
+        JWSHeader header = first.getHeaderBuilder().build();
+        assertEquals(header.getAlgorithm(), JWSAlgorithm.RS256);
+        assertEquals(header.getKeyID(), "kid");
+        assertEquals(header.getX509CertThumbprint().toString(), "dGh1bWJwcmludA");
+        oAuth2Util.verify(() -> OAuth2Util.getPrivateKey(TENANT_DOMAIN), times(1));
+    }
+
+    @Test
+    public void testSigningContextIsRebuiltForRotatedCertificate() throws Exception {
+
+        JWTSigningContext first = JWTSigningContextCache.getInstance()
+                .getSigningContext(TENANT_DOMAIN, JWSAlgorithm.RS256);
+        certificate = mock(Certificate.class);
+        JWTSigningContext second = JWTSigningContextCache.getInstance()
+                .getSigningContext(TENANT_DOMAIN, JWSAlgorithm.RS256);
+
+        assertNotSame(second, first);
+        oAuth2Util.verify(() -> OAuth2Util.getPrivateKey(TENANT_DOMAIN), times(2));
+    }
+
+    @Test
+    public void testClearSigningContexts() throws Exception {
+
+        JWTSigningContext first = JWTSigningContextCache.getInstance()
+                .getSigningContext(TENANT_DOMAIN, JWSAlgorithm.RS256);
+        JWTSigningContext otherAlgorithm = JWTSigningContextCache.getInstance()
+                .getSigningContext(TENANT_DOMAIN, JWSAlgorithm.PS256);
+        assertNotSame(otherAlgorithm, first);
+
+        JWTSigningContextCache.getInstance().clearSigningContexts(TENANT_DOMAIN);
+        JWTSigningContext second = JWTSigningContextCache.getInstance()
+                .getSigningContext(TENANT_DOMAIN, JWSAlgorithm.RS256);
+
+        assertNotSame(second, first);
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.util;
+
+import org.apache.commons.codec.binary.Base64;
+import org.bouncycastle.util.encoders.Hex;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Unit tests for {@link MessageDigestUtil}.
+ */
+public class MessageDigestUtilTest {
+
+    @DataProvider(name = "digestData")
+    public Object[][] digestData() {
+
+        return new Object[][]{
+                {"SHA-256", "a7d2f1c4-5b8e-4f0a-9c3d-2e6b1a7f8d90"},
+                {"SHA-384", "code-verifier"},
+                {"SHA-512", "ünïcödé"},
+                {"SHA-256", ""}
+        };
+    }
+
+    @Test(dataProvider = "digestData")
+    public void testDigest(String algorithm, String value) throws Exception {
+
+        byte[] expected = MessageDigest.getInstance(algorithm).digest(value.getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(MessageDigestUtil.digest(algorithm, value), expected);
+        // The reused digest of the thread must not carry state over from the previous call.
+        assertEquals(MessageDigestUtil.digest(algorithm, value), expected);
+        assertEquals(MessageDigestUtil.toHex(expected), Hex.toHexString(expected));
+        assertEquals(MessageDigestUtil.toBase64Url(expected),
+                new String(Base64.encodeBase64URLSafe(expected), StandardCharsets.UTF_8));
+    }
+
+    @Test(expectedExceptions = NoSuchAlgorithmException.class)
+    public void testDigestWithInvalidAlgorithm() throws Exception {
+
+        MessageDigestUtil.digest("TestAlgo", "value");
+    }
+}
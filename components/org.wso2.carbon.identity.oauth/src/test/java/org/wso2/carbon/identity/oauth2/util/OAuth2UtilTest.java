@@ -71,6 +71,7 @@ import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.oauth.OAuthAdminServiceImpl;
 import org.wso2.carbon.identity.oauth.cache.AppInfoCache;
+import org.wso2.carbon.identity.oauth.cache.AppInfoNegativeCache;
 import org.wso2.carbon.identity.oauth.cache.CacheEntry;
 import org.wso2.carbon.identity.oauth.cache.OAuthCache;
 import org.wso2.carbon.identity.oauth.cache.OAuthCacheKey;
@@ -134,6 +135,13 @@ import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 import javax.servlet.http.HttpServletRequest;
@@ -143,6 +151,7 @@ import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
@@ -2332,6 +2341,59 @@ public class OAuth2UtilTest {
         }
     }
 
+    @Test
+    public void testGetAppInformationByClientIdLoadsConcurrentMissesOnce() throws Exception {
+
+        OAuthAppDO appDO = new OAuthAppDO();
+        appDO.setOauthConsumerKey(clientId);
+        Map<String, OAuthAppDO> cachedApps = new ConcurrentHashMap<>();
+        AppInfoCache mockAppInfoCache = mock(AppInfoCache.class);
+        when(mockAppInfoCache.isEnabled()).thenReturn(true);
+        when(mockAppInfoCache.getNegativeCache()).thenReturn(mock(AppInfoNegativeCache.class));
+        when(mockAppInfoCache.getLoadLock(clientId)).thenReturn(new Object());
+        when(mockAppInfoCache.getValueFromCache(clientId, clientTenantDomain))
+                .thenAnswer(invocation -> cachedApps.get(clientId));
+        doAnswer(invocation -> cachedApps.put(clientId, appDO)).when(mockAppInfoCache)
+                .addToCache(clientId, appDO, clientTenantDomain);
+
+        int callerCount = 8;
+        AtomicInteger daoHits = new AtomicInteger();
+        CountDownLatch startGate = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(callerCount);
+        try {
+            List<Future<OAuthAppDO>> futures = new ArrayList<>();
+            for (int i = 0; i < callerCount; i++) {
+                // Static and construction mocks are thread local, hence each caller registers its own.
+                futures.add(executorService.submit(() -> {
+                    try (MockedStatic<AppInfoCache> appInfoCache = mockStatic(AppInfoCache.class);
+                         MockedStatic<IdentityTenantUtil> tenantUtil = mockStatic(IdentityTenantUtil.class);
+                         MockedConstruction<OAuthAppDAO> mockedConstruction = Mockito.mockConstruction(
+                                 OAuthAppDAO.class, (mock, context) ->
+                                         when(mock.getAppInformation(clientId, clientTenantId)).thenAnswer(
+                                                 invocation -> {
+                                                     daoHits.incrementAndGet();
+                                                     Thread.sleep(100);
+                                                     return appDO;
+                                                 }))) {
+                        appInfoCache.when(AppInfoCache::getInstance).thenReturn(mockAppInfoCache);
+                        tenantUtil.when(() -> IdentityTenantUtil.getTenantId(clientTenantDomain))
+                                .thenReturn(clientTenantId);
+                        startGate.await();
+                        return OAuth2Util.getAppInformationByClientId(clientId, clientTenantDomain);
+                    }
+                }));
+            }
+            startGate.countDown();
+            for (Future<OAuthAppDO> future : futures) {
+                assertEquals(future.get(10, TimeUnit.SECONDS), appDO);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+        assertEquals(daoHits.get(), 1);
+        verify(mockAppInfoCache, times(1)).addToCache(clientId, appDO, clientTenantDomain);
+    }
+
     @Test
     public void testGetAppInformationByClientIdOnly() throws Exception {
 
@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.validators;
+
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.oauth2.dto.OAuth2IntrospectionResponseDTO;
+import org.wso2.carbon.identity.oauth2.dto.OAuth2TokenValidationRequestDTO;
+import org.wso2.carbon.identity.oauth2.dto.OAuth2TokenValidationResponseDTO;
+import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link IntrospectionResponseCache}.
+ */
+public class IntrospectionResponseCacheTest {
+
+    private static final String TENANT_DOMAIN = "carbon.super";
+    private static final String TOKEN = "a7d2f1c4-opaque-token";
+
+    @Test
+    public void testCachedResponseIsCopied() {
+
+        IntrospectionResponseCache cache = new IntrospectionResponseCache(true, 10, TimeUnit.MINUTES.toMillis(1));
+        OAuth2TokenValidationRequestDTO request = buildRequest(TOKEN);
+        OAuth2TokenValidationMessageContext messageContext =
+                new OAuth2TokenValidationMessageContext(request, new OAuth2TokenValidationResponseDTO());
+        messageContext.addProperty("AccessTokenDO", "accessTokenDO");
+        OAuth2IntrospectionResponseDTO introResp = buildActiveResponse(TimeUnit.HOURS.toSeconds(1));
+
+        cache.addIntrospectionResponse(request, TENANT_DOMAIN, introResp, messageContext);
+        OAuth2TokenValidationResponseDTO responseDTO = new OAuth2TokenValidationResponseDTO();
+        OAuth2IntrospectionResponseDTO cached = cache.getIntrospectionResponse(request, TENANT_DOMAIN, responseDTO);
+
+        assertNotNull(cached);
+        assertNotSame(cached, introResp);
+        assertEquals(cached.getClientId(), "client");
+        assertEquals(cached.getScope(), "openid");
+        OAuth2TokenValidationMessageContext cachedContext = (OAuth2TokenValidationMessageContext) cached
+                .getProperties().get(OAuth2Util.OAUTH2_VALIDATION_MESSAGE_CONTEXT);
+        assertNotSame(cachedContext, messageContext);
+        assertSame(cachedContext.getResponseDTO(), responseDTO);
+        assertEquals(cachedContext.getProperty("AccessTokenDO"), "accessTokenDO");
+
+        cached.setScope("modified");
+        assertEquals(cache.getIntrospectionResponse(request, TENANT_DOMAIN, responseDTO).getScope(), "openid");
+    }
+
+    @Test
+    public void testEntryIsBoundByTokenExpiry() {
+
+        IntrospectionResponseCache cache = new IntrospectionResponseCache(true, 10, TimeUnit.MINUTES.toMillis(1));
+        OAuth2TokenValidationRequestDTO request = buildRequest(TOKEN);
+
+        cache.addIntrospectionResponse(request, TENANT_DOMAIN, buildActiveResponse(-1), buildContext(request));
+
+        assertNull(cache.getIntrospectionResponse(request, TENANT_DOMAIN, new OAuth2TokenValidationResponseDTO()));
+    }
+
+    @Test
+    public void testInactiveResponseIsNotCached() {
+
+        IntrospectionResponseCache cache = new IntrospectionResponseCache(true, 10, TimeUnit.MINUTES.toMillis(1));
+        OAuth2TokenValidationRequestDTO request = buildRequest(TOKEN);
+        OAuth2IntrospectionResponseDTO introResp = buildActiveResponse(TimeUnit.HOURS.toSeconds(1));
+        introResp.setActive(false);
+
+        cache.addIntrospectionResponse(request, TENANT_DOMAIN, introResp, buildContext(request));
+
+        assertNull(cache.getIntrospectionResponse(request, TENANT_DOMAIN, new OAuth2TokenValidationResponseDTO()));
+    }
+
+    @Test
+    public void testClearIntrospectionResponse() {
+
+        IntrospectionResponseCache cache = new IntrospectionResponseCache(true, 10, TimeUnit.MINUTES.toMillis(1));
+        OAuth2TokenValidationRequestDTO request = buildRequest(TOKEN);
+        cache.addIntrospectionResponse(request, TENANT_DOMAIN, buildActiveResponse(TimeUnit.HOURS.toSeconds(1)),
+                buildContext(request));
+
+        cache.clearIntrospectionResponse(TOKEN);
+
+        assertNull(cache.getIntrospectionResponse(request, TENANT_DOMAIN, new OAuth2TokenValidationResponseDTO()));
+    }
+
+    @Test
+    public void testResponseIsNotSharedAcrossTenants() {
+
+        IntrospectionResponseCache cache = new IntrospectionResponseCache(true, 10, TimeUnit.MINUTES.toMillis(1));
+        OAuth2TokenValidationRequestDTO request = buildRequest(TOKEN);
+        cache.addIntrospectionResponse(request, TENANT_DOMAIN, buildActiveResponse(TimeUnit.HOURS.toSeconds(1)),
+                buildContext(request));
+
+        assertNull(cache.getIntrospectionResponse(request, "wso2.com", new OAuth2TokenValidationResponseDTO()));
+    }
+
+    @Test
+    public void testCacheIsBounded() {
+
+        IntrospectionResponseCache cache = new IntrospectionResponseCache(true, 1, TimeUnit.MINUTES.toMillis(1));
+        OAuth2TokenValidationRequestDTO first = buildRequest(TOKEN);
+        OAuth2TokenValidationRequestDTO second = buildRequest(TOKEN + "-2");
+        cache.addIntrospectionResponse(first, TENANT_DOMAIN, buildActiveResponse(TimeUnit.HOURS.toSeconds(1)),
+                buildContext(first));
+        cache.addIntrospectionResponse(second, TENANT_DOMAIN, buildActiveResponse(TimeUnit.HOURS.toSeconds(1)),
+                buildContext(second));
+
+        assertNotNull(cache.getIntrospectionResponse(first, TENANT_DOMAIN, new OAuth2TokenValidationResponseDTO()));
+        assertNull(cache.getIntrospectionResponse(second, TENANT_DOMAIN, new OAuth2TokenValidationResponseDTO()));
+    }
+
+    @Test
+    public void testDisabledCache() {
+
+        IntrospectionResponseCache cache = new IntrospectionResponseCache(false, 10, TimeUnit.MINUTES.toMillis(1));
+        OAuth2TokenValidationRequestDTO request = buildRequest(TOKEN);
+        cache.addIntrospectionResponse(request, TENANT_DOMAIN, buildActiveResponse(TimeUnit.HOURS.toSeconds(1)),
+                buildContext(request));
+
+        assertNull(cache.getIntrospectionResponse(request, TENANT_DOMAIN, new OAuth2TokenValidationResponseDTO()));
+    }
+
+    @Test
+    public void testCachedValidationResponseIsCopied() {
+
+        IntrospectionResponseCache cache = new IntrospectionResponseCache(true, 10, TimeUnit.MINUTES.toMillis(1));
+        OAuth2TokenValidationRequestDTO request = buildRequest(TOKEN);
+        OAuth2TokenValidationResponseDTO responseDTO = buildValidResponse();
+
+        cache.addValidationResponse(request, TENANT_DOMAIN, responseDTO, buildContext(request));
+        OAuth2TokenValidationResponseDTO cached = cache.getValidationResponse(request, TENANT_DOMAIN);
+
+        assertNotNull(cached);
+        assertNotSame(cached, responseDTO);
+        assertTrue(cached.isValid());
+        assertEquals(cached.getAuthorizedUser(), "john@carbon.super");
+        assertTrue(cached.getExpiryTime() > 0 && cached.getExpiryTime() <= TimeUnit.HOURS.toSeconds(1));
+
+        cached.getScope()[0] = "modified";
+        assertEquals(cache.getValidationResponse(request, TENANT_DOMAIN).getScope()[0], "openid");
+        assertNull(cache.getValidationResponse(request, "wso2.com"));
+    }
+
+    @Test
+    public void testClearIntrospectionResponseClearsValidationResponse() {
+
+        IntrospectionResponseCache cache = new IntrospectionResponseCache(true, 10, TimeUnit.MINUTES.toMillis(1));
+        OAuth2TokenValidationRequestDTO request = buildRequest(TOKEN);
+        cache.addValidationResponse(request, TENANT_DOMAIN, buildValidResponse(), buildContext(request));
+
+        cache.clearIntrospectionResponse(TOKEN);
+
+        assertNull(cache.getValidationResponse(request, TENANT_DOMAIN));
+    }
+
+    @Test
+    public void testValidationResponseWithContextTokenIsNotCached() {
+
+        IntrospectionResponseCache cache = new IntrospectionResponseCache(true, 10, TimeUnit.MINUTES.toMillis(1));
+        OAuth2TokenValidationRequestDTO request = buildRequest(TOKEN);
+        OAuth2TokenValidationResponseDTO responseDTO = buildValidResponse();
+        responseDTO.setAuthorizationContextToken(responseDTO.new AuthorizationContextToken("JWT", "token"));
+
+        cache.addValidationResponse(request, TENANT_DOMAIN, responseDTO, buildContext(request));
+
+        assertNull(cache.getValidationResponse(request, TENANT_DOMAIN));
+    }
+
+    private OAuth2TokenValidationResponseDTO buildValidResponse() {
+
+        OAuth2TokenValidationResponseDTO responseDTO = new OAuth2TokenValidationResponseDTO();
+        responseDTO.setValid(true);
+        responseDTO.setAuthorizedUser("john@carbon.super");
+        responseDTO.setScope(new String[]{"openid"});
+        responseDTO.setExpiryTime(TimeUnit.HOURS.toSeconds(1));
+        return responseDTO;
+    }
+
+    private OAuth2TokenValidationRequestDTO buildRequest(String token) {
+
+        OAuth2TokenValidationRequestDTO request = new OAuth2TokenValidationRequestDTO();
+        OAuth2TokenValidationRequestDTO.OAuth2AccessToken accessToken = request.new OAuth2AccessToken();
+        accessToken.setIdentifier(token);
+        accessToken.setTokenType("bearer");
+        request.setAccessToken(accessToken);
+        return request;
+    }
+
+    private OAuth2TokenValidationMessageContext buildContext(OAuth2TokenValidationRequestDTO request) {
+
+        return new OAuth2TokenValidationMessageContext(request, new OAuth2TokenValidationResponseDTO());
+    }
+
+    private OAuth2IntrospectionResponseDTO buildActiveResponse(long expiresInSeconds) {
+
+        OAuth2IntrospectionResponseDTO introResp = new OAuth2IntrospectionResponseDTO();
+        introResp.setActive(true);
+        introResp.setClientId("client");
+        introResp.setScope("openid");
+        introResp.setExp(TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()) + expiresInSeconds);
+        return introResp;
+    }
+}
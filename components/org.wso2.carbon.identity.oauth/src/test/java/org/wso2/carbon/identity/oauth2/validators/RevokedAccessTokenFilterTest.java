@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.validators;
+
+import org.mockito.MockedStatic;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.oauth.config.OAuthServerConfiguration;
+import org.wso2.carbon.identity.oauth2.dao.AccessTokenDAO;
+import org.wso2.carbon.identity.oauth2.dao.OAuthTokenPersistenceFactory;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.longThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link RevokedAccessTokenFilter}.
+ */
+public class RevokedAccessTokenFilterTest {
+
+    private static final int MAX_ENTRIES = 10000;
+    private static final long MAX_TOKEN_LIFETIME = TimeUnit.HOURS.toMillis(1);
+    private static final long FULL_SYNC_INTERVAL = TimeUnit.MINUTES.toMillis(15);
+
+    @Test
+    public void testRevokedTokenIsFound() {
+
+        RevokedAccessTokenFilter filter = new RevokedAccessTokenFilter(true, 100, MAX_ENTRIES, MAX_TOKEN_LIFETIME,
+                FULL_SYNC_INTERVAL);
+        filter.addRevokedTokens(new String[]{"revoked-hash"}, true);
+
+        assertTrue(filter.isRevokedTokenHash("revoked-hash"));
+        assertFalse(filter.isRevokedTokenHash("active-hash"));
+    }
+
+    @Test
+    public void testNoFalseNegativesBeyondExpectedEntries() {
+
+        RevokedAccessTokenFilter filter = new RevokedAccessTokenFilter(true, 100, MAX_ENTRIES, MAX_TOKEN_LIFETIME,
+                FULL_SYNC_INTERVAL);
+        long expiryTime = System.currentTimeMillis() + MAX_TOKEN_LIFETIME;
+        for (int i = 0; i < 1000; i++) {
+            filter.addRevokedTokenHash("hash-" + i, expiryTime);
+        }
+
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(filter.isRevokedTokenHash("hash-" + i));
+        }
+        assertEquals(filter.size(), 1000);
+    }
+
+    @Test
+    public void testExpiredTokensAreDropped() {
+
+        RevokedAccessTokenFilter filter = new RevokedAccessTokenFilter(true, 100, MAX_ENTRIES, MAX_TOKEN_LIFETIME,
+                FULL_SYNC_INTERVAL);
+        long now = System.currentTimeMillis();
+        filter.addRevokedTokenHash("expired-hash", now - 1);
+        filter.addRevokedTokenHash("expiring-hash", now + 100);
+        filter.addRevokedTokenHash("revoked-hash", now + MAX_TOKEN_LIFETIME);
+
+        assertFalse(filter.isRevokedTokenHash("expired-hash"));
+        assertTrue(filter.isRevokedTokenHash("expiring-hash"));
+
+        filter.removeExpiredEntries(now + 200);
+
+        assertEquals(filter.size(), 1);
+        assertFalse(filter.isRevokedTokenHash("expiring-hash"));
+        assertTrue(filter.isRevokedTokenHash("revoked-hash"));
+    }
+
+    @Test
+    public void testEntriesAreCapped() {
+
+        RevokedAccessTokenFilter filter = new RevokedAccessTokenFilter(true, 100, 2, MAX_TOKEN_LIFETIME,
+                FULL_SYNC_INTERVAL);
+        long now = System.currentTimeMillis();
+        assertTrue(filter.addRevokedTokenHash("expiring-hash", now + 100));
+        assertTrue(filter.addRevokedTokenHash("revoked-hash", now + MAX_TOKEN_LIFETIME));
+
+        assertFalse(filter.addRevokedTokenHash("other-hash", now + MAX_TOKEN_LIFETIME));
+        assertFalse(filter.isRevokedTokenHash("other-hash"));
+        // Known tokens are still updated when the filter is full.
+        assertTrue(filter.addRevokedTokenHash("expiring-hash", now + MAX_TOKEN_LIFETIME));
+        assertEquals(filter.size(), 2);
+
+        filter.removeExpiredEntries(now + MAX_TOKEN_LIFETIME + 1);
+
+        assertTrue(filter.addRevokedTokenHash("other-hash", now + 2 * MAX_TOKEN_LIFETIME));
+        assertTrue(filter.isRevokedTokenHash("other-hash"));
+    }
+
+    @Test
+    public void testLaterExpiryTimeIsKept() {
+
+        RevokedAccessTokenFilter filter = new RevokedAccessTokenFilter(true, 100, MAX_ENTRIES, MAX_TOKEN_LIFETIME,
+                FULL_SYNC_INTERVAL);
+        long now = System.currentTimeMillis();
+        filter.addRevokedTokenHash("revoked-hash", now + MAX_TOKEN_LIFETIME);
+        filter.addRevokedTokenHash("revoked-hash", now + 100);
+
+        filter.removeExpiredEntries(now + 200);
+
+        assertTrue(filter.isRevokedTokenHash("revoked-hash"));
+    }
+
+    @Test
+    public void testTokenIdentifierIsHashed() {
+
+        OAuthServerConfiguration serverConfiguration = mock(OAuthServerConfiguration.class);
+        when(serverConfiguration.getHashAlgorithm()).thenReturn("SHA-256");
+        try (MockedStatic<OAuthServerConfiguration> oAuthServerConfiguration =
+                     mockStatic(OAuthServerConfiguration.class)) {
+            oAuthServerConfiguration.when(OAuthServerConfiguration::getInstance).thenReturn(serverConfiguration);
+
+            RevokedAccessTokenFilter filter = new RevokedAccessTokenFilter(true, 100, MAX_ENTRIES, MAX_TOKEN_LIFETIME,
+                    FULL_SYNC_INTERVAL);
+            filter.addRevokedTokens(new String[]{"8f4e5b2a-jwt-id"}, false);
+
+            assertTrue(filter.isRevoked("8f4e5b2a-jwt-id"));
+            assertFalse(filter.isRevoked("d31c07e9-jwt-id"));
+        }
+    }
+
+    @Test
+    public void testDisabledFilter() {
+
+        RevokedAccessTokenFilter filter = new RevokedAccessTokenFilter(false, 100, MAX_ENTRIES, MAX_TOKEN_LIFETIME,
+                FULL_SYNC_INTERVAL);
+        filter.addRevokedTokens(new String[]{"revoked-hash"}, true);
+
+        assertEquals(filter.size(), 0);
+        assertFalse(filter.isRevoked("revoked-hash"));
+    }
+
+    @Test
+    public void testSyncReadsTokenTablesOnlyOnFullSync() throws Exception {
+
+        long now = System.currentTimeMillis();
+        AccessTokenDAO accessTokenDAO = mock(AccessTokenDAO.class);
+        OAuthTokenPersistenceFactory persistenceFactory = mock(OAuthTokenPersistenceFactory.class);
+        when(persistenceFactory.getAccessTokenDAO()).thenReturn(accessTokenDAO);
+        when(accessTokenDAO.getInvalidatedAccessTokenHashes(anyLong()))
+                .thenReturn(Collections.singletonMap("revoked-hash", now + MAX_TOKEN_LIFETIME));
+        when(accessTokenDAO.getInvalidatedAuditAccessTokenHashes(anyLong(), anyLong()))
+                .thenReturn(Collections.emptyMap())
+                .thenReturn(Collections.singletonMap("audited-hash", now + MAX_TOKEN_LIFETIME));
+        try (MockedStatic<OAuthTokenPersistenceFactory> oAuthTokenPersistenceFactory =
+                     mockStatic(OAuthTokenPersistenceFactory.class)) {
+            oAuthTokenPersistenceFactory.when(OAuthTokenPersistenceFactory::getInstance)
+                    .thenReturn(persistenceFactory);
+
+            RevokedAccessTokenFilter filter = new RevokedAccessTokenFilter(true, 100, MAX_ENTRIES, MAX_TOKEN_LIFETIME,
+                    FULL_SYNC_INTERVAL);
+            filter.sync();
+            filter.sync();
+
+            // The first sync reads the token tables, the following ones only read the newly audited tokens.
+            verify(accessTokenDAO, times(1)).getInvalidatedAccessTokenHashes(anyLong());
+            verify(accessTokenDAO, times(2)).getInvalidatedAuditAccessTokenHashes(anyLong(), anyLong());
+            verify(accessTokenDAO, times(1)).getInvalidatedAuditAccessTokenHashes(anyLong(),
+                    longThat(invalidatedAfter -> invalidatedAfter >= now));
+            assertTrue(filter.isRevokedTokenHash("revoked-hash"));
+            assertTrue(filter.isRevokedTokenHash("audited-hash"));
+        }
+    }
+}
@@ -18,19 +18,49 @@
 
 package org.wso2.carbon.identity.openidconnect;
 
+import org.mockito.ArgumentCaptor;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.testng.annotations.Test;
 import org.wso2.carbon.identity.application.authentication.framework.handler.approles.ApplicationRolesResolver;
 import org.wso2.carbon.identity.application.authentication.framework.handler.approles.exception.ApplicationRolesException;
 import org.wso2.carbon.identity.application.authentication.framework.model.AuthenticatedUser;
+import org.wso2.carbon.identity.application.common.model.Claim;
+import org.wso2.carbon.identity.application.common.model.ClaimConfig;
+import org.wso2.carbon.identity.application.common.model.ClaimMapping;
+import org.wso2.carbon.identity.application.common.model.ServiceProvider;
+import org.wso2.carbon.identity.claim.metadata.mgt.ClaimMetadataHandler;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.oauth2.dto.OAuth2AccessTokenReqDTO;
+import org.wso2.carbon.identity.oauth2.token.OAuthTokenReqMessageContext;
 import org.wso2.carbon.identity.openidconnect.internal.OpenIDConnectServiceComponentHolder;
+import org.wso2.carbon.identity.openidconnect.model.ResolvedUserClaims;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.util.OrganizationSharedUserUtil;
+import org.wso2.carbon.user.api.UserRealm;
+import org.wso2.carbon.user.api.UserStoreManager;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
 
 /**
@@ -38,6 +68,9 @@ import static org.testng.Assert.assertTrue;
  */
 public class OIDCClaimUtilTest {
 
+    private static final String EMAIL_CLAIM_URI = "http://wso2.org/claims/emailaddress";
+    private static final String GIVEN_NAME_CLAIM_URI = "http://wso2.org/claims/givenname";
+
     @Test
     public void testGetAppAssociatedRolesOfUser() throws ApplicationRolesException {
 
@@ -64,4 +97,99 @@ public class OIDCClaimUtilTest {
             assertTrue(roles[0].equals("role1") && roles[1].equals("role2"));
         }
     }
+
+    @Test
+    public void testGetResolvedUserClaims() {
+
+        assertNull(OIDCClaimUtil.getResolvedUserClaims(null));
+
+        OAuthTokenReqMessageContext tokenReqMessageContext =
+                new OAuthTokenReqMessageContext(new OAuth2AccessTokenReqDTO());
+        tokenReqMessageContext.setScope(new String[]{"openid", "email"});
+        ResolvedUserClaims resolvedUserClaims = OIDCClaimUtil.getResolvedUserClaims(tokenReqMessageContext);
+
+        assertNotNull(resolvedUserClaims);
+        assertTrue(resolvedUserClaims.isPrefetchRequestedClaims());
+        assertSame(OIDCClaimUtil.getResolvedUserClaims(tokenReqMessageContext), resolvedUserClaims);
+
+        OAuthTokenReqMessageContext nonOIDCTokenReqMessageContext =
+                new OAuthTokenReqMessageContext(new OAuth2AccessTokenReqDTO());
+        nonOIDCTokenReqMessageContext.setScope(new String[]{"internal_login"});
+        assertFalse(OIDCClaimUtil.getResolvedUserClaims(nonOIDCTokenReqMessageContext).isPrefetchRequestedClaims());
+    }
+
+    @Test
+    public void testUserStoreReadOnceForAccessTokenAndIdTokenClaims() throws Exception {
+
+        AuthenticatedUser authenticatedUser = new AuthenticatedUser();
+        authenticatedUser.setUserName("alice");
+        authenticatedUser.setUserStoreDomain("PRIMARY");
+        authenticatedUser.setTenantDomain("carbon.super");
+
+        ServiceProvider serviceProvider = new ServiceProvider();
+        serviceProvider.setApplicationResourceId("testAppId");
+        serviceProvider.setTenantDomain("carbon.super");
+        ClaimConfig claimConfig = new ClaimConfig();
+        claimConfig.setClaimMappings(new ClaimMapping[]{buildRequestedClaimMapping(EMAIL_CLAIM_URI),
+                buildRequestedClaimMapping(GIVEN_NAME_CLAIM_URI)});
+        serviceProvider.setClaimConfig(claimConfig);
+
+        UserStoreManager userStoreManager = mock(UserStoreManager.class);
+        Map<String, String> userClaims = new HashMap<>();
+        userClaims.put(EMAIL_CLAIM_URI, "alice@wso2.com");
+        userClaims.put(GIVEN_NAME_CLAIM_URI, "Alice");
+        when(userStoreManager.getUserClaimValues(anyString(), any(String[].class), isNull())).thenReturn(userClaims);
+        UserRealm userRealm = mock(UserRealm.class);
+        when(userRealm.getUserStoreManager()).thenReturn(userStoreManager);
+
+        Map<String, String> oidcToLocalClaimMappings = new HashMap<>();
+        oidcToLocalClaimMappings.put("email", EMAIL_CLAIM_URI);
+        oidcToLocalClaimMappings.put("given_name", GIVEN_NAME_CLAIM_URI);
+        ClaimMetadataHandler claimMetadataHandler = mock(ClaimMetadataHandler.class);
+        when(claimMetadataHandler.getMappingsMapFromOtherDialectToCarbon(anyString(), isNull(), anyString(),
+                anyBoolean())).thenReturn(oidcToLocalClaimMappings);
+
+        try (MockedStatic<IdentityTenantUtil> identityTenantUtil = mockStatic(IdentityTenantUtil.class);
+             MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class);
+             MockedStatic<OrganizationSharedUserUtil> organizationSharedUserUtil =
+                     mockStatic(OrganizationSharedUserUtil.class);
+             MockedStatic<ClaimMetadataHandler> claimMetadataHandlerStatic = mockStatic(ClaimMetadataHandler.class)) {
+            identityTenantUtil.when(() -> IdentityTenantUtil.getRealm(eq("carbon.super"), anyString()))
+                    .thenReturn(userRealm);
+            identityUtil.when(IdentityUtil::getLocalGroupsClaimURI).thenReturn("http://wso2.org/claims/groups");
+            claimMetadataHandlerStatic.when(ClaimMetadataHandler::getInstance).thenReturn(claimMetadataHandler);
+
+            OAuthTokenReqMessageContext tokenReqMessageContext =
+                    new OAuthTokenReqMessageContext(new OAuth2AccessTokenReqDTO());
+            tokenReqMessageContext.setScope(new String[]{"openid"});
+
+            // The JWT access token only asks for the email, yet the claims of the ID token are read along with it.
+            Map<String, Object> accessTokenClaims = OIDCClaimUtil.getUserClaimsInOIDCDialect(serviceProvider,
+                    authenticatedUser, new ArrayList<>(Arrays.asList(EMAIL_CLAIM_URI)),
+                    OIDCClaimUtil.getResolvedUserClaims(tokenReqMessageContext));
+            Map<String, Object> idTokenClaims = OIDCClaimUtil.getUserClaimsInOIDCDialect(serviceProvider,
+                    authenticatedUser, new ArrayList<>(Arrays.asList(EMAIL_CLAIM_URI, GIVEN_NAME_CLAIM_URI)),
+                    OIDCClaimUtil.getResolvedUserClaims(tokenReqMessageContext));
+
+            assertEquals(accessTokenClaims.get("email"), "alice@wso2.com");
+            assertFalse(accessTokenClaims.containsKey("given_name"));
+            assertEquals(idTokenClaims.get("email"), "alice@wso2.com");
+            assertEquals(idTokenClaims.get("given_name"), "Alice");
+            ArgumentCaptor<String[]> claimURIs = ArgumentCaptor.forClass(String[].class);
+            verify(userStoreManager, times(1)).getUserClaimValues(anyString(), claimURIs.capture(), isNull());
+            assertEquals(new HashSet<>(Arrays.asList(claimURIs.getValue())),
+                    new HashSet<>(Arrays.asList(EMAIL_CLAIM_URI, GIVEN_NAME_CLAIM_URI)));
+        }
+    }
+
+    private static ClaimMapping buildRequestedClaimMapping(String claimURI) {
+
+        Claim claim = new Claim();
+        claim.setClaimUri(claimURI);
+        ClaimMapping claimMapping = new ClaimMapping();
+        claimMapping.setLocalClaim(claim);
+        claimMapping.setRemoteClaim(claim);
+        claimMapping.setRequested(true);
+        return claimMapping;
+    }
 }
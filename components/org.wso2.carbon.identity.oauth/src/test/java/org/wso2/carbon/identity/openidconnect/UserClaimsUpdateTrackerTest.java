@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.openidconnect;
+
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.application.authentication.framework.model.AuthenticatedUser;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link UserClaimsUpdateTracker}.
+ */
+public class UserClaimsUpdateTrackerTest {
+
+    private static final String TENANT_DOMAIN = "carbon.super";
+
+    @Test
+    public void testUpdatedUserIsTracked() {
+
+        UserClaimsUpdateTracker tracker = new UserClaimsUpdateTracker(10, TimeUnit.MINUTES.toMillis(1));
+        long resolvedTime = System.currentTimeMillis();
+
+        tracker.markUserClaimsUpdated(TENANT_DOMAIN, "primary", "john");
+
+        assertTrue(tracker.isUserClaimsUpdatedSince(buildUser("john"), resolvedTime));
+        assertFalse(tracker.isUserClaimsUpdatedSince(buildUser("john"), System.currentTimeMillis() + 1));
+        assertFalse(tracker.isUserClaimsUpdatedSince(buildUser("peter"), resolvedTime));
+    }
+
+    @Test
+    public void testUpdatesBeyondTheLimitApplyToAllUsers() {
+
+        UserClaimsUpdateTracker tracker = new UserClaimsUpdateTracker(1, TimeUnit.MINUTES.toMillis(1));
+        long resolvedTime = System.currentTimeMillis();
+
+        tracker.markUserClaimsUpdated(TENANT_DOMAIN, "PRIMARY", "john");
+        assertFalse(tracker.isUserClaimsUpdatedSince(buildUser("peter"), resolvedTime));
+
+        tracker.markUserClaimsUpdated(TENANT_DOMAIN, "PRIMARY", "alex");
+        assertTrue(tracker.isUserClaimsUpdatedSince(buildUser("peter"), resolvedTime));
+        assertFalse(tracker.isUserClaimsUpdatedSince(buildUser("peter"), System.currentTimeMillis() + 1));
+    }
+
+    private AuthenticatedUser buildUser(String username) {
+
+        AuthenticatedUser authenticatedUser = new AuthenticatedUser();
+        authenticatedUser.setUserName(username);
+        authenticatedUser.setUserStoreDomain("PRIMARY");
+        authenticatedUser.setTenantDomain(TENANT_DOMAIN);
+        return authenticatedUser;
+    }
+}
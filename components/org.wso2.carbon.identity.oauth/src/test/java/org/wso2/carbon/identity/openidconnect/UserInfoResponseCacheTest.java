@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.openidconnect;
+
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.application.authentication.framework.model.AuthenticatedUser;
+import org.wso2.carbon.identity.oauth2.model.AccessTokenDO;
+
+import java.sql.Timestamp;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+/**
+ * Unit tests for {@link UserInfoResponseCache}.
+ */
+public class UserInfoResponseCacheTest {
+
+    private static final String TENANT_DOMAIN = "carbon.super";
+    private static final String TOKEN = "c5b8e2d1-opaque-token";
+    private static final String FINGERPRINT = "UserInfoJSONResponseBuilder:email openid";
+    private static final String RESPONSE = "{\"sub\":\"john\",\"email\":\"john@wso2.com\"}";
+
+    @Test
+    public void testCachedResponseIsServedForSameFingerprint() {
+
+        UserInfoResponseCache cache = new UserInfoResponseCache(true, 10, TimeUnit.MINUTES.toMillis(1));
+        AccessTokenDO accessTokenDO = buildAccessToken(TOKEN, TimeUnit.HOURS.toMillis(1));
+
+        cache.addUserInfoResponse(accessTokenDO, FINGERPRINT, RESPONSE);
+
+        assertEquals(cache.getUserInfoResponse(accessTokenDO, FINGERPRINT), RESPONSE);
+        assertNull(cache.getUserInfoResponse(accessTokenDO, "UserInfoJWTResponse:email openid"));
+    }
+
+    @Test
+    public void testEntryIsBoundByTokenExpiry() {
+
+        UserInfoResponseCache cache = new UserInfoResponseCache(true, 10, TimeUnit.MINUTES.toMillis(1));
+        AccessTokenDO accessTokenDO = buildAccessToken(TOKEN, TimeUnit.HOURS.toMillis(1));
+        accessTokenDO.setIssuedTime(new Timestamp(System.currentTimeMillis() - TimeUnit.HOURS.toMillis(2)));
+
+        cache.addUserInfoResponse(accessTokenDO, FINGERPRINT, RESPONSE);
+
+        assertNull(cache.getUserInfoResponse(accessTokenDO, FINGERPRINT));
+    }
+
+    @Test
+    public void testClearUserInfoResponse() {
+
+        UserInfoResponseCache cache = new UserInfoResponseCache(true, 10, TimeUnit.MINUTES.toMillis(1));
+        AccessTokenDO accessTokenDO = buildAccessToken(TOKEN, TimeUnit.HOURS.toMillis(1));
+        cache.addUserInfoResponse(accessTokenDO, FINGERPRINT, RESPONSE);
+
+        cache.clearUserInfoResponse(TOKEN);
+
+        assertNull(cache.getUserInfoResponse(accessTokenDO, FINGERPRINT));
+    }
+
+    @Test
+    public void testClearUserInfoResponsesOfUser() {
+
+        UserInfoResponseCache cache = new UserInfoResponseCache(true, 10, TimeUnit.MINUTES.toMillis(1));
+        AccessTokenDO accessTokenDO = buildAccessToken(TOKEN, TimeUnit.HOURS.toMillis(1));
+        cache.addUserInfoResponse(accessTokenDO, FINGERPRINT, RESPONSE);
+
+        cache.clearUserInfoResponsesOfUser(TENANT_DOMAIN, "PRIMARY", "peter");
+        assertEquals(cache.getUserInfoResponse(accessTokenDO, FINGERPRINT), RESPONSE);
+
+        cache.clearUserInfoResponsesOfUser(TENANT_DOMAIN, "primary", "john");
+        assertNull(cache.getUserInfoResponse(accessTokenDO, FINGERPRINT));
+    }
+
+    @Test
+    public void testCacheIsBounded() {
+
+        UserInfoResponseCache cache = new UserInfoResponseCache(true, 1, TimeUnit.MINUTES.toMillis(1));
+        AccessTokenDO first = buildAccessToken(TOKEN, TimeUnit.HOURS.toMillis(1));
+        AccessTokenDO second = buildAccessToken(TOKEN + "-2", TimeUnit.HOURS.toMillis(1));
+        cache.addUserInfoResponse(first, FINGERPRINT, RESPONSE);
+        cache.addUserInfoResponse(second, FINGERPRINT, RESPONSE);
+
+        assertEquals(cache.getUserInfoResponse(first, FINGERPRINT), RESPONSE);
+        assertNull(cache.getUserInfoResponse(second, FINGERPRINT));
+    }
+
+    @Test
+    public void testDisabledCache() {
+
+        UserInfoResponseCache cache = new UserInfoResponseCache(false, 10, TimeUnit.MINUTES.toMillis(1));
+        AccessTokenDO accessTokenDO = buildAccessToken(TOKEN, TimeUnit.HOURS.toMillis(1));
+        cache.addUserInfoResponse(accessTokenDO, FINGERPRINT, RESPONSE);
+
+        assertNull(cache.getUserInfoResponse(accessTokenDO, FINGERPRINT));
+    }
+
+    private AccessTokenDO buildAccessToken(String token, long validityPeriodInMillis) {
+
+        AuthenticatedUser authenticatedUser = new AuthenticatedUser();
+        authenticatedUser.setUserName("john");
+        authenticatedUser.setUserStoreDomain("PRIMARY");
+        authenticatedUser.setTenantDomain(TENANT_DOMAIN);
+
+        AccessTokenDO accessTokenDO = new AccessTokenDO();
+        accessTokenDO.setAccessToken(token);
+        accessTokenDO.setConsumerKey("client");
+        accessTokenDO.setAuthzUser(authenticatedUser);
+        accessTokenDO.setIssuedTime(new Timestamp(System.currentTimeMillis()));
+        accessTokenDO.setValidityPeriodInMillis(validityPeriodInMillis);
+        return accessTokenDO;
+    }
+}
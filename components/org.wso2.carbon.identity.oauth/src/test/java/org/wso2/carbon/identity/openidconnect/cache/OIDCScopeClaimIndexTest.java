@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.openidconnect.cache;
+
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.oauth.dto.ScopeDTO;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link OIDCScopeClaimIndex}.
+ */
+public class OIDCScopeClaimIndexTest {
+
+    private final OIDCScopeClaimIndex scopeClaimIndex = new OIDCScopeClaimIndex(Arrays.asList(
+            new ScopeDTO("openid", "openid", null, new String[]{"sub"}),
+            new ScopeDTO("profile", "profile", null, new String[]{"name", "given_name", "family_name"}),
+            new ScopeDTO("email", "email", null, new String[]{"email", "email_verified"}),
+            new ScopeDTO("custom", "custom", null, new String[]{"email", "country"}),
+            new ScopeDTO("empty", "empty", null, null)));
+
+    @Test
+    public void testScopeAndClaimLookups() {
+
+        assertEquals(scopeClaimIndex.getClaims("profile"), Arrays.asList("name", "given_name", "family_name"));
+        assertTrue(scopeClaimIndex.getClaims("empty").isEmpty());
+        assertTrue(scopeClaimIndex.getClaims("internal_login").isEmpty());
+        assertEquals(scopeClaimIndex.getScopes("email"), new HashSet<>(Arrays.asList("email", "custom")));
+        assertTrue(scopeClaimIndex.getScopes("address").isEmpty());
+        assertEquals(scopeClaimIndex.getScopeClaimMap().size(), 5);
+    }
+
+    @Test
+    public void testAllowedClaimsOfRequestedScopes() {
+
+        List<String> allowedClaims = scopeClaimIndex.getAllowedClaims(
+                Arrays.asList("openid", "email", "custom", "internal_login"));
+
+        assertEquals(new HashSet<>(allowedClaims), new HashSet<>(Arrays.asList("sub", "email", "email_verified",
+                "country")));
+        assertEquals(allowedClaims.size(), 4);
+        assertTrue(scopeClaimIndex.getAllowedClaims(Collections.singletonList("internal_login")).isEmpty());
+        assertTrue(scopeClaimIndex.getAllowedClaims(null).isEmpty());
+    }
+
+    @Test
+    public void testAllowedClaimsAreMemoized() {
+
+        List<String> allowedClaims = scopeClaimIndex.getAllowedClaims(Arrays.asList("openid", "profile"));
+
+        // Scopes which are not OIDC scopes do not change the memoized result.
+        assertSame(scopeClaimIndex.getAllowedClaims(new ArrayList<>(Arrays.asList("profile", "openid",
+                "api_read"))), allowedClaims);
+    }
+
+    @Test
+    public void testEmptyIndex() {
+
+        OIDCScopeClaimIndex emptyIndex = new OIDCScopeClaimIndex(null);
+
+        assertTrue(emptyIndex.isEmpty());
+        assertTrue(emptyIndex.getAllowedClaims(Collections.singletonList("openid")).isEmpty());
+    }
+}
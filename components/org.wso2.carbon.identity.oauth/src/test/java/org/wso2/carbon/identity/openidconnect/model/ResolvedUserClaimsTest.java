@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.openidconnect.model;
+
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link ResolvedUserClaims}.
+ */
+public class ResolvedUserClaimsTest {
+
+    private static final String TENANT_DOMAIN = "carbon.super";
+    private static final String USERNAME = "PRIMARY/john@carbon.super";
+    private static final String EMAIL_CLAIM = "http://wso2.org/claims/emailaddress";
+    private static final String GIVEN_NAME_CLAIM = "http://wso2.org/claims/givenname";
+    private static final String COUNTRY_CLAIM = "http://wso2.org/claims/country";
+
+    @Test
+    public void testGetUnresolvedClaimURIs() {
+
+        ResolvedUserClaims resolvedUserClaims = new ResolvedUserClaims(false);
+        assertTrue(resolvedUserClaims.isEmpty());
+        assertEquals(resolvedUserClaims.getUnresolvedClaimURIs(Arrays.asList(EMAIL_CLAIM, EMAIL_CLAIM)),
+                Collections.singletonList(EMAIL_CLAIM));
+
+        resolvedUserClaims.addClaimValues(TENANT_DOMAIN, USERNAME, Arrays.asList(EMAIL_CLAIM, COUNTRY_CLAIM),
+                Collections.singletonMap(EMAIL_CLAIM, "john@wso2.com"));
+
+        assertFalse(resolvedUserClaims.isEmpty());
+        // A claim without a value is resolved too, hence only the given name is left to be retrieved.
+        assertEquals(resolvedUserClaims.getUnresolvedClaimURIs(Arrays.asList(EMAIL_CLAIM, COUNTRY_CLAIM,
+                GIVEN_NAME_CLAIM)), Collections.singletonList(GIVEN_NAME_CLAIM));
+    }
+
+    @Test
+    public void testGetClaimValues() {
+
+        ResolvedUserClaims resolvedUserClaims = new ResolvedUserClaims(true);
+        Map<String, String> values = new HashMap<>();
+        values.put(EMAIL_CLAIM, "john@wso2.com");
+        values.put(GIVEN_NAME_CLAIM, "John");
+        resolvedUserClaims.addClaimValues(TENANT_DOMAIN, USERNAME, values.keySet(), values);
+
+        Map<String, String> claimValues =
+                resolvedUserClaims.getClaimValues(Arrays.asList(EMAIL_CLAIM, COUNTRY_CLAIM));
+        assertEquals(claimValues, Collections.singletonMap(EMAIL_CLAIM, "john@wso2.com"));
+
+        // Changes to the returned map must not change the resolved claims.
+        claimValues.put(EMAIL_CLAIM, "changed@wso2.com");
+        assertEquals(resolvedUserClaims.getClaimValues(Collections.singletonList(EMAIL_CLAIM)).get(EMAIL_CLAIM),
+                "john@wso2.com");
+        assertTrue(resolvedUserClaims.isPrefetchRequestedClaims());
+        assertTrue(resolvedUserClaims.getResolvedTime() > 0);
+    }
+
+    @Test
+    public void testIsOf() {
+
+        ResolvedUserClaims resolvedUserClaims = new ResolvedUserClaims(false);
+        assertTrue(resolvedUserClaims.isOf("wso2.com", "PRIMARY/alex@wso2.com"));
+
+        resolvedUserClaims.addClaimValues(TENANT_DOMAIN, USERNAME, Collections.singletonList(EMAIL_CLAIM),
+                Collections.emptyMap());
+
+        assertTrue(resolvedUserClaims.isOf(TENANT_DOMAIN, USERNAME));
+        assertFalse(resolvedUserClaims.isOf("wso2.com", USERNAME));
+        assertFalse(resolvedUserClaims.isOf(TENANT_DOMAIN, "PRIMARY/alex@carbon.super"));
+    }
+
+    @Test
+    public void testGetAppAssociatedRoles() {
+
+        ResolvedUserClaims resolvedUserClaims = new ResolvedUserClaims(false);
+        assertNull(resolvedUserClaims.getAppAssociatedRoles("app1"));
+
+        resolvedUserClaims.setAppAssociatedRoles("app1", new String[]{"role1"});
+
+        assertEquals(resolvedUserClaims.getAppAssociatedRoles("app1"), new String[]{"role1"});
+        assertNull(resolvedUserClaims.getAppAssociatedRoles("app2"));
+    }
+}
@@ -1317,6 +1317,10 @@ CREATE INDEX IDX_AT_AT ON IDN_OAUTH2_ACCESS_TOKEN(ACCESS_TOKEN);
 CREATE INDEX IDX_AT_RTH ON IDN_OAUTH2_ACCESS_TOKEN(REFRESH_TOKEN_HASH);
 CREATE INDEX IDX_AT_RT ON IDN_OAUTH2_ACCESS_TOKEN(REFRESH_TOKEN);
 CREATE INDEX IDX_TBR_TS ON IDN_OAUTH2_ACCESS_TOKEN(TOKEN_BINDING_REF, TOKEN_STATE);
+CREATE INDEX IDX_AT_TS_TC ON IDN_OAUTH2_ACCESS_TOKEN(TOKEN_STATE, TIME_CREATED);
+
+-- IDN_OAUTH2_ACCESS_TOKEN_AUDIT --
+CREATE INDEX IDX_ATA_TS_IT ON IDN_OAUTH2_ACCESS_TOKEN_AUDIT(TOKEN_STATE, INVALIDATED_TIME);
 
 -- IDN_OAUTH2_AUTHORIZATION_CODE --
 CREATE INDEX IDX_AUTHORIZATION_CODE_HASH ON IDN_OAUTH2_AUTHORIZATION_CODE (AUTHORIZATION_CODE_HASH, CONSUMER_KEY_ID);
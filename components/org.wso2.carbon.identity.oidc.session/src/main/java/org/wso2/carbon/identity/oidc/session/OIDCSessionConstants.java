@@ -75,12 +75,23 @@ public class OIDCSessionConstants {
         public static final String KEEP_ALIVE_TIME = "OAuth.OpenIDConnect.LogoutRequestSender.KeepAliveTime";
         public static final String HTTP_CONNECT_TIMEOUT = "OAuth.OpenIDConnect.LogoutRequestSender.HttpConnectTimeout";
         public static final String HTTP_SOCKET_TIMEOUT = "OAuth.OpenIDConnect.LogoutRequestSender.HttpSocketTimeout";
+        public static final String MAX_CONNECTIONS = "OAuth.OpenIDConnect.LogoutRequestSender.MaxConnections";
+        public static final String MAX_CONNECTIONS_PER_HOST =
+                "OAuth.OpenIDConnect.LogoutRequestSender.MaxConnectionsPerHost";
+        public static final String MAX_RETRY_COUNT = "OAuth.OpenIDConnect.LogoutRequestSender.MaxRetryCount";
+        public static final String RETRY_INTERVAL = "OAuth.OpenIDConnect.LogoutRequestSender.RetryInterval";
+        public static final String BATCH_SIZE = "OAuth.OpenIDConnect.LogoutRequestSender.BatchSize";
 
         public static final String DEFAULT_POOL_SIZE = "20";
         public static final String DEFAULT_WORK_QUEUE_SIZE = "1000";
         public static final String DEFAULT_KEEP_ALIVE_TIME = "60000";
         public static final String DEFAULT_HTTP_CONNECT_TIMEOUT = "10000";
         public static final String DEFAULT_HTTP_SOCKET_TIMEOUT = "20000";
+        public static final int DEFAULT_MAX_CONNECTIONS = 100;
+        public static final int DEFAULT_MAX_CONNECTIONS_PER_HOST = 10;
+        public static final int DEFAULT_MAX_RETRY_COUNT = 2;
+        public static final int DEFAULT_RETRY_INTERVAL = 1000;
+        public static final int DEFAULT_BATCH_SIZE = 20;
     }
 
     private OIDCSessionConstants() {
@@ -21,15 +21,22 @@ import org.apache.commons.collections.MapUtils;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
-import org.apache.http.HttpResponse;
 import org.apache.http.NameValuePair;
 import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.entity.UrlEncodedFormEntity;
+import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpPost;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
 import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.conn.ssl.SSLContexts;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.apache.http.message.BasicNameValuePair;
+import org.apache.http.util.EntityUtils;
 import org.wso2.carbon.base.MultitenantConstants;
 import org.wso2.carbon.identity.base.IdentityConstants;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
@@ -42,18 +49,29 @@ import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.net.SocketTimeoutException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import javax.servlet.http.Cookie;
 import javax.servlet.http.HttpServletRequest;
 
+import static org.wso2.carbon.identity.oauth2.util.OAuth2Util.getNonNegativeIntProperty;
+import static org.wso2.carbon.identity.oauth2.util.OAuth2Util.getPositiveIntProperty;
+
 /**
  * Used to send logout request.
  */
@@ -68,6 +86,13 @@ public class LogoutRequestSender {
     private static int httpSocketTimeout = 0;
     private static final String LOGOUT_TOKEN = "logout_token";
 
+    private final CloseableHttpClient httpClient;
+    private final ScheduledExecutorService retryScheduler;
+    private final Map<String, RelyingPartyQueue> relyingPartyQueues = new ConcurrentHashMap<>();
+    private final int maxRetryCount;
+    private final long retryInterval;
+    private final int batchSize;
+
     private LogoutRequestSender() {
 
         String poolSize = IdentityUtil.getProperty(OIDCSessionConstants.OIDCLogoutRequestConstants.POOL_SIZE);
@@ -127,12 +152,34 @@ public class LogoutRequestSender {
             hostNameVerificationEnabled = false;
         }
 
+        int maxConnections = getPositiveIntProperty(OIDCSessionConstants.OIDCLogoutRequestConstants.MAX_CONNECTIONS,
+                OIDCSessionConstants.OIDCLogoutRequestConstants.DEFAULT_MAX_CONNECTIONS);
+        int maxConnectionsPerHost = getPositiveIntProperty(
+                OIDCSessionConstants.OIDCLogoutRequestConstants.MAX_CONNECTIONS_PER_HOST,
+                OIDCSessionConstants.OIDCLogoutRequestConstants.DEFAULT_MAX_CONNECTIONS_PER_HOST);
+        maxRetryCount = getNonNegativeIntProperty(OIDCSessionConstants.OIDCLogoutRequestConstants.MAX_RETRY_COUNT,
+                OIDCSessionConstants.OIDCLogoutRequestConstants.DEFAULT_MAX_RETRY_COUNT);
+        retryInterval = getPositiveIntProperty(OIDCSessionConstants.OIDCLogoutRequestConstants.RETRY_INTERVAL,
+                OIDCSessionConstants.OIDCLogoutRequestConstants.DEFAULT_RETRY_INTERVAL);
+        batchSize = getPositiveIntProperty(OIDCSessionConstants.OIDCLogoutRequestConstants.BATCH_SIZE,
+                OIDCSessionConstants.OIDCLogoutRequestConstants.DEFAULT_BATCH_SIZE);
+
+        httpClient = createHttpClient(maxConnections, maxConnectionsPerHost);
+        retryScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "oidc-backchannel-logout-retry");
+            thread.setDaemon(true);
+            return thread;
+        });
+
         if (LOG.isDebugEnabled()) {
             LOG.debug("LogoutRequestSender thread pool initialized with pool size: " + poolSizeInt +
                     ", work queue size: " + workQueueSizeInt + ", keep alive time: " + keepAliveTimeLong +
                     ". Request parameters: httpConnectTimeout: " + httpConnectTimeout +
                     ", httpSocketTimeout: " + httpSocketTimeout +
-                    ", hostNameVerificationEnabled: " + hostNameVerificationEnabled);
+                    ", hostNameVerificationEnabled: " + hostNameVerificationEnabled +
+                    ", maxConnections: " + maxConnections + ", maxConnectionsPerHost: " + maxConnectionsPerHost +
+                    ", maxRetryCount: " + maxRetryCount + ", retryInterval: " + retryInterval +
+                    ", batchSize: " + batchSize);
         }
     }
 
@@ -154,6 +201,31 @@ public class LogoutRequestSender {
         return instance;
     }
 
+    /**
+     * Shut down the sender if it has been created. Queued and scheduled logout requests are dropped and the pooled
+     * connections are closed. This is invoked when the bundle is deactivated.
+     */
+    public static void shutdownIfStarted() {
+
+        synchronized (LogoutRequestSender.class) {
+            if (instance != null) {
+                instance.shutdown();
+                instance = null;
+            }
+        }
+    }
+
+    private void shutdown() {
+
+        threadPool.shutdownNow();
+        retryScheduler.shutdownNow();
+        try {
+            httpClient.close();
+        } catch (IOException e) {
+            LOG.error("Error while closing the HTTP client of the back-channel logout requests.", e);
+        }
+    }
+
     /**
      * Sends logout requests to all service providers.
      *
@@ -198,12 +270,11 @@ public class LogoutRequestSender {
 
         Map<String, String> logoutTokenList = getLogoutTokenList(opbsCookieId, tenantDomain);
         if (MapUtils.isNotEmpty(logoutTokenList)) {
-            // For each logoutReq, create a new task and submit it to the thread pool.
+            // Queue each logoutReq under its relying party. A relying party is drained by a single task at a time.
             for (Map.Entry<String, String> logoutTokenMap : logoutTokenList.entrySet()) {
                 String logoutToken = logoutTokenMap.getKey();
                 String bcLogoutUrl = logoutTokenMap.getValue();
-                LOG.debug("A LogoutReqSenderTask will be assigned to the thread pool.");
-                threadPool.submit(new LogoutReqSenderTask(logoutToken, bcLogoutUrl));
+                dispatch(new LogoutRequest(logoutToken, bcLogoutUrl, 0));
             }
         }
     }
@@ -232,65 +303,198 @@ public class LogoutRequestSender {
     }
 
     /**
-     * This class is used to model a single logout request that is being sent to a session participant.
-     * It will send the logout req. to the session participant in its 'run' method when this job is
-     * submitted to the thread pool.
+     * Returns the back-channel logout request statistics of each relying party back-channel logout url.
+     *
+     * @return Map of back-channel logout url and the statistics.
      */
-    private class LogoutReqSenderTask implements Runnable {
+    public Map<String, RelyingPartyLogoutMetrics> getLogoutMetrics() {
 
-        private String logoutToken;
-        private String backChannelLogouturl;
+        Map<String, RelyingPartyLogoutMetrics> logoutMetrics = new ConcurrentHashMap<>();
+        for (Map.Entry<String, RelyingPartyQueue> entry : relyingPartyQueues.entrySet()) {
+            logoutMetrics.put(entry.getKey(), entry.getValue().metrics);
+        }
+        return Collections.unmodifiableMap(logoutMetrics);
+    }
 
-        public LogoutReqSenderTask(String logoutToken, String backChannelLogouturl) {
+    private void dispatch(LogoutRequest logoutRequest) {
 
-            this.logoutToken = logoutToken;
-            this.backChannelLogouturl = backChannelLogouturl;
+        RelyingPartyQueue relyingPartyQueue = relyingPartyQueues.computeIfAbsent(
+                logoutRequest.backChannelLogoutUrl, RelyingPartyQueue::new);
+        relyingPartyQueue.pendingRequests.add(logoutRequest);
+        relyingPartyQueue.metrics.onQueued();
+        scheduleDrain(relyingPartyQueue);
+    }
+
+    private void scheduleDrain(RelyingPartyQueue relyingPartyQueue) {
+
+        if (!relyingPartyQueue.scheduled.compareAndSet(false, true)) {
+            // The relying party is already being drained. The request will be picked by the running task.
+            return;
         }
+        try {
+            LOG.debug("A LogoutReqSenderTask will be assigned to the thread pool.");
+            threadPool.execute(new LogoutReqSenderTask(relyingPartyQueue));
+        } catch (RejectedExecutionException e) {
+            relyingPartyQueue.scheduled.set(false);
+            LOG.warn("Logout request sender thread pool is saturated. Logout requests to: " +
+                    relyingPartyQueue.backChannelLogoutUrl + " will be retried in " + retryInterval + "ms.");
+            scheduleLater(() -> scheduleDrain(relyingPartyQueue));
+        }
+    }
 
-        @Override
-        public void run() {
+    private void scheduleLater(Runnable runnable) {
 
+        try {
+            retryScheduler.schedule(runnable, retryInterval, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            LOG.error("Error while scheduling the retry of the back-channel logout requests.", e);
+        }
+    }
+
+    private void send(LogoutRequest logoutRequest, RelyingPartyLogoutMetrics metrics) {
+
+        String backChannelLogoutUrl = logoutRequest.backChannelLogoutUrl;
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Starting backchannel logout request to: " + backChannelLogoutUrl);
+        }
+
+        List<NameValuePair> logoutReqParams = new ArrayList<NameValuePair>();
+        logoutReqParams.add(new BasicNameValuePair(LOGOUT_TOKEN, logoutRequest.logoutToken));
+        HttpPost httpPost = new HttpPost(backChannelLogoutUrl);
+        try {
+            httpPost.setEntity(new UrlEncodedFormEntity(logoutReqParams));
+        } catch (UnsupportedEncodingException e) {
+            LOG.error("Error while encoding logout request parameters.", e);
+        }
+
+        boolean success = false;
+        boolean retryable = false;
+        long startTime = System.currentTimeMillis();
+        metrics.onRequestStarted();
+        try (CloseableHttpResponse response = httpClient.execute(httpPost)) {
+            // Consume the response so that the connection can be reused.
+            EntityUtils.consumeQuietly(response.getEntity());
+            int statusCode = response.getStatusLine().getStatusCode();
+            success = statusCode < 400;
+            retryable = statusCode >= 500;
             if (LOG.isDebugEnabled()) {
-                LOG.debug("Starting backchannel logout request to: " + backChannelLogouturl);
+                LOG.debug("Backchannel logout response: " + response.getStatusLine());
             }
+        } catch (SocketTimeoutException e) {
+            retryable = true;
+            LOG.error("Timeout occurred while sending logout requests to: " + backChannelLogoutUrl);
+        } catch (IOException e) {
+            retryable = true;
+            LOG.error("Error sending logout requests to: " + backChannelLogoutUrl, e);
+        } finally {
+            metrics.onRequestCompleted(System.currentTimeMillis() - startTime, success);
+        }
 
-            List<NameValuePair> logoutReqParams = new ArrayList<NameValuePair>();
-            CloseableHttpClient httpClient = null;
+        if (!success && retryable && logoutRequest.attempt < maxRetryCount) {
+            long delay = retryInterval << logoutRequest.attempt;
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Retrying the backchannel logout request to: " + backChannelLogoutUrl + " in " + delay +
+                        "ms.");
+            }
+            metrics.onRetryScheduled();
             try {
-                if (!hostNameVerificationEnabled) {
-                    httpClient = HttpClients.custom()
-                            .setHostnameVerifier(SSLConnectionSocketFactory.ALLOW_ALL_HOSTNAME_VERIFIER)
-                            .build();
-                } else {
-                    httpClient = HttpClients.createDefault();
-                }
-                logoutReqParams.add(new BasicNameValuePair(LOGOUT_TOKEN, logoutToken));
+                retryScheduler.schedule(() -> dispatch(new LogoutRequest(logoutRequest.logoutToken,
+                        backChannelLogoutUrl, logoutRequest.attempt + 1)), delay, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                LOG.error("Error while scheduling the retry of the logout request to: " + backChannelLogoutUrl, e);
+            }
+        }
+    }
 
-                HttpPost httpPost = new HttpPost(backChannelLogouturl);
-                try {
-                    httpPost.setEntity(new UrlEncodedFormEntity(logoutReqParams));
-                } catch (UnsupportedEncodingException e) {
-                    LOG.error("Error while encoding logout request parameters.", e);
-                }
-                RequestConfig requestConfig = RequestConfig.custom().setConnectTimeout(httpConnectTimeout)
-                        .setSocketTimeout(httpSocketTimeout).build();
-                httpPost.setConfig(requestConfig);
+    private CloseableHttpClient createHttpClient(int maxConnections, int maxConnectionsPerHost) {
+
+        SSLConnectionSocketFactory sslSocketFactory;
+        if (hostNameVerificationEnabled) {
+            sslSocketFactory = SSLConnectionSocketFactory.getSocketFactory();
+        } else {
+            sslSocketFactory = new SSLConnectionSocketFactory(SSLContexts.createDefault(),
+                    SSLConnectionSocketFactory.ALLOW_ALL_HOSTNAME_VERIFIER);
+        }
+        Registry<ConnectionSocketFactory> socketFactoryRegistry = RegistryBuilder.<ConnectionSocketFactory>create()
+                .register("http", PlainConnectionSocketFactory.getSocketFactory())
+                .register("https", sslSocketFactory)
+                .build();
+        PoolingHttpClientConnectionManager connectionManager =
+                new PoolingHttpClientConnectionManager(socketFactoryRegistry);
+        connectionManager.setMaxTotal(maxConnections);
+        connectionManager.setDefaultMaxPerRoute(maxConnectionsPerHost);
+
+        RequestConfig requestConfig = RequestConfig.custom().setConnectTimeout(httpConnectTimeout)
+                .setSocketTimeout(httpSocketTimeout).build();
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .build();
+    }
+
+    /**
+     * This class is used to model a single logout request that is being sent to a session participant.
+     */
+    private static class LogoutRequest {
+
+        private final String logoutToken;
+        private final String backChannelLogoutUrl;
+        private final int attempt;
+
+        LogoutRequest(String logoutToken, String backChannelLogoutUrl, int attempt) {
+
+            this.logoutToken = logoutToken;
+            this.backChannelLogoutUrl = backChannelLogoutUrl;
+            this.attempt = attempt;
+        }
+    }
+
+    /**
+     * Pending logout requests of a single relying party back-channel logout url.
+     */
+    private static class RelyingPartyQueue {
+
+        private final String backChannelLogoutUrl;
+        private final Queue<LogoutRequest> pendingRequests = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean(false);
+        private final RelyingPartyLogoutMetrics metrics = new RelyingPartyLogoutMetrics();
+
+        RelyingPartyQueue(String backChannelLogoutUrl) {
+
+            this.backChannelLogoutUrl = backChannelLogoutUrl;
+        }
+    }
+
+    /**
+     * This class drains the pending logout requests of a relying party when it is submitted to the thread pool.
+     * The requests are sent over the shared connection pool, at most 'batchSize' requests per run, so that a
+     * relying party with many sessions does not hold a thread away from the other relying parties.
+     */
+    private class LogoutReqSenderTask implements Runnable {
 
-                HttpResponse response = httpClient.execute(httpPost);
-                if (LOG.isDebugEnabled()) {
-                    LOG.debug("Backchannel logout response: " + response.getStatusLine());
+        private final RelyingPartyQueue relyingPartyQueue;
+
+        public LogoutReqSenderTask(RelyingPartyQueue relyingPartyQueue) {
+
+            this.relyingPartyQueue = relyingPartyQueue;
+        }
+
+        @Override
+        public void run() {
+
+            try {
+                for (int i = 0; i < batchSize; i++) {
+                    LogoutRequest logoutRequest = relyingPartyQueue.pendingRequests.poll();
+                    if (logoutRequest == null) {
+                        break;
+                    }
+                    relyingPartyQueue.metrics.onDequeued();
+                    send(logoutRequest, relyingPartyQueue.metrics);
                 }
-            } catch (SocketTimeoutException e) {
-                LOG.error("Timeout occurred while sending logout requests to: " + backChannelLogouturl);
-            } catch (IOException e) {
-                LOG.error("Error sending logout requests to: " + backChannelLogouturl, e);
             } finally {
-                if (httpClient != null) {
-                    try {
-                        httpClient.close();
-                    } catch (IOException e) {
-                        LOG.error("Error closing http client.", e);
-                    }
+                relyingPartyQueue.scheduled.set(false);
+                if (!relyingPartyQueue.pendingRequests.isEmpty()) {
+                    scheduleDrain(relyingPartyQueue);
                 }
             }
         }
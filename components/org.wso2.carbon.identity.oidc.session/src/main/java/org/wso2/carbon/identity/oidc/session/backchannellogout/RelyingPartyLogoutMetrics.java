@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.oidc.session.backchannellogout;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Back-channel logout request statistics of a single relying party back-channel logout endpoint.
+ */
+public class RelyingPartyLogoutMetrics {
+
+    private final AtomicInteger inFlightRequests = new AtomicInteger();
+    private final AtomicInteger pendingRequests = new AtomicInteger();
+    private final AtomicLong completedRequests = new AtomicLong();
+    private final AtomicLong failedRequests = new AtomicLong();
+    private final AtomicLong retriedRequests = new AtomicLong();
+    private final AtomicLong totalLatency = new AtomicLong();
+    private final AtomicLong maxLatency = new AtomicLong();
+
+    void onQueued() {
+
+        pendingRequests.incrementAndGet();
+    }
+
+    void onDequeued() {
+
+        pendingRequests.decrementAndGet();
+    }
+
+    void onRequestStarted() {
+
+        inFlightRequests.incrementAndGet();
+    }
+
+    void onRequestCompleted(long latencyMillis, boolean success) {
+
+        inFlightRequests.decrementAndGet();
+        completedRequests.incrementAndGet();
+        if (!success) {
+            failedRequests.incrementAndGet();
+        }
+        totalLatency.addAndGet(latencyMillis);
+        maxLatency.accumulateAndGet(latencyMillis, Math::max);
+    }
+
+    void onRetryScheduled() {
+
+        retriedRequests.incrementAndGet();
+    }
+
+    /**
+     * Get the number of logout requests currently being sent to the relying party.
+     *
+     * @return In-flight request count.
+     */
+    public int getInFlightRequests() {
+
+        return inFlightRequests.get();
+    }
+
+    /**
+     * Get the number of logout requests waiting to be sent to the relying party.
+     *
+     * @return Pending request count.
+     */
+    public int getPendingRequests() {
+
+        return pendingRequests.get();
+    }
+
+    /**
+     * Get the number of logout request attempts made to the relying party, including the failed ones.
+     *
+     * @return Completed request count.
+     */
+    public long getCompletedRequests() {
+
+        return completedRequests.get();
+    }
+
+    /**
+     * Get the number of logout request attempts which failed with an I/O error or an error response.
+     *
+     * @return Failed request count.
+     */
+    public long getFailedRequests() {
+
+        return failedRequests.get();
+    }
+
+    /**
+     * Get the number of retries scheduled for failed logout requests.
+     *
+     * @return Retry count.
+     */
+    public long getRetriedRequests() {
+
+        return retriedRequests.get();
+    }
+
+    /**
+     * Get the average latency of the logout request attempts in milliseconds.
+     *
+     * @return Average latency.
+     */
+    public long getAverageLatency() {
+
+        long completed = completedRequests.get();
+        return completed == 0 ? 0 : totalLatency.get() / completed;
+    }
+
+    /**
+     * Get the maximum latency of the logout request attempts in milliseconds.
+     *
+     * @return Maximum latency.
+     */
+    public long getMaxLatency() {
+
+        return maxLatency.get();
+    }
+}
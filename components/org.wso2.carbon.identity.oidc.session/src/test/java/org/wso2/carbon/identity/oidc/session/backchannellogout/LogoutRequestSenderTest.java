@@ -45,6 +45,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mockConstruction;
@@ -86,6 +87,7 @@ public class LogoutRequestSenderTest {
         mockServer = HttpServer.create(new InetSocketAddress(MOCK_SERVER_PORT), 0);
         mockServer.createContext("/logout1", new MockHandler(200, "Success"));
         mockServer.createContext("/logout2", new MockHandler(200, "Success"));
+        mockServer.createContext("/flaky", new FlakyHandler());
         // Use the default executor.
         mockServer.setExecutor(null);
         mockServer.start();
@@ -107,6 +109,8 @@ public class LogoutRequestSenderTest {
                     OIDCSessionConstants.OIDCLogoutRequestConstants.HTTP_SOCKET_TIMEOUT)).thenReturn(socketTimeout);
             identityUtil.when(() -> IdentityUtil.getProperty(
                     IdentityConstants.ServerConfig.SLO_HOST_NAME_VERIFICATION_ENABLED)).thenReturn("true");
+            identityUtil.when(() -> IdentityUtil.getProperty(
+                    OIDCSessionConstants.OIDCLogoutRequestConstants.RETRY_INTERVAL)).thenReturn("100");
 
             logoutRequestSender = LogoutRequestSender.getInstance();
         }
@@ -144,6 +148,28 @@ public class LogoutRequestSenderTest {
         }
     }
 
+    /**
+     * Mock handler which fails the first request it receives and accepts the subsequent requests.
+     */
+    private static class FlakyHandler implements HttpHandler {
+
+        private final AtomicInteger requestCount = new AtomicInteger();
+
+        @Override
+        public void handle(HttpExchange exchange) throws IOException {
+
+            String requestBody = new String(exchange.getRequestBody().readAllBytes());
+            int responseCode = 200;
+            if (requestCount.getAndIncrement() == 0) {
+                responseCode = 503;
+            } else if (requestBody.contains("logout_token")) {
+                mockServerTokenList.add(requestBody.split("logout_token=")[1].split("&")[0]);
+            }
+            exchange.sendResponseHeaders(responseCode, -1);
+            exchange.close();
+        }
+    }
+
     @BeforeMethod
     public void beforeMethod() throws NoSuchFieldException, IllegalAccessException {
 
@@ -201,4 +227,59 @@ public class LogoutRequestSenderTest {
             Assert.assertTrue(mockServerTokenList.contains("logoutToken2"));
         }
     }
+
+    @Test
+    public void testSendLogoutRequestsWithRetry() throws Exception {
+
+        initLogoutRequestSender(null, null, null, null, null);
+        String flakyUrl = "http://localhost:" + MOCK_SERVER_PORT + "/flaky";
+
+        try (MockedConstruction<DefaultLogoutTokenBuilder> tokenBuilderMockCons = mockConstruction(
+                DefaultLogoutTokenBuilder.class, (mock, context) -> {
+                    Map<String, String> logoutTokenList = new HashMap<>();
+                    logoutTokenList.put("logoutToken3", flakyUrl);
+                    when(mock.buildLogoutToken(any(), any())).thenReturn(logoutTokenList);
+                });
+        ) {
+            logoutRequestSender.sendLogoutRequests("testCookie", "testTenant");
+
+            // The first attempt fails with a 503 response and the request is retried after the retry interval.
+            long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+            while (mockServerTokenList.isEmpty() && System.currentTimeMillis() < deadline) {
+                Thread.sleep(50);
+            }
+            Assert.assertEquals(mockServerTokenList.size(), 1);
+            Assert.assertTrue(mockServerTokenList.contains("logoutToken3"));
+
+            RelyingPartyLogoutMetrics metrics = logoutRequestSender.getLogoutMetrics().get(flakyUrl);
+            Assert.assertNotNull(metrics);
+            while (metrics.getCompletedRequests() < 2 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(50);
+            }
+            Assert.assertEquals(metrics.getCompletedRequests(), 2);
+            Assert.assertEquals(metrics.getFailedRequests(), 1);
+            Assert.assertEquals(metrics.getRetriedRequests(), 1);
+            Assert.assertEquals(metrics.getInFlightRequests(), 0);
+            Assert.assertEquals(metrics.getPendingRequests(), 0);
+        }
+    }
+
+    @Test
+    public void testShutdownIfStarted() throws Exception {
+
+        initLogoutRequestSender(null, null, null, null, null);
+        Field threadPoolField = LogoutRequestSender.class.getDeclaredField("threadPool");
+        threadPoolField.setAccessible(true);
+        ExecutorService threadPool = (ExecutorService) threadPoolField.get(logoutRequestSender);
+
+        LogoutRequestSender.shutdownIfStarted();
+
+        Assert.assertTrue(threadPool.isShutdown());
+        Field instance = LogoutRequestSender.class.getDeclaredField("instance");
+        instance.setAccessible(true);
+        Assert.assertNull(instance.get(null));
+
+        // A second invocation is a no-op once the sender has been shut down.
+        LogoutRequestSender.shutdownIfStarted();
+    }
 }